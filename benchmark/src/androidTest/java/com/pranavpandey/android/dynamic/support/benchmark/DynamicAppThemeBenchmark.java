@@ -0,0 +1,83 @@
+/*
+ * Copyright 2018-2020 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.benchmark;
+
+import android.os.Parcel;
+
+import androidx.benchmark.BenchmarkState;
+import androidx.benchmark.junit4.BenchmarkRule;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import com.pranavpandey.android.dynamic.support.model.DynamicAppTheme;
+import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
+import com.pranavpandey.android.dynamic.theme.Theme;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Benchmarks for the {@link DynamicAppTheme} operations which require the device runtime.
+ * <p>Pure JVM operations are benchmarked by the jmh module.
+ */
+@RunWith(AndroidJUnit4.class)
+public class DynamicAppThemeBenchmark {
+
+    @Rule
+    public BenchmarkRule mBenchmarkRule = new BenchmarkRule();
+
+    /**
+     * Theme to be benchmarked.
+     */
+    private DynamicAppTheme mTheme;
+
+    @Before
+    public void setUp() {
+        DynamicBenchmarks.getContext();
+        mTheme = new DynamicAppTheme(DynamicTheme.getInstance().getApplication());
+    }
+
+    @Test
+    public void parcel() {
+        BenchmarkState state = mBenchmarkRule.getState();
+        while (state.keepRunning()) {
+            Parcel parcel = Parcel.obtain();
+            mTheme.writeToParcel(parcel, 0);
+            parcel.setDataPosition(0);
+            DynamicAppTheme.CREATOR.createFromParcel(parcel);
+            parcel.recycle();
+        }
+    }
+
+    @Test
+    public void resolveColorType() {
+        BenchmarkState state = mBenchmarkRule.getState();
+        while (state.keepRunning()) {
+            DynamicTheme.getInstance().resolveColorType(
+                    Theme.ColorType.ACCENT);
+        }
+    }
+
+    @Test
+    public void toDynamicString() {
+        BenchmarkState state = mBenchmarkRule.getState();
+        while (state.keepRunning()) {
+            mTheme.toDynamicString();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2018-2020 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.benchmark;
+
+import android.content.Context;
+import android.view.LayoutInflater;
+
+import androidx.annotation.NonNull;
+import androidx.appcompat.view.ContextThemeWrapper;
+import androidx.core.view.LayoutInflaterCompat;
+import androidx.test.core.app.ApplicationProvider;
+
+import com.pranavpandey.android.dynamic.support.R;
+import com.pranavpandey.android.dynamic.support.theme.DynamicLayoutInflater;
+import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
+
+/**
+ * Helper class to initialize the theme engine for the benchmarks.
+ */
+public final class DynamicBenchmarks {
+
+    /**
+     * Theme resource used by the benchmarks.
+     */
+    private static final int ADS_BENCHMARK_THEME = R.style.Theme_DynamicApp_Light;
+
+    /**
+     * Making default constructor private so that it cannot be initialized.
+     */
+    private DynamicBenchmarks() { }
+
+    /**
+     * Initialize the dynamic theme and returns the themed context for the benchmarks.
+     *
+     * @return The themed context for the benchmarks.
+     */
+    public static synchronized @NonNull Context getContext() {
+        Context context = ApplicationProvider.getApplicationContext();
+
+        DynamicTheme.initializeInstance(context, null);
+        DynamicTheme.getInstance().setTheme(ADS_BENCHMARK_THEME, null, true);
+
+        return new ContextThemeWrapper(context, ADS_BENCHMARK_THEME);
+    }
+
+    /**
+     * Returns the layout inflater to replace the views with the dynamic widgets.
+     *
+     * @param context The context to retrieve resources.
+     *
+     * @return The layout inflater to replace the views with the dynamic widgets.
+     */
+    public static @NonNull LayoutInflater getLayoutInflater(@NonNull Context context) {
+        LayoutInflater layoutInflater = LayoutInflater.from(context).cloneInContext(context);
+        LayoutInflaterCompat.setFactory2(layoutInflater, new DynamicLayoutInflater());
+
+        return layoutInflater;
+    }
+}
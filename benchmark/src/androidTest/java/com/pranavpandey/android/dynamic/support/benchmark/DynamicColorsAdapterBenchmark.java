@@ -0,0 +1,92 @@
+/*
+ * Copyright 2018-2020 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.benchmark;
+
+import android.view.View;
+import android.widget.GridView;
+
+import androidx.annotation.Nullable;
+import androidx.benchmark.BenchmarkState;
+import androidx.benchmark.junit4.BenchmarkRule;
+import androidx.test.annotation.UiThreadTest;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import com.pranavpandey.android.dynamic.support.adapter.DynamicColorsAdapter;
+import com.pranavpandey.android.dynamic.support.listener.DynamicColorListener;
+import com.pranavpandey.android.dynamic.support.picker.color.DynamicColorShape;
+import com.pranavpandey.android.dynamic.support.theme.DynamicColorPalette;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Benchmarks to bind the color picker grid by using the {@link DynamicColorsAdapter}.
+ */
+@RunWith(AndroidJUnit4.class)
+public class DynamicColorsAdapterBenchmark {
+
+    @Rule
+    public BenchmarkRule mBenchmarkRule = new BenchmarkRule();
+
+    /**
+     * Grid view to be the parent of the color views.
+     */
+    private GridView mGridView;
+
+    @Before
+    public void setUp() {
+        mGridView = new GridView(DynamicBenchmarks.getContext());
+    }
+
+    /**
+     * Bind the colors with the supplied shape till the benchmark is running.
+     * <p>Views will be recycled as done by the grid view while scrolling.
+     *
+     * @param colorShape The shape of the color views.
+     */
+    private void bind(@DynamicColorShape int colorShape) {
+        DynamicColorsAdapter adapter = new DynamicColorsAdapter(
+                DynamicColorPalette.MATERIAL_COLORS, DynamicColorPalette.MATERIAL_COLORS[0],
+                colorShape, true, new DynamicColorListener() {
+                    @Override
+                    public void onColorSelected(@Nullable String tag, int position, int color) { }
+                });
+        mGridView.setAdapter(adapter);
+
+        View convertView = null;
+        int position = 0;
+        BenchmarkState state = mBenchmarkRule.getState();
+        while (state.keepRunning()) {
+            convertView = adapter.getView(position, convertView, mGridView);
+            position = (position + 1) % adapter.getCount();
+        }
+    }
+
+    @Test
+    @UiThreadTest
+    public void bindCircle() {
+        bind(DynamicColorShape.CIRCLE);
+    }
+
+    @Test
+    @UiThreadTest
+    public void bindSquare() {
+        bind(DynamicColorShape.SQUARE);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2018-2020 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.benchmark;
+
+import android.view.LayoutInflater;
+import android.view.ViewGroup;
+import android.widget.FrameLayout;
+
+import androidx.annotation.LayoutRes;
+import androidx.benchmark.BenchmarkState;
+import androidx.benchmark.junit4.BenchmarkRule;
+import androidx.test.annotation.UiThreadTest;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import com.pranavpandey.android.dynamic.support.R;
+import com.pranavpandey.android.dynamic.support.theme.DynamicLayoutInflater;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Benchmarks to inflate the layouts through the {@link DynamicLayoutInflater}.
+ */
+@RunWith(AndroidJUnit4.class)
+public class DynamicLayoutInflaterBenchmark {
+
+    @Rule
+    public BenchmarkRule mBenchmarkRule = new BenchmarkRule();
+
+    /**
+     * Layout inflater to replace the views with the dynamic widgets.
+     */
+    private LayoutInflater mLayoutInflater;
+
+    /**
+     * Parent to generate the layout params.
+     */
+    private ViewGroup mParent;
+
+    @Before
+    public void setUp() {
+        mLayoutInflater = DynamicBenchmarks.getLayoutInflater(DynamicBenchmarks.getContext());
+        mParent = new FrameLayout(mLayoutInflater.getContext());
+    }
+
+    /**
+     * Inflate the supplied layout till the benchmark is running.
+     *
+     * @param layoutRes The layout resource to be inflated.
+     */
+    private void inflate(@LayoutRes int layoutRes) {
+        BenchmarkState state = mBenchmarkRule.getState();
+        while (state.keepRunning()) {
+            mLayoutInflater.inflate(layoutRes, mParent, false);
+        }
+    }
+
+    @Test
+    @UiThreadTest
+    public void inflateItemView() {
+        inflate(R.layout.ads_layout_item_view);
+    }
+
+    @Test
+    @UiThreadTest
+    public void inflateInfoView() {
+        inflate(R.layout.ads_layout_info_view);
+    }
+
+    @Test
+    @UiThreadTest
+    public void inflateInfoViewBig() {
+        inflate(R.layout.ads_layout_info_view_big);
+    }
+
+    @Test
+    @UiThreadTest
+    public void inflateColorPicker() {
+        inflate(R.layout.ads_color_picker);
+    }
+}
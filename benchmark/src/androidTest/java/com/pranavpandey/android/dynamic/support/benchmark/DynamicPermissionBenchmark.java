@@ -0,0 +1,123 @@
+/*
+ * Copyright 2018-2020 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.benchmark;
+
+import android.Manifest;
+import android.content.Context;
+import android.os.Bundle;
+import android.os.Parcel;
+
+import androidx.benchmark.BenchmarkState;
+import androidx.benchmark.junit4.BenchmarkRule;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import com.pranavpandey.android.dynamic.support.model.DynamicPermission;
+import com.pranavpandey.android.dynamic.support.utils.DynamicPermissionUtils;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmarks for parceling a list of {@link DynamicPermission} as passed via an intent.
+ */
+@RunWith(AndroidJUnit4.class)
+public class DynamicPermissionBenchmark {
+
+    /**
+     * Count of the permissions to be parceled.
+     */
+    private static final int ADS_PERMISSIONS_COUNT = 20;
+
+    /**
+     * Key to report the parcel size in the instrumentation results.
+     */
+    private static final String ADS_KEY_PARCEL_SIZE = "parcel_size_bytes";
+
+    /**
+     * Permissions used to build the list.
+     */
+    private static final String[] ADS_PERMISSIONS = new String[] {
+            Manifest.permission.READ_EXTERNAL_STORAGE,
+            Manifest.permission.WRITE_EXTERNAL_STORAGE,
+            Manifest.permission.ACCESS_FINE_LOCATION,
+            Manifest.permission.READ_PHONE_STATE,
+            Manifest.permission.WRITE_SETTINGS,
+            Manifest.permission.SYSTEM_ALERT_WINDOW,
+            Manifest.permission.PACKAGE_USAGE_STATS
+    };
+
+    @Rule
+    public BenchmarkRule mBenchmarkRule = new BenchmarkRule();
+
+    /**
+     * Permissions to be parceled.
+     */
+    private List<DynamicPermission> mPermissions;
+
+    @Before
+    public void setUp() {
+        Context context = DynamicBenchmarks.getContext();
+        mPermissions = new ArrayList<>();
+
+        for (int i = 0; i < ADS_PERMISSIONS_COUNT; i++) {
+            String permission = ADS_PERMISSIONS[i % ADS_PERMISSIONS.length];
+            mPermissions.add(new DynamicPermission(permission,
+                    DynamicPermissionUtils.getPermissionIcon(permission),
+                    context.getString(DynamicPermissionUtils.getPermissionTitle(permission)),
+                    context.getString(DynamicPermissionUtils.getPermissionSubtitle(permission))));
+        }
+    }
+
+    /**
+     * Write the permissions into a new parcel.
+     *
+     * @return The parcel containing the permissions.
+     */
+    private Parcel write() {
+        Parcel parcel = Parcel.obtain();
+        parcel.writeTypedList(mPermissions);
+        parcel.setDataPosition(0);
+
+        return parcel;
+    }
+
+    @Test
+    public void parcel() {
+        BenchmarkState state = mBenchmarkRule.getState();
+        while (state.keepRunning()) {
+            Parcel parcel = write();
+            parcel.createTypedArrayList(DynamicPermission.CREATOR);
+            parcel.recycle();
+        }
+    }
+
+    @Test
+    public void parcelSize() {
+        Parcel parcel = write();
+        Bundle results = new Bundle();
+        results.putInt(ADS_KEY_PARCEL_SIZE, parcel.dataSize());
+        parcel.recycle();
+
+        InstrumentationRegistry.getInstrumentation().sendStatus(0, results);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2018-2020 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.benchmark;
+
+import android.content.Context;
+import android.graphics.drawable.Drawable;
+
+import androidx.benchmark.BenchmarkState;
+import androidx.benchmark.junit4.BenchmarkRule;
+import androidx.core.content.ContextCompat;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+import androidx.test.annotation.UiThreadTest;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import com.pranavpandey.android.dynamic.support.R;
+import com.pranavpandey.android.dynamic.support.model.DynamicInfo;
+import com.pranavpandey.android.dynamic.support.model.DynamicItem;
+import com.pranavpandey.android.dynamic.support.recyclerview.adapter.DynamicItemsAdapter;
+import com.pranavpandey.android.dynamic.support.recyclerview.adapter.DynamicSimpleBinderAdapter;
+import com.pranavpandey.android.dynamic.support.recyclerview.binder.DynamicInfoBinder;
+import com.pranavpandey.android.dynamic.support.recyclerview.binder.DynamicRecyclerViewBinder;
+import com.pranavpandey.android.dynamic.theme.Theme;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmarks to bind the view holders of the dynamic recycler view adapters.
+ * <p>View holders are created only once so that only the binding is measured.
+ */
+@RunWith(AndroidJUnit4.class)
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class DynamicRecyclerViewBenchmark {
+
+    /**
+     * Count of the items to be bound.
+     */
+    private static final int ADS_ITEM_COUNT = 20;
+
+    @Rule
+    public BenchmarkRule mBenchmarkRule = new BenchmarkRule();
+
+    /**
+     * Context used by the benchmarks.
+     */
+    private Context mContext;
+
+    /**
+     * Recycler view to be the parent of the view holders.
+     */
+    private RecyclerView mRecyclerView;
+
+    @Before
+    public void setUp() {
+        mContext = DynamicBenchmarks.getContext();
+        mRecyclerView = new RecyclerView(mContext);
+        mRecyclerView.setLayoutManager(new LinearLayoutManager(mContext));
+    }
+
+    /**
+     * Bind the items of the supplied adapter till the benchmark is running.
+     *
+     * @param adapter The adapter to bind the items.
+     */
+    private void bind(RecyclerView.Adapter adapter) {
+        mRecyclerView.setAdapter(adapter);
+        RecyclerView.ViewHolder viewHolder = adapter.createViewHolder(
+                mRecyclerView, adapter.getItemViewType(0));
+
+        int position = 0;
+        BenchmarkState state = mBenchmarkRule.getState();
+        while (state.keepRunning()) {
+            adapter.bindViewHolder(viewHolder, position);
+            position = (position + 1) % adapter.getItemCount();
+        }
+    }
+
+    @Test
+    @UiThreadTest
+    public void bindItemsAdapter() {
+        Drawable icon = ContextCompat.getDrawable(mContext, R.drawable.ads_ic_palette);
+        List<DynamicItem> items = new ArrayList<>();
+        for (int i = 0; i < ADS_ITEM_COUNT; i++) {
+            items.add(new DynamicItem(icon, "Title " + i, "Subtitle " + i,
+                    Theme.AUTO, i % 2 == 0 ? Theme.ColorType.PRIMARY : Theme.ColorType.ACCENT,
+                    i < ADS_ITEM_COUNT - 1));
+        }
+
+        bind(new DynamicItemsAdapter(items));
+    }
+
+    @Test
+    @UiThreadTest
+    public void bindBinderAdapter() {
+        DynamicSimpleBinderAdapter<DynamicRecyclerViewBinder> adapter =
+                new DynamicSimpleBinderAdapter<DynamicRecyclerViewBinder>() { };
+        DynamicInfoBinder binder = new DynamicInfoBinder(adapter);
+        binder.setData(new DynamicInfo()
+                .setIcon(ContextCompat.getDrawable(mContext, R.drawable.ads_ic_info))
+                .setTitle("Title")
+                .setSubtitle("Subtitle")
+                .setDescription("Description"));
+        adapter.addDataBinder(binder);
+
+        bind(adapter);
+    }
+}
@@ -37,6 +37,7 @@ import com.pranavpandey.android.dynamic.support.listener.DynamicListener;
 import com.pranavpandey.android.dynamic.support.listener.DynamicResolver;
 import com.pranavpandey.android.dynamic.support.model.DynamicAppTheme;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
+import com.pranavpandey.android.dynamic.support.theme.DynamicWarmUp;
 import com.pranavpandey.android.dynamic.support.utils.DynamicResourceUtils;
 import com.pranavpandey.android.dynamic.utils.DynamicSdkUtils;
 
@@ -80,6 +81,11 @@ public abstract class DynamicApplication extends Application
 
         onInitialize();
         setDynamicTheme();
+
+        DynamicWarmUp warmUp = onCreateWarmUp();
+        if (warmUp != null) {
+            warmUp.execute();
+        }
     }
 
     @TargetApi(Build.VERSION_CODES.JELLY_BEAN_MR1)
@@ -150,6 +156,19 @@ public abstract class DynamicApplication extends Application
         return true;
     }
 
+    /**
+     * This method will be called inside the {@link #onCreate()} method after applying the theme
+     * to warm up the theme engine on a background thread.
+     * <p>Override this method to return a {@link DynamicWarmUp} and add any additional tasks
+     * like pre-inflating the layouts.
+     *
+     * @return The warm up to be executed.
+     *         <p>{@code null} to skip the warm up.
+     */
+    protected @Nullable DynamicWarmUp onCreateWarmUp() {
+        return null;
+    }
+
     /**
      * Returns the dynamic context used by this application.
      *
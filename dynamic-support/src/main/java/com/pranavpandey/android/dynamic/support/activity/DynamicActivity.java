@@ -54,6 +54,7 @@ import com.google.android.material.floatingactionbutton.FloatingActionButton;
 import com.google.android.material.snackbar.Snackbar;
 import com.pranavpandey.android.dynamic.support.R;
 import com.pranavpandey.android.dynamic.support.listener.DynamicSearchListener;
+import com.pranavpandey.android.dynamic.support.theme.DynamicLayoutPool;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
 import com.pranavpandey.android.dynamic.support.utils.DynamicFABUtils;
 import com.pranavpandey.android.dynamic.support.utils.DynamicHintUtils;
@@ -189,7 +190,12 @@ public abstract class DynamicActivity extends DynamicStateActivity {
     protected void onCreate(@Nullable Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
 
-        setContentView(getLayoutRes());
+        View layout = DynamicLayoutPool.getInstance().obtain(this, getLayoutRes());
+        if (layout != null) {
+            setContentView(layout);
+        } else {
+            setContentView(getLayoutRes());
+        }
 
         mFrameContent = findViewById(R.id.ads_container);
         mFrameHeader = findViewById(R.id.ads_header_frame);
@@ -213,8 +219,8 @@ public abstract class DynamicActivity extends DynamicStateActivity {
         }
 
         if (getContentRes() != ADS_DEFAULT_LAYOUT_RES) {
-            mFrameContent.addView(getLayoutInflater().inflate(getContentRes(),
-                    new LinearLayout(this), false));
+            mFrameContent.addView(DynamicLayoutPool.getInstance().obtain(
+                    getLayoutInflater(), getContentRes(), new LinearLayout(this)));
         }
 
         if (setCollapsingToolbarLayout()) {
@@ -279,6 +285,20 @@ public abstract class DynamicActivity extends DynamicStateActivity {
         }
     }
 
+    @Override
+    protected boolean onApplyThemeChange() {
+        if (!super.onApplyThemeChange()) {
+            return false;
+        }
+
+        if (mFrameContent != null) {
+            mFrameContent.setBackgroundColor(
+                    DynamicTheme.getInstance().get().getBackgroundColor());
+        }
+
+        return true;
+    }
+
     @Override
     public @Nullable View getEdgeToEdgeView() {
         return mCoordinatorLayout;
@@ -686,8 +706,8 @@ public abstract class DynamicActivity extends DynamicStateActivity {
      * @param removePrevious {@code true} to remove the previously added views.
      */
     public void addHeader(@LayoutRes int layoutRes, boolean removePrevious) {
-        addHeader(getLayoutInflater().inflate(layoutRes,
-                new LinearLayout(this), false), removePrevious);
+        addHeader(DynamicLayoutPool.getInstance().obtain(getLayoutInflater(),
+                layoutRes, new LinearLayout(this)), removePrevious);
     }
 
     /**
@@ -745,8 +765,8 @@ public abstract class DynamicActivity extends DynamicStateActivity {
      * @param removePrevious {@code true} to remove the previously added views.
      */
     public void addBottomSheet(@LayoutRes int layoutRes, boolean removePrevious) {
-        addBottomSheet(getLayoutInflater().inflate(layoutRes,
-                new LinearLayout(this), false), removePrevious);
+        addBottomSheet(DynamicLayoutPool.getInstance().obtain(getLayoutInflater(),
+                layoutRes, new LinearLayout(this)), removePrevious);
     }
 
     /**
@@ -783,8 +803,8 @@ public abstract class DynamicActivity extends DynamicStateActivity {
      * @param removePrevious {@code true} to remove the previously added views.
      */
     public void addFooter(@LayoutRes int layoutRes, boolean removePrevious) {
-        addFooter(getLayoutInflater().inflate(layoutRes,
-                new LinearLayout(this), false), removePrevious);
+        addFooter(DynamicLayoutPool.getInstance().obtain(getLayoutInflater(),
+                layoutRes, new LinearLayout(this)), removePrevious);
     }
 
     /**
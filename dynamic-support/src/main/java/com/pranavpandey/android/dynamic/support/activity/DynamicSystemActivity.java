@@ -60,8 +60,13 @@ import com.pranavpandey.android.dynamic.support.R;
 import com.pranavpandey.android.dynamic.support.listener.DynamicListener;
 import com.pranavpandey.android.dynamic.support.listener.DynamicTransitionListener;
 import com.pranavpandey.android.dynamic.support.model.DynamicAppTheme;
+import com.pranavpandey.android.dynamic.support.model.DynamicThemeSnapshot;
+import com.pranavpandey.android.dynamic.support.permission.DynamicPermissions;
+import com.pranavpandey.android.dynamic.support.recyclerview.DynamicRecycledViewPools;
 import com.pranavpandey.android.dynamic.support.theme.DynamicLayoutInflater;
+import com.pranavpandey.android.dynamic.support.theme.DynamicLayoutPool;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
+import com.pranavpandey.android.dynamic.support.theme.DynamicThemedViews;
 import com.pranavpandey.android.dynamic.support.utils.DynamicResourceUtils;
 import com.pranavpandey.android.dynamic.theme.Theme;
 import com.pranavpandey.android.dynamic.utils.DynamicColorUtils;
@@ -216,6 +221,21 @@ public abstract class DynamicSystemActivity extends AppCompatActivity implements
      */
     private DynamicTransitionListener mDynamicTransitionListener;
 
+    /**
+     * Recycled view pools shared by the recycler views of this activity.
+     */
+    private DynamicRecycledViewPools mRecycledViewPools;
+
+    /**
+     * Dynamic widgets of this activity to apply the theme in place.
+     */
+    private DynamicThemedViews mThemedViews;
+
+    /**
+     * Theme applied on the views of this activity.
+     */
+    private DynamicThemeSnapshot mAppliedTheme;
+
     @Override
     public void attachBaseContext(@NonNull Context base) {
         super.attachBaseContext(setLocale(base));
@@ -231,6 +251,7 @@ public abstract class DynamicSystemActivity extends AppCompatActivity implements
         mBackgroundColor = DynamicTheme.getInstance().get().getBackgroundColor();
         mStatusBarColor = DynamicTheme.getInstance().get().getPrimaryColorDark();
         mNavigationBarColor = DynamicTheme.getInstance().get().getPrimaryColorDark();
+        mAppliedTheme = DynamicTheme.getInstance().getSnapshot();
 
         updateTaskDescription(DynamicTheme.getInstance().get().getPrimaryColor());
         setNavigationBarColor(mNavigationBarColor);
@@ -504,6 +525,39 @@ public abstract class DynamicSystemActivity extends AppCompatActivity implements
         return new DynamicLayoutInflater();
     }
 
+    /**
+     * Returns the recycled view pools shared by the recycler views of this activity.
+     *
+     * @return The recycled view pools shared by the recycler views of this activity.
+     */
+    public @NonNull DynamicRecycledViewPools getRecycledViewPools() {
+        if (mRecycledViewPools == null) {
+            mRecycledViewPools = new DynamicRecycledViewPools();
+        }
+
+        return mRecycledViewPools;
+    }
+
+    /**
+     * Returns the dynamic widgets of this activity to apply the theme in place.
+     *
+     * @return The dynamic widgets of this activity to apply the theme in place.
+     *         <p>{@code null} if the live theme change is not supported.
+     *
+     * @see #setLiveThemeChange()
+     */
+    public @Nullable DynamicThemedViews getThemedViews() {
+        if (!setLiveThemeChange()) {
+            return null;
+        }
+
+        if (mThemedViews == null) {
+            mThemedViews = new DynamicThemedViews();
+        }
+
+        return mThemedViews;
+    }
+
     /**
      * Get the dynamic theme context used by this activity.
      *
@@ -687,12 +741,87 @@ public abstract class DynamicSystemActivity extends AppCompatActivity implements
         return true;
     }
 
+    /**
+     * Sets whether the theme changes should be applied on this activity without recreating it.
+     * <p>Only the colors, corner size and background aware will be applied in place, this
+     * activity will still be recreated if the style resource or font scale has been changed.
+     *
+     * @return {@code true} to apply the theme changes without recreating this activity.
+     *
+     * @see DynamicThemedViews
+     */
+    protected boolean setLiveThemeChange() {
+        return false;
+    }
+
+    /**
+     * Apply the current theme on the views of this activity without recreating it.
+     *
+     * @return {@code true} if the theme has been applied, otherwise this activity must be
+     *         recreated to apply the theme, for example if any widget fails to apply it.
+     */
+    protected boolean onApplyThemeChange() {
+        DynamicThemedViews themedViews = getThemedViews();
+        if (themedViews == null || mAppliedTheme == null || (mCurrentLocale != null
+                && !mCurrentLocale.equals(DynamicLocaleUtils.getLocale(
+                        getLocale(), getDefaultLocale(this))))) {
+            return false;
+        }
+
+        setDynamicTheme();
+
+        DynamicThemeSnapshot theme = DynamicTheme.getInstance().getSnapshot();
+        if (DynamicThemedViews.isStructuralChange(mAppliedTheme, theme)) {
+            return false;
+        }
+
+        int changes = mAppliedTheme.getChanges(theme);
+        if (changes == 0) {
+            return true;
+        }
+
+        if ((changes & DynamicAppTheme.getColorTypeMask(Theme.ColorType.PRIMARY_DARK)) != 0) {
+            setStatusBarColor(theme.getColor(Theme.ColorType.PRIMARY_DARK));
+
+            if (isNavigationBarTheme()) {
+                setNavigationBarColor(theme.getColor(Theme.ColorType.PRIMARY_DARK));
+            }
+        }
+
+        if ((changes & DynamicAppTheme.getColorTypeMask(Theme.ColorType.BACKGROUND)) != 0) {
+            setWindowBackground(theme.getColor(Theme.ColorType.BACKGROUND));
+        }
+
+        if ((changes & DynamicAppTheme.getColorTypeMask(Theme.ColorType.PRIMARY)) != 0) {
+            updateTaskDescription(theme.getColor(Theme.ColorType.PRIMARY));
+        }
+
+        try {
+            themedViews.apply(getWindow().getDecorView(), changes);
+        } catch (Exception e) {
+            return false;
+        }
+
+        mAppliedTheme = theme;
+        supportInvalidateOptionsMenu();
+
+        return true;
+    }
+
     /**
      * This method will be called after the theme has been changed.
      * <p>Override this method to perform operations after the theme has been changed like
      * re-initialize the {@link DynamicTheme} with new colors, etc.
+     *
+     * @see #setLiveThemeChange()
      */
     protected void onAppThemeChange() {
+        DynamicLayoutPool.getInstance().clear();
+
+        if (onApplyThemeChange()) {
+            return;
+        }
+
         getWindow().setWindowAnimations(R.style.Animation_DynamicApp_Window_FadeInOut);
         ActivityCompat.recreate(this);
     }
@@ -972,6 +1101,9 @@ public abstract class DynamicSystemActivity extends AppCompatActivity implements
     public void onResume() {
         super.onResume();
 
+        // Permissions might have been changed from the system settings.
+        DynamicPermissions.getInstance().invalidate();
+
         if (setOnSharedPreferenceChangeListener()) {
             PreferenceManager.getDefaultSharedPreferences(this)
                     .registerOnSharedPreferenceChangeListener(this);
@@ -1008,6 +1140,14 @@ public abstract class DynamicSystemActivity extends AppCompatActivity implements
         }
     };
 
+    @Override
+    public void onRequestPermissionsResult(int requestCode,
+            @NonNull String[] permissions, @NonNull int[] grantResults) {
+        super.onRequestPermissionsResult(requestCode, permissions, grantResults);
+
+        DynamicPermissions.getInstance().onRequestPermissionsResult(permissions, grantResults);
+    }
+
     @Override
     public void onPause() {
         if (setOnSharedPreferenceChangeListener()) {
@@ -1021,6 +1161,14 @@ public abstract class DynamicSystemActivity extends AppCompatActivity implements
     @Override
     public void onDestroy() {
         DynamicTheme.getInstance().deleteLocalTheme(this);
+
+        if (mRecycledViewPools != null) {
+            mRecycledViewPools.clear();
+        }
+
+        if (mThemedViews != null) {
+            mThemedViews.clear();
+        }
         super.onDestroy();
     }
 
@@ -1033,6 +1181,9 @@ public abstract class DynamicSystemActivity extends AppCompatActivity implements
     public void onDynamicChanged(boolean context, boolean recreate) {
         if (context) {
             setLocale(getContext());
+
+            // Resources have been changed so, the views must be inflated again.
+            mAppliedTheme = null;
         }
 
         if (recreate) {
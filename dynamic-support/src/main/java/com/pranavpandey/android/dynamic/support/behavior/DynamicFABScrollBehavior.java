@@ -20,6 +20,7 @@ import android.content.Context;
 import android.text.TextUtils;
 import android.util.AttributeSet;
 import android.view.View;
+import android.view.ViewConfiguration;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -31,6 +32,7 @@ import com.google.android.material.floatingactionbutton.ExtendedFloatingActionBu
 import com.google.android.material.floatingactionbutton.FloatingActionButton;
 import com.pranavpandey.android.dynamic.support.utils.DynamicFABUtils;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -39,19 +41,54 @@ import java.util.List;
  * element to show or hide the FAB according to the scroll direction.
  *
  * <p><p>Scrolling in upwards direction will hide the FAB and scrolling in downwards direction
- * will make it visible.
+ * will make it visible. The FAB visibility will be changed only after scrolling for the
+ * {@link #getScrollThreshold()} in a direction.
  */
 public class DynamicFABScrollBehavior extends AppBarLayout.ScrollingViewBehavior {
 
+    /**
+     * FAB dependencies of the child view.
+     */
+    private final List<View> mFABs;
+
+    /**
+     * Minimum scroll distance in pixels to be accumulated in a direction before changing
+     * the FAB visibility.
+     */
+    private int mScrollThreshold;
+
+    /**
+     * Scroll distance accumulated in the current direction.
+     */
+    private int mScrollDistance;
+
     public DynamicFABScrollBehavior(@NonNull Context context, @Nullable AttributeSet attrs) {
         super(context, attrs);
+
+        this.mFABs = new ArrayList<>();
+        this.mScrollThreshold = ViewConfiguration.get(context).getScaledTouchSlop();
     }
 
     @Override
     public boolean layoutDependsOn(CoordinatorLayout parent, View child, View dependency) {
-        return super.layoutDependsOn(parent, child, dependency)
-                || dependency instanceof FloatingActionButton
-                || dependency instanceof ExtendedFloatingActionButton;
+        if (dependency instanceof FloatingActionButton
+                || dependency instanceof ExtendedFloatingActionButton) {
+            if (!mFABs.contains(dependency)) {
+                mFABs.add(dependency);
+            }
+
+            return true;
+        }
+
+        return super.layoutDependsOn(parent, child, dependency);
+    }
+
+    @Override
+    public void onDependentViewRemoved(@NonNull CoordinatorLayout parent,
+            @NonNull View child, @NonNull View dependency) {
+        super.onDependentViewRemoved(parent, child, dependency);
+
+        mFABs.remove(dependency);
     }
 
     @Override
@@ -71,32 +108,120 @@ public class DynamicFABScrollBehavior extends AppBarLayout.ScrollingViewBehavior
         super.onNestedScroll(coordinatorLayout, child, target, dxConsumed,
                 dyConsumed, dxUnconsumed, dyUnconsumed, type, consumed);
 
-        if (dyConsumed > 0) {
+        if (dyConsumed == 0 || mFABs.isEmpty()) {
+            return;
+        }
+
+        // Reset the accumulated distance if the scroll direction has been changed.
+        if ((dyConsumed > 0) != (mScrollDistance > 0)) {
+            mScrollDistance = 0;
+        }
+        mScrollDistance += dyConsumed;
+
+        if (mScrollDistance > mScrollThreshold && isFABVisible()) {
             // User scrolled up -> hide the FAB.
-            List<View> dependencies = coordinatorLayout.getDependencies(child);
-            for (View view : dependencies) {
-                if (view instanceof FloatingActionButton
-                        && ((FloatingActionButton) view).getDrawable() != null) {
+            setFABVisible(false);
+        } else if (mScrollDistance < -mScrollThreshold && !isFABVisible()) {
+            // User scrolled down -> show the FAB.
+            setFABVisible(true);
+        }
+    }
+
+    /**
+     * Show or hide the FAB dependencies.
+     *
+     * @param visible {@code true} to show the FAB dependencies.
+     */
+    private void setFABVisible(boolean visible) {
+        mScrollDistance = 0;
+
+        for (int i = 0; i < mFABs.size(); i++) {
+            View view = mFABs.get(i);
+
+            if (isFAB(view)) {
+                if (visible) {
+                    DynamicFABUtils.show((FloatingActionButton) view);
+                } else {
                     DynamicFABUtils.hide((FloatingActionButton) view);
-                } else if (view instanceof ExtendedFloatingActionButton
-                        && (((ExtendedFloatingActionButton) view).getIcon() != null
-                        || !TextUtils.isEmpty(((ExtendedFloatingActionButton) view).getText()))) {
+                }
+            } else if (isExtendedFAB(view)) {
+                if (visible) {
+                    DynamicFABUtils.show((ExtendedFloatingActionButton) view, true);
+                } else {
                     DynamicFABUtils.hide((ExtendedFloatingActionButton) view, true);
                 }
             }
-        } else if (dyConsumed < 0) {
-            // User scrolled down -> show the FAB.
-            List<View> dependencies = coordinatorLayout.getDependencies(child);
-            for (View view : dependencies) {
-                if (view instanceof FloatingActionButton
-                        && ((FloatingActionButton) view).getDrawable() != null) {
-                    DynamicFABUtils.show((FloatingActionButton) view);
-                } else if (view instanceof ExtendedFloatingActionButton
-                        && (((ExtendedFloatingActionButton) view).getIcon() != null
-                        || !TextUtils.isEmpty(((ExtendedFloatingActionButton) view).getText()))) {
-                    DynamicFABUtils.show((ExtendedFloatingActionButton) view, true);
+        }
+    }
+
+    /**
+     * Checks whether the supplied view is a FAB having an image to be shown or hidden.
+     *
+     * @param view The view to be checked.
+     *
+     * @return {@code true} if the supplied view is a FAB having an image.
+     */
+    private boolean isFAB(@NonNull View view) {
+        return view instanceof FloatingActionButton
+                && ((FloatingActionButton) view).getDrawable() != null;
+    }
+
+    /**
+     * Checks whether the supplied view is an extended FAB having an icon or text to be
+     * shown or hidden.
+     *
+     * @param view The view to be checked.
+     *
+     * @return {@code true} if the supplied view is an extended FAB having an icon or text.
+     */
+    private boolean isExtendedFAB(@NonNull View view) {
+        return view instanceof ExtendedFloatingActionButton
+                && (((ExtendedFloatingActionButton) view).getIcon() != null
+                || !TextUtils.isEmpty(((ExtendedFloatingActionButton) view).getText()));
+    }
+
+    /**
+     * Checks whether any of the FAB dependencies is visible or will be visible after the
+     * current animation.
+     * <p>It is read from the FABs so that it remains valid if they have been shown or
+     * hidden outside of this behavior, for example by the activity.
+     *
+     * @return {@code true} if any of the FAB dependencies is visible.
+     */
+    public boolean isFABVisible() {
+        for (int i = 0; i < mFABs.size(); i++) {
+            View view = mFABs.get(i);
+
+            if (isFAB(view)) {
+                if (((FloatingActionButton) view).isOrWillBeShown()) {
+                    return true;
                 }
+            } else if (isExtendedFAB(view) && view.getVisibility() == View.VISIBLE) {
+                return true;
             }
         }
+
+        return false;
+    }
+
+    /**
+     * Returns the minimum scroll distance to be accumulated in a direction before changing
+     * the FAB visibility.
+     *
+     * @return The minimum scroll distance in pixels.
+     */
+    public int getScrollThreshold() {
+        return mScrollThreshold;
+    }
+
+    /**
+     * Set the minimum scroll distance to be accumulated in a direction before changing
+     * the FAB visibility.
+     * <p>The default value is the scaled touch slop.
+     *
+     * @param scrollThreshold The minimum scroll distance in pixels.
+     */
+    public void setScrollThreshold(int scrollThreshold) {
+        this.mScrollThreshold = Math.max(0, scrollThreshold);
     }
 }
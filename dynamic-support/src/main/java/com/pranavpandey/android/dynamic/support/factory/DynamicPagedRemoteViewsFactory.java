@@ -0,0 +1,440 @@
+/*
+ * Copyright 2018-2020 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.factory;
+
+import android.content.Context;
+import android.util.LruCache;
+import android.util.SparseArray;
+import android.widget.RemoteViews;
+
+import androidx.annotation.CallSuper;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.pranavpandey.android.dynamic.support.model.DynamicAppTheme;
+import com.pranavpandey.android.dynamic.support.model.DynamicThemeSnapshot;
+import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
+import com.pranavpandey.android.dynamic.support.utils.DynamicAppWidgetUtils;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A {@link DynamicRemoteViewsFactory} to display a large collection of items in pages.
+ * <p>Items will be loaded lazily according to the {@link #getPageSize()} and the built
+ * remote views will be cached according to the item id, content hash and theme so that only
+ * the changed items are built again on refreshing the data.
+ * <p>The loaded pages will be reloaded and compared on refreshing the data so that the
+ * remote views of the removed items are evicted from the cache. So, the cost of a refresh
+ * depends on the count of the loaded pages rather than the count of the changed items.
+ *
+ * <p><p>Remote views must be built only from the item data as they can be reused for
+ * the same item at a different position.
+ *
+ * @param <T> The type of the items displayed by this factory.
+ */
+public abstract class DynamicPagedRemoteViewsFactory<T> extends DynamicRemoteViewsFactory {
+
+    /**
+     * Default count of the items to be loaded in a page.
+     */
+    public static final int ADS_PAGE_SIZE = 50;
+
+    /**
+     * Loaded pages of the items according to the page index.
+     * <p>It will be created lazily as the items can be requested while initializing the
+     * super class.
+     */
+    private SparseArray<List<T>> mPages;
+
+    /**
+     * Cache of the built remote views according to the item id.
+     */
+    private LruCache<Long, CachedRemoteViews> mRemoteViews;
+
+    /**
+     * Total count of the items.
+     */
+    private int mCount;
+
+    /**
+     * {@code true} if the total count of the items has been loaded.
+     */
+    private boolean mCountLoaded;
+
+    /**
+     * Key of the theme used to build the remote views.
+     * <p>It will be updated on refreshing the data.
+     */
+    private Object mThemeKey;
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param context The dynamic context for this factory.
+     * @param appWidgetId The app widget id for this factory.
+     * @param width The current width of the widget provider.
+     * @param height The current height of the widget provider.
+     */
+    public DynamicPagedRemoteViewsFactory(@NonNull Context context,
+            int appWidgetId, int width, int height) {
+        this(context, appWidgetId, width, height, false);
+    }
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param context The dynamic context for this factory.
+     * @param appWidgetId The app widget id for this factory.
+     * @param width The current width of the widget provider.
+     * @param height The current height of the widget provider.
+     * @param adjustPosition {@code true} to adjust the scrollable view position.
+     */
+    public DynamicPagedRemoteViewsFactory(@NonNull Context context,
+            int appWidgetId, int width, int height, boolean adjustPosition) {
+        super(context, appWidgetId, width, height, adjustPosition);
+    }
+
+    /**
+     * This method will be called to get the total count of the items.
+     * <p>It will be called on a binder thread so, it can perform blocking operations.
+     *
+     * @return The total count of the items.
+     */
+    protected abstract int onLoadCount();
+
+    /**
+     * This method will be called to load a page of the items.
+     * <p>It will be called on a binder thread so, it can perform blocking operations.
+     *
+     * @param offset The position of the first item to be loaded.
+     * @param limit The maximum count of the items to be loaded.
+     *
+     * @return The list of the loaded items.
+     */
+    protected abstract @NonNull List<T> onLoadItems(int offset, int limit);
+
+    /**
+     * Returns the stable id of the supplied item.
+     *
+     * @param item The item to get the id.
+     *
+     * @return The stable id of the supplied item.
+     */
+    protected abstract long getItemId(@NonNull T item);
+
+    /**
+     * This method will be called to build the remote views for an item.
+     * <p>It will be called only if the item has been changed since the last build.
+     *
+     * @param item The item to build the remote views.
+     *
+     * @return The remote views for the supplied item.
+     */
+    protected abstract @NonNull RemoteViews onCreateRemoteViews(@NonNull T item);
+
+    /**
+     * Returns the hash of the content displayed for the supplied item.
+     * <p>Remote views will be built again if the hash has been changed.
+     *
+     * @param item The item to get the content hash.
+     *
+     * @return The hash of the content displayed for the supplied item.
+     */
+    protected int getItemHash(@NonNull T item) {
+        return item.hashCode();
+    }
+
+    /**
+     * Returns the preferences name of the widget provider to load the theme of this widget.
+     *
+     * @return The preferences name of the widget provider.
+     *         <p>{@code null} to use the remote theme for all the widgets.
+     *
+     * @see DynamicAppWidgetUtils#loadWidgetTheme(String, int)
+     */
+    protected @Nullable String getPreferences() {
+        return null;
+    }
+
+    /**
+     * Returns the theme used to build the remote views of this widget.
+     *
+     * @return The theme used to build the remote views of this widget.
+     */
+    protected @NonNull DynamicAppTheme getWidgetTheme() {
+        DynamicAppTheme theme = null;
+
+        if (getPreferences() != null) {
+            theme = DynamicAppWidgetUtils.loadWidgetTheme(getPreferences(), getAppWidgetId());
+        }
+
+        return theme != null ? theme : DynamicTheme.getInstance().getRemote();
+    }
+
+    /**
+     * Returns the key of the theme used to build the remote views.
+     * <p>It will be called only on refreshing the data and all the remote views will be
+     * built again if the key has been changed.
+     *
+     * @return The key of the theme used to build the remote views.
+     */
+    protected @Nullable Object getThemeKey() {
+        return Arrays.asList(getAppWidgetId(), DynamicThemeSnapshot.of(getWidgetTheme()));
+    }
+
+    /**
+     * Returns the count of the items to be loaded in a page.
+     *
+     * @return The count of the items to be loaded in a page.
+     *
+     * @see #ADS_PAGE_SIZE
+     */
+    public int getPageSize() {
+        return ADS_PAGE_SIZE;
+    }
+
+    /**
+     * Returns the maximum count of the remote views to be cached.
+     *
+     * @return The maximum count of the remote views to be cached.
+     */
+    public int getCacheSize() {
+        return getPageSize() * 2;
+    }
+
+    /**
+     * Returns the item at the supplied position.
+     * <p>Its page will be loaded if not already loaded.
+     *
+     * @param position The position of the item.
+     *
+     * @return The item at the supplied position.
+     *         <p>{@code null} if it is not available.
+     */
+    public synchronized @Nullable T getItem(int position) {
+        if (position < 0 || position >= getCount()) {
+            return null;
+        }
+
+        int pageSize = Math.max(1, getPageSize());
+        int page = position / pageSize;
+        List<T> items = getPages().get(page);
+
+        if (items == null) {
+            items = onLoadItems(page * pageSize, pageSize);
+            getPages().put(page, items);
+        }
+
+        int index = position - page * pageSize;
+        return index < items.size() ? items.get(index) : null;
+    }
+
+    /**
+     * Returns the loaded pages of the items.
+     *
+     * @return The loaded pages of the items according to the page index.
+     */
+    private @NonNull SparseArray<List<T>> getPages() {
+        if (mPages == null) {
+            mPages = new SparseArray<>();
+        }
+
+        return mPages;
+    }
+
+    /**
+     * Returns the cache of the built remote views.
+     *
+     * @return The cache of the built remote views.
+     */
+    private @NonNull LruCache<Long, CachedRemoteViews> getRemoteViewsCache() {
+        if (mRemoteViews == null) {
+            mRemoteViews = new LruCache<>(Math.max(1, getCacheSize()));
+        }
+
+        return mRemoteViews;
+    }
+
+    @Override
+    public void onCreate() { }
+
+    @CallSuper
+    @Override
+    public void onDataSetChanged() {
+        super.onDataSetChanged();
+
+        synchronized (this) {
+            Object themeKey = getThemeKey();
+            if (mThemeKey == null ? themeKey != null : !mThemeKey.equals(themeKey)) {
+                getRemoteViewsCache().evictAll();
+            }
+
+            mThemeKey = themeKey;
+            mCount = Math.max(0, onLoadCount());
+            mCountLoaded = true;
+            reloadPages();
+        }
+    }
+
+    /**
+     * Reload the loaded pages and evict the remote views of the items which have been
+     * removed since the last load.
+     * <p>Remote views of the remaining items will be validated by their content hash.
+     * It will load all the pages again so, its cost scales with the loaded pages.
+     */
+    private void reloadPages() {
+        final SparseArray<List<T>> pages = getPages();
+        int pageSize = Math.max(1, getPageSize());
+        Set<Long> removed = new HashSet<>();
+        Set<Long> loaded = new HashSet<>();
+
+        for (int i = pages.size() - 1; i >= 0; i--) {
+            int page = pages.keyAt(i);
+            for (T item : pages.valueAt(i)) {
+                removed.add(getItemId(item));
+            }
+
+            if (page * pageSize >= mCount) {
+                pages.removeAt(i);
+                continue;
+            }
+
+            List<T> items = onLoadItems(page * pageSize, pageSize);
+            for (T item : items) {
+                loaded.add(getItemId(item));
+            }
+
+            pages.setValueAt(i, items);
+        }
+
+        removed.removeAll(loaded);
+        for (Long itemId : removed) {
+            getRemoteViewsCache().remove(itemId);
+        }
+    }
+
+    @CallSuper
+    @Override
+    public void onDestroy() {
+        synchronized (this) {
+            getPages().clear();
+            getRemoteViewsCache().evictAll();
+        }
+    }
+
+    @Override
+    public synchronized int getCount() {
+        if (!mCountLoaded) {
+            mCount = Math.max(0, onLoadCount());
+            mCountLoaded = true;
+        }
+
+        return mCount;
+    }
+
+    @Override
+    public synchronized @Nullable RemoteViews getViewAt(int position) {
+        T item = getItem(position);
+        if (item == null) {
+            return getLoadingView();
+        }
+
+        long itemId = getItemId(item);
+        int hash = getItemHash(item);
+        CachedRemoteViews cached = getRemoteViewsCache().get(itemId);
+
+        if (cached == null || !cached.isValid(hash, mThemeKey)) {
+            cached = new CachedRemoteViews(onCreateRemoteViews(item), hash, mThemeKey);
+            getRemoteViewsCache().put(itemId, cached);
+        }
+
+        return cached.remoteViews;
+    }
+
+    @Override
+    public @Nullable RemoteViews getLoadingView() {
+        return null;
+    }
+
+    @Override
+    public int getViewTypeCount() {
+        return 1;
+    }
+
+    @Override
+    public long getItemId(int position) {
+        T item = getItem(position);
+
+        return item != null ? getItemId(item) : position;
+    }
+
+    @Override
+    public boolean hasStableIds() {
+        return true;
+    }
+
+    /**
+     * Remote views built for an item along with the inputs used to build them.
+     */
+    private static final class CachedRemoteViews {
+
+        /**
+         * Remote views built for the item.
+         */
+        private final RemoteViews remoteViews;
+
+        /**
+         * Content hash of the item.
+         */
+        private final int hash;
+
+        /**
+         * Key of the theme used to build the remote views.
+         */
+        private final Object themeKey;
+
+        /**
+         * Constructor to initialize an object of this class.
+         *
+         * @param remoteViews The remote views built for the item.
+         * @param hash The content hash of the item.
+         * @param themeKey The key of the theme used to build the remote views.
+         */
+        CachedRemoteViews(@NonNull RemoteViews remoteViews,
+                int hash, @Nullable Object themeKey) {
+            this.remoteViews = remoteViews;
+            this.hash = hash;
+            this.themeKey = themeKey;
+        }
+
+        /**
+         * Checks whether the remote views can be reused for the supplied inputs.
+         *
+         * @param hash The content hash of the item.
+         * @param themeKey The key of the current theme.
+         *
+         * @return {@code true} if the remote views can be reused.
+         */
+        boolean isValid(int hash, @Nullable Object themeKey) {
+            return this.hash == hash && (this.themeKey == null
+                    ? themeKey == null : this.themeKey.equals(themeKey));
+        }
+    }
+}
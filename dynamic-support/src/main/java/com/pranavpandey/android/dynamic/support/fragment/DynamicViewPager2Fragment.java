@@ -33,6 +33,7 @@ import com.pranavpandey.android.dynamic.support.R;
 import com.pranavpandey.android.dynamic.support.activity.DynamicActivity;
 import com.pranavpandey.android.dynamic.support.adapter.DynamicFragmentStateAdapter;
 import com.pranavpandey.android.dynamic.support.listener.DynamicViewPagerCallback;
+import com.pranavpandey.android.dynamic.support.theme.DynamicLayoutPool;
 
 /**
  * An abstract {@link ViewPager} fragment to display multiple fragments inside the view pager
@@ -60,7 +61,8 @@ public abstract class DynamicViewPager2Fragment extends DynamicFragment
     @Override
     public View onCreateView(@NonNull LayoutInflater inflater,
             @Nullable ViewGroup container, @Nullable Bundle savedInstanceState) {
-        return inflater.inflate(R.layout.ads_fragment_view_pager_2, container, false);
+        return DynamicLayoutPool.getInstance().obtain(
+                inflater, R.layout.ads_fragment_view_pager_2, container);
     }
 
     @Override
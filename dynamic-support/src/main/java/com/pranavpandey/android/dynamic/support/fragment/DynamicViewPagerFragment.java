@@ -31,6 +31,7 @@ import androidx.viewpager.widget.ViewPager;
 import com.google.android.material.tabs.TabLayout;
 import com.pranavpandey.android.dynamic.support.R;
 import com.pranavpandey.android.dynamic.support.activity.DynamicActivity;
+import com.pranavpandey.android.dynamic.support.theme.DynamicLayoutPool;
 
 import java.util.List;
 
@@ -83,7 +84,8 @@ public abstract class DynamicViewPagerFragment extends DynamicFragment {
     @Override
     public View onCreateView(@NonNull LayoutInflater inflater,
             @Nullable ViewGroup container, @Nullable Bundle savedInstanceState) {
-        return inflater.inflate(R.layout.ads_fragment_view_pager, container, false);
+        return DynamicLayoutPool.getInstance().obtain(
+                inflater, R.layout.ads_fragment_view_pager, container);
     }
 
     @Override
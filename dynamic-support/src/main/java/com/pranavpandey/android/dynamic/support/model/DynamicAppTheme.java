@@ -21,20 +21,24 @@ import android.os.Parcelable;
 
 import androidx.annotation.ColorInt;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.StyleRes;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonSyntaxException;
 import com.google.gson.annotations.SerializedName;
+import com.pranavpandey.android.dynamic.support.model.adapter.DynamicThemeParser;
 import com.pranavpandey.android.dynamic.support.model.adapter.DynamicThemeTypeAdapter;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTrace;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTraceSection;
 import com.pranavpandey.android.dynamic.support.utils.DynamicResourceUtils;
+import com.pranavpandey.android.dynamic.support.widget.WidgetDefaults;
 import com.pranavpandey.android.dynamic.theme.AppTheme;
 import com.pranavpandey.android.dynamic.theme.Theme;
 import com.pranavpandey.android.dynamic.theme.annotation.Exclude;
 import com.pranavpandey.android.dynamic.theme.strategy.ExcludeStrategy;
-import com.pranavpandey.android.dynamic.theme.utils.DynamicThemeUtils;
 import com.pranavpandey.android.dynamic.utils.DynamicColorUtils;
 import com.pranavpandey.android.dynamic.utils.DynamicUnitUtils;
 
@@ -48,6 +52,43 @@ public class DynamicAppTheme implements AppTheme<DynamicAppTheme>, Parcelable {
      */
     public static final int AUTO = Theme.AUTO;
 
+    /**
+     * Change mask for all the color types.
+     *
+     * @see #getColorTypeMask(int)
+     */
+    public static final int MASK_COLOR_TYPES = (1 << 16) - 1;
+
+    /**
+     * Change mask for the corner size.
+     */
+    public static final int MASK_CORNER = 1 << 16;
+
+    /**
+     * Change mask for the background aware functionality.
+     */
+    public static final int MASK_BACKGROUND_AWARE = 1 << 17;
+
+    /**
+     * Change mask for all the values which can be applied without recreating the views.
+     */
+    public static final int MASK_ALL = MASK_COLOR_TYPES | MASK_CORNER | MASK_BACKGROUND_AWARE;
+
+    /**
+     * Color types which can be resolved from a theme according to their index.
+     *
+     * @see #getColorTypeIndex(int)
+     */
+    static final int[] COLOR_TYPES = new int[] {
+            Theme.ColorType.PRIMARY, Theme.ColorType.PRIMARY_DARK,
+            Theme.ColorType.ACCENT, Theme.ColorType.ACCENT_DARK,
+            Theme.ColorType.TINT_PRIMARY, Theme.ColorType.TINT_PRIMARY_DARK,
+            Theme.ColorType.TINT_ACCENT, Theme.ColorType.TINT_ACCENT_DARK,
+            Theme.ColorType.BACKGROUND, Theme.ColorType.TINT_BACKGROUND,
+            Theme.ColorType.TEXT_PRIMARY, Theme.ColorType.TEXT_SECONDARY,
+            Theme.ColorType.TEXT_PRIMARY_INVERSE, Theme.ColorType.TEXT_SECONDARY_INVERSE,
+            Theme.ColorType.SURFACE, Theme.ColorType.TINT_SURFACE };
+
     /**
      * DynamicAppTheme resource used by this theme.
      */
@@ -169,6 +210,15 @@ public class DynamicAppTheme implements AppTheme<DynamicAppTheme>, Parcelable {
     @SerializedName(Theme.Key.BACKGROUND_AWARE)
     private @Theme.BackgroundAware int backgroundAware;
 
+    /**
+     * Colors of this theme packed according to the color type index without resolving them.
+     * <p>It will be invalidated on setting any color.
+     *
+     * @see #getPackedColors()
+     */
+    @Exclude
+    private transient volatile int[] packedColors;
+
     /**
      * Constructor to initialize an object of this class.
      */
@@ -201,9 +251,7 @@ public class DynamicAppTheme implements AppTheme<DynamicAppTheme>, Parcelable {
      * @param theme The theme string to initialize the instance.
      */
     public DynamicAppTheme(@NonNull String theme) throws JsonSyntaxException {
-        this(new GsonBuilder().setExclusionStrategies(new ExcludeStrategy())
-                .registerTypeAdapter(DynamicAppTheme.class, new DynamicThemeTypeAdapter<>())
-                .create().fromJson(DynamicThemeUtils.formatTheme(theme), DynamicAppTheme.class));
+        this(DynamicThemeParser.parse(theme, DynamicAppTheme.class));
     }
 
     /**
@@ -213,22 +261,7 @@ public class DynamicAppTheme implements AppTheme<DynamicAppTheme>, Parcelable {
      */
     public DynamicAppTheme(@NonNull DynamicAppTheme dynamicAppTheme) {
         this.themeRes = dynamicAppTheme.getThemeRes();
-        this.backgroundColor = dynamicAppTheme.getBackgroundColor(false);
-        this.surfaceColor = dynamicAppTheme.getSurfaceColor(false);
-        this.primaryColor = dynamicAppTheme.getPrimaryColor(false);
-        this.primaryColorDark = dynamicAppTheme.getPrimaryColorDark(false);
-        this.accentColor = dynamicAppTheme.getAccentColor(false);
-        this.accentColorDark = dynamicAppTheme.getAccentColorDark(false);
-        this.tintBackgroundColor = dynamicAppTheme.getTintBackgroundColor(false);
-        this.tintSurfaceColor = dynamicAppTheme.getTintSurfaceColor(false);
-        this.tintPrimaryColor = dynamicAppTheme.getTintPrimaryColor(false);
-        this.tintPrimaryColorDark = dynamicAppTheme.getTintPrimaryColorDark(false);
-        this.tintAccentColor = dynamicAppTheme.getTintAccentColor(false);
-        this.tintAccentColorDark = dynamicAppTheme.getTintAccentColorDark(false);
-        this.textPrimaryColor = dynamicAppTheme.getTextPrimaryColor(false);
-        this.textSecondaryColor = dynamicAppTheme.getTextSecondaryColor(false);
-        this.textPrimaryColorInverse = dynamicAppTheme.getTextPrimaryColorInverse(false);
-        this.textSecondaryColorInverse = dynamicAppTheme.getTextSecondaryColorInverse(false);
+        setPackedColors(dynamicAppTheme.getColors(false));
         this.fontScale = dynamicAppTheme.getFontScale(false);
         this.cornerRadius = dynamicAppTheme.getCornerRadius(false);
         this.backgroundAware = dynamicAppTheme.getBackgroundAware(false);
@@ -354,22 +387,7 @@ public class DynamicAppTheme implements AppTheme<DynamicAppTheme>, Parcelable {
      */
     public DynamicAppTheme(Parcel in) {
         this.themeRes = in.readInt();
-        this.backgroundColor = in.readInt();
-        this.surfaceColor = in.readInt();
-        this.primaryColor = in.readInt();
-        this.primaryColorDark = in.readInt();
-        this.accentColor = in.readInt();
-        this.accentColorDark = in.readInt();
-        this.tintBackgroundColor = in.readInt();
-        this.tintSurfaceColor = in.readInt();
-        this.tintPrimaryColor = in.readInt();
-        this.tintPrimaryColorDark = in.readInt();
-        this.tintAccentColor = in.readInt();
-        this.tintAccentColorDark = in.readInt();
-        this.textPrimaryColor = in.readInt();
-        this.textSecondaryColor = in.readInt();
-        this.textPrimaryColorInverse = in.readInt();
-        this.textSecondaryColorInverse = in.readInt();
+        setPackedColors(in.createIntArray());
         this.fontScale = in.readInt();
         this.cornerRadius = in.readInt();
         this.backgroundAware = in.readInt();
@@ -383,22 +401,7 @@ public class DynamicAppTheme implements AppTheme<DynamicAppTheme>, Parcelable {
     @Override
     public void writeToParcel(Parcel dest, int flags) {
         dest.writeInt(themeRes);
-        dest.writeInt(backgroundColor);
-        dest.writeInt(surfaceColor);
-        dest.writeInt(primaryColor);
-        dest.writeInt(primaryColorDark);
-        dest.writeInt(accentColor);
-        dest.writeInt(accentColorDark);
-        dest.writeInt(tintBackgroundColor);
-        dest.writeInt(tintSurfaceColor);
-        dest.writeInt(tintPrimaryColor);
-        dest.writeInt(tintPrimaryColorDark);
-        dest.writeInt(tintAccentColor);
-        dest.writeInt(tintAccentColorDark);
-        dest.writeInt(textPrimaryColor);
-        dest.writeInt(textSecondaryColor);
-        dest.writeInt(textPrimaryColorInverse);
-        dest.writeInt(textSecondaryColorInverse);
+        dest.writeIntArray(getPackedColors());
         dest.writeInt(fontScale);
         dest.writeInt(cornerRadius);
         dest.writeInt(backgroundAware);
@@ -439,6 +442,7 @@ public class DynamicAppTheme implements AppTheme<DynamicAppTheme>, Parcelable {
     public @NonNull DynamicAppTheme setBackgroundColor(
             @ColorInt int backgroundColor, boolean generateTint) {
         this.backgroundColor = backgroundColor;
+        this.packedColors = null;
         if (generateTint && backgroundColor != AUTO) {
             setTintBackgroundColor(DynamicColorUtils.getTintColor(backgroundColor));
         }
@@ -469,6 +473,7 @@ public class DynamicAppTheme implements AppTheme<DynamicAppTheme>, Parcelable {
     public @NonNull DynamicAppTheme setSurfaceColor(
             @ColorInt int surfaceColor, boolean generateTint) {
         this.surfaceColor = surfaceColor;
+        this.packedColors = null;
         if (generateTint && surfaceColor != AUTO) {
             setTintSurfaceColor(DynamicColorUtils.getTintColor(surfaceColor));
         }
@@ -499,6 +504,7 @@ public class DynamicAppTheme implements AppTheme<DynamicAppTheme>, Parcelable {
     public @NonNull DynamicAppTheme setPrimaryColor(
             @ColorInt int primaryColor, boolean generateTint) {
         this.primaryColor = primaryColor;
+        this.packedColors = null;
         if (generateTint && primaryColor != AUTO) {
             setTintPrimaryColor(DynamicColorUtils.getTintColor(primaryColor));
         }
@@ -529,6 +535,7 @@ public class DynamicAppTheme implements AppTheme<DynamicAppTheme>, Parcelable {
     public @NonNull DynamicAppTheme setPrimaryColorDark(
             @ColorInt int primaryColorDark, boolean generateTint) {
         this.primaryColorDark = primaryColorDark;
+        this.packedColors = null;
         if (generateTint && primaryColorDark != AUTO) {
             setTintPrimaryColorDark(DynamicColorUtils.getTintColor(primaryColorDark));
         }
@@ -559,6 +566,7 @@ public class DynamicAppTheme implements AppTheme<DynamicAppTheme>, Parcelable {
     public @NonNull DynamicAppTheme setAccentColor(
             @ColorInt int accentColor, boolean generateTint) {
         this.accentColor = accentColor;
+        this.packedColors = null;
         if (generateTint && accentColor != AUTO) {
             setTintAccentColor(DynamicColorUtils.getTintColor(accentColor));
         }
@@ -589,6 +597,7 @@ public class DynamicAppTheme implements AppTheme<DynamicAppTheme>, Parcelable {
     public @NonNull DynamicAppTheme setAccentColorDark(
             @ColorInt int accentColorDark, boolean generateTint) {
         this.accentColorDark = accentColorDark;
+        this.packedColors = null;
         if (generateTint && accentColorDark != AUTO) {
             setTintAccentColorDark(DynamicColorUtils.getTintColor(accentColorDark));
         }
@@ -618,6 +627,7 @@ public class DynamicAppTheme implements AppTheme<DynamicAppTheme>, Parcelable {
     @Override
     public @NonNull DynamicAppTheme setTintBackgroundColor(@ColorInt int tintBackgroundColor) {
         this.tintBackgroundColor = tintBackgroundColor;
+        this.packedColors = null;
 
         return this;
     }
@@ -639,6 +649,7 @@ public class DynamicAppTheme implements AppTheme<DynamicAppTheme>, Parcelable {
     @Override
     public @NonNull DynamicAppTheme setTintSurfaceColor(@ColorInt int tintSurfaceColor) {
         this.tintSurfaceColor = tintSurfaceColor;
+        this.packedColors = null;
 
         return this;
     }
@@ -660,6 +671,7 @@ public class DynamicAppTheme implements AppTheme<DynamicAppTheme>, Parcelable {
     @Override
     public @NonNull DynamicAppTheme setTintPrimaryColor(@ColorInt int tintPrimaryColor) {
         this.tintPrimaryColor = tintPrimaryColor;
+        this.packedColors = null;
 
         return this;
     }
@@ -681,6 +693,7 @@ public class DynamicAppTheme implements AppTheme<DynamicAppTheme>, Parcelable {
     @Override
     public @NonNull DynamicAppTheme setTintPrimaryColorDark(@ColorInt int tintPrimaryColorDark) {
         this.tintPrimaryColorDark = tintPrimaryColorDark;
+        this.packedColors = null;
 
         return this;
     }
@@ -702,6 +715,7 @@ public class DynamicAppTheme implements AppTheme<DynamicAppTheme>, Parcelable {
     @Override
     public @NonNull DynamicAppTheme setTintAccentColor(@ColorInt int tintAccentColor) {
         this.tintAccentColor = tintAccentColor;
+        this.packedColors = null;
 
         return this;
     }
@@ -723,6 +737,7 @@ public class DynamicAppTheme implements AppTheme<DynamicAppTheme>, Parcelable {
     @Override
     public @NonNull DynamicAppTheme setTintAccentColorDark(@ColorInt int tintAccentColorDark) {
         this.tintAccentColorDark = tintAccentColorDark;
+        this.packedColors = null;
 
         return this;
     }
@@ -746,6 +761,7 @@ public class DynamicAppTheme implements AppTheme<DynamicAppTheme>, Parcelable {
     public @NonNull DynamicAppTheme setTextPrimaryColor(
             @ColorInt int textPrimaryColor, boolean generateInverse) {
         this.textPrimaryColor = textPrimaryColor;
+        this.packedColors = null;
         if (generateInverse && textPrimaryColor != AUTO) {
             setTextPrimaryColorInverse(DynamicColorUtils.getTintColor(textPrimaryColor));
         }
@@ -776,6 +792,7 @@ public class DynamicAppTheme implements AppTheme<DynamicAppTheme>, Parcelable {
     public @NonNull DynamicAppTheme setTextSecondaryColor(
             @ColorInt int textSecondaryColor, boolean generateInverse) {
         this.textSecondaryColor = textSecondaryColor;
+        this.packedColors = null;
         if (generateInverse && textSecondaryColor != AUTO) {
             setTextSecondaryColorInverse(DynamicColorUtils.getTintColor(textSecondaryColor));
         }
@@ -805,6 +822,7 @@ public class DynamicAppTheme implements AppTheme<DynamicAppTheme>, Parcelable {
     @Override
     public @NonNull DynamicAppTheme setTextPrimaryColorInverse(int textPrimaryColorInverse) {
         this.textPrimaryColorInverse = textPrimaryColorInverse;
+        this.packedColors = null;
 
         return this;
     }
@@ -826,6 +844,7 @@ public class DynamicAppTheme implements AppTheme<DynamicAppTheme>, Parcelable {
     @Override
     public @NonNull DynamicAppTheme setTextSecondaryColorInverse(int textSecondaryColorInverse) {
         this.textSecondaryColorInverse = textSecondaryColorInverse;
+        this.packedColors = null;
 
         return this;
     }
@@ -953,16 +972,282 @@ public class DynamicAppTheme implements AppTheme<DynamicAppTheme>, Parcelable {
         return autoGenerateColors(true, true);
     }
 
+    /**
+     * Returns the index of the supplied color type in the packed colors of a theme.
+     *
+     * @param colorType The color type to get the index.
+     *
+     * @return The index of the supplied color type.
+     *         <p>{@code -1} if it is not resolved from the theme.
+     *
+     * @see #getColors(boolean)
+     */
+    public static int getColorTypeIndex(@Theme.ColorType int colorType) {
+        switch (colorType) {
+            default: return -1;
+            case Theme.ColorType.PRIMARY: return 0;
+            case Theme.ColorType.PRIMARY_DARK: return 1;
+            case Theme.ColorType.ACCENT: return 2;
+            case Theme.ColorType.ACCENT_DARK: return 3;
+            case Theme.ColorType.TINT_PRIMARY: return 4;
+            case Theme.ColorType.TINT_PRIMARY_DARK: return 5;
+            case Theme.ColorType.TINT_ACCENT: return 6;
+            case Theme.ColorType.TINT_ACCENT_DARK: return 7;
+            case Theme.ColorType.BACKGROUND: return 8;
+            case Theme.ColorType.TINT_BACKGROUND: return 9;
+            case Theme.ColorType.TEXT_PRIMARY: return 10;
+            case Theme.ColorType.TEXT_SECONDARY: return 11;
+            case Theme.ColorType.TEXT_PRIMARY_INVERSE: return 12;
+            case Theme.ColorType.TEXT_SECONDARY_INVERSE: return 13;
+            case Theme.ColorType.SURFACE: return 14;
+            case Theme.ColorType.TINT_SURFACE: return 15;
+        }
+    }
+
+    /**
+     * Returns the change mask for the supplied color type.
+     *
+     * @param colorType The color type to get the mask.
+     *
+     * @return The change mask for the supplied color type.
+     *         <p>{@code 0} if it is not resolved from the theme.
+     *
+     * @see Theme.ColorType
+     */
+    public static int getColorTypeMask(@Theme.ColorType int colorType) {
+        int index = getColorTypeIndex(colorType);
+
+        return index != -1 ? 1 << index : 0;
+    }
+
+    /**
+     * Get the color for the supplied color type.
+     * <p>It is the single path to resolve a color type from this theme. Colors will be read
+     * from the packed colors and only the auto colors will be resolved from the getters.
+     *
+     * @param colorType The color type to get the color.
+     * @param resolve {@code true} to resolve the auto color.
+     *
+     * @return The color for the supplied color type.
+     *         <p>{@link WidgetDefaults#ADS_COLOR_UNKNOWN} if it is not resolved from
+     *         the theme.
+     *
+     * @see Theme.ColorType
+     */
+    public @ColorInt int getColor(@Theme.ColorType int colorType, boolean resolve) {
+        int index = getColorTypeIndex(colorType);
+        if (index == -1) {
+            return WidgetDefaults.ADS_COLOR_UNKNOWN;
+        }
+
+        int color = getPackedColors()[index];
+        return resolve && color == AUTO ? getThemeColor(colorType, true) : color;
+    }
+
+    /**
+     * Get the color for the supplied color type from the theme getters.
+     *
+     * @param colorType The color type to get the color.
+     * @param resolve {@code true} to resolve the auto color.
+     *
+     * @return The color for the supplied color type.
+     *         <p>{@link WidgetDefaults#ADS_COLOR_UNKNOWN} if it is not resolved from
+     *         the theme.
+     */
+    private @ColorInt int getThemeColor(@Theme.ColorType int colorType, boolean resolve) {
+        switch (colorType) {
+            default: return WidgetDefaults.ADS_COLOR_UNKNOWN;
+            case Theme.ColorType.PRIMARY: return getPrimaryColor(resolve);
+            case Theme.ColorType.PRIMARY_DARK: return getPrimaryColorDark(resolve);
+            case Theme.ColorType.ACCENT: return getAccentColor(resolve);
+            case Theme.ColorType.ACCENT_DARK: return getAccentColorDark(resolve);
+            case Theme.ColorType.TINT_PRIMARY: return getTintPrimaryColor(resolve);
+            case Theme.ColorType.TINT_PRIMARY_DARK: return getTintPrimaryColorDark(resolve);
+            case Theme.ColorType.TINT_ACCENT: return getTintAccentColor(resolve);
+            case Theme.ColorType.TINT_ACCENT_DARK: return getTintAccentColorDark(resolve);
+            case Theme.ColorType.BACKGROUND: return getBackgroundColor(resolve);
+            case Theme.ColorType.TINT_BACKGROUND: return getTintBackgroundColor(resolve);
+            case Theme.ColorType.TEXT_PRIMARY: return getTextPrimaryColor(resolve);
+            case Theme.ColorType.TEXT_SECONDARY: return getTextSecondaryColor(resolve);
+            case Theme.ColorType.TEXT_PRIMARY_INVERSE: return getTextPrimaryColorInverse(resolve);
+            case Theme.ColorType.TEXT_SECONDARY_INVERSE:
+                return getTextSecondaryColorInverse(resolve);
+            case Theme.ColorType.SURFACE: return getSurfaceColor(resolve);
+            case Theme.ColorType.TINT_SURFACE: return getTintSurfaceColor(resolve);
+        }
+    }
+
+    /**
+     * Get the resolved color for the supplied color type.
+     *
+     * @param colorType The color type to get the color.
+     *
+     * @return The resolved color for the supplied color type.
+     *
+     * @see #getColor(int, boolean)
+     */
+    public @ColorInt int getColor(@Theme.ColorType int colorType) {
+        return getColor(colorType, true);
+    }
+
+    /**
+     * Returns the colors of this theme packed according to the color type index.
+     *
+     * @param resolve {@code true} to resolve the auto colors.
+     *
+     * @return The colors of this theme packed according to the color type index.
+     *
+     * @see #getColorTypeIndex(int)
+     */
+    public @NonNull int[] getColors(boolean resolve) {
+        int[] colors = getPackedColors().clone();
+        if (resolve) {
+            for (int i = 0; i < colors.length; i++) {
+                if (colors[i] == AUTO) {
+                    colors[i] = getThemeColor(COLOR_TYPES[i], true);
+                }
+            }
+        }
+
+        return colors;
+    }
+
+    /**
+     * Returns the colors of this theme packed according to the color type index without
+     * resolving them.
+     * <p>They will be packed only once until any color of this theme is changed so, the
+     * returned array must not be modified.
+     *
+     * @return The colors of this theme packed according to the color type index.
+     */
+    private @NonNull int[] getPackedColors() {
+        int[] colors = packedColors;
+        if (colors == null) {
+            colors = new int[COLOR_TYPES.length];
+            for (int i = 0; i < COLOR_TYPES.length; i++) {
+                colors[i] = getThemeColor(COLOR_TYPES[i], false);
+            }
+
+            packedColors = colors;
+        }
+
+        return colors;
+    }
+
+    /**
+     * Sets the colors of this theme from the supplied colors packed according to the
+     * color type index.
+     *
+     * @param colors The packed colors to be set.
+     *
+     * @see #getColors(boolean)
+     */
+    private void setPackedColors(@NonNull int[] colors) {
+        this.primaryColor = colors[0];
+        this.primaryColorDark = colors[1];
+        this.accentColor = colors[2];
+        this.accentColorDark = colors[3];
+        this.tintPrimaryColor = colors[4];
+        this.tintPrimaryColorDark = colors[5];
+        this.tintAccentColor = colors[6];
+        this.tintAccentColorDark = colors[7];
+        this.backgroundColor = colors[8];
+        this.tintBackgroundColor = colors[9];
+        this.textPrimaryColor = colors[10];
+        this.textSecondaryColor = colors[11];
+        this.textPrimaryColorInverse = colors[12];
+        this.textSecondaryColorInverse = colors[13];
+        this.surfaceColor = colors[14];
+        this.tintSurfaceColor = colors[15];
+        this.packedColors = null;
+    }
+
+    /**
+     * Returns the values of the fields declared by a subclass which must be a part of
+     * the theme snapshot.
+     * <p>Override this method to include the values which are not covered by this class
+     * so that the themes differing only in those values will not share the same snapshot.
+     *
+     * @return The values of the subclass fields to be included in the theme snapshot.
+     *         <p>{@code null} if there are no such values.
+     *
+     * @see DynamicThemeSnapshot#of(DynamicAppTheme)
+     */
+    protected @Nullable int[] getSnapshotExtras() {
+        return null;
+    }
+
+    /**
+     * Returns the mask of the values which are different in the supplied theme.
+     * <p>Colors will be compared after resolving them.
+     *
+     * @param theme The theme to be compared.
+     *
+     * @return The mask of the changed values.
+     *
+     * @see #getColorTypeMask(int)
+     * @see #MASK_CORNER
+     * @see #MASK_BACKGROUND_AWARE
+     */
+    public int getChanges(@Nullable DynamicAppTheme theme) {
+        if (theme == null) {
+            return MASK_ALL;
+        }
+
+        int changes = getChanges(getColors(true), theme.getColors(true));
+        if (getCornerRadius() != theme.getCornerRadius()) {
+            changes |= MASK_CORNER;
+        }
+        if (getBackgroundAware() != theme.getBackgroundAware()) {
+            changes |= MASK_BACKGROUND_AWARE;
+        }
+
+        return changes;
+    }
+
+    /**
+     * Returns the mask of the color types which are different in the supplied packed colors.
+     *
+     * @param colors The packed colors to be compared.
+     * @param otherColors The other packed colors to be compared.
+     *
+     * @return The mask of the changed color types.
+     *
+     * @see #getColors(boolean)
+     */
+    static int getChanges(@NonNull int[] colors, @NonNull int[] otherColors) {
+        int changes = 0;
+        for (int i = 0; i < colors.length; i++) {
+            if (colors[i] != otherColors[i]) {
+                changes |= 1 << i;
+            }
+        }
+
+        return changes;
+    }
+
     @Override
     public @NonNull String toJsonString() {
-        return new Gson().toJson(new DynamicAppTheme(this));
+        final long trace = DynamicTrace.begin(DynamicTraceSection.SERIALIZE, this);
+
+        try {
+            return new Gson().toJson(new DynamicAppTheme(this));
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.SERIALIZE, trace);
+        }
     }
 
     @Override
     public @NonNull String toDynamicString() {
-        return new GsonBuilder().setExclusionStrategies(new ExcludeStrategy())
-                .registerTypeAdapter(DynamicAppTheme.class, new DynamicThemeTypeAdapter<>())
-                .setPrettyPrinting().create().toJson(new DynamicAppTheme(this));
+        final long trace = DynamicTrace.begin(DynamicTraceSection.SERIALIZE, this);
+
+        try {
+            return new GsonBuilder().setExclusionStrategies(new ExcludeStrategy())
+                    .registerTypeAdapter(DynamicAppTheme.class, new DynamicThemeTypeAdapter<>())
+                    .setPrettyPrinting().create().toJson(new DynamicAppTheme(this));
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.SERIALIZE, trace);
+        }
     }
 
     @Override
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2018-2020 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.model;
+
+import androidx.annotation.NonNull;
+
+import com.pranavpandey.android.dynamic.support.theme.DynamicInflationProfiler;
+
+/**
+ * An immutable model class to store the inflation cost of a tag or layout recorded by the
+ * {@link DynamicInflationProfiler}.
+ */
+public class DynamicInflationMetric {
+
+    /**
+     * Tag or layout name.
+     */
+    private final String name;
+
+    /**
+     * Count of the views inflated.
+     */
+    private final long count;
+
+    /**
+     * Count of the views created by the layout inflater factory.
+     */
+    private final long created;
+
+    /**
+     * Count of the views replaced while customising them.
+     */
+    private final long replaced;
+
+    /**
+     * Time in nanoseconds spent in constructing the views.
+     */
+    private final long constructionTime;
+
+    /**
+     * Time in nanoseconds spent in loading the attributes of the views.
+     */
+    private final long attributesTime;
+
+    /**
+     * Time in nanoseconds spent in initializing the views.
+     */
+    private final long initializeTime;
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param name The tag or layout name.
+     * @param count The count of the views inflated.
+     * @param created The count of the views created by the layout inflater factory.
+     * @param replaced The count of the views replaced while customising them.
+     * @param constructionTime The time in nanoseconds spent in constructing the views.
+     * @param attributesTime The time in nanoseconds spent in loading the attributes.
+     * @param initializeTime The time in nanoseconds spent in initializing the views.
+     */
+    public DynamicInflationMetric(@NonNull String name, long count, long created,
+            long replaced, long constructionTime, long attributesTime, long initializeTime) {
+        this.name = name;
+        this.count = count;
+        this.created = created;
+        this.replaced = replaced;
+        this.constructionTime = constructionTime;
+        this.attributesTime = attributesTime;
+        this.initializeTime = initializeTime;
+    }
+
+    /**
+     * Get the tag or layout name.
+     *
+     * @return The tag or layout name.
+     */
+    public @NonNull String getName() {
+        return name;
+    }
+
+    /**
+     * Get the count of the views inflated.
+     *
+     * @return The count of the views inflated.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Get the count of the views created by the layout inflater factory.
+     * <p>Remaining views have been created by the framework layout inflater.
+     *
+     * @return The count of the views created by the layout inflater factory.
+     */
+    public long getCreated() {
+        return created;
+    }
+
+    /**
+     * Get the count of the views replaced while customising them.
+     *
+     * @return The count of the views replaced while customising them.
+     */
+    public long getReplaced() {
+        return replaced;
+    }
+
+    /**
+     * Get the time in nanoseconds spent in constructing the views.
+     * <p>It excludes the time spent in loading the attributes and initializing the views.
+     *
+     * @return The time in nanoseconds spent in constructing the views.
+     */
+    public long getConstructionTime() {
+        return constructionTime;
+    }
+
+    /**
+     * Get the time in nanoseconds spent in loading the attributes of the views.
+     *
+     * @return The time in nanoseconds spent in loading the attributes of the views.
+     */
+    public long getAttributesTime() {
+        return attributesTime;
+    }
+
+    /**
+     * Get the time in nanoseconds spent in initializing the views.
+     *
+     * @return The time in nanoseconds spent in initializing the views.
+     */
+    public long getInitializeTime() {
+        return initializeTime;
+    }
+
+    /**
+     * Get the total time in nanoseconds spent in creating the views.
+     *
+     * @return The total time in nanoseconds spent in creating the views.
+     */
+    public long getTime() {
+        return constructionTime + attributesTime + initializeTime;
+    }
+
+    /**
+     * Get the average time in nanoseconds spent in creating a view.
+     *
+     * @return The average time in nanoseconds spent in creating a view.
+     */
+    public long getAverageTime() {
+        return count == 0 ? 0 : getTime() / count;
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return "DynamicInflationMetric{" + name + ", " + count + ", " + created + ", "
+                + replaced + ", " + constructionTime + ", " + attributesTime + ", "
+                + initializeTime + '}';
+    }
+}
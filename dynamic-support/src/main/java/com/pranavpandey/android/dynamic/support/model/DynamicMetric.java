@@ -0,0 +1,97 @@
+/*
+ * Copyright 2018-2020 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.model;
+
+import androidx.annotation.NonNull;
+
+import com.pranavpandey.android.dynamic.support.trace.DynamicTrace;
+
+/**
+ * An immutable model class to store the counters of a section recorded by the
+ * {@link DynamicTrace}.
+ */
+public class DynamicMetric {
+
+    /**
+     * Name of the traced section.
+     */
+    private final String name;
+
+    /**
+     * Count of the times the section has been executed.
+     */
+    private final long count;
+
+    /**
+     * Total time in nanoseconds spent in the section.
+     */
+    private final long time;
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param name The name of the traced section.
+     * @param count The count of the times the section has been executed.
+     * @param time The total time in nanoseconds spent in the section.
+     */
+    public DynamicMetric(@NonNull String name, long count, long time) {
+        this.name = name;
+        this.count = count;
+        this.time = time;
+    }
+
+    /**
+     * Get the name of the traced section.
+     *
+     * @return The name of the traced section.
+     */
+    public @NonNull String getName() {
+        return name;
+    }
+
+    /**
+     * Get the count of the times the section has been executed.
+     *
+     * @return The count of the times the section has been executed.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Get the total time in nanoseconds spent in the section.
+     *
+     * @return The total time in nanoseconds spent in the section.
+     */
+    public long getTime() {
+        return time;
+    }
+
+    /**
+     * Get the average time in nanoseconds spent in the section.
+     *
+     * @return The average time in nanoseconds spent in the section.
+     */
+    public long getAverageTime() {
+        return count == 0 ? 0 : time / count;
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return "DynamicMetric{" + name + ", " + count + ", " + time + '}';
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.pranavpandey.android.dynamic.support.model;
 
+import android.content.Context;
 import android.content.res.Resources;
 import android.graphics.Bitmap;
 import android.graphics.drawable.BitmapDrawable;
@@ -23,14 +24,23 @@ import android.graphics.drawable.Drawable;
 import android.os.Parcel;
 import android.os.Parcelable;
 
+import androidx.annotation.DrawableRes;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import com.pranavpandey.android.dynamic.support.permission.DynamicPermissions;
+import com.pranavpandey.android.dynamic.support.utils.DynamicPermissionUtils;
+import com.pranavpandey.android.dynamic.support.utils.DynamicResourceUtils;
+import com.pranavpandey.android.dynamic.utils.DynamicBitmapUtils;
 
 /**
  * A model class to hold the permission details that will be used by the app.
  * <p>It will be used internally by the {@link DynamicPermissions}.
+ *
+ * <p><p>Only the icon resource will be written into the parcel and the icon will be resolved
+ * lazily on the receiving side. A custom icon without any resource will be written as a
+ * bitmap so, use the constructors accepting an icon resource if this permission has to be
+ * passed via an intent.
  */
 public class DynamicPermission implements Parcelable {
 
@@ -44,6 +54,11 @@ public class DynamicPermission implements Parcelable {
      */
     private Drawable icon;
 
+    /**
+     * Icon resource used by this permission.
+     */
+    private @DrawableRes int iconRes;
+
     /**
      * Title used by this permission.
      */
@@ -125,6 +140,35 @@ public class DynamicPermission implements Parcelable {
         this.description = description;
     }
 
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param permission The permission string.
+     * @param iconRes The icon resource used for this permission.
+     * @param title The title for this permission.
+     * @param subtitle The subtitle for this permission.
+     */
+    public DynamicPermission(@NonNull String permission, @DrawableRes int iconRes,
+            @NonNull String title, @Nullable String subtitle) {
+        this(permission, iconRes, title, subtitle, null);
+    }
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param permission The permission string.
+     * @param iconRes The icon resource used for this permission.
+     * @param title The title for this permission.
+     * @param subtitle The subtitle for this permission.
+     * @param description The description for this permission.
+     */
+    public DynamicPermission(@NonNull String permission, @DrawableRes int iconRes,
+            @NonNull String title, @Nullable String subtitle, @Nullable String description) {
+        this(permission, (Drawable) null, title, subtitle, description);
+
+        this.iconRes = iconRes;
+    }
+
     /**
      * Parcelable creator to create from parcel.
      */
@@ -154,8 +198,12 @@ public class DynamicPermission implements Parcelable {
         this.dangerous = in.readByte() != 0;
         this.allowed = in.readByte() != 0;
         this.askAgain = in.readByte() != 0;
-        Bitmap bitmap = in.readParcelable(getClass().getClassLoader());
-        this.icon = new BitmapDrawable(Resources.getSystem(), bitmap);
+        this.iconRes = in.readInt();
+
+        Bitmap bitmap = in.readParcelable(Bitmap.class.getClassLoader());
+        if (bitmap != null) {
+            this.icon = new BitmapDrawable(Resources.getSystem(), bitmap);
+        }
     }
 
     @Override
@@ -172,8 +220,12 @@ public class DynamicPermission implements Parcelable {
         dest.writeByte((byte) (dangerous ? 1 : 0));
         dest.writeByte((byte) (allowed ? 1 : 0));
         dest.writeByte((byte) (askAgain ? 1 : 0));
-        Bitmap bitmap = ((BitmapDrawable) icon).getBitmap();
-        dest.writeParcelable(bitmap, flags);
+
+        boolean customIcon = iconRes == 0 && icon != null;
+        dest.writeInt(iconRes != 0 || customIcon || permission == null
+                ? iconRes : DynamicPermissionUtils.getPermissionIcon(permission));
+        dest.writeParcelable(customIcon
+                ? DynamicBitmapUtils.getBitmapFromDrawable(icon) : null, flags);
     }
 
     /**
@@ -196,15 +248,36 @@ public class DynamicPermission implements Parcelable {
 
     /**
      * Get the icon used by this permission.
+     * <p>It will be resolved from the icon resource if not set.
+     *
+     * @param context The context to resolve the icon.
      *
      * @return The icon used by this permission.
      */
-    public @Nullable Drawable getIcon() {
+    public @Nullable Drawable getIcon(@NonNull Context context) {
+        if (icon == null && iconRes != 0) {
+            icon = getIcon(context, iconRes);
+        }
+
         return icon;
     }
 
+    /**
+     * Get the icon used by this permission.
+     * <p>It will be resolved from the icon resource if not set.
+     *
+     * @return The icon used by this permission.
+     *
+     * @see #getIcon(Context)
+     */
+    public @Nullable Drawable getIcon() {
+        return getIcon(DynamicPermissions.getInstance().getContext());
+    }
+
     /**
      * Sets the icon for this permission.
+     * <p>It will be written into the parcel as a bitmap if there is no icon resource, use
+     * {@link #setIconRes(int)} instead to keep the parcel small.
      *
      * @param icon The icon to be set.
      */
@@ -212,6 +285,40 @@ public class DynamicPermission implements Parcelable {
         this.icon = icon;
     }
 
+    /**
+     * Get the icon resource used by this permission.
+     *
+     * @return The icon resource used by this permission.
+     */
+    public @DrawableRes int getIconRes() {
+        return iconRes;
+    }
+
+    /**
+     * Sets the icon resource for this permission.
+     *
+     * @param iconRes The icon resource to be set.
+     */
+    public void setIconRes(@DrawableRes int iconRes) {
+        this.iconRes = iconRes;
+        this.icon = null;
+    }
+
+    /**
+     * Resolve the icon from the supplied resource.
+     * <p>It will be resolved through the resources so that the drawable cache of the current
+     * configuration is used.
+     *
+     * @param context The context to resolve the icon.
+     * @param iconRes The icon resource to be resolved.
+     *
+     * @return The icon from the supplied resource.
+     */
+    private static @Nullable Drawable getIcon(@NonNull Context context,
+            @DrawableRes int iconRes) {
+        return DynamicResourceUtils.getDrawable(context, iconRes);
+    }
+
     /**
      * Get the title used by this permission.
      *
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2018-2020 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.model;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * A model class to store a theme preset along with its parsed theme so that it can be
+ * displayed without parsing it again.
+ * <p>The parsed theme is shared with the views displaying this preset so, it must not be
+ * modified. Use the {@link #getTheme()} string to create a new theme for editing.
+ *
+ * @param <T> The type of the dynamic app theme.
+ */
+public class DynamicPreset<T extends DynamicAppTheme> {
+
+    /**
+     * Decoded dynamic theme string of this preset.
+     */
+    private final String theme;
+
+    /**
+     * Dynamic theme parsed from the theme string.
+     */
+    private final T dynamicTheme;
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param theme The decoded dynamic theme string for this preset.
+     * @param dynamicTheme The dynamic theme parsed from the theme string.
+     */
+    public DynamicPreset(@NonNull String theme, @NonNull T dynamicTheme) {
+        this.theme = theme;
+        this.dynamicTheme = dynamicTheme;
+    }
+
+    /**
+     * Get the decoded dynamic theme string of this preset.
+     *
+     * @return The decoded dynamic theme string of this preset.
+     */
+    public @NonNull String getTheme() {
+        return theme;
+    }
+
+    /**
+     * Get the dynamic theme parsed from the theme string.
+     * <p>It is shared with the views displaying this preset so, it must not be modified.
+     *
+     * @return The dynamic theme parsed from the theme string.
+     */
+    public @NonNull T getDynamicTheme() {
+        return dynamicTheme;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        return theme.equals(((DynamicPreset<?>) o).theme);
+    }
+
+    @Override
+    public int hashCode() {
+        return theme.hashCode();
+    }
+}
@@ -21,12 +21,9 @@ import android.graphics.Color;
 import androidx.annotation.ColorInt;
 import androidx.annotation.NonNull;
 
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonSyntaxException;
-import com.pranavpandey.android.dynamic.support.model.adapter.DynamicThemeTypeAdapter;
+import com.pranavpandey.android.dynamic.support.model.adapter.DynamicThemeParser;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
-import com.pranavpandey.android.dynamic.theme.strategy.ExcludeStrategy;
-import com.pranavpandey.android.dynamic.theme.utils.DynamicThemeUtils;
 
 /**
  * A remote theme to resolve system colors according to the API level.
@@ -56,10 +53,7 @@ public class DynamicRemoteTheme extends DynamicWidgetTheme {
      * @param theme The theme string to initialize the instance.
      */
     public DynamicRemoteTheme(@NonNull String theme) throws JsonSyntaxException {
-        this(new GsonBuilder().setExclusionStrategies(new ExcludeStrategy())
-                .registerTypeAdapter(DynamicRemoteTheme.class,
-                        new DynamicThemeTypeAdapter<DynamicRemoteTheme>()).create()
-                .fromJson(DynamicThemeUtils.formatTheme(theme), DynamicRemoteTheme.class));
+        this(DynamicThemeParser.parse(theme, DynamicRemoteTheme.class));
     }
 
     /**
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2018-2020 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.model;
+
+import androidx.annotation.ColorInt;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.StyleRes;
+
+import com.pranavpandey.android.dynamic.support.widget.WidgetDefaults;
+import com.pranavpandey.android.dynamic.theme.Theme;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * An immutable snapshot of a {@link DynamicAppTheme} with all the {@link Theme#AUTO} values
+ * resolved at the time of creation.
+ * <p>It also includes the values supplied by the subclasses via
+ * {@link DynamicAppTheme#getSnapshotExtras()} like the header and opacity of a widget theme.
+ * <p>Snapshots are interned so, the themes having the same resolved values will share the
+ * same instance and can be compared by reference to cache the data derived from a theme.
+ *
+ * @see #of(DynamicAppTheme)
+ */
+public final class DynamicThemeSnapshot {
+
+    /**
+     * Interned snapshots which are still referenced.
+     */
+    private static final Map<DynamicThemeSnapshot, WeakReference<DynamicThemeSnapshot>>
+            sSnapshots = new WeakHashMap<>();
+
+    /**
+     * Style resource of the theme.
+     */
+    private final @StyleRes int themeRes;
+
+    /**
+     * Resolved colors of the theme according to the color type index.
+     *
+     * @see DynamicAppTheme#getColors(boolean)
+     */
+    private final int[] colors;
+
+    /**
+     * Resolved font scale of the theme.
+     */
+    private final int fontScale;
+
+    /**
+     * Resolved corner radius of the theme.
+     */
+    private final int cornerRadius;
+
+    /**
+     * Resolved background aware functionality of the theme.
+     */
+    private final @Theme.BackgroundAware int backgroundAware;
+
+    /**
+     * Values of the subclass fields of the theme.
+     *
+     * @see DynamicAppTheme#getSnapshotExtras()
+     */
+    private final @Nullable int[] extras;
+
+    /**
+     * Cached hash code of this snapshot.
+     */
+    private final int hash;
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param theme The theme to create the snapshot.
+     */
+    private DynamicThemeSnapshot(@NonNull DynamicAppTheme theme) {
+        this.themeRes = theme.getThemeRes();
+        this.colors = theme.getColors(true);
+        this.fontScale = theme.getFontScale();
+        this.cornerRadius = theme.getCornerRadius();
+        this.backgroundAware = theme.getBackgroundAware();
+        this.extras = theme.getSnapshotExtras();
+
+        int result = themeRes;
+        result = 31 * result + Arrays.hashCode(colors);
+        result = 31 * result + fontScale;
+        result = 31 * result + cornerRadius;
+        result = 31 * result + backgroundAware;
+        result = 31 * result + Arrays.hashCode(extras);
+        this.hash = result;
+    }
+
+    /**
+     * Returns the interned snapshot of the supplied theme.
+     * <p>A new snapshot will be created only if there is no snapshot with the same
+     * resolved values.
+     *
+     * @param theme The theme to get the snapshot.
+     *
+     * @return The interned snapshot of the supplied theme.
+     */
+    public static @NonNull DynamicThemeSnapshot of(@NonNull DynamicAppTheme theme) {
+        DynamicThemeSnapshot snapshot = new DynamicThemeSnapshot(theme);
+
+        synchronized (sSnapshots) {
+            WeakReference<DynamicThemeSnapshot> reference = sSnapshots.get(snapshot);
+            DynamicThemeSnapshot interned = reference != null ? reference.get() : null;
+
+            if (interned != null) {
+                return interned;
+            }
+
+            sSnapshots.put(snapshot, new WeakReference<>(snapshot));
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * Get the style resource of the theme.
+     *
+     * @return The style resource of the theme.
+     */
+    public @StyleRes int getThemeRes() {
+        return themeRes;
+    }
+
+    /**
+     * Get the resolved color for the supplied color type.
+     *
+     * @param colorType The color type to get the color.
+     *
+     * @return The resolved color for the supplied color type.
+     *         <p>{@link WidgetDefaults#ADS_COLOR_UNKNOWN} if it is not resolved from
+     *         the theme.
+     *
+     * @see Theme.ColorType
+     */
+    public @ColorInt int getColor(@Theme.ColorType int colorType) {
+        int index = DynamicAppTheme.getColorTypeIndex(colorType);
+
+        return index != -1 ? colors[index] : WidgetDefaults.ADS_COLOR_UNKNOWN;
+    }
+
+    /**
+     * Get the resolved font scale of the theme.
+     *
+     * @return The resolved font scale of the theme.
+     */
+    public int getFontScale() {
+        return fontScale;
+    }
+
+    /**
+     * Get the resolved corner radius of the theme.
+     *
+     * @return The resolved corner radius of the theme.
+     */
+    public int getCornerRadius() {
+        return cornerRadius;
+    }
+
+    /**
+     * Get the resolved background aware functionality of the theme.
+     *
+     * @return The resolved background aware functionality of the theme.
+     */
+    public @Theme.BackgroundAware int getBackgroundAware() {
+        return backgroundAware;
+    }
+
+    /**
+     * Returns the mask of the values which are different in the supplied snapshot.
+     *
+     * @param snapshot The snapshot to be compared.
+     *
+     * @return The mask of the changed values.
+     *
+     * @see DynamicAppTheme#getChanges(DynamicAppTheme)
+     */
+    public int getChanges(@Nullable DynamicThemeSnapshot snapshot) {
+        if (snapshot == null) {
+            return DynamicAppTheme.MASK_ALL;
+        }
+
+        if (snapshot == this) {
+            return 0;
+        }
+
+        int changes = DynamicAppTheme.getChanges(colors, snapshot.colors);
+        if (cornerRadius != snapshot.cornerRadius) {
+            changes |= DynamicAppTheme.MASK_CORNER;
+        }
+
+        if (backgroundAware != snapshot.backgroundAware) {
+            changes |= DynamicAppTheme.MASK_BACKGROUND_AWARE;
+        }
+
+        return changes;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof DynamicThemeSnapshot)) {
+            return false;
+        }
+
+        DynamicThemeSnapshot snapshot = (DynamicThemeSnapshot) o;
+        return hash == snapshot.hash && themeRes == snapshot.themeRes
+                && fontScale == snapshot.fontScale
+                && cornerRadius == snapshot.cornerRadius
+                && backgroundAware == snapshot.backgroundAware
+                && Arrays.equals(colors, snapshot.colors)
+                && Arrays.equals(extras, snapshot.extras);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return "DynamicThemeSnapshot{" + themeRes + Arrays.toString(colors)
+                + fontScale + cornerRadius + backgroundAware
+                + Arrays.toString(extras) + '}';
+    }
+}
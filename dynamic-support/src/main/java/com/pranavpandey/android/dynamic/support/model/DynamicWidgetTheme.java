@@ -22,19 +22,22 @@ import android.os.Parcelable;
 import androidx.annotation.ColorInt;
 import androidx.annotation.IntRange;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.StyleRes;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonSyntaxException;
 import com.google.gson.annotations.SerializedName;
+import com.pranavpandey.android.dynamic.support.model.adapter.DynamicThemeParser;
 import com.pranavpandey.android.dynamic.support.model.adapter.DynamicThemeTypeAdapter;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTrace;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTraceSection;
 import com.pranavpandey.android.dynamic.theme.AppWidgetTheme;
 import com.pranavpandey.android.dynamic.theme.Theme;
 import com.pranavpandey.android.dynamic.theme.annotation.Exclude;
 import com.pranavpandey.android.dynamic.theme.strategy.ExcludeStrategy;
-import com.pranavpandey.android.dynamic.theme.utils.DynamicThemeUtils;
 import com.pranavpandey.android.dynamic.utils.DynamicColorUtils;
 
 /**
@@ -90,10 +93,7 @@ public class DynamicWidgetTheme extends DynamicAppTheme
      * @param theme The theme string to initialize the instance.
      */
     public DynamicWidgetTheme(@NonNull String theme) throws JsonSyntaxException {
-        this(new GsonBuilder().setExclusionStrategies(new ExcludeStrategy())
-                .registerTypeAdapter(DynamicWidgetTheme.class,
-                        new DynamicThemeTypeAdapter<DynamicWidgetTheme>()).create()
-                .fromJson(DynamicThemeUtils.formatTheme(theme), DynamicWidgetTheme.class));
+        this(DynamicThemeParser.parse(theme, DynamicWidgetTheme.class));
     }
 
     /**
@@ -208,6 +208,11 @@ public class DynamicWidgetTheme extends DynamicAppTheme
         return this;
     }
 
+    @Override
+    protected @Nullable int[] getSnapshotExtras() {
+        return new int[] { getHeader(), getOpacity() };
+    }
+
     @Override
     public @StyleRes int getThemeRes() {
         return DynamicTheme.getInstance().getApplication().getThemeRes();
@@ -396,15 +401,27 @@ public class DynamicWidgetTheme extends DynamicAppTheme
 
     @Override
     public @NonNull String toJsonString() {
-        return new Gson().toJson(new DynamicWidgetTheme(this));
+        final long trace = DynamicTrace.begin(DynamicTraceSection.SERIALIZE, this);
+
+        try {
+            return new Gson().toJson(new DynamicWidgetTheme(this));
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.SERIALIZE, trace);
+        }
     }
 
     @Override
     public @NonNull String toDynamicString() {
-        return new GsonBuilder().setExclusionStrategies(new ExcludeStrategy())
-                .registerTypeAdapter(DynamicWidgetTheme.class,
-                        new DynamicThemeTypeAdapter<DynamicWidgetTheme>())
-                .setPrettyPrinting().create().toJson(new DynamicWidgetTheme(this));
+        final long trace = DynamicTrace.begin(DynamicTraceSection.SERIALIZE, this);
+
+        try {
+            return new GsonBuilder().setExclusionStrategies(new ExcludeStrategy())
+                    .registerTypeAdapter(DynamicWidgetTheme.class,
+                            new DynamicThemeTypeAdapter<DynamicWidgetTheme>())
+                    .setPrettyPrinting().create().toJson(new DynamicWidgetTheme(this));
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.SERIALIZE, trace);
+        }
     }
 
     @Override
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2018-2020 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.model.adapter;
+
+import androidx.annotation.NonNull;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+import com.pranavpandey.android.dynamic.support.model.DynamicAppTheme;
+import com.pranavpandey.android.dynamic.support.model.DynamicRemoteTheme;
+import com.pranavpandey.android.dynamic.support.model.DynamicWidgetTheme;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTrace;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTraceSection;
+import com.pranavpandey.android.dynamic.theme.strategy.ExcludeStrategy;
+import com.pranavpandey.android.dynamic.theme.utils.DynamicThemeUtils;
+
+/**
+ * Helper class to parse the theme strings by using the {@link DynamicThemeTypeAdapter}.
+ */
+public final class DynamicThemeParser {
+
+    /**
+     * Gson instance to parse the theme strings.
+     */
+    private static Gson sParser;
+
+    /**
+     * Making default constructor private so that it cannot be initialized.
+     */
+    private DynamicThemeParser() { }
+
+    /**
+     * Returns the Gson instance to parse the theme strings.
+     * <p>It will be created only once as the theme type adapter does not keep any state.
+     *
+     * @return The Gson instance to parse the theme strings.
+     */
+    public static synchronized @NonNull Gson getParser() {
+        if (sParser == null) {
+            sParser = new GsonBuilder().setExclusionStrategies(new ExcludeStrategy())
+                    .registerTypeAdapter(DynamicAppTheme.class,
+                            new DynamicThemeTypeAdapter<DynamicAppTheme>())
+                    .registerTypeAdapter(DynamicWidgetTheme.class,
+                            new DynamicThemeTypeAdapter<DynamicWidgetTheme>())
+                    .registerTypeAdapter(DynamicRemoteTheme.class,
+                            new DynamicThemeTypeAdapter<DynamicRemoteTheme>()).create();
+        }
+
+        return sParser;
+    }
+
+    /**
+     * Parse the theme string by using the theme type adapter.
+     *
+     * @param theme The theme string to be parsed.
+     * @param type The type of the theme to be returned.
+     * @param <T> The type of the theme.
+     *
+     * @return The theme parsed from the theme string.
+     */
+    public static <T extends DynamicAppTheme> T parse(@NonNull String theme,
+            @NonNull Class<T> type) throws JsonSyntaxException {
+        final long trace = DynamicTrace.begin(DynamicTraceSection.PARSE, type);
+
+        try {
+            return getParser().fromJson(DynamicThemeUtils.formatTheme(theme), type);
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.PARSE, trace);
+        }
+    }
+}
@@ -22,11 +22,12 @@ import android.app.Activity;
 import android.app.AppOpsManager;
 import android.content.Context;
 import android.content.Intent;
-import android.content.pm.ApplicationInfo;
+import android.content.pm.PackageInfo;
 import android.content.pm.PackageManager;
 import android.content.pm.PermissionInfo;
 import android.os.Build;
 import android.os.PowerManager;
+import android.os.Process;
 import android.provider.Settings;
 
 import androidx.annotation.NonNull;
@@ -40,11 +41,16 @@ import com.pranavpandey.android.dynamic.support.model.DynamicAction;
 import com.pranavpandey.android.dynamic.support.model.DynamicPermission;
 import com.pranavpandey.android.dynamic.support.permission.activity.DynamicPermissionsActivity;
 import com.pranavpandey.android.dynamic.support.utils.DynamicPermissionUtils;
-import com.pranavpandey.android.dynamic.support.utils.DynamicResourceUtils;
 import com.pranavpandey.android.dynamic.utils.DynamicSdkUtils;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Help class to request and manage runtime permissions introduced in API 23.
@@ -53,6 +59,11 @@ import java.util.List;
  * <p><p>Register the {@link DynamicPermissionsActivity} via {@link #setPermissionActivity(Class)}
  * to request the permissions via this manager.
  *
+ * <p><p>Permission states are cached in a snapshot which can be safely read from any thread.
+ * It will be invalidated on resuming an activity, on receiving the permissions result and
+ * on changing the app ops so, call {@link #invalidate()} if a permission state has been
+ * changed in any other way.
+ *
  * @see <a href="https://developer.android.com/training/permissions/requesting.html">
  *      Requesting Permissions at Run Time</a>
  */
@@ -74,6 +85,21 @@ public class DynamicPermissions {
      */
     private Class<?> mPermissionActivity;
 
+    /**
+     * Snapshot of the permission states according to the permission.
+     */
+    private final ConcurrentMap<String, Boolean> mSnapshot = new ConcurrentHashMap<>();
+
+    /**
+     * Generation of the snapshot to discard the states checked before an invalidation.
+     */
+    private final AtomicInteger mSnapshotGeneration = new AtomicInteger();
+
+    /**
+     * {@code true} if the app ops are being watched to invalidate the snapshot.
+     */
+    private volatile boolean mWatchingAppOps;
+
     /**
      * Making the default constructor private so that it cannot be initialized without a context.
      * <p>Use {@link #initializeInstance(Context)} instead.
@@ -400,34 +426,251 @@ public class DynamicPermissions {
         final List<String> permissionsNotGranted = new ArrayList<String>();
 
         for (String permission: permissions) {
-            switch (permission) {
-                case Manifest.permission.WRITE_SETTINGS:
-                    if (!canWriteSystemSettings()) {
-                        permissionsNotGranted.add(permission);
-                    }
-                    break;
-                case Manifest.permission.SYSTEM_ALERT_WINDOW:
-                    if (!canDrawOverlays()) {
-                        permissionsNotGranted.add(permission);
-                    }
-                    break;
-                case Manifest.permission.PACKAGE_USAGE_STATS:
-                    if (!hasUsageAccess()) {
-                        permissionsNotGranted.add(permission);
-                    }
-                    break;
-                default:
-                    if (ContextCompat.checkSelfPermission(mContext,
-                            permission) != PackageManager.PERMISSION_GRANTED) {
-                        permissionsNotGranted.add(permission);
-                    }
-                    break;
+            if (!isAllowed(permission)) {
+                permissionsNotGranted.add(permission);
             }
         }
 
         return permissionsNotGranted.toArray(new String[0]);
     }
 
+    /**
+     * Returns the snapshot of the supplied permission states.
+     * <p>Permissions which are not present in the snapshot will be checked in one batch
+     * and added in the snapshot.
+     *
+     * @param permissions The array of permissions to get the states.
+     *
+     * @return The map containing the permission states according to the permission.
+     */
+    public @NonNull Map<String, Boolean> getSnapshot(@NonNull String... permissions) {
+        Map<String, Boolean> snapshot = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+
+        for (String permission : permissions) {
+            if (!mSnapshot.containsKey(permission)) {
+                missing.add(permission);
+            }
+        }
+
+        if (missing.size() > 1) {
+            final int generation = mSnapshotGeneration.get();
+
+            for (Map.Entry<String, Boolean> entry : checkPermissions(missing).entrySet()) {
+                putSnapshot(entry.getKey(), entry.getValue(), generation);
+            }
+
+            startWatchingAppOps();
+        }
+
+        for (String permission : permissions) {
+            snapshot.put(permission, isAllowed(permission));
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * Invalidate the snapshot of the permission states.
+     * <p>All the permissions will be checked again on the next query.
+     */
+    public void invalidate() {
+        mSnapshotGeneration.incrementAndGet();
+        mSnapshot.clear();
+    }
+
+    /**
+     * Update the snapshot of the permission states according to the permissions result.
+     * <p>It should be called from the {@link Activity#onRequestPermissionsResult(int,
+     * String[], int[])} if the permissions are requested without using this manager.
+     *
+     * @param permissions The requested permissions.
+     * @param grantResults The grant results for the corresponding permissions.
+     */
+    public void onRequestPermissionsResult(@NonNull String[] permissions,
+            @NonNull int[] grantResults) {
+        mSnapshotGeneration.incrementAndGet();
+
+        for (int i = 0; i < permissions.length; i++) {
+            if (i < grantResults.length) {
+                mSnapshot.put(permissions[i],
+                        grantResults[i] == PackageManager.PERMISSION_GRANTED);
+            } else {
+                mSnapshot.remove(permissions[i]);
+            }
+        }
+    }
+
+    /**
+     * Checks whether the supplied permission has been granted by using the snapshot.
+     * <p>It will be checked and added in the snapshot if not present.
+     *
+     * @param permission The permission to be checked.
+     *
+     * @return {@code true} if the supplied permission has been granted.
+     */
+    private boolean isAllowed(@NonNull String permission) {
+        Boolean allowed = mSnapshot.get(permission);
+
+        if (allowed == null) {
+            int generation = mSnapshotGeneration.get();
+            allowed = checkPermission(permission);
+
+            putSnapshot(permission, allowed, generation);
+            startWatchingAppOps();
+        }
+
+        return allowed;
+    }
+
+    /**
+     * Add a permission state in the snapshot if it has not been invalidated since
+     * checking the state.
+     * <p>The state is added first and removed again if the snapshot has been invalidated
+     * meanwhile so that a stale state will never be kept after an invalidation.
+     *
+     * @param permission The permission to be added.
+     * @param allowed {@code true} if the permission has been granted.
+     * @param generation The generation of the snapshot before checking the state.
+     */
+    private void putSnapshot(@NonNull String permission, boolean allowed, int generation) {
+        mSnapshot.put(permission, allowed);
+
+        if (generation != mSnapshotGeneration.get()) {
+            mSnapshot.remove(permission, allowed);
+        }
+    }
+
+    /**
+     * Checks whether the supplied permissions have been granted by querying the system
+     * in one batch.
+     * <p>Runtime permissions requested by the app are read from its package info at once,
+     * special and remaining permissions are checked via {@link #checkPermission(String)}.
+     *
+     * @param permissions The permissions to be checked.
+     *
+     * @return The map containing the permission states according to the permission.
+     */
+    @TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+    private @NonNull Map<String, Boolean> checkPermissions(@NonNull List<String> permissions) {
+        final Map<String, Boolean> granted = new HashMap<>();
+        final Map<String, Boolean> states = new LinkedHashMap<>();
+
+        if (DynamicSdkUtils.is16()) {
+            try {
+                PackageInfo packageInfo = mContext.getPackageManager().getPackageInfo(
+                        mContext.getPackageName(), PackageManager.GET_PERMISSIONS);
+
+                if (packageInfo.requestedPermissions != null
+                        && packageInfo.requestedPermissionsFlags != null) {
+                    for (int i = 0; i < packageInfo.requestedPermissions.length
+                            && i < packageInfo.requestedPermissionsFlags.length; i++) {
+                        granted.put(packageInfo.requestedPermissions[i],
+                                (packageInfo.requestedPermissionsFlags[i]
+                                        & PackageInfo.REQUESTED_PERMISSION_GRANTED) != 0);
+                    }
+                }
+            } catch (Exception ignored) {
+            }
+        }
+
+        for (String permission : permissions) {
+            Boolean allowed = isSpecialPermission(permission) ? null : granted.get(permission);
+            states.put(permission, allowed != null ? allowed : checkPermission(permission));
+        }
+
+        return states;
+    }
+
+    /**
+     * Checks whether the supplied permission is a special permission which must be checked
+     * via its respective API.
+     *
+     * @param permission The permission to be checked.
+     *
+     * @return {@code true} if the supplied permission is a special permission.
+     */
+    private boolean isSpecialPermission(@NonNull String permission) {
+        switch (permission) {
+            case Manifest.permission.WRITE_SETTINGS:
+            case Manifest.permission.SYSTEM_ALERT_WINDOW:
+            case Manifest.permission.PACKAGE_USAGE_STATS:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Checks whether the supplied permission has been granted by querying the system.
+     * <p>Runtime permissions are checked via {@link ContextCompat#checkSelfPermission(
+     * Context, String)}, special permissions are checked via their respective APIs.
+     *
+     * @param permission The permission to be checked.
+     *
+     * @return {@code true} if the supplied permission has been granted.
+     */
+    private boolean checkPermission(@NonNull String permission) {
+        switch (permission) {
+            case Manifest.permission.WRITE_SETTINGS:
+                return !DynamicSdkUtils.is23() || Settings.System.canWrite(mContext);
+            case Manifest.permission.SYSTEM_ALERT_WINDOW:
+                return !DynamicSdkUtils.is23() || Settings.canDrawOverlays(mContext);
+            case Manifest.permission.PACKAGE_USAGE_STATS:
+                return checkUsageAccess();
+            default:
+                return ContextCompat.checkSelfPermission(mContext,
+                        permission) == PackageManager.PERMISSION_GRANTED;
+        }
+    }
+
+    /**
+     * Start watching the app ops for the special permissions to invalidate the snapshot
+     * if they are changed.
+     */
+    @TargetApi(Build.VERSION_CODES.LOLLIPOP)
+    private void startWatchingAppOps() {
+        if (mWatchingAppOps || !DynamicSdkUtils.is21()) {
+            return;
+        }
+
+        synchronized (this) {
+            if (mWatchingAppOps) {
+                return;
+            }
+
+            mWatchingAppOps = true;
+
+            try {
+                AppOpsManager appOpsManager = (AppOpsManager) mContext
+                        .getSystemService(Context.APP_OPS_SERVICE);
+                if (appOpsManager == null) {
+                    return;
+                }
+
+                AppOpsManager.OnOpChangedListener listener =
+                        new AppOpsManager.OnOpChangedListener() {
+                            @Override
+                            public void onOpChanged(String op, String packageName) {
+                                if (mContext.getPackageName().equals(packageName)) {
+                                    invalidate();
+                                }
+                            }
+                        };
+
+                appOpsManager.startWatchingMode(AppOpsManager.OPSTR_GET_USAGE_STATS,
+                        mContext.getPackageName(), listener);
+                if (DynamicSdkUtils.is23()) {
+                    appOpsManager.startWatchingMode(AppOpsManager.OPSTR_SYSTEM_ALERT_WINDOW,
+                            mContext.getPackageName(), listener);
+                    appOpsManager.startWatchingMode(AppOpsManager.OPSTR_WRITE_SETTINGS,
+                            mContext.getPackageName(), listener);
+                }
+            } catch (Exception ignored) {
+            }
+        }
+    }
+
     /**
      * Checks whether the package can write system settings.
      *
@@ -436,8 +679,7 @@ public class DynamicPermissions {
      * @see Manifest.permission#WRITE_SETTINGS
      */
     public boolean canWriteSystemSettings() {
-        return !DynamicSdkUtils.is23() || Settings.System.canWrite(mContext);
-
+        return isAllowed(Manifest.permission.WRITE_SETTINGS);
     }
 
     /**
@@ -448,7 +690,7 @@ public class DynamicPermissions {
      * @see Manifest.permission#SYSTEM_ALERT_WINDOW
      */
     public boolean canDrawOverlays() {
-        return !DynamicSdkUtils.is23() || Settings.canDrawOverlays(mContext);
+        return isAllowed(Manifest.permission.SYSTEM_ALERT_WINDOW);
     }
 
     /**
@@ -459,18 +701,24 @@ public class DynamicPermissions {
      * @see Manifest.permission#PACKAGE_USAGE_STATS
      */
     public boolean hasUsageAccess() {
+        return isAllowed(Manifest.permission.PACKAGE_USAGE_STATS);
+    }
+
+    /**
+     * Checks whether the package has usage access permission by querying the system.
+     *
+     * @return {@code true} if has usage access.
+     */
+    private boolean checkUsageAccess() {
         if (DynamicSdkUtils.is21()) {
             try {
-                PackageManager packageManager = mContext.getPackageManager();
-                ApplicationInfo applicationInfo = packageManager
-                        .getApplicationInfo(mContext.getPackageName(), 0);
                 AppOpsManager appOpsManager = (AppOpsManager) mContext
                         .getSystemService(Context.APP_OPS_SERVICE);
 
                 int mode = AppOpsManager.MODE_ERRORED;
                 if (appOpsManager != null) {
                     mode = appOpsManager.checkOpNoThrow(AppOpsManager.OPSTR_GET_USAGE_STATS,
-                            applicationInfo.uid, applicationInfo.packageName);
+                            Process.myUid(), mContext.getPackageName());
                 }
 
                 return (mode == AppOpsManager.MODE_ALLOWED);
@@ -484,6 +732,9 @@ public class DynamicPermissions {
 
     /**
      * Checks whether the battery optimizations are ignored for the package.
+     * <p>It will always query the system as the state is not stored in the snapshot which
+     * keeps the {@link Manifest.permission#REQUEST_IGNORE_BATTERY_OPTIMIZATIONS} state
+     * as reported by the {@link ContextCompat#checkSelfPermission(Context, String)}.
      *
      * @param settings {@code true} to open the battery optimization settings if the package
      *                 is not ignored.
@@ -491,27 +742,36 @@ public class DynamicPermissions {
      * @return {@code true} if the battery optimizations are ignored for the package.
      */
     public boolean isIgnoringBatteryOptimizations(boolean settings) {
-        if (DynamicSdkUtils.is23()) {
-            boolean ignoring = false;
+        boolean ignoring = checkIgnoringBatteryOptimizations();
 
+        if (!ignoring && settings) {
+            try {
+                DynamicPermissionUtils.openPermissionSettings(mContext,
+                        Manifest.permission.REQUEST_IGNORE_BATTERY_OPTIMIZATIONS);
+            } catch (Exception ignored) {
+            }
+        }
+
+        return ignoring;
+    }
+
+    /**
+     * Checks whether the battery optimizations are ignored for the package by querying
+     * the system.
+     *
+     * @return {@code true} if the battery optimizations are ignored for the package.
+     */
+    private boolean checkIgnoringBatteryOptimizations() {
+        if (DynamicSdkUtils.is23()) {
             try {
                 PowerManager powerManager = ((PowerManager)
                         mContext.getSystemService(Context.POWER_SERVICE));
 
-                if (powerManager != null) {
-                    ignoring = powerManager.isIgnoringBatteryOptimizations(
-                            mContext.getPackageName());
-                }
-
-                if (!ignoring && settings) {
-                    DynamicPermissionUtils.openPermissionSettings(mContext,
-                            Manifest.permission.REQUEST_IGNORE_BATTERY_OPTIMIZATIONS);
-                }
+                return powerManager != null && powerManager.isIgnoringBatteryOptimizations(
+                        mContext.getPackageName());
             } catch (Exception ignored) {
                 return false;
             }
-
-            return ignoring;
         }
 
         return true;
@@ -548,8 +808,7 @@ public class DynamicPermissions {
                         || permission.equals(Manifest.permission.PACKAGE_USAGE_STATS)
                         || permission.equals(Manifest.permission.SYSTEM_ALERT_WINDOW)) {
                     dynamicPermission = new DynamicPermission(permission,
-                            DynamicResourceUtils.getDrawable(mContext,
-                            DynamicPermissionUtils.getPermissionIcon(permission)),
+                            DynamicPermissionUtils.getPermissionIcon(permission),
                             mContext.getString(DynamicPermissionUtils
                                     .getPermissionTitle(permission)),
                             mContext.getString(DynamicPermissionUtils
@@ -567,14 +826,12 @@ public class DynamicPermissions {
                         dynamicPermission.setAllowed(canDrawOverlays());
                     }
                 } else {
-                    dynamicPermission = new DynamicPermission(
-                            permission, DynamicResourceUtils.getDrawable(mContext,
-                            DynamicPermissionUtils.getPermissionIcon(permission)),
-                            permInfo.loadLabel(packageManager).toString());
+                    dynamicPermission = new DynamicPermission(permission,
+                            DynamicPermissionUtils.getPermissionIcon(permission),
+                            permInfo.loadLabel(packageManager).toString(), null);
 
                     dynamicPermission.setDangerous(true);
-                    dynamicPermission.setAllowed(ContextCompat.checkSelfPermission(mContext,
-                            permission) == PackageManager.PERMISSION_GRANTED);
+                    dynamicPermission.setAllowed(isAllowed(permission));
                 }
 
                 if (!permInfo.loadLabel(packageManager).equals(permission)) {
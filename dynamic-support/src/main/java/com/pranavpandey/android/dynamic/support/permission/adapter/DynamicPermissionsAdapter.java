@@ -87,7 +87,8 @@ public class DynamicPermissionsAdapter extends
 
         DynamicPermission dynamicPermission = getItem(position);
 
-        viewHolder.getInfoView().setIconBig(dynamicPermission.getIcon());
+        viewHolder.getInfoView().setIconBig(dynamicPermission.getIcon(
+                viewHolder.getInfoView().getContext()));
         viewHolder.getInfoView().setTitle(dynamicPermission.getTitle());
         viewHolder.getInfoView().setSubtitle(dynamicPermission.getSubtitle());
         viewHolder.getInfoView().setDescription(dynamicPermission.getDescription());
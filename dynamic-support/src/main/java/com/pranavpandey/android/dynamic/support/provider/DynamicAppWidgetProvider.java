@@ -27,6 +27,13 @@ import android.graphics.Bitmap;
 import android.graphics.Color;
 import android.os.Build;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Process;
+import android.util.Log;
+import android.util.LruCache;
+import android.util.SparseArray;
+import android.util.SparseBooleanArray;
 import android.widget.RemoteViews;
 
 import androidx.annotation.CallSuper;
@@ -36,17 +43,29 @@ import androidx.annotation.Nullable;
 
 import com.pranavpandey.android.dynamic.locale.DynamicLocale;
 import com.pranavpandey.android.dynamic.locale.DynamicLocaleUtils;
+import com.pranavpandey.android.dynamic.support.model.DynamicThemeSnapshot;
+import com.pranavpandey.android.dynamic.support.model.DynamicWidgetTheme;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
 import com.pranavpandey.android.dynamic.support.utils.DynamicAppWidgetUtils;
 import com.pranavpandey.android.dynamic.support.utils.DynamicShapeUtils;
 import com.pranavpandey.android.dynamic.utils.DynamicBitmapUtils;
 import com.pranavpandey.android.dynamic.utils.DynamicSdkUtils;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 /**
  * A customisable {@link AppWidgetProvider} to provide basic configuration functionality.
  * <p>Extend it and modify according to the need.
+ *
+ * <p><p>Widget updates are coalesced for the {@link #WIDGET_UPDATE_DELAY} and performed in
+ * a batch on a background thread so, {@link #updateAppWidget(Context, AppWidgetManager, int)}
+ * must not perform any UI related operation. Use {@link #requestUpdate(Context, Class, boolean)}
+ * to update the widgets after changing the theme.
  */
 @TargetApi(Build.VERSION_CODES.JELLY_BEAN)
 public abstract class DynamicAppWidgetProvider extends AppWidgetProvider implements DynamicLocale {
@@ -66,6 +85,13 @@ public abstract class DynamicAppWidgetProvider extends AppWidgetProvider impleme
      */
     public static final String EXTRA_APP_WIDGET_ADJUST_POSITION = "appWidgetAdjustPosition";
 
+    /**
+     * Intent extra constant to update only the widgets whose inputs have been changed.
+     *
+     * @see #getWidgetInputs(Context, int)
+     */
+    public static final String EXTRA_APP_WIDGET_PARTIAL = "appWidgetPartial";
+
     /**
      * Constant for the default app widget id.
      */
@@ -116,6 +142,57 @@ public abstract class DynamicAppWidgetProvider extends AppWidgetProvider impleme
      */
     public static final int WIDGET_HEADER_SIZE = 56;
 
+    /**
+     * Maximum size in bytes of the widget background bitmaps to be cached.
+     */
+    public static final int WIDGET_BITMAP_CACHE_SIZE = 4 * 1024 * 1024;
+
+    /**
+     * Time in milliseconds to coalesce the widget updates.
+     */
+    public static final long WIDGET_UPDATE_DELAY = 200;
+
+    /**
+     * Name of the thread to update the widgets in background.
+     */
+    private static final String ADS_THREAD_NAME = "DynamicAppWidgetProvider";
+
+    /**
+     * Tag to log the failed widget updates.
+     */
+    private static final String TAG = "DynamicAppWidgetProvider";
+
+    /**
+     * Handler to update the widgets in background.
+     */
+    private static Handler sUpdateHandler;
+
+    /**
+     * Pending widget updates according to the provider class.
+     */
+    private static final Map<String, WidgetUpdate> sUpdates = new HashMap<>();
+
+    /**
+     * Options of the widgets according to the widget id.
+     */
+    private static final SparseArray<Bundle> sOptions = new SparseArray<>();
+
+    /**
+     * Inputs used for the last update of the widgets according to the widget id.
+     */
+    private static final SparseArray<Object> sInputs = new SparseArray<>();
+
+    /**
+     * Cache for the widget background bitmaps shared by all the widget instances.
+     */
+    private static final LruCache<WidgetBitmapKey, Bitmap> sWidgetBitmaps =
+            new LruCache<WidgetBitmapKey, Bitmap>(WIDGET_BITMAP_CACHE_SIZE) {
+                @Override
+                protected int sizeOf(WidgetBitmapKey key, Bitmap value) {
+                    return value.getRowBytes() * value.getHeight();
+                }
+            };
+
     /**
      * Dynamic context used by this provider.
      */
@@ -136,8 +213,19 @@ public abstract class DynamicAppWidgetProvider extends AppWidgetProvider impleme
      */
     private int mHeight;
 
+    /**
+     * {@code true} to update only the widgets whose inputs have been changed.
+     */
+    private boolean mPartialUpdate;
+
+    /**
+     * Pending result to keep this receiver alive until the widgets are updated.
+     */
+    private PendingResult mPendingResult;
+
     @Override
     public void onReceive(@NonNull Context context, @NonNull Intent intent)  {
+        mPartialUpdate = intent.getBooleanExtra(EXTRA_APP_WIDGET_PARTIAL, false);
         super.onReceive(setLocale(context), intent);
 
         if (intent.getAction() != null && intent.getAction()
@@ -165,9 +253,7 @@ public abstract class DynamicAppWidgetProvider extends AppWidgetProvider impleme
             @NonNull AppWidgetManager appWidgetManager, @NonNull int[] appWidgetIds) {
         super.onUpdate(context, appWidgetManager, appWidgetIds);
 
-        for (int appWidgetId : appWidgetIds) {
-            updateAppWidget(context, appWidgetManager, appWidgetId);
-        }
+        scheduleUpdate(appWidgetIds, !mPartialUpdate);
     }
 
     @Override
@@ -176,7 +262,11 @@ public abstract class DynamicAppWidgetProvider extends AppWidgetProvider impleme
             @NonNull Bundle newOptions) {
         super.onAppWidgetOptionsChanged(context, appWidgetManager, appWidgetId, newOptions);
 
-        updateAppWidget(getContext(), appWidgetManager, appWidgetId);
+        synchronized (sOptions) {
+            sOptions.put(appWidgetId, newOptions);
+        }
+
+        scheduleUpdate(new int[] { appWidgetId }, false);
     }
 
     @Override
@@ -185,6 +275,11 @@ public abstract class DynamicAppWidgetProvider extends AppWidgetProvider impleme
 
         for (int appWidgetId : appWidgetIds) {
             DynamicAppWidgetUtils.deleteWidgetSettings(getPreferences(), appWidgetId);
+
+            synchronized (sOptions) {
+                sOptions.remove(appWidgetId);
+                sInputs.remove(appWidgetId);
+            }
         }
     }
 
@@ -193,6 +288,7 @@ public abstract class DynamicAppWidgetProvider extends AppWidgetProvider impleme
         super.onDisabled(context);
 
         DynamicAppWidgetUtils.cleanupPreferences(getPreferences());
+        clearWidgetBitmaps();
     }
 
     @Override
@@ -235,10 +331,31 @@ public abstract class DynamicAppWidgetProvider extends AppWidgetProvider impleme
      */
     protected abstract @NonNull String getPreferences();
 
+    /**
+     * Returns the theme of the supplied widget.
+     * <p>It will be loaded from the parsed widget themes kept in memory so, use it to render
+     * the widget instead of parsing its settings.
+     *
+     * @param appWidgetId The app widget id to get the theme.
+     *
+     * @return A copy of the theme of the supplied widget.
+     *         <p>{@code null} if there is no valid theme for the supplied widget.
+     *
+     * @see DynamicAppWidgetUtils#loadWidgetTheme(String, int)
+     */
+    protected @Nullable DynamicWidgetTheme getWidgetTheme(int appWidgetId) {
+        return DynamicAppWidgetUtils.loadWidgetTheme(getPreferences(), appWidgetId);
+    }
+
     /**
      * Override this method to update a widget instance according to the id.
      * <p>It will be useful while implementing a configuration activity via
      * {@link com.pranavpandey.android.dynamic.support.activity.DynamicWidgetActivity}.
+     * Use {@link #getWidgetTheme(int)} to get the theme of the widget.
+     *
+     * <p><p>It will be called on a background thread along with the other pending updates of
+     * this provider so, do not perform any UI related operation or access any API which
+     * requires the main thread here. Post such work to the main thread if required.
      *
      * @param context The context associated with this widget provider.
      * @param appWidgetManager The app widget manager.
@@ -260,7 +377,7 @@ public abstract class DynamicAppWidgetProvider extends AppWidgetProvider impleme
     protected void updateWidgetDimensions(@NonNull Context context,
             @NonNull AppWidgetManager appWidgetManager, int appWidgetId) {
         if (DynamicSdkUtils.is16()) {
-            Bundle options = appWidgetManager.getAppWidgetOptions(appWidgetId);
+            Bundle options = getAppWidgetOptions(appWidgetManager, appWidgetId);
             if (context.getResources().getConfiguration().orientation
                     == Configuration.ORIENTATION_LANDSCAPE) {
                 mWidth = options.getInt(AppWidgetManager.OPTION_APPWIDGET_MAX_WIDTH);
@@ -272,6 +389,173 @@ public abstract class DynamicAppWidgetProvider extends AppWidgetProvider impleme
         }
     }
 
+    /**
+     * Returns the options of the supplied widget.
+     * <p>They will be cached until changed so that the app widget manager is queried only
+     * once for each widget.
+     *
+     * @param appWidgetManager The app widget manager.
+     * @param appWidgetId The app widget id to get the options.
+     *
+     * @return The options of the supplied widget.
+     */
+    protected @NonNull Bundle getAppWidgetOptions(
+            @NonNull AppWidgetManager appWidgetManager, int appWidgetId) {
+        Bundle options;
+        synchronized (sOptions) {
+            options = sOptions.get(appWidgetId);
+        }
+
+        if (options == null) {
+            options = appWidgetManager.getAppWidgetOptions(appWidgetId);
+
+            synchronized (sOptions) {
+                sOptions.put(appWidgetId, options);
+            }
+        }
+
+        return options;
+    }
+
+    /**
+     * Returns the inputs used to render the supplied widget.
+     * <p>A partial update will skip the widget if its inputs are equal to the inputs of the
+     * last update. Override it to add any other data displayed by the widget.
+     *
+     * @param context The context associated with this widget provider.
+     * @param appWidgetId The app widget id to get the inputs.
+     *
+     * @return The inputs used to render the supplied widget.
+     *         <p>{@code null} to always update the widget.
+     */
+    protected @Nullable Object getWidgetInputs(@NonNull Context context, int appWidgetId) {
+        return Arrays.asList(DynamicAppWidgetUtils.loadWidgetSettings(
+                getPreferences(), appWidgetId, null), mWidth, mHeight, mCurrentLocale,
+                DynamicThemeSnapshot.of(DynamicTheme.getInstance().getRemote()));
+    }
+
+    /**
+     * Schedule an update for the supplied widgets.
+     * <p>It will be coalesced with the other updates of this provider received within the
+     * {@link #WIDGET_UPDATE_DELAY}.
+     *
+     * @param appWidgetIds The app widget ids to be updated.
+     * @param force {@code true} to update the widgets even if their inputs are not changed.
+     */
+    protected void scheduleUpdate(@NonNull int[] appWidgetIds, boolean force) {
+        if (mPendingResult == null) {
+            mPendingResult = goAsync();
+        }
+
+        final String provider = getClass().getName();
+        synchronized (sUpdates) {
+            WidgetUpdate update = sUpdates.get(provider);
+            if (update == null) {
+                update = new WidgetUpdate();
+                sUpdates.put(provider, update);
+            }
+
+            update.provider = this;
+            for (int appWidgetId : appWidgetIds) {
+                update.appWidgetIds.put(appWidgetId,
+                        force || update.appWidgetIds.get(appWidgetId));
+            }
+
+            if (mPendingResult != null && !update.pendingResults.contains(mPendingResult)) {
+                update.pendingResults.add(mPendingResult);
+            }
+
+            if (!update.scheduled) {
+                update.scheduled = true;
+                getUpdateHandler().postDelayed(new Runnable() {
+                    @Override
+                    public void run() {
+                        WidgetUpdate update;
+                        synchronized (sUpdates) {
+                            update = sUpdates.remove(provider);
+                        }
+
+                        if (update != null) {
+                            update.run();
+                        }
+                    }
+                }, WIDGET_UPDATE_DELAY);
+            }
+        }
+    }
+
+    /**
+     * Update the supplied widgets in a batch.
+     * <p>It will be called on a background thread.
+     *
+     * @param context The context associated with this widget provider.
+     * @param appWidgetManager The app widget manager.
+     * @param appWidgetIds The app widget ids to be updated along with the force flag.
+     */
+    protected void updateAppWidgets(@NonNull Context context,
+            @NonNull AppWidgetManager appWidgetManager,
+            @NonNull SparseBooleanArray appWidgetIds) {
+        for (int i = 0; i < appWidgetIds.size(); i++) {
+            int appWidgetId = appWidgetIds.keyAt(i);
+
+            try {
+                updateWidgetDimensions(context, appWidgetManager, appWidgetId);
+                Object inputs = getWidgetInputs(context, appWidgetId);
+
+                synchronized (sOptions) {
+                    if (!appWidgetIds.valueAt(i) && inputs != null
+                            && inputs.equals(sInputs.get(appWidgetId))) {
+                        continue;
+                    }
+                }
+
+                updateAppWidget(context, appWidgetManager, appWidgetId);
+
+                synchronized (sOptions) {
+                    sInputs.put(appWidgetId, inputs);
+                }
+            } catch (Exception e) {
+                Log.w(TAG, "Unable to update the app widget: " + appWidgetId, e);
+
+                synchronized (sOptions) {
+                    sInputs.remove(appWidgetId);
+                }
+            }
+        }
+    }
+
+    /**
+     * Request an update for all the widgets of the supplied provider.
+     *
+     * @param context The context to send the broadcast.
+     * @param provider The widget provider to be updated.
+     * @param partial {@code true} to update only the widgets whose inputs have been changed,
+     *                for example after changing the theme.
+     */
+    public static void requestUpdate(@NonNull Context context,
+            @NonNull Class<? extends DynamicAppWidgetProvider> provider, boolean partial) {
+        context.sendBroadcast(new Intent(context, provider)
+                .setAction(AppWidgetManager.ACTION_APPWIDGET_UPDATE)
+                .putExtra(EXTRA_APP_WIDGET_PARTIAL, partial));
+    }
+
+    /**
+     * Returns the handler to update the widgets in background.
+     *
+     * @return The handler to update the widgets in background.
+     */
+    private static synchronized @NonNull Handler getUpdateHandler() {
+        if (sUpdateHandler == null) {
+            HandlerThread thread = new HandlerThread(ADS_THREAD_NAME,
+                    Process.THREAD_PRIORITY_BACKGROUND);
+            thread.start();
+
+            sUpdateHandler = new Handler(thread.getLooper());
+        }
+
+        return sUpdateHandler;
+    }
+
     /**
      * Get the dynamic theme context used by this provider.
      *
@@ -340,6 +624,8 @@ public abstract class DynamicAppWidgetProvider extends AppWidgetProvider impleme
 
     /**
      * Get a bitmap for widget background according to the corner radius.
+     * <p>It will be shared with all the widgets having the same parameters so, do not modify
+     * or recycle it.
      *
      * @param width The width in dip for the bitmap.
      * @param height The height in dip for the bitmap.
@@ -349,12 +635,13 @@ public abstract class DynamicAppWidgetProvider extends AppWidgetProvider impleme
      */
     public static @Nullable Bitmap getWidgetFrameBitmap(int width,
             int height, float cornerRadius) {
-        return DynamicBitmapUtils.getBitmapFromDrawable(DynamicShapeUtils
-                .getCornerDrawableLegacy(width, height, cornerRadius, Color.WHITE, false));
+        return getWidgetBitmap(width, height, cornerRadius, Color.WHITE, false);
     }
 
     /**
      * Returns a bitmap for widget header according to the corner radius.
+     * <p>It will be shared with all the widgets having the same parameters so, do not modify
+     * or recycle it.
      *
      * @param width The width in dip for the bitmap.
      * @param height The height in dip for the bitmap.
@@ -364,7 +651,156 @@ public abstract class DynamicAppWidgetProvider extends AppWidgetProvider impleme
      */
     public static @Nullable Bitmap getWidgetHeaderBitmap(int width,
             int height, float cornerRadius, @ColorInt int color) {
-        return DynamicBitmapUtils.getBitmapFromDrawable(DynamicShapeUtils
-                .getCornerDrawableLegacy(width, height, cornerRadius, color, true));
+        return getWidgetBitmap(width, height, cornerRadius, color, true);
+    }
+
+    /**
+     * Returns a bitmap for widget background or header from the cache.
+     * <p>It will be created and added in the cache if not present.
+     *
+     * @param width The width in dip for the bitmap.
+     * @param height The height in dip for the bitmap.
+     * @param cornerRadius The corner size in dip for the bitmap.
+     * @param color The color for the bitmap.
+     * @param header {@code true} to get the bitmap for the widget header.
+     *
+     * @return The bitmap for widget background or header according to the supplied parameters.
+     */
+    private static @Nullable Bitmap getWidgetBitmap(int width, int height,
+            float cornerRadius, @ColorInt int color, boolean header) {
+        WidgetBitmapKey key = new WidgetBitmapKey(width, height, cornerRadius, color, header);
+        Bitmap bitmap = sWidgetBitmaps.get(key);
+
+        if (bitmap == null || bitmap.isRecycled()) {
+            bitmap = DynamicBitmapUtils.getBitmapFromDrawable(DynamicShapeUtils
+                    .getCornerDrawableLegacy(width, height, cornerRadius, color, header));
+
+            if (bitmap != null) {
+                sWidgetBitmaps.put(key, bitmap);
+            }
+        }
+
+        return bitmap;
+    }
+
+    /**
+     * Remove all the widget background bitmaps from the cache.
+     */
+    public static void clearWidgetBitmaps() {
+        sWidgetBitmaps.evictAll();
+    }
+
+    /**
+     * Key to cache the widget background bitmaps.
+     */
+    private static final class WidgetBitmapKey {
+
+        /**
+         * Width in dip for the bitmap.
+         */
+        private final int width;
+
+        /**
+         * Height in dip for the bitmap.
+         */
+        private final int height;
+
+        /**
+         * Corner size in dip for the bitmap.
+         */
+        private final float cornerRadius;
+
+        /**
+         * Color for the bitmap.
+         */
+        private final @ColorInt int color;
+
+        /**
+         * {@code true} if the bitmap is for the widget header.
+         */
+        private final boolean header;
+
+        /**
+         * Constructor to initialize an object of this class.
+         *
+         * @param width The width in dip for the bitmap.
+         * @param height The height in dip for the bitmap.
+         * @param cornerRadius The corner size in dip for the bitmap.
+         * @param color The color for the bitmap.
+         * @param header {@code true} if the bitmap is for the widget header.
+         */
+        WidgetBitmapKey(int width, int height,
+                float cornerRadius, @ColorInt int color, boolean header) {
+            this.width = width;
+            this.height = height;
+            this.cornerRadius = cornerRadius;
+            this.color = color;
+            this.header = header;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof WidgetBitmapKey)) {
+                return false;
+            }
+
+            WidgetBitmapKey key = (WidgetBitmapKey) o;
+            return width == key.width && height == key.height
+                    && Float.compare(cornerRadius, key.cornerRadius) == 0
+                    && color == key.color && header == key.header;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = width;
+            result = 31 * result + height;
+            result = 31 * result + Float.floatToIntBits(cornerRadius);
+            result = 31 * result + color;
+            result = 31 * result + (header ? 1 : 0);
+
+            return result;
+        }
+    }
+
+    /**
+     * Pending widget updates of a provider.
+     */
+    private static final class WidgetUpdate implements Runnable {
+
+        /**
+         * App widget ids to be updated along with the force flag.
+         */
+        private final SparseBooleanArray appWidgetIds = new SparseBooleanArray();
+
+        /**
+         * Pending results to be finished after updating the widgets.
+         */
+        private final List<PendingResult> pendingResults = new ArrayList<>();
+
+        /**
+         * Latest provider instance to update the widgets.
+         */
+        private DynamicAppWidgetProvider provider;
+
+        /**
+         * {@code true} if the update has been scheduled.
+         */
+        private boolean scheduled;
+
+        @Override
+        public void run() {
+            try {
+                provider.updateAppWidgets(provider.getContext(),
+                        AppWidgetManager.getInstance(provider.getContext()), appWidgetIds);
+            } finally {
+                for (PendingResult pendingResult : pendingResults) {
+                    pendingResult.finish();
+                }
+            }
+        }
     }
 }
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2018-2020 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.recyclerview;
+
+import android.content.Context;
+import android.content.ContextWrapper;
+import android.util.SparseIntArray;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.pranavpandey.android.dynamic.support.activity.DynamicSystemActivity;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Registry of the {@link RecyclerView.RecycledViewPool} scoped to an activity so that the
+ * recycler views displaying the same row types can share their view holders.
+ *
+ * <p><p>Pools are identified by a key which must be unique for a set of view types, for
+ * example the adapter class. Recycler views with different adapters must not share a pool
+ * if their view types have a different meaning.
+ *
+ * @see DynamicSystemActivity#getRecycledViewPools()
+ */
+public class DynamicRecycledViewPools {
+
+    /**
+     * Default maximum count of the view holders to be kept for each view type.
+     * <p>It is higher than the {@link RecyclerView.RecycledViewPool} default as the pool
+     * is shared between multiple recycler views.
+     */
+    public static final int ADS_MAX_RECYCLED_VIEWS = 15;
+
+    /**
+     * Shared pools according to their keys.
+     */
+    private final Map<Object, RecyclerView.RecycledViewPool> mPools;
+
+    /**
+     * Maximum count of the view holders to be kept according to the view type.
+     */
+    private final SparseIntArray mMaxRecycledViews;
+
+    /**
+     * Constructor to initialize an object of this class.
+     */
+    public DynamicRecycledViewPools() {
+        this.mPools = new HashMap<>();
+        this.mMaxRecycledViews = new SparseIntArray();
+    }
+
+    /**
+     * Returns the registry of the activity associated with the supplied context.
+     *
+     * @param context The context to find the activity.
+     *
+     * @return The registry of the activity associated with the supplied context.
+     *         <p>{@code null} if the context is not a {@link DynamicSystemActivity}.
+     */
+    public static @Nullable DynamicRecycledViewPools from(@Nullable Context context) {
+        while (context instanceof ContextWrapper) {
+            if (context instanceof DynamicSystemActivity) {
+                return ((DynamicSystemActivity) context).getRecycledViewPools();
+            }
+
+            context = ((ContextWrapper) context).getBaseContext();
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the shared pool for the supplied key.
+     * <p>It will be created if not already present.
+     *
+     * @param key The key for the pool.
+     *
+     * @return The shared pool for the supplied key.
+     */
+    public @NonNull RecyclerView.RecycledViewPool get(@NonNull Object key) {
+        RecyclerView.RecycledViewPool pool = mPools.get(key);
+
+        if (pool == null) {
+            pool = new RecyclerView.RecycledViewPool() {
+                @Override
+                public void putRecycledView(RecyclerView.ViewHolder scrap) {
+                    int viewType = scrap.getItemViewType();
+                    if (getRecycledViewCount(viewType) == 0) {
+                        setMaxRecycledViews(viewType, getMaxRecycledViews(viewType));
+                    }
+
+                    super.putRecycledView(scrap);
+                }
+            };
+
+            mPools.put(key, pool);
+        }
+
+        return pool;
+    }
+
+    /**
+     * Returns the maximum count of the view holders to be kept for the supplied view type.
+     *
+     * @param viewType The view type to get the maximum count.
+     *
+     * @return The maximum count of the view holders to be kept for the supplied view type.
+     */
+    public int getMaxRecycledViews(int viewType) {
+        return mMaxRecycledViews.get(viewType, ADS_MAX_RECYCLED_VIEWS);
+    }
+
+    /**
+     * Set the maximum count of the view holders to be kept for the supplied view type.
+     * <p>It will be applied on all the pools.
+     *
+     * @param viewType The view type to set the maximum count.
+     * @param max The maximum count of the view holders.
+     */
+    public void setMaxRecycledViews(int viewType, int max) {
+        mMaxRecycledViews.put(viewType, max);
+
+        for (RecyclerView.RecycledViewPool pool : mPools.values()) {
+            pool.setMaxRecycledViews(viewType, max);
+        }
+    }
+
+    /**
+     * Share the pool for the supplied key with the recycler view.
+     *
+     * @param recyclerView The recycler view to share the pool.
+     * @param key The key for the pool.
+     *
+     * @return {@code true} if the pool has been shared.
+     */
+    public static boolean share(@NonNull RecyclerView recyclerView, @Nullable Object key) {
+        if (key == null) {
+            return false;
+        }
+
+        DynamicRecycledViewPools pools = from(recyclerView.getContext());
+        if (pools == null) {
+            return false;
+        }
+
+        RecyclerView.RecycledViewPool pool = pools.get(key);
+        if (recyclerView.getRecycledViewPool() != pool) {
+            recyclerView.setRecycledViewPool(pool);
+        }
+
+        return true;
+    }
+
+    /**
+     * Remove all the view holders and pools from this registry.
+     */
+    public void clear() {
+        for (RecyclerView.RecycledViewPool pool : mPools.values()) {
+            pool.clear();
+        }
+
+        mPools.clear();
+    }
+}
@@ -157,11 +157,28 @@ public abstract class DynamicRecyclerViewFrame extends FrameLayout {
      * @param adapter The recycler view adapter.
      */
     public void setAdapter(@NonNull RecyclerView.Adapter adapter) {
+        DynamicRecycledViewPools.share(mRecyclerView, getRecycledViewPoolKey(adapter));
         mRecyclerView.setAdapter(adapter);
 
         checkForStaggeredGridLayoutManager();
     }
 
+    /**
+     * Returns the key to share the recycled view pool with other recycler views of the
+     * activity displaying the same row types.
+     * <p>Override this method to share the pool, it must be unique for a set of view types.
+     *
+     * @param adapter The adapter for the recycler view.
+     *
+     * @return The key to share the recycled view pool.
+     *         <p>{@code null} to use a separate pool for this view.
+     *
+     * @see DynamicRecycledViewPools
+     */
+    protected @Nullable Object getRecycledViewPoolKey(@NonNull RecyclerView.Adapter adapter) {
+        return null;
+    }
+
     /**
      * Handler to update the {@link StaggeredGridLayoutManager} o avoid the jumping of items.
      */
@@ -36,6 +36,12 @@ import com.pranavpandey.android.dynamic.support.utils.DynamicLayoutUtils;
  */
 public class DynamicRecyclerViewNested extends DynamicRecyclerViewFrame {
 
+    /**
+     * Default count of the items to be prefetched when this view is nested inside another
+     * scrolling container.
+     */
+    public static final int ADS_INITIAL_PREFETCH_ITEM_COUNT = 4;
+
     public DynamicRecyclerViewNested(@NonNull Context context) {
         super(context);
     }
@@ -56,8 +62,23 @@ public class DynamicRecyclerViewNested extends DynamicRecyclerViewFrame {
 
     @Override
     public @Nullable RecyclerView.LayoutManager getRecyclerViewLayoutManager() {
-        return DynamicLayoutUtils.getLinearLayoutManager(
+        LinearLayoutManager layoutManager = DynamicLayoutUtils.getLinearLayoutManager(
                 getContext(), LinearLayoutManager.VERTICAL);
+        layoutManager.setInitialPrefetchItemCount(getInitialPrefetchItemCount());
+        layoutManager.setRecycleChildrenOnDetach(true);
+
+        return layoutManager;
+    }
+
+    /**
+     * Returns the count of the items to be prefetched when this view is nested inside another
+     * scrolling container.
+     * <p>Override this method to supply the count according to the visible rows.
+     *
+     * @return The count of the items to be prefetched.
+     */
+    protected int getInitialPrefetchItemCount() {
+        return ADS_INITIAL_PREFETCH_ITEM_COUNT;
     }
 
     @CallSuper
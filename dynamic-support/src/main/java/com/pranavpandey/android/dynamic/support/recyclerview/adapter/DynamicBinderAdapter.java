@@ -23,6 +23,8 @@ import androidx.annotation.Nullable;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.pranavpandey.android.dynamic.support.recyclerview.binder.DynamicRecyclerViewBinder;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTrace;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTraceSection;
 
 /**
  * A {@link RecyclerView.Adapter} to display different types of items or views in a recycler view.
@@ -48,8 +50,14 @@ public abstract class DynamicBinderAdapter<VB extends DynamicRecyclerViewBinder>
 
     @Override
     public void onBindViewHolder(@NonNull RecyclerView.ViewHolder viewHolder, int position) {
-        getDataBinder(viewHolder.getItemViewType()).onBindViewHolder(
-                viewHolder, getBinderPosition(position));
+        final VB binder = getDataBinder(viewHolder.getItemViewType());
+        final long trace = DynamicTrace.begin(DynamicTraceSection.BIND, binder);
+
+        try {
+            binder.onBindViewHolder(viewHolder, getBinderPosition(position));
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.BIND, trace);
+        }
     }
 
     @Override
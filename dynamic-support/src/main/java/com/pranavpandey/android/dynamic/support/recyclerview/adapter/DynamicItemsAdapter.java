@@ -73,6 +73,17 @@ public class DynamicItemsAdapter extends DynamicSimpleBinderAdapter<DynamicRecyc
         return mDataSet;
     }
 
+    /**
+     * Set the data set for this adapter.
+     *
+     * @param dataSet The data set to be set.
+     */
+    public void setDataSet(@NonNull Collection<? extends DynamicItem> dataSet) {
+        this.mDataSet = new ArrayList<>(dataSet);
+
+        notifyDataSetChanged();
+    }
+
     /**
      * Returns the item according to the supplied position.
      *
@@ -29,16 +29,18 @@ import androidx.fragment.app.Fragment;
 import com.pranavpandey.android.dynamic.support.R;
 import com.pranavpandey.android.dynamic.support.activity.DynamicSystemActivity;
 
+import java.util.concurrent.Executor;
+
 /**
  * An activity to show a splash screen before the actual app launch. Its layout can be fully
  * customised and it also provides multiple methods to do any background work before launching
- * the main activity by running an {@link android.os.AsyncTask}.
+ * the main activity by running a {@link DynamicSplashTask}.
  *
  * <p><p>Extend this activity and implement the required methods to show a splash screen.
  * It should be declared as the main activity in the projects's manifest for best performance.
  */
 public abstract class DynamicSplashActivity extends DynamicSystemActivity
-        implements DynamicSplashListener {
+        implements DynamicSplashListener, DynamicSplashTask.OnStageListener {
 
     /**
      * Splash fragment TAG key which will be used to find it during the configuration changes.
@@ -95,6 +97,9 @@ public abstract class DynamicSplashActivity extends DynamicSystemActivity
         setNavigationBarColor(getNavigationBarColor());
 
         ((DynamicSplashFragment) mContentFragment).setOnSplashListener(this);
+        ((DynamicSplashFragment) mContentFragment).setOnStageListener(this);
+        ((DynamicSplashFragment) mContentFragment).setExecutor(getSplashExecutor());
+        onAddSplashStages((DynamicSplashFragment) mContentFragment);
         commitFragmentTransaction(getSupportFragmentManager().beginTransaction()
                 .replace(R.id.ads_container, mContentFragment, ADS_STATE_SPLASH_FRAGMENT_TAG));
     }
@@ -129,6 +134,30 @@ public abstract class DynamicSplashActivity extends DynamicSystemActivity
         return ADS_MIN_SPLASH_TIME;
     }
 
+    /**
+     * Returns the executor to run the splash stages.
+     * <p>Override this method to supply a custom executor.
+     *
+     * @return The executor to run the splash stages.
+     *         <p>{@code null} to use the {@link DynamicSplashTask#getDefaultExecutor()}.
+     */
+    protected @Nullable Executor getSplashExecutor() {
+        return null;
+    }
+
+    /**
+     * This method will be called to add the independent stages which can be run in parallel
+     * with the {@link #doBehindSplash()}.
+     * <p>Override this method to add any warm-up operations by using the
+     * {@link DynamicSplashFragment#addStage(String, Runnable)}.
+     *
+     * @param fragment The splash fragment to add the stages.
+     */
+    protected void onAddSplashStages(@NonNull DynamicSplashFragment fragment) { }
+
+    @Override
+    public void onSplashStageFinished(@NonNull String stage, long time) { }
+
     @Override
     public void onSaveInstanceState(@NonNull Bundle outState) {
         super.onSaveInstanceState(outState);
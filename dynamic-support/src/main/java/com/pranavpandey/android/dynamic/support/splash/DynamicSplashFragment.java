@@ -16,7 +16,6 @@
 
 package com.pranavpandey.android.dynamic.support.splash;
 
-import android.os.AsyncTask;
 import android.os.Bundle;
 import android.view.LayoutInflater;
 import android.view.View;
@@ -30,6 +29,10 @@ import androidx.fragment.app.Fragment;
 
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
 /**
  * A fragment to display splash before launching the main activity.
  * <p>It will be used internally by the {@link DynamicSplashActivity}.
@@ -42,9 +45,24 @@ public class DynamicSplashFragment extends Fragment {
     private static final String ADS_ARGS_SPLASH_LAYOUT_RES = "ads_args_splash_layout_res";
 
     /**
-     * Async task to perform any background operation whiling showing the splash.
+     * Task to perform any background operation while showing the splash.
+     */
+    private DynamicSplashTask mSplashTask;
+
+    /**
+     * Executor to run the splash stages.
+     */
+    private Executor mExecutor;
+
+    /**
+     * Additional stages to be run in parallel while showing the splash.
+     */
+    private final Map<String, Runnable> mStages = new LinkedHashMap<>();
+
+    /**
+     * Listener to get the timings of the splash stages.
      */
-    private SplashTask mSplashTask;
+    private DynamicSplashTask.OnStageListener mOnStageListener;
 
     /**
      * Listener to implement the splash screen and to get various callbacks while showing
@@ -113,7 +131,13 @@ public class DynamicSplashFragment extends Fragment {
      * Start the splash background task.
      */
     public void show() {
-        mSplashTask = new SplashTask(mDynamicSplashListener);
+        mSplashTask = new DynamicSplashTask(mDynamicSplashListener, mExecutor);
+        mSplashTask.setOnStageListener(mOnStageListener);
+
+        for (Map.Entry<String, Runnable> stage : mStages.entrySet()) {
+            mSplashTask.addStage(stage.getKey(), stage.getValue());
+        }
+
         mSplashTask.execute();
     }
 
@@ -122,7 +146,7 @@ public class DynamicSplashFragment extends Fragment {
      */
     public void stop() {
         if (mSplashTask != null && !mSplashTask.isCancelled()) {
-            mSplashTask.cancel(true);
+            mSplashTask.cancel();
         }
     }
 
@@ -147,69 +171,44 @@ public class DynamicSplashFragment extends Fragment {
     }
 
     /**
-     * Async task to perform any background operation while showing the splash.
+     * Set the executor to run the splash stages.
+     *
+     * @param executor The executor to be set.
+     *                 <p>Pass {@code null} to use the default executor.
+     *
+     * @see DynamicSplashTask#getDefaultExecutor()
      */
-    static class SplashTask extends AsyncTask<Void, String, Void> {
-
-        /**
-         * Start time for this task.
-         */
-        long taskStartTime;
-
-        /**
-         * Time elapsed while executing this task.
-         */
-        long taskTimeElapsed;
-
-        /**
-         * Listener to implement the splash screen and to get various callbacks while
-         * showing the splash.
-         */
-        private DynamicSplashListener dynamicSplashListener;
-
-        /**
-         * Constructor to initialize an object of this class.
-         *
-         * @param dynamicSplashListener The splash listener to get the various callbacks.
-         */
-        SplashTask(@Nullable DynamicSplashListener dynamicSplashListener) {
-            this.dynamicSplashListener = dynamicSplashListener;
-        }
-
-        @Override
-        protected void onPreExecute() {
-            super.onPreExecute();
-
-            taskStartTime = System.currentTimeMillis();
-            if (dynamicSplashListener != null) {
-                dynamicSplashListener.onPreSplash();
-            }
-        }
+    public void setExecutor(@Nullable Executor executor) {
+        this.mExecutor = executor;
+    }
 
-        @Override
-        protected Void doInBackground(Void... params) {
-            if (dynamicSplashListener != null) {
-                dynamicSplashListener.doBehindSplash();
-
-                taskTimeElapsed = System.currentTimeMillis() - taskStartTime;
-                if (taskTimeElapsed < dynamicSplashListener.getMinSplashTime()) {
-                    try {
-                        Thread.sleep(dynamicSplashListener.getMinSplashTime() - taskTimeElapsed);
-                    } catch (InterruptedException ignored) {
-                    }
-                }
-            }
-
-            return null;
-        }
+    /**
+     * Add a stage to be run in parallel with the {@link DynamicSplashListener#doBehindSplash()}.
+     * <p>It will replace any existing stage with the same name.
+     *
+     * @param stage The name of the stage.
+     * @param runnable The runnable to be run for this stage.
+     */
+    public void addStage(@NonNull String stage, @NonNull Runnable runnable) {
+        mStages.put(stage, runnable);
+    }
 
-        @Override
-        protected void onPostExecute(Void param) {
-            super.onPostExecute(param);
+    /**
+     * Set the listener to get the timings of the splash stages.
+     *
+     * @param onStageListener The listener to be set.
+     */
+    public void setOnStageListener(@Nullable DynamicSplashTask.OnStageListener onStageListener) {
+        this.mOnStageListener = onStageListener;
+    }
 
-            if (dynamicSplashListener != null) {
-                dynamicSplashListener.onPostSplash();
-            }
-        }
+    /**
+     * Returns the time in milliseconds taken by the finished splash stages.
+     *
+     * @return The time in milliseconds taken by the finished splash stages.
+     */
+    public @NonNull Map<String, Long> getStageTimes() {
+        return mSplashTask != null ? mSplashTask.getStageTimes()
+                : new LinkedHashMap<String, Long>();
     }
 }
@@ -0,0 +1,330 @@
+/*
+ * Copyright 2018-2020 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.splash;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.pranavpandey.android.dynamic.support.utils.DynamicTaskUtils;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A task to perform the background operations while showing the splash.
+ * <p>It will run the {@link DynamicSplashListener#doBehindSplash()} along with any additional
+ * stages in parallel on the supplied executor and enforce the minimum splash time on the
+ * main thread without blocking the worker threads.
+ */
+public class DynamicSplashTask {
+
+    /**
+     * Stage name for the {@link DynamicSplashListener#doBehindSplash()} operation.
+     */
+    public static final String STAGE_BEHIND_SPLASH = "ads_stage_behind_splash";
+
+    /**
+     * Stage name for the whole splash, from the pre splash to the post splash.
+     */
+    public static final String STAGE_SPLASH = "ads_stage_splash";
+
+    /**
+     * Interface to get the timings of the splash stages.
+     */
+    public interface OnStageListener {
+
+        /**
+         * This method will be called on the main thread after finishing a splash stage.
+         *
+         * @param stage The name of the finished stage.
+         * @param time The time in milliseconds taken by the stage.
+         *
+         * @see #STAGE_BEHIND_SPLASH
+         * @see #STAGE_SPLASH
+         */
+        void onSplashStageFinished(@NonNull String stage, long time);
+    }
+
+    /**
+     * Listener to implement the splash screen and to get various callbacks while
+     * showing the splash.
+     */
+    private final DynamicSplashListener mDynamicSplashListener;
+
+    /**
+     * Executor to run the splash stages.
+     */
+    private final Executor mExecutor;
+
+    /**
+     * Additional stages to be run in parallel with the
+     * {@link DynamicSplashListener#doBehindSplash()}.
+     */
+    private final Map<String, Runnable> mStages;
+
+    /**
+     * Time taken by the finished stages.
+     */
+    private final Map<String, Long> mStageTimes;
+
+    /**
+     * Handler to post the callbacks on the main thread.
+     */
+    private final Handler mHandler;
+
+    /**
+     * Count of the stages which are still running.
+     */
+    private final AtomicInteger mPendingStages;
+
+    /**
+     * Listener to get the timings of the splash stages.
+     */
+    private OnStageListener mOnStageListener;
+
+    /**
+     * Start time for this task.
+     */
+    private long mStartTime;
+
+    /**
+     * {@code true} if this task has been executed.
+     */
+    private boolean mExecuted;
+
+    /**
+     * {@code true} if this task has been cancelled.
+     */
+    private volatile boolean mCancelled;
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param dynamicSplashListener The splash listener to get the various callbacks.
+     * @param executor The executor to run the splash stages.
+     *                 <p>Pass {@code null} to use the {@link #getDefaultExecutor()}.
+     */
+    public DynamicSplashTask(@Nullable DynamicSplashListener dynamicSplashListener,
+            @Nullable Executor executor) {
+        this.mDynamicSplashListener = dynamicSplashListener;
+        this.mExecutor = executor != null ? executor : getDefaultExecutor();
+        this.mStages = new LinkedHashMap<>();
+        this.mStageTimes = Collections.synchronizedMap(new LinkedHashMap<String, Long>());
+        this.mHandler = new Handler(Looper.getMainLooper());
+        this.mPendingStages = new AtomicInteger();
+    }
+
+    /**
+     * Returns the default executor to run the splash stages.
+     *
+     * @return The default executor to run the splash stages.
+     *
+     * @see DynamicTaskUtils#getDefaultExecutor()
+     */
+    public static @NonNull Executor getDefaultExecutor() {
+        return DynamicTaskUtils.getDefaultExecutor();
+    }
+
+    /**
+     * Add a stage to be run in parallel with the {@link DynamicSplashListener#doBehindSplash()}.
+     * <p>It must be called before executing this task and the stage must not perform any
+     * UI related operation.
+     *
+     * @param stage The name of the stage.
+     * @param runnable The runnable to be run for this stage.
+     *
+     * @return The {@link DynamicSplashTask} object to allow for chaining of calls to
+     *         set methods.
+     */
+    public @NonNull DynamicSplashTask addStage(@NonNull String stage,
+            @NonNull Runnable runnable) {
+        mStages.put(stage, runnable);
+
+        return this;
+    }
+
+    /**
+     * Set the listener to get the timings of the splash stages.
+     *
+     * @param onStageListener The listener to be set.
+     *
+     * @return The {@link DynamicSplashTask} object to allow for chaining of calls to
+     *         set methods.
+     */
+    public @NonNull DynamicSplashTask setOnStageListener(
+            @Nullable OnStageListener onStageListener) {
+        this.mOnStageListener = onStageListener;
+
+        return this;
+    }
+
+    /**
+     * Execute this task.
+     * <p>It must be called on the main thread and will be ignored if this task has already
+     * been executed.
+     */
+    public void execute() {
+        if (mExecuted) {
+            return;
+        }
+
+        mExecuted = true;
+        mStartTime = SystemClock.elapsedRealtime();
+        if (mDynamicSplashListener != null) {
+            mDynamicSplashListener.onPreSplash();
+        }
+
+        mPendingStages.set(mStages.size() + 1);
+        runStage(STAGE_BEHIND_SPLASH, new Runnable() {
+            @Override
+            public void run() {
+                if (mDynamicSplashListener != null) {
+                    mDynamicSplashListener.doBehindSplash();
+                }
+            }
+        });
+
+        for (Map.Entry<String, Runnable> stage : mStages.entrySet()) {
+            runStage(stage.getKey(), stage.getValue());
+        }
+    }
+
+    /**
+     * Cancel this task.
+     * <p>Running stages will be completed but no further callbacks will be invoked.
+     */
+    public void cancel() {
+        mCancelled = true;
+        mHandler.removeCallbacksAndMessages(null);
+    }
+
+    /**
+     * Checks whether this task has been cancelled.
+     *
+     * @return {@code true} if this task has been cancelled.
+     */
+    public boolean isCancelled() {
+        return mCancelled;
+    }
+
+    /**
+     * Returns the time in milliseconds taken by the finished stages.
+     *
+     * @return The time in milliseconds taken by the finished stages.
+     */
+    public @NonNull Map<String, Long> getStageTimes() {
+        synchronized (mStageTimes) {
+            return new LinkedHashMap<>(mStageTimes);
+        }
+    }
+
+    /**
+     * Run a stage on the executor and notify when it is finished.
+     *
+     * @param stage The name of the stage.
+     * @param runnable The runnable to be run for the stage.
+     */
+    private void runStage(final @NonNull String stage, final @NonNull Runnable runnable) {
+        try {
+            mExecutor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    final long startTime = SystemClock.elapsedRealtime();
+
+                    try {
+                        if (!mCancelled) {
+                            runnable.run();
+                        }
+                    } finally {
+                        onStageFinished(stage, SystemClock.elapsedRealtime() - startTime);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            onStageFinished(stage, 0);
+        }
+    }
+
+    /**
+     * This method will be called after finishing a stage.
+     * <p>It will finish the splash after the minimum splash time once all the stages
+     * are finished.
+     *
+     * @param stage The name of the finished stage.
+     * @param time The time in milliseconds taken by the stage.
+     */
+    private void onStageFinished(final @NonNull String stage, final long time) {
+        mStageTimes.put(stage, time);
+
+        mHandler.post(new Runnable() {
+            @Override
+            public void run() {
+                if (!mCancelled && mOnStageListener != null) {
+                    mOnStageListener.onSplashStageFinished(stage, time);
+                }
+            }
+        });
+
+        if (mPendingStages.decrementAndGet() == 0) {
+            mHandler.post(new Runnable() {
+                @Override
+                public void run() {
+                    long remainingTime = mDynamicSplashListener == null ? 0
+                            : mDynamicSplashListener.getMinSplashTime()
+                            - (SystemClock.elapsedRealtime() - mStartTime);
+
+                    if (remainingTime > 0) {
+                        mHandler.postDelayed(mPostSplash, remainingTime);
+                    } else {
+                        mPostSplash.run();
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Runnable to finish the splash on the main thread.
+     */
+    private final Runnable mPostSplash = new Runnable() {
+        @Override
+        public void run() {
+            if (mCancelled) {
+                return;
+            }
+
+            long time = SystemClock.elapsedRealtime() - mStartTime;
+            mStageTimes.put(STAGE_SPLASH, time);
+
+            if (mOnStageListener != null) {
+                mOnStageListener.onSplashStageFinished(STAGE_SPLASH, time);
+            }
+
+            if (mDynamicSplashListener != null) {
+                mDynamicSplashListener.onPostSplash();
+            }
+        }
+    };
+}
@@ -0,0 +1,526 @@
+/*
+ * Copyright 2018-2020 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.theme;
+
+import android.app.Activity;
+import android.content.Context;
+import android.content.ContextWrapper;
+import android.util.AttributeSet;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+
+import androidx.annotation.LayoutRes;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.pranavpandey.android.dynamic.support.model.DynamicInflationMetric;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTrace;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTraceSection;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link LayoutInflater.Factory2} to record the cost of the views created by another
+ * layout inflater factory, generally the {@link DynamicLayoutInflater}.
+ * <p>It records the time spent in constructing the views, loading their attributes and
+ * initializing them along with the count of the views replaced while customising them
+ * according to the tag and layout names.
+ *
+ * <p><p>It is meant for the debug builds only and must be enabled via
+ * {@link #setEnabled(boolean)} before attaching the activities. Layouts inflated via
+ * {@link #inflate(LayoutInflater, int, ViewGroup, boolean)} will be recorded with their
+ * resource name, other views will be recorded with the name of their activity.
+ *
+ * @see #getSlowestLayouts(int)
+ * @see #getSlowestTags(int)
+ */
+public class DynamicInflationProfiler implements LayoutInflater.Factory2 {
+
+    /**
+     * Recorded costs according to the tag name.
+     */
+    private static final Map<String, Record> sTags = new HashMap<>();
+
+    /**
+     * Recorded costs according to the layout name.
+     */
+    private static final Map<String, Record> sLayouts = new HashMap<>();
+
+    /**
+     * Name of the layout being inflated according to the thread.
+     */
+    private static final ThreadLocal<String> sLayout = new ThreadLocal<>();
+
+    /**
+     * {@code true} to record the cost of the created views.
+     */
+    private static volatile boolean sEnabled;
+
+    /**
+     * Layout inflater factory to create the views.
+     */
+    private final LayoutInflater.Factory2 mFactory;
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param factory The layout inflater factory to create the views.
+     */
+    public DynamicInflationProfiler(@NonNull LayoutInflater.Factory2 factory) {
+        this.mFactory = factory;
+    }
+
+    /**
+     * Checks whether the cost of the created views is recorded.
+     *
+     * @return {@code true} if the cost of the created views is recorded.
+     */
+    public static boolean isEnabled() {
+        return sEnabled;
+    }
+
+    /**
+     * Set the cost of the created views to be recorded.
+     * <p>It will also enable the {@link DynamicTrace} to measure the dynamic widgets.
+     *
+     * @param enabled {@code true} to record the cost of the created views.
+     */
+    public static void setEnabled(boolean enabled) {
+        sEnabled = enabled;
+
+        if (enabled) {
+            DynamicTrace.setEnabled(true);
+        }
+    }
+
+    /**
+     * Wrap the supplied layout inflater factory to record the cost of the created views.
+     *
+     * @param factory The layout inflater factory to be wrapped.
+     *
+     * @return The wrapped layout inflater factory.
+     *         <p>The supplied factory if the profiler is disabled.
+     */
+    public static @NonNull LayoutInflater.Factory2 wrap(
+            @NonNull LayoutInflater.Factory2 factory) {
+        if (!sEnabled || factory instanceof DynamicInflationProfiler) {
+            return factory;
+        }
+
+        return new DynamicInflationProfiler(factory);
+    }
+
+    /**
+     * Inflate a layout and record the cost of its views with the layout resource name.
+     *
+     * @param layoutInflater The layout inflater to inflate the layout.
+     * @param layoutRes The layout resource to be inflated.
+     * @param root The optional view to be the parent of the inflated layout.
+     * @param attachToRoot {@code true} to attach the inflated layout to the root.
+     *
+     * @return The root view of the inflated layout.
+     *
+     * @see LayoutInflater#inflate(int, ViewGroup, boolean)
+     */
+    public static @NonNull View inflate(@NonNull LayoutInflater layoutInflater,
+            @LayoutRes int layoutRes, @Nullable ViewGroup root, boolean attachToRoot) {
+        if (!sEnabled) {
+            return layoutInflater.inflate(layoutRes, root, attachToRoot);
+        }
+
+        final String previous = sLayout.get();
+        sLayout.set(getLayoutName(layoutInflater.getContext(), layoutRes));
+
+        try {
+            return layoutInflater.inflate(layoutRes, root, attachToRoot);
+        } finally {
+            if (previous != null) {
+                sLayout.set(previous);
+            } else {
+                sLayout.remove();
+            }
+        }
+    }
+
+    /**
+     * This method will be called by the {@link DynamicLayoutInflater} when a view has been
+     * replaced while customising it.
+     */
+    static void onViewReplaced() {
+        if (!sEnabled) {
+            return;
+        }
+
+        final DynamicTrace.Listener listener = DynamicTrace.getListener();
+        if (listener instanceof Frame) {
+            ((Frame) listener).replaced++;
+        }
+    }
+
+    @Override
+    public @Nullable View onCreateView(@NonNull String name,
+            @NonNull Context context, @NonNull AttributeSet attrs) {
+        return onCreateView(null, name, context, attrs);
+    }
+
+    @Override
+    public @Nullable View onCreateView(@Nullable View parent, @NonNull String name,
+            @NonNull Context context, @NonNull AttributeSet attrs) {
+        if (!sEnabled || !DynamicTrace.isEnabled()) {
+            return mFactory.onCreateView(parent, name, context, attrs);
+        }
+
+        final DynamicTrace.Listener previous = DynamicTrace.getListener();
+        final Frame frame = new Frame();
+        final long start = System.nanoTime();
+        View view = null;
+
+        DynamicTrace.setListener(frame);
+        try {
+            view = mFactory.onCreateView(parent, name, context, attrs);
+        } finally {
+            final long time = System.nanoTime() - start;
+            DynamicTrace.setListener(previous);
+
+            if (previous instanceof Frame) {
+                ((Frame) previous).children += time;
+            }
+
+            record(name, getLayoutName(context), frame, time, view != null);
+        }
+
+        return view;
+    }
+
+    /**
+     * Record the cost of a created view.
+     *
+     * @param tag The tag name of the view.
+     * @param layout The layout name of the view.
+     * @param frame The frame used to measure the view.
+     * @param time The total time in nanoseconds spent in creating the view.
+     * @param created {@code true} if the view has been created by the layout inflater factory.
+     */
+    private static synchronized void record(@NonNull String tag, @NonNull String layout,
+            @NonNull Frame frame, long time, boolean created) {
+        final long attributes = Math.max(0, frame.attributes - frame.initializeInAttributes);
+        final long construction = Math.max(0,
+                time - frame.children - attributes - frame.initialize);
+
+        getRecord(sTags, tag).add(created, frame.replaced,
+                construction, attributes, frame.initialize);
+        getRecord(sLayouts, layout).add(created, frame.replaced,
+                construction, attributes, frame.initialize);
+    }
+
+    /**
+     * Returns the record for the supplied name.
+     * <p>It will be created if not already present.
+     *
+     * @param records The records to get the record.
+     * @param name The tag or layout name.
+     *
+     * @return The record for the supplied name.
+     */
+    private static @NonNull Record getRecord(
+            @NonNull Map<String, Record> records, @NonNull String name) {
+        Record record = records.get(name);
+        if (record == null) {
+            record = new Record(name);
+            records.put(name, record);
+        }
+
+        return record;
+    }
+
+    /**
+     * Returns the name of the layout being inflated on the current thread.
+     *
+     * @param context The context the view is being created in.
+     *
+     * @return The name of the layout being inflated on the current thread.
+     *         <p>The name of the activity if the layout is not known.
+     */
+    private static @NonNull String getLayoutName(@NonNull Context context) {
+        final String layout = sLayout.get();
+        if (layout != null) {
+            return layout;
+        }
+
+        Context base = context;
+        while (base instanceof ContextWrapper) {
+            if (base instanceof Activity) {
+                return base.getClass().getSimpleName();
+            }
+
+            base = ((ContextWrapper) base).getBaseContext();
+        }
+
+        return context.getClass().getSimpleName();
+    }
+
+    /**
+     * Returns the name of the supplied layout resource.
+     *
+     * @param context The context to retrieve resources.
+     * @param layoutRes The layout resource to get the name.
+     *
+     * @return The name of the supplied layout resource.
+     */
+    private static @NonNull String getLayoutName(
+            @NonNull Context context, @LayoutRes int layoutRes) {
+        try {
+            return context.getResources().getResourceEntryName(layoutRes);
+        } catch (Exception ignored) {
+            return String.valueOf(layoutRes);
+        }
+    }
+
+    /**
+     * Returns the recorded costs in descending order of the total time.
+     *
+     * @param records The records to get the costs.
+     * @param limit The maximum count of the costs to be returned.
+     *              <p>Pass a negative value to return all the costs.
+     *
+     * @return The recorded costs in descending order of the total time.
+     */
+    private static synchronized @NonNull List<DynamicInflationMetric> getMetrics(
+            @NonNull Map<String, Record> records, int limit) {
+        final List<DynamicInflationMetric> metrics = new ArrayList<>(records.size());
+        for (Record record : records.values()) {
+            metrics.add(record.toMetric());
+        }
+
+        Collections.sort(metrics, new Comparator<DynamicInflationMetric>() {
+            @Override
+            public int compare(DynamicInflationMetric metric1, DynamicInflationMetric metric2) {
+                return metric1.getTime() == metric2.getTime() ? 0
+                        : metric1.getTime() < metric2.getTime() ? 1 : -1;
+            }
+        });
+
+        return limit >= 0 && limit < metrics.size() ? metrics.subList(0, limit) : metrics;
+    }
+
+    /**
+     * Returns the slowest layouts recorded since the last reset.
+     *
+     * @param limit The maximum count of the layouts to be returned.
+     *              <p>Pass a negative value to return all the layouts.
+     *
+     * @return The slowest layouts in descending order of the total time.
+     */
+    public static @NonNull List<DynamicInflationMetric> getSlowestLayouts(int limit) {
+        return getMetrics(sLayouts, limit);
+    }
+
+    /**
+     * Returns the slowest tags recorded since the last reset.
+     *
+     * @param limit The maximum count of the tags to be returned.
+     *              <p>Pass a negative value to return all the tags.
+     *
+     * @return The slowest tags in descending order of the total time.
+     */
+    public static @NonNull List<DynamicInflationMetric> getSlowestTags(int limit) {
+        return getMetrics(sTags, limit);
+    }
+
+    /**
+     * Returns a report of the slowest layouts and tags recorded since the last reset.
+     * <p>It can be printed in the log to find the layouts where replacing the views is
+     * costly.
+     *
+     * @param limit The maximum count of the layouts and tags to be reported.
+     *
+     * @return The report of the slowest layouts and tags.
+     */
+    public static @NonNull String getReport(int limit) {
+        final StringBuilder report = new StringBuilder("Layouts");
+        for (DynamicInflationMetric metric : getSlowestLayouts(limit)) {
+            report.append('\n').append(metric);
+        }
+
+        report.append("\nTags");
+        for (DynamicInflationMetric metric : getSlowestTags(limit)) {
+            report.append('\n').append(metric);
+        }
+
+        return report.toString();
+    }
+
+    /**
+     * Remove all the recorded costs.
+     */
+    public static synchronized void reset() {
+        sTags.clear();
+        sLayouts.clear();
+    }
+
+    /**
+     * A {@link DynamicTrace.Listener} to measure the sections of a view being created.
+     */
+    private static class Frame implements DynamicTrace.Listener {
+
+        /**
+         * Time in nanoseconds spent in loading the attributes.
+         */
+        long attributes;
+
+        /**
+         * Time in nanoseconds spent in initializing the view.
+         */
+        long initialize;
+
+        /**
+         * Time in nanoseconds spent in initializing the view while loading the attributes.
+         */
+        long initializeInAttributes;
+
+        /**
+         * Time in nanoseconds spent in creating the nested views.
+         */
+        long children;
+
+        /**
+         * Count of the views replaced while customising them.
+         */
+        int replaced;
+
+        /**
+         * Depth of the attributes being loaded.
+         */
+        private int mAttributesDepth;
+
+        /**
+         * Depth of the view being initialized.
+         */
+        private int mInitializeDepth;
+
+        @Override
+        public void onSectionBegin(@DynamicTraceSection int section) {
+            if (section == DynamicTraceSection.LOAD_ATTRIBUTES) {
+                mAttributesDepth++;
+            } else if (section == DynamicTraceSection.INITIALIZE) {
+                mInitializeDepth++;
+            }
+        }
+
+        @Override
+        public void onSectionEnd(@DynamicTraceSection int section, long time) {
+            if (section == DynamicTraceSection.LOAD_ATTRIBUTES) {
+                if (--mAttributesDepth == 0) {
+                    attributes += time;
+                }
+            } else if (section == DynamicTraceSection.INITIALIZE) {
+                if (--mInitializeDepth == 0) {
+                    initialize += time;
+
+                    if (mAttributesDepth > 0) {
+                        initializeInAttributes += time;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Mutable cost of a tag or layout.
+     */
+    private static class Record {
+
+        /**
+         * Tag or layout name.
+         */
+        private final String mName;
+
+        /**
+         * Count of the views inflated.
+         */
+        private long mCount;
+
+        /**
+         * Count of the views created by the layout inflater factory.
+         */
+        private long mCreated;
+
+        /**
+         * Count of the views replaced while customising them.
+         */
+        private long mReplaced;
+
+        /**
+         * Time in nanoseconds spent in constructing the views.
+         */
+        private long mConstruction;
+
+        /**
+         * Time in nanoseconds spent in loading the attributes of the views.
+         */
+        private long mAttributes;
+
+        /**
+         * Time in nanoseconds spent in initializing the views.
+         */
+        private long mInitialize;
+
+        /**
+         * Constructor to initialize an object of this class.
+         *
+         * @param name The tag or layout name.
+         */
+        Record(@NonNull String name) {
+            this.mName = name;
+        }
+
+        /**
+         * Add the cost of a created view.
+         *
+         * @param created {@code true} if the view has been created by the factory.
+         * @param replaced The count of the views replaced while customising them.
+         * @param construction The time in nanoseconds spent in constructing the view.
+         * @param attributes The time in nanoseconds spent in loading the attributes.
+         * @param initialize The time in nanoseconds spent in initializing the view.
+         */
+        void add(boolean created, int replaced,
+                long construction, long attributes, long initialize) {
+            mCount++;
+            mCreated += created ? 1 : 0;
+            mReplaced += replaced;
+            mConstruction += construction;
+            mAttributes += attributes;
+            mInitialize += initialize;
+        }
+
+        /**
+         * Returns an immutable copy of this record.
+         *
+         * @return An immutable copy of this record.
+         */
+        @NonNull DynamicInflationMetric toMetric() {
+            return new DynamicInflationMetric(mName, mCount, mCreated,
+                    mReplaced, mConstruction, mAttributes, mInitialize);
+        }
+    }
+}
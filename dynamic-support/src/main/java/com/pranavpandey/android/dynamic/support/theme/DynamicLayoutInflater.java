@@ -38,6 +38,8 @@ import androidx.cardview.widget.CardView;
 import androidx.core.view.ViewCompat;
 
 import com.pranavpandey.android.dynamic.support.R;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTrace;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTraceSection;
 import com.pranavpandey.android.dynamic.support.utils.DynamicResourceUtils;
 import com.pranavpandey.android.dynamic.support.utils.DynamicScrollUtils;
 import com.pranavpandey.android.dynamic.support.widget.DynamicAppBarLayout;
@@ -74,6 +76,7 @@ import com.pranavpandey.android.dynamic.support.widget.DynamicTextInputLayout;
 import com.pranavpandey.android.dynamic.support.widget.DynamicTextView;
 import com.pranavpandey.android.dynamic.support.widget.DynamicToolbar;
 import com.pranavpandey.android.dynamic.support.widget.DynamicViewPager;
+import com.pranavpandey.android.dynamic.support.widget.base.BaseWidget;
 import com.pranavpandey.android.dynamic.utils.DynamicColorUtils;
 import com.pranavpandey.android.dynamic.utils.DynamicDrawableUtils;
 import com.pranavpandey.android.dynamic.utils.DynamicSdkUtils;
@@ -95,11 +98,32 @@ public class DynamicLayoutInflater implements LayoutInflater.Factory2 {
         return onCreateView(null, name, context, attrs);
     }
 
-    @SuppressLint("RestrictedApi")
-    @TargetApi(Build.VERSION_CODES.LOLLIPOP)
     @Override
     public @Nullable View onCreateView(@Nullable View parent, final @NonNull String name,
             final @NonNull Context context, final @NonNull AttributeSet attrs) {
+        final long trace = DynamicTrace.begin(DynamicTraceSection.INFLATE, name);
+
+        try {
+            return createView(name, context, attrs);
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.INFLATE, trace);
+        }
+    }
+
+    /**
+     * Create the dynamic support view for the supplied tag name.
+     *
+     * @param name Tag name to be inflated.
+     * @param context The context the view is being created in.
+     * @param attrs Inflation attributes as specified in XML file.
+     *
+     * @return The dynamic support view for the supplied tag name.
+     *         <p>{@code null} to let the layout inflater create the original view.
+     */
+    @SuppressLint("RestrictedApi")
+    @TargetApi(Build.VERSION_CODES.LOLLIPOP)
+    private @Nullable View createView(final @NonNull String name,
+            final @NonNull Context context, final @NonNull AttributeSet attrs) {
         View view = null;
 
         switch (name) {
@@ -193,9 +217,19 @@ public class DynamicLayoutInflater implements LayoutInflater.Factory2 {
                 view = new DynamicToolbar(context, attrs);
                 break;
             case "Button":
-                view = new Button(context, attrs);
-                ((Button) view).setTextColor(DynamicResourceUtils.getColorStateList(
-                        DynamicTheme.getInstance().get().getTintBackgroundColor()));
+                final Button button = new Button(context, attrs);
+                if (!DynamicLayoutPool.isInflating()) {
+                    setButtonTextColor(button);
+                } else {
+                    button.post(new Runnable() {
+                        @Override
+                        public void run() {
+                            setButtonTextColor(button);
+                        }
+                    });
+                }
+
+                view = button;
                 break;
             case "android.support.v7.widget.AppCompatButton":
             case "androidx.appcompat.widget.AppCompatButton":
@@ -369,7 +403,21 @@ public class DynamicLayoutInflater implements LayoutInflater.Factory2 {
                 break;
         }
 
-        return onCustomiseView(view, context, attrs);
+        final View created = view;
+        view = onCustomiseView(view, context, attrs);
+        if (view != null && view != created) {
+            DynamicInflationProfiler.onViewReplaced();
+        }
+
+        if (view instanceof BaseWidget) {
+            DynamicThemedViews themedViews = DynamicThemedViews.from(context);
+
+            if (themedViews != null) {
+                themedViews.register(view);
+            }
+        }
+
+        return view;
     }
 
     /**
@@ -382,6 +430,11 @@ public class DynamicLayoutInflater implements LayoutInflater.Factory2 {
     protected @Nullable View onCustomiseView(@Nullable View view,
             @NonNull Context context, @NonNull AttributeSet attrs) {
         if (view != null) {
+            if (view instanceof DynamicCardView && DynamicLayoutPool.isInflating()) {
+                // Stroke depends on the resolved colors, inflate it on the main thread.
+                throw new IllegalStateException("Card view requires the theme to be resolved.");
+            }
+
             if (view instanceof DynamicCardView && ((DynamicCardView) view).isStrokeRequired()) {
                 view = new DynamicMaterialCardView(context, attrs);
             }
@@ -393,4 +446,14 @@ public class DynamicLayoutInflater implements LayoutInflater.Factory2 {
 
         return view;
     }
+
+    /**
+     * Set the text color of the supplied button according to the current theme.
+     *
+     * @param button The button to set the text color.
+     */
+    private static void setButtonTextColor(@NonNull Button button) {
+        button.setTextColor(DynamicResourceUtils.getColorStateList(
+                DynamicTheme.getInstance().get().getTintBackgroundColor()));
+    }
 }
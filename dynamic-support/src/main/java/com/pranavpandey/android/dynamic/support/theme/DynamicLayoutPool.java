@@ -0,0 +1,592 @@
+/*
+ * Copyright 2018-2020 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.theme;
+
+import android.content.Context;
+import android.content.ContextWrapper;
+import android.content.MutableContextWrapper;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.os.Process;
+import android.os.SystemClock;
+import android.util.SparseIntArray;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.FrameLayout;
+
+import androidx.annotation.LayoutRes;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.StyleRes;
+import androidx.appcompat.view.ContextThemeWrapper;
+import androidx.core.view.LayoutInflaterCompat;
+
+import com.pranavpandey.android.dynamic.support.utils.DynamicResourceUtils;
+import com.pranavpandey.android.dynamic.support.widget.base.BaseWidget;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pool to inflate the layouts ahead of time so that they can be handed to the activities
+ * or fragments without inflating them on the main thread.
+ * <p>Layouts are inflated by using the {@link DynamicLayoutInflater} in a
+ * {@link MutableContextWrapper} which will be switched to the actual context and the
+ * current theme will be applied on all the dynamic widgets on checkout.
+ *
+ * <p><p>Layouts are pooled according to the theme resource and the optional context class
+ * they have been inflated for. A layout will be handed out only if it has been inflated with
+ * the same theme resource as of the requesting context as any non-dynamic attribute will be
+ * resolved during the inflation.
+ *
+ * <p><p>The dynamic widgets will not resolve the dynamic theme while they are inflated in
+ * background, it will be applied via {@link BaseWidget#initialize()} on checkout.
+ *
+ * @see #isInflating()
+ */
+public class DynamicLayoutPool {
+
+    /**
+     * Name of the thread to inflate the layouts in background.
+     */
+    private static final String ADS_THREAD_NAME = "DynamicLayoutPool";
+
+    /**
+     * Singleton instance of {@link DynamicLayoutPool}.
+     */
+    private static DynamicLayoutPool sInstance;
+
+    /**
+     * Thread to inflate the layouts in background.
+     */
+    private static volatile Thread sThread;
+
+    /**
+     * Pre-inflated layouts according to the theme resource, context class and
+     * layout resource.
+     *
+     * @see #getKey(Class, int, int)
+     */
+    private final Map<String, List<View>> mLayouts;
+
+    /**
+     * Count of the layouts requested to be pre-inflated according to the layout resource.
+     * <p>It is used to record the misses only for the layouts which are pooled.
+     */
+    private final SparseIntArray mPreInflated;
+
+    /**
+     * Layout resources which cannot be inflated in background.
+     */
+    private final SparseIntArray mUnsafeLayouts;
+
+    /**
+     * Count of the layouts supplied from the pool according to the layout resource.
+     */
+    private final SparseIntArray mHits;
+
+    /**
+     * Count of the layouts which were not available in the pool according to the
+     * layout resource.
+     */
+    private final SparseIntArray mMisses;
+
+    /**
+     * Total time in milliseconds taken to inflate the layouts according to the
+     * layout resource.
+     */
+    private final SparseIntArray mInflationTimes;
+
+    /**
+     * Count of the layouts inflated according to the layout resource.
+     */
+    private final SparseIntArray mInflationCounts;
+
+    /**
+     * Handler to inflate the layouts in background.
+     */
+    private Handler mHandler;
+
+    /**
+     * Making default constructor private so that it cannot be initialized.
+     * <p>Use {@link #getInstance()} instead.
+     */
+    private DynamicLayoutPool() {
+        this.mLayouts = new HashMap<>();
+        this.mPreInflated = new SparseIntArray();
+        this.mUnsafeLayouts = new SparseIntArray();
+        this.mHits = new SparseIntArray();
+        this.mMisses = new SparseIntArray();
+        this.mInflationTimes = new SparseIntArray();
+        this.mInflationCounts = new SparseIntArray();
+    }
+
+    /**
+     * Get instance to access public methods.
+     *
+     * @return The singleton instance of this class.
+     */
+    public static synchronized @NonNull DynamicLayoutPool getInstance() {
+        if (sInstance == null) {
+            sInstance = new DynamicLayoutPool();
+        }
+
+        return sInstance;
+    }
+
+    /**
+     * Returns the handler to inflate the layouts in background.
+     *
+     * @return The handler to inflate the layouts in background.
+     */
+    private synchronized @NonNull Handler getHandler() {
+        if (mHandler == null) {
+            HandlerThread thread = new HandlerThread(ADS_THREAD_NAME,
+                    Process.THREAD_PRIORITY_BACKGROUND);
+            thread.start();
+
+            sThread = thread;
+
+            mHandler = new Handler(thread.getLooper());
+        }
+
+        return mHandler;
+    }
+
+    /**
+     * Checks whether a layout is being inflated in background by this pool on the
+     * current thread.
+     * <p>The dynamic widgets must not access the {@link DynamicTheme} in this case as it is
+     * not thread-safe, the theme will be applied when the layout is obtained.
+     *
+     * @return {@code true} if a layout is being inflated in background on the current thread.
+     */
+    public static boolean isInflating() {
+        return sThread != null && Thread.currentThread() == sThread;
+    }
+
+    /**
+     * Returns the theme resource applied on the supplied context.
+     * <p>It will be resolved from the themed context wrappers or the local context of the
+     * {@link DynamicTheme}.
+     *
+     * @param context The context to get the theme resource.
+     *
+     * @return The theme resource applied on the supplied context.
+     *         <p>{@link DynamicResourceUtils#ADS_DEFAULT_RESOURCE_ID} if it cannot be resolved.
+     */
+    private static @StyleRes int getThemeRes(@NonNull Context context) {
+        Context base = context;
+
+        while (base instanceof ContextWrapper) {
+            if (base instanceof ContextThemeWrapper
+                    && ((ContextThemeWrapper) base).getThemeResId() != 0) {
+                return ((ContextThemeWrapper) base).getThemeResId();
+            }
+
+            if (base == DynamicTheme.getInstance().getLocalContext()) {
+                return DynamicTheme.getInstance().getDefault().getThemeRes();
+            }
+
+            base = ((ContextWrapper) base).getBaseContext();
+        }
+
+        return DynamicResourceUtils.ADS_DEFAULT_RESOURCE_ID;
+    }
+
+    /**
+     * Returns the key to pool a layout.
+     *
+     * @param owner The context class to use the layout.
+     *              <p>{@code null} to use it in any context.
+     * @param themeRes The theme resource to inflate the layout.
+     * @param layoutRes The layout resource to be inflated.
+     *
+     * @return The key to pool a layout.
+     */
+    private static @NonNull String getKey(@Nullable Class<?> owner,
+            @StyleRes int themeRes, @LayoutRes int layoutRes) {
+        return (owner != null ? owner.getName() : "") + ":" + themeRes + ":" + layoutRes;
+    }
+
+    /**
+     * Inflate a layout ahead of time and keep it in the pool.
+     * <p>It will be inflated on a background looper and will fall back to the main thread
+     * when the main thread is idle if it cannot be inflated in background.
+     *
+     * @param context The context to retrieve resources.
+     * @param themeRes The theme resource to inflate the layout.
+     * @param layoutRes The layout resource to be inflated.
+     * @param count The count of the layouts to be inflated.
+     *
+     * @see #preInflate(Context, Class, int, int, int)
+     */
+    public void preInflate(@NonNull Context context, @StyleRes int themeRes,
+            @LayoutRes int layoutRes, int count) {
+        preInflate(context, null, themeRes, layoutRes, count);
+    }
+
+    /**
+     * Inflate a layout ahead of time for a context class and keep it in the pool.
+     * <p>It will be inflated on a background looper and will fall back to the main thread
+     * when the main thread is idle if it cannot be inflated in background.
+     *
+     * @param context The context to retrieve resources.
+     * @param owner The context class to use the layout, for example an activity class.
+     *              <p>{@code null} to use it in any context with the same theme.
+     * @param themeRes The theme resource to inflate the layout.
+     * @param layoutRes The layout resource to be inflated.
+     * @param count The count of the layouts to be inflated.
+     */
+    public void preInflate(@NonNull Context context, @Nullable Class<?> owner,
+            @StyleRes final int themeRes, @LayoutRes final int layoutRes, final int count) {
+        final Context appContext = context.getApplicationContext() != null
+                ? context.getApplicationContext() : context;
+        final String key = getKey(owner, themeRes, layoutRes);
+
+        synchronized (this) {
+            mPreInflated.put(layoutRes, mPreInflated.get(layoutRes) + count);
+        }
+
+        if (isUnsafe(layoutRes)) {
+            preInflateOnIdle(appContext, key, themeRes, layoutRes, count);
+            return;
+        }
+
+        getHandler().post(new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 0; i < count; i++) {
+                    try {
+                        inflate(appContext, key, themeRes, layoutRes);
+                    } catch (Exception e) {
+                        synchronized (DynamicLayoutPool.this) {
+                            mUnsafeLayouts.put(layoutRes, 1);
+                        }
+
+                        preInflateOnIdle(appContext, key, themeRes, layoutRes, count - i);
+                        break;
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Inflate a layout on the main thread when it is idle and keep it in the pool.
+     *
+     * @param context The context to retrieve resources.
+     * @param key The key to pool the layout.
+     * @param themeRes The theme resource to inflate the layout.
+     * @param layoutRes The layout resource to be inflated.
+     * @param count The count of the layouts to be inflated.
+     */
+    private void preInflateOnIdle(@NonNull final Context context, @NonNull final String key,
+            @StyleRes final int themeRes, @LayoutRes final int layoutRes, final int count) {
+        new Handler(Looper.getMainLooper()).post(new Runnable() {
+            @Override
+            public void run() {
+                Looper.myQueue().addIdleHandler(new MessageQueue.IdleHandler() {
+                    private int mRemaining = count;
+
+                    @Override
+                    public boolean queueIdle() {
+                        try {
+                            inflate(context, key, themeRes, layoutRes);
+                        } catch (Exception e) {
+                            return false;
+                        }
+
+                        return --mRemaining > 0;
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Inflate a layout and add it in the pool.
+     *
+     * @param context The context to retrieve resources.
+     * @param key The key to pool the layout.
+     * @param themeRes The theme resource to inflate the layout.
+     * @param layoutRes The layout resource to be inflated.
+     */
+    private void inflate(@NonNull Context context, @NonNull String key,
+            @StyleRes int themeRes, @LayoutRes int layoutRes) {
+        final long startTime = SystemClock.elapsedRealtime();
+        final MutableContextWrapper wrapper = new MutableContextWrapper(
+                new ContextThemeWrapper(context, themeRes));
+        final LayoutInflater layoutInflater = LayoutInflater.from(context).cloneInContext(wrapper);
+        LayoutInflaterCompat.setFactory2(layoutInflater,
+                DynamicInflationProfiler.wrap(new DynamicLayoutInflater()));
+
+        final View view = DynamicInflationProfiler.inflate(
+                layoutInflater, layoutRes, new FrameLayout(wrapper), false);
+        final int time = (int) (SystemClock.elapsedRealtime() - startTime);
+
+        synchronized (this) {
+            List<View> layouts = mLayouts.get(key);
+            if (layouts == null) {
+                layouts = new ArrayList<>();
+                mLayouts.put(key, layouts);
+            }
+
+            layouts.add(view);
+            mInflationTimes.put(layoutRes, mInflationTimes.get(layoutRes) + time);
+            mInflationCounts.put(layoutRes, mInflationCounts.get(layoutRes) + 1);
+        }
+    }
+
+    /**
+     * Checks whether the supplied layout cannot be inflated in background.
+     *
+     * @param layoutRes The layout resource to be checked.
+     *
+     * @return {@code true} if the supplied layout cannot be inflated in background.
+     */
+    private synchronized boolean isUnsafe(@LayoutRes int layoutRes) {
+        return mUnsafeLayouts.get(layoutRes) != 0;
+    }
+
+    /**
+     * Returns a pre-inflated layout from the pool for the theme of the supplied context.
+     * <p>The theme resource will be resolved from the themed context wrappers or the
+     * local context of the {@link DynamicTheme}.
+     *
+     * @param context The context to attach the layout.
+     * @param layoutRes The layout resource to be returned.
+     *
+     * @return The pre-inflated layout from the pool.
+     *         <p>{@code null} if it is not available in the pool.
+     *
+     * @see #obtain(Context, int, int)
+     */
+    public @Nullable View obtain(@NonNull Context context, @LayoutRes int layoutRes) {
+        if (Looper.myLooper() != Looper.getMainLooper()) {
+            return null;
+        }
+
+        return obtain(context, getThemeRes(context), layoutRes);
+    }
+
+    /**
+     * Returns a pre-inflated layout from the pool.
+     * <p>It will be attached to the supplied context and the current theme will be applied
+     * on all the dynamic widgets.
+     *
+     * <p><p>Only the layouts inflated with the supplied theme resource for the class of the
+     * supplied context or for any context will be returned. It must be called from the
+     * main thread.
+     *
+     * @param context The context to attach the layout.
+     * @param themeRes The theme resource applied on the supplied context.
+     * @param layoutRes The layout resource to be returned.
+     *
+     * @return The pre-inflated layout from the pool.
+     *         <p>{@code null} if it is not available in the pool.
+     */
+    public @Nullable View obtain(@NonNull Context context,
+            @StyleRes int themeRes, @LayoutRes int layoutRes) {
+        if (Looper.myLooper() != Looper.getMainLooper()) {
+            return null;
+        }
+
+        View view;
+
+        synchronized (this) {
+            if (mPreInflated.get(layoutRes) == 0
+                    || themeRes == DynamicResourceUtils.ADS_DEFAULT_RESOURCE_ID) {
+                return null;
+            }
+
+            view = remove(getKey(context.getClass(), themeRes, layoutRes));
+            if (view == null) {
+                view = remove(getKey(null, themeRes, layoutRes));
+            }
+
+            if (view != null) {
+                mHits.put(layoutRes, mHits.get(layoutRes) + 1);
+            } else {
+                mMisses.put(layoutRes, mMisses.get(layoutRes) + 1);
+            }
+        }
+
+        if (view != null) {
+            attach(view, context);
+            applyTheme(view);
+        }
+
+        return view;
+    }
+
+    /**
+     * Returns a pre-inflated layout from the pool or inflate it if not available.
+     *
+     * @param layoutInflater The layout inflater to inflate the layout.
+     * @param layoutRes The layout resource to be returned.
+     * @param root The view to be the parent of the inflated layout.
+     *
+     * @return The pre-inflated or inflated layout.
+     */
+    public @NonNull View obtain(@NonNull LayoutInflater layoutInflater,
+            @LayoutRes int layoutRes, @Nullable ViewGroup root) {
+        View view = obtain(layoutInflater.getContext(), layoutRes);
+
+        return view != null ? view : layoutInflater.inflate(layoutRes, root, false);
+    }
+
+    /**
+     * Remove a pre-inflated layout from the pool.
+     *
+     * @param key The key of the layout to be removed.
+     *
+     * @return The removed layout.
+     *         <p>{@code null} if it is not available in the pool.
+     */
+    private synchronized @Nullable View remove(@NonNull String key) {
+        List<View> layouts = mLayouts.get(key);
+
+        return layouts != null && !layouts.isEmpty() ? layouts.remove(layouts.size() - 1) : null;
+    }
+
+    /**
+     * Attach a pre-inflated layout to the supplied context.
+     * <p>The context will be switched only for the wrapper created by this pool which is
+     * still wrapping the theme it has been inflated with.
+     *
+     * @param view The pre-inflated layout to be attached.
+     * @param context The context to attach the layout.
+     */
+    private void attach(@NonNull View view, @NonNull Context context) {
+        if (!(view.getContext() instanceof MutableContextWrapper)) {
+            return;
+        }
+
+        MutableContextWrapper wrapper = (MutableContextWrapper) view.getContext();
+        if (wrapper.getBaseContext() instanceof ContextThemeWrapper && wrapper != context) {
+            wrapper.setBaseContext(context);
+        }
+    }
+
+    /**
+     * Apply the current theme on all the dynamic widgets of the supplied view.
+     *
+     * @param view The view to apply the theme.
+     */
+    private void applyTheme(@NonNull View view) {
+        if (view instanceof BaseWidget) {
+            ((BaseWidget) view).initialize();
+        }
+
+        if (view instanceof ViewGroup) {
+            for (int i = 0; i < ((ViewGroup) view).getChildCount(); i++) {
+                applyTheme(((ViewGroup) view).getChildAt(i));
+            }
+        }
+    }
+
+    /**
+     * Returns the count of the pre-inflated layouts available in the pool.
+     *
+     * @param layoutRes The layout resource to get the count.
+     *
+     * @return The count of the pre-inflated layouts available in the pool.
+     */
+    public synchronized int getCount(@LayoutRes int layoutRes) {
+        int count = 0;
+
+        for (Map.Entry<String, List<View>> entry : mLayouts.entrySet()) {
+            if (entry.getKey().endsWith(":" + layoutRes)) {
+                count += entry.getValue().size();
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns the count of the layouts supplied from the pool.
+     *
+     * @param layoutRes The layout resource to get the count.
+     *
+     * @return The count of the layouts supplied from the pool.
+     */
+    public synchronized int getHitCount(@LayoutRes int layoutRes) {
+        return mHits.get(layoutRes);
+    }
+
+    /**
+     * Returns the count of the layouts which were not available in the pool.
+     * <p>Only the requests for the layouts which have been pre-inflated will be counted.
+     *
+     * @param layoutRes The layout resource to get the count.
+     *
+     * @return The count of the layouts which were not available in the pool.
+     */
+    public synchronized int getMissCount(@LayoutRes int layoutRes) {
+        return mMisses.get(layoutRes);
+    }
+
+    /**
+     * Returns the ratio of the layouts supplied from the pool to all the requested layouts.
+     *
+     * @return The hit rate of the pool between {@code 0} and {@code 1}.
+     */
+    public synchronized float getHitRate() {
+        int hits = 0;
+        int requests = 0;
+
+        for (int i = 0; i < mHits.size(); i++) {
+            hits += mHits.valueAt(i);
+        }
+        requests += hits;
+        for (int i = 0; i < mMisses.size(); i++) {
+            requests += mMisses.valueAt(i);
+        }
+
+        return requests == 0 ? 0 : (float) hits / requests;
+    }
+
+    /**
+     * Returns the average time in milliseconds taken to pre-inflate the supplied layout.
+     * <p>It is the main thread time saved for every layout supplied from the pool.
+     *
+     * @param layoutRes The layout resource to get the inflation time.
+     *
+     * @return The average time in milliseconds taken to pre-inflate the supplied layout.
+     */
+    public synchronized int getInflationTime(@LayoutRes int layoutRes) {
+        int count = mInflationCounts.get(layoutRes);
+
+        return count == 0 ? 0 : mInflationTimes.get(layoutRes) / count;
+    }
+
+    /**
+     * Remove all the pre-inflated layouts from the pool.
+     * <p>It will be called on theme or configuration change as the pre-inflated layouts
+     * may have the stale attributes.
+     */
+    public synchronized void clear() {
+        mLayouts.clear();
+    }
+}
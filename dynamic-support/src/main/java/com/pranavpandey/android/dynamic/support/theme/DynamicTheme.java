@@ -47,9 +47,12 @@ import com.pranavpandey.android.dynamic.support.listener.DynamicListener;
 import com.pranavpandey.android.dynamic.support.listener.DynamicResolver;
 import com.pranavpandey.android.dynamic.support.model.DynamicAppTheme;
 import com.pranavpandey.android.dynamic.support.model.DynamicRemoteTheme;
+import com.pranavpandey.android.dynamic.support.model.DynamicThemeSnapshot;
 import com.pranavpandey.android.dynamic.support.model.DynamicWidgetTheme;
 import com.pranavpandey.android.dynamic.support.permission.DynamicPermissions;
 import com.pranavpandey.android.dynamic.support.theme.work.DynamicThemeWork;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTrace;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTraceSection;
 import com.pranavpandey.android.dynamic.support.utils.DynamicResourceUtils;
 import com.pranavpandey.android.dynamic.support.widget.WidgetDefaults;
 import com.pranavpandey.android.dynamic.theme.Theme;
@@ -125,6 +128,16 @@ public class DynamicTheme implements DynamicListener, DynamicResolver {
      */
     private static final int CORNER_SIZE_DEFAULT = DynamicUnitUtils.convertDpToPixels(2);
 
+    /**
+     * Hour of the day to start the night for the auto theme.
+     */
+    public static final int NIGHT_TIME_START = 19;
+
+    /**
+     * Hour of the day to end the night for the auto theme.
+     */
+    public static final int NIGHT_TIME_END = 6;
+
     /**
      * {@code true} if power save mode is enabled.
      */
@@ -190,6 +203,32 @@ public class DynamicTheme implements DynamicListener, DynamicResolver {
      */
     private DynamicResolver mDynamicResolver;
 
+    /**
+     * Start time in milliseconds of the current day.
+     * <p>{@code -1} if the night time has to be calculated again.
+     */
+    private long mDayStart = -1;
+
+    /**
+     * Start time in milliseconds of the next day.
+     */
+    private long mDayEnd;
+
+    /**
+     * Night start time in milliseconds for the current day.
+     */
+    private long mNightTimeStart;
+
+    /**
+     * Night end time in milliseconds for the current day.
+     */
+    private long mNightTimeEnd;
+
+    /**
+     * Night end time in milliseconds for the next day.
+     */
+    private long mNightTimeEndNext;
+
     /**
      * Making default constructor private so that it cannot be initialized without a context.
      * <p>Use {@link #initializeInstance(Context, DynamicResolver)} instead.
@@ -226,6 +265,7 @@ public class DynamicTheme implements DynamicListener, DynamicResolver {
                         mPowerSaveMode = mPowerManager.isPowerSaveMode();
                         onPowerSaveModeChanged(mPowerSaveMode);
                     } else {
+                        invalidateNightTime();
                         setDynamicThemeWork(!WorkManager.getInstance(context)
                                 .getWorkInfosForUniqueWork(DynamicThemeWork.TAG).isDone());
                         onAutoThemeChanged();
@@ -255,16 +295,24 @@ public class DynamicTheme implements DynamicListener, DynamicResolver {
     public void setDynamicThemeWork(boolean enqueue) {
         if (enqueue) {
             long delay;
-            Date date = new Date();
+            long time = System.currentTimeMillis();
             if (isNight()) {
-                Calendar calendar = Calendar.getInstance();
-                calendar.setTime(getDynamicResolver().getNightTimeEnd());
-                if (date.after(calendar.getTime())) {
-                    calendar.add(Calendar.DAY_OF_MONTH, 1);
+                long nightTimeEnd;
+                if (getDynamicResolver() == this) {
+                    updateNightTime(time);
+                    nightTimeEnd = time > mNightTimeEnd ? mNightTimeEndNext : mNightTimeEnd;
+                } else {
+                    Calendar calendar = Calendar.getInstance();
+                    calendar.setTime(getDynamicResolver().getNightTimeEnd());
+                    if (time > calendar.getTimeInMillis()) {
+                        calendar.add(Calendar.DAY_OF_MONTH, 1);
+                    }
+                    nightTimeEnd = calendar.getTimeInMillis();
                 }
-                delay = calendar.getTimeInMillis() - date.getTime();
+                delay = nightTimeEnd - time;
             } else {
-                delay = getDynamicResolver().getNightTimeStart().getTime() - date.getTime();
+                delay = (getDynamicResolver() == this ? getNightTimeStartMillis()
+                        : getDynamicResolver().getNightTimeStart().getTime()) - time;
             }
 
             WorkManager.getInstance(mContext).enqueueUniqueWork(
@@ -298,7 +346,7 @@ public class DynamicTheme implements DynamicListener, DynamicResolver {
         if (localContext instanceof Activity && layoutInflater != null
                 && ((Activity) localContext).getLayoutInflater().getFactory2() == null) {
             LayoutInflaterCompat.setFactory2(((Activity) localContext)
-                    .getLayoutInflater(), layoutInflater);
+                    .getLayoutInflater(), DynamicInflationProfiler.wrap(layoutInflater));
         }
 
         return this;
@@ -406,6 +454,7 @@ public class DynamicTheme implements DynamicListener, DynamicResolver {
 
             mApplicationTheme = new DynamicAppTheme(dynamicTheme == null
                     ? mDefaultApplicationTheme : dynamicTheme);
+            DynamicLayoutPool.getInstance().clear();
 
             if (initializeRemoteColors) {
                 initializeRemoteColors();
@@ -576,24 +625,12 @@ public class DynamicTheme implements DynamicListener, DynamicResolver {
      * @see Theme.ColorType
      */
     public @ColorInt int resolveColorType(@Theme.ColorType int colorType) {
-        switch (colorType) {
-            default: return WidgetDefaults.ADS_COLOR_UNKNOWN;
-            case Theme.ColorType.PRIMARY: return get().getPrimaryColor();
-            case Theme.ColorType.PRIMARY_DARK: return get().getPrimaryColorDark();
-            case Theme.ColorType.ACCENT: return get().getAccentColor();
-            case Theme.ColorType.ACCENT_DARK: return get().getAccentColorDark();
-            case Theme.ColorType.TINT_PRIMARY: return get().getTintPrimaryColor();
-            case Theme.ColorType.TINT_PRIMARY_DARK: return get().getTintPrimaryColorDark();
-            case Theme.ColorType.TINT_ACCENT: return get().getTintAccentColor();
-            case Theme.ColorType.TINT_ACCENT_DARK: return get().getTintAccentColorDark();
-            case Theme.ColorType.BACKGROUND: return get().getBackgroundColor();
-            case Theme.ColorType.TINT_BACKGROUND: return get().getTintBackgroundColor();
-            case Theme.ColorType.TEXT_PRIMARY: return get().getTextPrimaryColor();
-            case Theme.ColorType.TEXT_SECONDARY: return get().getTextSecondaryColor();
-            case Theme.ColorType.TEXT_PRIMARY_INVERSE: return get().getTextPrimaryColorInverse();
-            case Theme.ColorType.TEXT_SECONDARY_INVERSE: return get().getTextSecondaryColorInverse();
-            case Theme.ColorType.SURFACE: return get().getSurfaceColor();
-            case Theme.ColorType.TINT_SURFACE: return get().getTintSurfaceColor();
+        final long trace = DynamicTrace.begin(DynamicTraceSection.RESOLVE_COLOR);
+
+        try {
+            return get().getColor(colorType);
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.RESOLVE_COLOR, trace);
         }
     }
 
@@ -672,6 +709,19 @@ public class DynamicTheme implements DynamicListener, DynamicResolver {
         return mLocalContext != null ? mLocalTheme : mApplicationTheme;
     }
 
+    /**
+     * Returns the immutable snapshot of the theme according to the current state.
+     * <p>It can be compared by reference to check whether the resolved theme has
+     * been changed.
+     *
+     * @return The immutable snapshot of the theme according to the current state.
+     *
+     * @see #get()
+     */
+    public @NonNull DynamicThemeSnapshot getSnapshot() {
+        return DynamicThemeSnapshot.of(get());
+    }
+
     /**
      * Get the default theme according to the current state.
      * <p>Either default application theme or default local theme.
@@ -882,6 +932,10 @@ public class DynamicTheme implements DynamicListener, DynamicResolver {
     @Override
     public void onDynamicConfigurationChanged(boolean locale, boolean fontScale,
             boolean orientation, boolean uiMode, boolean density) {
+        if (locale || fontScale || uiMode || density) {
+            DynamicLayoutPool.getInstance().clear();
+        }
+
         for (DynamicListener dynamicListener : mDynamicListeners) {
             dynamicListener.onDynamicConfigurationChanged(locale,
                     fontScale, orientation, uiMode, density);
@@ -962,7 +1016,13 @@ public class DynamicTheme implements DynamicListener, DynamicResolver {
      * @return The dynamic app theme from the JSON string.
      */
     public @Nullable DynamicAppTheme getTheme(@Nullable String theme) {
-        return new Gson().fromJson(theme, DynamicAppTheme.class);
+        final long trace = DynamicTrace.begin(DynamicTraceSection.PARSE, DynamicAppTheme.class);
+
+        try {
+            return new Gson().fromJson(theme, DynamicAppTheme.class);
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.PARSE, trace);
+        }
     }
 
     @Override
@@ -985,9 +1045,13 @@ public class DynamicTheme implements DynamicListener, DynamicResolver {
 
     @Override
     public boolean isNight() {
-        Date date = new Date();
-        return date.getTime() >= getNightTimeStart().getTime()
-                || date.getTime() < getNightTimeEnd().getTime();
+        long time = System.currentTimeMillis();
+
+        synchronized (this) {
+            updateNightTime(time);
+
+            return time >= mNightTimeStart || time < mNightTimeEnd;
+        }
     }
 
     @Override
@@ -1002,26 +1066,78 @@ public class DynamicTheme implements DynamicListener, DynamicResolver {
 
     @Override
     public @NonNull Date getNightTimeStart() {
-        Date date = new Date();
-        Calendar calendar = Calendar.getInstance();
-        calendar.setTime(date);
-        calendar.set(Calendar.HOUR_OF_DAY, 19);
-        calendar.set(Calendar.MINUTE, 0);
-        calendar.set(Calendar.SECOND, 0);
-
-        return calendar.getTime();
+        return new Date(getNightTimeStartMillis());
     }
 
     @Override
     public @NonNull Date getNightTimeEnd() {
-        Date date = new Date();
+        return new Date(getNightTimeEndMillis());
+    }
+
+    /**
+     * Returns the night start time in milliseconds for the current day.
+     *
+     * @return The night start time in milliseconds for the current day.
+     *
+     * @see #NIGHT_TIME_START
+     */
+    public synchronized long getNightTimeStartMillis() {
+        updateNightTime(System.currentTimeMillis());
+
+        return mNightTimeStart;
+    }
+
+    /**
+     * Returns the night end time in milliseconds for the current day.
+     *
+     * @return The night end time in milliseconds for the current day.
+     *
+     * @see #NIGHT_TIME_END
+     */
+    public synchronized long getNightTimeEndMillis() {
+        updateNightTime(System.currentTimeMillis());
+
+        return mNightTimeEnd;
+    }
+
+    /**
+     * Calculate the night time again on the next query.
+     * <p>It will be called automatically on changing the time, date or time zone.
+     */
+    public synchronized void invalidateNightTime() {
+        mDayStart = -1;
+    }
+
+    /**
+     * Update the night time if the supplied time is not within the current day.
+     *
+     * @param time The time in milliseconds to update the night time.
+     */
+    private synchronized void updateNightTime(long time) {
+        if (mDayStart != -1 && time >= mDayStart && time < mDayEnd) {
+            return;
+        }
+
         Calendar calendar = Calendar.getInstance();
-        calendar.setTime(date);
-        calendar.set(Calendar.HOUR_OF_DAY, 6);
+        calendar.setTimeInMillis(time);
+        calendar.set(Calendar.HOUR_OF_DAY, 0);
         calendar.set(Calendar.MINUTE, 0);
         calendar.set(Calendar.SECOND, 0);
+        calendar.set(Calendar.MILLISECOND, 0);
+        mDayStart = calendar.getTimeInMillis();
+
+        calendar.set(Calendar.HOUR_OF_DAY, NIGHT_TIME_END);
+        mNightTimeEnd = calendar.getTimeInMillis();
+
+        calendar.set(Calendar.HOUR_OF_DAY, NIGHT_TIME_START);
+        mNightTimeStart = calendar.getTimeInMillis();
+
+        calendar.set(Calendar.HOUR_OF_DAY, NIGHT_TIME_END);
+        calendar.add(Calendar.DAY_OF_MONTH, 1);
+        mNightTimeEndNext = calendar.getTimeInMillis();
 
-        return calendar.getTime();
+        calendar.set(Calendar.HOUR_OF_DAY, 0);
+        mDayEnd = calendar.getTimeInMillis();
     }
 
     @Override
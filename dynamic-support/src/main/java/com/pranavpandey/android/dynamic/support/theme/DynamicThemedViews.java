@@ -0,0 +1,267 @@
+/*
+ * Copyright 2018-2020 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.theme;
+
+import android.content.Context;
+import android.content.ContextWrapper;
+import android.view.View;
+import android.view.ViewGroup;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.pranavpandey.android.dynamic.support.activity.DynamicSystemActivity;
+import com.pranavpandey.android.dynamic.support.model.DynamicAppTheme;
+import com.pranavpandey.android.dynamic.support.model.DynamicThemeSnapshot;
+import com.pranavpandey.android.dynamic.support.widget.base.BaseWidget;
+import com.pranavpandey.android.dynamic.support.widget.base.DynamicBackgroundWidget;
+import com.pranavpandey.android.dynamic.support.widget.base.DynamicLinkWidget;
+import com.pranavpandey.android.dynamic.support.widget.base.DynamicScrollableWidget;
+import com.pranavpandey.android.dynamic.support.widget.base.DynamicStateSelectedWidget;
+import com.pranavpandey.android.dynamic.support.widget.base.DynamicStateWidget;
+import com.pranavpandey.android.dynamic.support.widget.base.DynamicTextWidget;
+import com.pranavpandey.android.dynamic.support.widget.base.DynamicWidget;
+import com.pranavpandey.android.dynamic.theme.Theme;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Registry of the dynamic widgets scoped to an activity so that a changed theme can be
+ * applied on them in place without recreating the activity.
+ * <p>Widgets inflated by the {@link DynamicLayoutInflater} will be registered automatically
+ * and the widgets attached to the window will be found while applying the theme. They are
+ * referenced weakly so, a detached widget will be removed once it is garbage collected.
+ *
+ * @see DynamicSystemActivity#getThemedViews()
+ */
+public class DynamicThemedViews {
+
+    /**
+     * Color types resolved directly from the theme by some widgets in addition to the
+     * declared color types.
+     */
+    private static final int ADS_MASK_IMPLICIT =
+            DynamicAppTheme.getColorTypeMask(Theme.ColorType.BACKGROUND)
+            | DynamicAppTheme.getColorTypeMask(Theme.ColorType.TINT_BACKGROUND)
+            | DynamicAppTheme.getColorTypeMask(Theme.ColorType.SURFACE)
+            | DynamicAppTheme.getColorTypeMask(Theme.ColorType.TEXT_PRIMARY)
+            | DynamicAppTheme.getColorTypeMask(Theme.ColorType.TEXT_SECONDARY);
+
+    /**
+     * Dynamic widgets registered with this registry.
+     */
+    private final Set<View> mViews;
+
+    /**
+     * Constructor to initialize an object of this class.
+     */
+    public DynamicThemedViews() {
+        this.mViews = Collections.newSetFromMap(new WeakHashMap<View, Boolean>());
+    }
+
+    /**
+     * Returns the registry of the activity associated with the supplied context.
+     *
+     * @param context The context to find the activity.
+     *
+     * @return The registry of the activity associated with the supplied context.
+     *         <p>{@code null} if the context is not a {@link DynamicSystemActivity} or it
+     *         does not support the live theme change.
+     */
+    public static @Nullable DynamicThemedViews from(@Nullable Context context) {
+        while (context instanceof ContextWrapper) {
+            if (context instanceof DynamicSystemActivity) {
+                return ((DynamicSystemActivity) context).getThemedViews();
+            }
+
+            context = ((ContextWrapper) context).getBaseContext();
+        }
+
+        return null;
+    }
+
+    /**
+     * Register a view with this registry.
+     * <p>It will be ignored if it is not a dynamic widget.
+     *
+     * @param view The view to be registered.
+     */
+    public void register(@Nullable View view) {
+        if (view instanceof BaseWidget) {
+            mViews.add(view);
+        }
+    }
+
+    /**
+     * Unregister a view from this registry.
+     *
+     * @param view The view to be unregistered.
+     */
+    public void unregister(@Nullable View view) {
+        mViews.remove(view);
+    }
+
+    /**
+     * Returns the count of the dynamic widgets registered with this registry.
+     *
+     * @return The count of the dynamic widgets registered with this registry.
+     */
+    public int size() {
+        return mViews.size();
+    }
+
+    /**
+     * Apply the current theme on all the registered widgets.
+     * <p>Dynamic widgets found in the supplied view hierarchy will be registered before
+     * applying the theme.
+     *
+     * @param root The root view to find the dynamic widgets.
+     *
+     * @return The count of the widgets on which the theme has been applied.
+     */
+    public int apply(@Nullable View root) {
+        return apply(root, DynamicAppTheme.MASK_ALL);
+    }
+
+    /**
+     * Apply the current theme on the registered widgets depending on the changed values.
+     * <p>Dynamic widgets found in the supplied view hierarchy will be registered before
+     * applying the theme. Any failure while initializing a widget will be thrown to the
+     * caller so that it can recreate the views instead.
+     *
+     * @param root The root view to find the dynamic widgets.
+     * @param changes The mask of the changed values.
+     *
+     * @return The count of the widgets on which the theme has been applied.
+     *
+     * @see DynamicThemeSnapshot#getChanges(DynamicThemeSnapshot)
+     */
+    public int apply(@Nullable View root, int changes) {
+        if (root != null) {
+            registerAll(root);
+        }
+
+        int count = 0;
+        for (View view : new ArrayList<>(mViews)) {
+            if ((getDependencies(view) & changes) == 0) {
+                continue;
+            }
+
+            ((BaseWidget) view).initialize();
+            count++;
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns the mask of the theme values used by the supplied view.
+     * <p>It will be calculated from the color types declared by the dynamic widget along with
+     * the corner size, background aware and the color types resolved directly by some widgets.
+     *
+     * @param view The view to get the dependencies.
+     *
+     * @return The mask of the theme values used by the supplied view.
+     *
+     * @see DynamicAppTheme#getColorTypeMask(int)
+     */
+    public static int getDependencies(@NonNull View view) {
+        if (!(view instanceof DynamicWidget)) {
+            return DynamicAppTheme.MASK_ALL;
+        }
+
+        DynamicWidget widget = (DynamicWidget) view;
+        int dependencies = ADS_MASK_IMPLICIT | DynamicAppTheme.MASK_CORNER
+                | DynamicAppTheme.MASK_BACKGROUND_AWARE
+                | DynamicAppTheme.getColorTypeMask(widget.getColorType())
+                | DynamicAppTheme.getColorTypeMask(widget.getContrastWithColorType());
+
+        if (view instanceof DynamicBackgroundWidget) {
+            dependencies |= DynamicAppTheme.getColorTypeMask(
+                    ((DynamicBackgroundWidget) view).getBackgroundColorType());
+        }
+
+        if (view instanceof DynamicLinkWidget) {
+            dependencies |= DynamicAppTheme.getColorTypeMask(
+                    ((DynamicLinkWidget) view).getLinkColorType());
+        }
+
+        if (view instanceof DynamicScrollableWidget) {
+            dependencies |= DynamicAppTheme.getColorTypeMask(
+                    ((DynamicScrollableWidget) view).getScrollBarColorType());
+        }
+
+        if (view instanceof DynamicStateWidget) {
+            dependencies |= DynamicAppTheme.getColorTypeMask(
+                    ((DynamicStateWidget) view).getStateNormalColorType());
+        }
+
+        if (view instanceof DynamicStateSelectedWidget) {
+            dependencies |= DynamicAppTheme.getColorTypeMask(
+                    ((DynamicStateSelectedWidget) view).getStateSelectedColorType());
+        }
+
+        if (view instanceof DynamicTextWidget) {
+            dependencies |= DynamicAppTheme.getColorTypeMask(
+                    ((DynamicTextWidget) view).getTextColorType());
+        }
+
+        return dependencies;
+    }
+
+    /**
+     * Register all the dynamic widgets of the supplied view hierarchy.
+     *
+     * @param view The view to find the dynamic widgets.
+     */
+    private void registerAll(@NonNull View view) {
+        register(view);
+
+        if (view instanceof ViewGroup) {
+            for (int i = 0; i < ((ViewGroup) view).getChildCount(); i++) {
+                registerAll(((ViewGroup) view).getChildAt(i));
+            }
+        }
+    }
+
+    /**
+     * Remove all the widgets from this registry.
+     */
+    public void clear() {
+        mViews.clear();
+    }
+
+    /**
+     * Checks whether the change between the supplied themes cannot be applied in place.
+     * <p>A change in the style resource or font scale requires the views to be
+     * inflated again.
+     *
+     * @param oldTheme The previously applied theme.
+     * @param newTheme The theme to be applied.
+     *
+     * @return {@code true} if the activity must be recreated to apply the new theme.
+     */
+    public static boolean isStructuralChange(@Nullable DynamicThemeSnapshot oldTheme,
+            @Nullable DynamicThemeSnapshot newTheme) {
+        return oldTheme == null || newTheme == null
+                || oldTheme.getThemeRes() != newTheme.getThemeRes()
+                || oldTheme.getFontScale() != newTheme.getFontScale();
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright 2018-2020 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.theme;
+
+import android.content.Context;
+import android.graphics.Paint;
+import android.util.Log;
+import android.util.TypedValue;
+
+import androidx.annotation.LayoutRes;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.StyleRes;
+
+import com.pranavpandey.android.dynamic.support.model.DynamicAppTheme;
+import com.pranavpandey.android.dynamic.support.splash.DynamicSplashTask;
+import com.pranavpandey.android.dynamic.support.utils.DynamicScrollUtils;
+import com.pranavpandey.android.dynamic.support.utils.DynamicTaskUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Helper class to warm up the code paths of the theme engine on a background thread during
+ * the app startup.
+ * <p>It resolves the copies of the default themes, reflection handles used to tint the
+ * scrollable views and text measurement so that the classes are loaded and compiled before
+ * the first activity is drawn.
+ * <p>The resolved colors are not retained as the themes are copied on the calling thread
+ * while executing this warm up so, the live themes will never be accessed from the
+ * background thread. Only the reflection handles and any pre-inflated layouts are kept.
+ *
+ * <p><p>It can be executed from the {@link com.pranavpandey.android.dynamic.support.DynamicApplication}
+ * or added as a stage of the {@link DynamicSplashTask}. Layouts can be pre-inflated via
+ * {@link #preInflate(int, int, int)} and any additional task can be added via
+ * {@link #addTask(Runnable)}.
+ */
+public class DynamicWarmUp implements Runnable {
+
+    /**
+     * Tag to log the failed tasks.
+     */
+    private static final String TAG = "DynamicWarmUp";
+
+    /**
+     * Text to warm up the text measurement.
+     */
+    private static final String ADS_WARM_UP_TEXT =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+
+    /**
+     * Default text size in sp to warm up the text measurement.
+     */
+    private static final float ADS_WARM_UP_TEXT_SIZE = 14;
+
+    /**
+     * Context used by this warm up.
+     */
+    private final Context mContext;
+
+    /**
+     * Additional tasks to be run after warming up the theme engine.
+     */
+    private final List<Runnable> mTasks;
+
+    /**
+     * Copies of the themes to be resolved by this warm up.
+     */
+    private final List<DynamicAppTheme> mThemes;
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param context The context to retrieve resources.
+     */
+    public DynamicWarmUp(@NonNull Context context) {
+        this.mContext = context.getApplicationContext() != null
+                ? context.getApplicationContext() : context;
+        this.mTasks = new ArrayList<>();
+        this.mThemes = new ArrayList<>();
+    }
+
+    /**
+     * Add a task to be run after warming up the theme engine.
+     * <p>It will be run on the background thread so, do not perform any UI related
+     * operation here.
+     *
+     * @param task The task to be added.
+     *
+     * @return The {@link DynamicWarmUp} object to allow for chaining of calls to set methods.
+     */
+    public @NonNull DynamicWarmUp addTask(@NonNull Runnable task) {
+        mTasks.add(task);
+
+        return this;
+    }
+
+    /**
+     * Pre-inflate a layout into the {@link DynamicLayoutPool} after warming up the
+     * theme engine.
+     *
+     * @param themeRes The theme resource to inflate the layout.
+     * @param layoutRes The layout resource to be inflated.
+     * @param count The count of the layouts to be inflated.
+     *
+     * @return The {@link DynamicWarmUp} object to allow for chaining of calls to set methods.
+     *
+     * @see DynamicLayoutPool#preInflate(Context, int, int, int)
+     */
+    public @NonNull DynamicWarmUp preInflate(@StyleRes int themeRes,
+            @LayoutRes int layoutRes, int count) {
+        return preInflate(null, themeRes, layoutRes, count);
+    }
+
+    /**
+     * Pre-inflate a layout for a context class into the {@link DynamicLayoutPool} after
+     * warming up the theme engine.
+     *
+     * @param owner The context class to use the layout, for example an activity class.
+     *              <p>{@code null} to use it in any context with the same theme.
+     * @param themeRes The theme resource to inflate the layout.
+     * @param layoutRes The layout resource to be inflated.
+     * @param count The count of the layouts to be inflated.
+     *
+     * @return The {@link DynamicWarmUp} object to allow for chaining of calls to set methods.
+     *
+     * @see DynamicLayoutPool#preInflate(Context, Class, int, int, int)
+     */
+    public @NonNull DynamicWarmUp preInflate(@Nullable final Class<?> owner,
+            @StyleRes final int themeRes, @LayoutRes final int layoutRes, final int count) {
+        return addTask(new Runnable() {
+            @Override
+            public void run() {
+                DynamicLayoutPool.getInstance().preInflate(
+                        mContext, owner, themeRes, layoutRes, count);
+            }
+        });
+    }
+
+    /**
+     * Execute this warm up on the supplied executor.
+     * <p>It must be called from the main thread as it will copy the current themes to be
+     * resolved on the background thread.
+     *
+     * @param executor The executor to run this warm up.
+     *                 <p>Pass {@code null} to use the
+     *                 {@link DynamicTaskUtils#getDefaultExecutor()}.
+     */
+    public void execute(@Nullable Executor executor) {
+        copyThemes();
+
+        try {
+            (executor != null ? executor : DynamicTaskUtils.getDefaultExecutor()).execute(this);
+        } catch (RejectedExecutionException ignored) {
+        }
+    }
+
+    /**
+     * Execute this warm up on the default executor.
+     *
+     * @see #execute(Executor)
+     */
+    public void execute() {
+        execute(null);
+    }
+
+    @Override
+    public void run() {
+        synchronized (mThemes) {
+            for (DynamicAppTheme theme : mThemes) {
+                warmUpTheme(theme);
+            }
+        }
+
+        warmUpReflection();
+        warmUpResources(mContext);
+
+        for (Runnable task : mTasks) {
+            try {
+                task.run();
+            } catch (Exception e) {
+                Log.w(TAG, "Unable to run the warm up task.", e);
+            }
+        }
+    }
+
+    /**
+     * Copy the application, default and remote themes to be resolved on the background thread.
+     * <p>It will be called automatically while executing this warm up. Call it from the main
+     * thread before running this warm up in any other way, for example as a stage of the
+     * {@link DynamicSplashTask}.
+     *
+     * @return The {@link DynamicWarmUp} object to allow for chaining of calls to set methods.
+     */
+    public @NonNull DynamicWarmUp copyThemes() {
+        synchronized (mThemes) {
+            mThemes.clear();
+
+            try {
+                copyTheme(DynamicTheme.getInstance().getApplication());
+                copyTheme(DynamicTheme.getInstance().getDefault());
+                copyTheme(DynamicTheme.getInstance().getRemote());
+            } catch (Exception ignored) {
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Copy the supplied theme to be resolved by this warm up.
+     *
+     * @param theme The theme to be copied.
+     */
+    private void copyTheme(@Nullable DynamicAppTheme theme) {
+        if (theme != null) {
+            mThemes.add(new DynamicAppTheme(theme));
+        }
+    }
+
+    /**
+     * Resolve the colors of the supplied theme so that the code paths to generate the
+     * {@code auto} colors are loaded before the first widget needs them.
+     * <p>It should be a copy of the theme as it will be modified while resolving it.
+     *
+     * @param theme The theme to be resolved.
+     */
+    public static void warmUpTheme(@NonNull DynamicAppTheme theme) {
+        try {
+            resolveTheme(theme);
+        } catch (Exception ignored) {
+        }
+    }
+
+    /**
+     * Resolve the colors of the supplied theme.
+     *
+     * @param theme The theme to be resolved.
+     */
+    private static void resolveTheme(@NonNull DynamicAppTheme theme) {
+        theme.getBackgroundColor();
+        theme.getSurfaceColor();
+        theme.getPrimaryColorDark();
+        theme.getAccentColorDark();
+        theme.getTintBackgroundColor();
+        theme.getTintSurfaceColor();
+        theme.getTintPrimaryColor();
+        theme.getTintPrimaryColorDark();
+        theme.getTintAccentColor();
+        theme.getTintAccentColorDark();
+        theme.getTextPrimaryColor();
+        theme.getTextSecondaryColor();
+        theme.getTextPrimaryColorInverse();
+        theme.getTextSecondaryColorInverse();
+        theme.getCornerSizeDp();
+        theme.toDynamicString();
+    }
+
+    /**
+     * Resolve the reflection handles used to tint the scrollable views.
+     *
+     * @see DynamicScrollUtils#initialize()
+     */
+    public static void warmUpReflection() {
+        try {
+            DynamicScrollUtils.initialize();
+        } catch (Exception ignored) {
+        }
+    }
+
+    /**
+     * Measure some text to warm up the font and glyph caches.
+     *
+     * @param context The context to retrieve resources.
+     */
+    public static void warmUpResources(@NonNull Context context) {
+        try {
+            Paint paint = new Paint(Paint.ANTI_ALIAS_FLAG);
+            paint.setTextSize(TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_SP,
+                    ADS_WARM_UP_TEXT_SIZE, context.getResources().getDisplayMetrics()));
+            paint.measureText(ADS_WARM_UP_TEXT);
+        } catch (Exception ignored) {
+        }
+    }
+}
@@ -26,21 +26,36 @@ import androidx.annotation.IntDef;
 import androidx.annotation.LayoutRes;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.AdapterListUpdateCallback;
+import androidx.recyclerview.widget.AsyncDifferConfig;
+import androidx.recyclerview.widget.AsyncListDiffer;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.pranavpandey.android.dynamic.support.R;
 import com.pranavpandey.android.dynamic.support.model.DynamicAppTheme;
+import com.pranavpandey.android.dynamic.support.model.DynamicPreset;
 import com.pranavpandey.android.dynamic.support.theme.view.DynamicPresetsView;
 import com.pranavpandey.android.dynamic.support.theme.view.ThemePreview;
+import com.pranavpandey.android.dynamic.support.utils.DynamicTaskUtils;
 import com.pranavpandey.android.dynamic.support.widget.Dynamic;
 import com.pranavpandey.android.dynamic.theme.ThemeContract;
 import com.pranavpandey.android.dynamic.theme.utils.DynamicThemeUtils;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import static com.pranavpandey.android.dynamic.support.theme.adapter.DynamicPresetsAdapter.Type.HORIZONTAL;
 import static com.pranavpandey.android.dynamic.support.theme.adapter.DynamicPresetsAdapter.Type.VERTICAL;
 
 /**
  * A recycler view adapter to show the theme presets.
+ * <p>Presets must be parsed before setting them to this adapter so that binding a preset
+ * does not require any parsing. Changes will be dispatched via {@link DiffUtil} which will
+ * be calculated in background.
+ *
+ * @see #getPresets(Cursor, DynamicPresetsView.DynamicPresetsListener)
  */
 public class DynamicPresetsAdapter<T extends DynamicAppTheme>
         extends RecyclerView.Adapter<DynamicPresetsAdapter.ViewHolder<T>> {
@@ -68,9 +83,9 @@ public class DynamicPresetsAdapter<T extends DynamicAppTheme>
     private final LayoutInflater mInflater;
 
     /**
-     * Cursor for presets handled by this adapter.
+     * Differ to dispatch the changes in presets handled by this adapter.
      */
-    private Cursor mPresets;
+    private final AsyncListDiffer<DynamicPreset<T>> mPresets;
 
     /**
      * Type of the preset layout used by this adapter.
@@ -114,62 +129,98 @@ public class DynamicPresetsAdapter<T extends DynamicAppTheme>
         this.mInflater = LayoutInflater.from(context);
         this.mType = type;
         this.mLayoutRes = layoutRes;
-    }
+        this.mPresets = new AsyncListDiffer<>(new AdapterListUpdateCallback(this),
+                new AsyncDifferConfig.Builder<>(new DiffUtil.ItemCallback<DynamicPreset<T>>() {
+                    @Override
+                    public boolean areItemsTheSame(@NonNull DynamicPreset<T> oldItem,
+                            @NonNull DynamicPreset<T> newItem) {
+                        return oldItem.equals(newItem);
+                    }
 
-    @Override
-    public @NonNull ViewHolder<T> onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
-        return new ViewHolder<>(mInflater.inflate(mLayoutRes, parent, false));
+                    @Override
+                    public boolean areContentsTheSame(@NonNull DynamicPreset<T> oldItem,
+                            @NonNull DynamicPreset<T> newItem) {
+                        return oldItem.equals(newItem);
+                    }
+                }).setBackgroundThreadExecutor(DynamicTaskUtils.getDefaultExecutor()).build());
     }
 
-    @Override
-    public void onBindViewHolder(@NonNull ViewHolder<T> holder, int position) {
-        if (mPresets != null) {
-            holder.getRoot().setVisibility(View.VISIBLE);
-            try {
-                if (mDynamicPresetsListener != null) {
-                    T theme = null;
-                    if (mPresets.moveToPosition(position)) {
-                        String decodeTheme = DynamicThemeUtils.decodeTheme(
-                                mPresets.getString(mPresets.getColumnIndexOrThrow(
-                                        ThemeContract.Preset.Column.THEME)));
-
-                        if (decodeTheme != null) {
-                            theme = mDynamicPresetsListener.getDynamicTheme(decodeTheme);
+    /**
+     * Parse the theme presets from the supplied cursor.
+     * <p>It should be called on a background thread as the themes will be parsed via
+     * {@link DynamicPresetsView.DynamicPresetsListener#getDynamicTheme(String)}.
+     *
+     * @param cursor The cursor containing the theme presets.
+     * @param dynamicPresetsListener The listener to parse the dynamic themes.
+     * @param <T> The type of the dynamic app theme.
+     *
+     * @return The list of parsed theme presets.
+     */
+    public static @NonNull <T extends DynamicAppTheme> List<DynamicPreset<T>> getPresets(
+            @Nullable Cursor cursor,
+            @Nullable DynamicPresetsView.DynamicPresetsListener<T> dynamicPresetsListener) {
+        if (cursor == null || dynamicPresetsListener == null) {
+            return Collections.emptyList();
+        }
+
+        List<DynamicPreset<T>> presets = new ArrayList<>(cursor.getCount());
+        try {
+            int column = cursor.getColumnIndexOrThrow(ThemeContract.Preset.Column.THEME);
+
+            if (cursor.moveToFirst()) {
+                do {
+                    try {
+                        String theme = DynamicThemeUtils.decodeTheme(cursor.getString(column));
+                        T dynamicTheme = theme != null
+                                ? dynamicPresetsListener.getDynamicTheme(theme) : null;
+
+                        if (dynamicTheme != null) {
+                            presets.add(new DynamicPreset<>(theme, dynamicTheme));
                         }
+                    } catch (Exception ignored) {
                     }
+                } while (cursor.moveToNext());
+            }
+        } catch (Exception ignored) {
+        }
 
-                    if (theme == null) {
-                        return;
-                    }
+        return Collections.unmodifiableList(presets);
+    }
 
-                    holder.getThemePreview().getActionView()
-                            .setImageResource(R.drawable.ads_ic_palette);
-                    holder.getThemePreview().setDynamicTheme(theme);
-                    Dynamic.setCorner(holder.getRoot(), theme.getCornerRadius());
-
-                    holder.getRoot().setOnClickListener(new View.OnClickListener() {
-                        @Override
-                        public void onClick(View v) {
-                            mDynamicPresetsListener.onPresetClick(v,
-                                    holder.getThemePreview().getDynamicTheme().toDynamicString(),
-                                    holder.getThemePreview());
-                        }
-                    });
-                    holder.getThemePreview().getActionView().setOnClickListener(
-                            new View.OnClickListener() {
-                        @Override
-                        public void onClick(View v) {
-                            mDynamicPresetsListener.onPresetClick(v,
-                                    holder.getThemePreview().getDynamicTheme().toDynamicString(),
-                                    holder.getThemePreview());
-                        }
-                    });
-                } else {
-                    holder.getRoot().setClickable(false);
-                    holder.getThemePreview().getActionView().setClickable(false);
+    @Override
+    public @NonNull ViewHolder<T> onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+        final ViewHolder<T> holder = new ViewHolder<>(
+                mInflater.inflate(mLayoutRes, parent, false));
+        final View.OnClickListener onClickListener = new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                DynamicPreset<T> preset = getItem(holder.getAdapterPosition());
+
+                if (mDynamicPresetsListener != null && preset != null) {
+                    mDynamicPresetsListener.onPresetClick(v,
+                            preset.getTheme(), holder.getThemePreview());
                 }
-            } catch (Exception ignored) {
             }
+        };
+
+        holder.getThemePreview().getActionView().setImageResource(R.drawable.ads_ic_palette);
+        holder.getRoot().setOnClickListener(onClickListener);
+        holder.getThemePreview().getActionView().setOnClickListener(onClickListener);
+
+        return holder;
+    }
+
+    @Override
+    public void onBindViewHolder(@NonNull ViewHolder<T> holder, int position) {
+        DynamicPreset<T> preset = getItem(position);
+
+        if (preset != null) {
+            holder.getRoot().setVisibility(View.VISIBLE);
+            holder.getRoot().setClickable(mDynamicPresetsListener != null);
+            holder.getThemePreview().getActionView().setClickable(
+                    mDynamicPresetsListener != null);
+            holder.getThemePreview().setDynamicTheme(preset.getDynamicTheme());
+            Dynamic.setCorner(holder.getRoot(), preset.getDynamicTheme().getCornerRadius());
         } else {
             holder.getRoot().setVisibility(View.GONE);
         }
@@ -177,18 +228,54 @@ public class DynamicPresetsAdapter<T extends DynamicAppTheme>
 
     @Override
     public int getItemCount() {
-        return mPresets == null ? 0 : mPresets.getCount();
+        return mPresets.getCurrentList().size();
+    }
+
+    /**
+     * Returns the preset at the supplied position.
+     *
+     * @param position The position of the preset.
+     *
+     * @return The preset at the supplied position.
+     *         <p>{@code null} if it is not available.
+     */
+    public @Nullable DynamicPreset<T> getItem(int position) {
+        List<DynamicPreset<T>> presets = mPresets.getCurrentList();
+
+        return position >= 0 && position < presets.size() ? presets.get(position) : null;
+    }
+
+    /**
+     * Returns the theme presets handled by this adapter.
+     *
+     * @return The theme presets handled by this adapter.
+     */
+    public @NonNull List<DynamicPreset<T>> getPresets() {
+        return mPresets.getCurrentList();
+    }
+
+    /**
+     * Submit the parsed theme presets for this adapter.
+     * <p>Only the changed presets will be updated after calculating the difference
+     * in background.
+     *
+     * @param presets The parsed theme presets to be submitted.
+     */
+    public void submitPresets(@Nullable List<DynamicPreset<T>> presets) {
+        mPresets.submitList(presets);
     }
 
     /**
      * Sets the theme presets for this adapter.
+     * <p>Themes will be parsed on the calling thread, use
+     * {@link #submitPresets(List)} to supply the presets parsed in background.
      *
      * @param presets The theme presets to be set.
+     *
+     * @see #getPresets(Cursor, DynamicPresetsView.DynamicPresetsListener)
      */
     public void setPresets(@Nullable Cursor presets) {
-        mPresets = presets;
-
-        notifyDataSetChanged();
+        submitPresets(presets != null ? getPresets(presets, mDynamicPresetsListener) : null);
     }
 
     /**
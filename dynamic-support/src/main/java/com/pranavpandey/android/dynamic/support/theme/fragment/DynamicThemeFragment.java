@@ -602,6 +602,11 @@ public class DynamicThemeFragment extends ThemeFragment<DynamicAppTheme> {
         return mThemePreview.getDynamicTheme();
     }
 
+    @Override
+    protected @Nullable DynamicAppTheme onParseTheme(@NonNull String theme) {
+        return new DynamicAppTheme(theme);
+    }
+
     @Override
     protected void loadTheme(@NonNull DynamicAppTheme theme) {
         if (!mSettingsChanged) {
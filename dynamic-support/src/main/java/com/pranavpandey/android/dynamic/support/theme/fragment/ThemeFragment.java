@@ -17,9 +17,14 @@
 package com.pranavpandey.android.dynamic.support.theme.fragment;
 
 import android.app.Activity;
+import android.content.Context;
 import android.content.DialogInterface;
 import android.content.Intent;
+import android.graphics.Bitmap;
 import android.net.Uri;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
 import android.view.Menu;
 import android.view.MenuInflater;
 import android.view.MenuItem;
@@ -36,13 +41,24 @@ import com.pranavpandey.android.dynamic.support.model.DynamicAppTheme;
 import com.pranavpandey.android.dynamic.support.theme.dialog.DynamicThemeDialog;
 import com.pranavpandey.android.dynamic.support.theme.view.ThemePreview;
 import com.pranavpandey.android.dynamic.support.utils.DynamicMenuUtils;
+import com.pranavpandey.android.dynamic.support.utils.DynamicTaskUtils;
 import com.pranavpandey.android.dynamic.theme.Theme;
 import com.pranavpandey.android.dynamic.theme.utils.DynamicThemeUtils;
 import com.pranavpandey.android.dynamic.utils.DynamicFileUtils;
 import com.pranavpandey.android.dynamic.utils.DynamicLinkUtils;
 import com.pranavpandey.android.dynamic.utils.DynamicSdkUtils;
 
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Base theme fragment to provide theme editing functionality.
@@ -50,6 +66,11 @@ import java.io.File;
  */
 public abstract class ThemeFragment<T extends DynamicAppTheme> extends DynamicFragment {
 
+    /**
+     * Tag to log the failed theme tasks.
+     */
+    private static final String TAG = "ThemeFragment";
+
     /**
      *  Name of the theme preview used for activity scene transitions.
      */
@@ -75,6 +96,23 @@ public abstract class ThemeFragment<T extends DynamicAppTheme> extends DynamicFr
      */
     protected static final int REQUEST_THEME_IMPORT = 1;
 
+    /**
+     * Default maximum length of the theme string to be imported.
+     * <p>A theme string is usually less than a few kilobytes so, anything larger than this
+     * will be rejected without parsing it.
+     */
+    public static final int ADS_THEME_MAX_LENGTH = 16384;
+
+    /**
+     * Size of the buffer to read the theme file.
+     */
+    private static final int ADS_THEME_BUFFER_SIZE = 1024;
+
+    /**
+     * Extension of the theme preview file.
+     */
+    private static final String ADS_EXTENSION_PNG = ".png";
+
     /**
      * Dynamic app theme used by this fragment.
      */
@@ -100,11 +138,38 @@ public abstract class ThemeFragment<T extends DynamicAppTheme> extends DynamicFr
      */
     protected ThemePreview<T> mThemePreview;
 
+    /**
+     * Handler to deliver the results of the theme tasks on the main thread.
+     */
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+
+    /**
+     * Theme task running in background.
+     */
+    private ThemeTask<?> mThemeTask;
+
+    /**
+     * Import to be executed after the running theme task has been finished.
+     */
+    private Runnable mPendingImport;
+
     @Override
     public void onPrepareOptionsMenu(@NonNull Menu menu) {
         super.onPrepareOptionsMenu(menu);
 
         DynamicMenuUtils.forceMenuIcons(menu);
+
+        boolean enabled = !isThemeTaskRunning();
+        setMenuItemEnabled(menu, R.id.ads_menu_theme_share, enabled);
+        setMenuItemEnabled(menu, R.id.ads_menu_theme_import, enabled);
+        setMenuItemEnabled(menu, R.id.ads_menu_theme_file, enabled);
+    }
+
+    @Override
+    public void onDestroy() {
+        cancelThemeTask();
+
+        super.onDestroy();
     }
 
     @Override
@@ -130,31 +195,35 @@ public abstract class ThemeFragment<T extends DynamicAppTheme> extends DynamicFr
 
             getDynamicActivity().getSnackBar(R.string.ads_theme_copy_done).show();
         } else if (i == R.id.ads_menu_theme_share) {
-            onSetActionIcon(false);
-            DynamicLinkUtils.share(requireContext(),
-                    getSubtitle() != null ? getSubtitle().toString() : null,
-                    DynamicThemeUtils.getThemeUrl(mThemePreview.getDynamicTheme()),
-                    DynamicFileUtils.getBitmapUri(requireContext(),
-                            DynamicThemeUtils.createThemeBitmap(mThemePreview),
-                            Theme.Key.SHARE));
-            onSetActionIcon(true);
+            shareTheme(false);
         } else if (i == R.id.ads_menu_theme_import) {
             importTheme(false);
         } else if (i == R.id.ads_menu_theme_file_save) {
-            mThemeExported = DynamicThemeUtils.requestThemeFile(requireContext(),
-                    Theme.NAME, mThemePreview.getDynamicTheme().toDynamicString());
-            startActivityForResult(DynamicFileUtils.getSaveToFileIntent(requireContext(),
-                    mThemeExported, Theme.MIME), REQUEST_THEME_LOCATION);
+            final String theme = mThemePreview.getDynamicTheme().toDynamicString();
+
+            executeThemeTask(new ThemeTask<File>() {
+                @Override
+                protected @Nullable File doInBackground(@NonNull Context context) {
+                    return DynamicThemeUtils.requestThemeFile(context, Theme.NAME, theme);
+                }
+
+                @Override
+                protected void onPostExecute(@Nullable File result) {
+                    mThemeExported = result;
+
+                    if (mThemeExported == null) {
+                        getDynamicActivity().getSnackBar(
+                                R.string.ads_theme_export_error).show();
+                        return;
+                    }
+
+                    startActivityForResult(DynamicFileUtils.getSaveToFileIntent(
+                            requireContext(), mThemeExported, Theme.MIME),
+                            REQUEST_THEME_LOCATION);
+                }
+            });
         } else if (i == R.id.ads_menu_theme_file_share) {
-            onSetActionIcon(false);
-            DynamicLinkUtils.share(requireContext(),
-                    getSubtitle() != null ? getSubtitle().toString() : null,
-                    DynamicThemeUtils.getThemeUrl(mThemePreview.getDynamicTheme()),
-                    DynamicFileUtils.getUriFromFile(requireContext(),
-                            DynamicThemeUtils.requestThemeFile(requireContext(), Theme.NAME,
-                                    mThemePreview.getDynamicTheme().toDynamicString())),
-                    Theme.MIME);
-            onSetActionIcon(true);
+            shareTheme(true);
         } else if (i == R.id.ads_menu_theme_file_import) {
             importTheme(true);
         } else if (i == R.id.ads_menu_refresh) {
@@ -180,22 +249,35 @@ public abstract class ThemeFragment<T extends DynamicAppTheme> extends DynamicFr
             switch (requestCode) {
                 case REQUEST_THEME_LOCATION:
                     if (uri != null) {
-                        if (DynamicFileUtils.writeToFile(requireContext(),
-                                DynamicFileUtils.getUriFromFile(
-                                        requireContext(), mThemeExported), uri)) {
-                            getDynamicActivity().getSnackBar(String.format(getString(
-                                    R.string.ads_theme_format_saved), DynamicFileUtils
-                                    .getFileNameFromUri(requireContext(), uri))).show();
-                        } else {
-                            getDynamicActivity().getSnackBar(
-                                    R.string.ads_theme_export_error).show();
-                        }
+                        final Uri location = uri;
+                        final File file = mThemeExported;
+
+                        executeThemeTask(new ThemeTask<Boolean>() {
+                            @Override
+                            protected @Nullable Boolean doInBackground(
+                                    @NonNull Context context) {
+                                return file != null && DynamicFileUtils.writeToFile(context,
+                                        DynamicFileUtils.getUriFromFile(context, file), location);
+                            }
+
+                            @Override
+                            protected void onPostExecute(@Nullable Boolean result) {
+                                if (result != null && result) {
+                                    getDynamicActivity().getSnackBar(String.format(getString(
+                                            R.string.ads_theme_format_saved), DynamicFileUtils
+                                            .getFileNameFromUri(requireContext(), location)))
+                                            .show();
+                                } else {
+                                    getDynamicActivity().getSnackBar(
+                                            R.string.ads_theme_export_error).show();
+                                }
+                            }
+                        });
                     }
                     break;
                 case REQUEST_THEME_IMPORT:
                     if (uri != null) {
-                        importTheme(DynamicFileUtils.readStringFromFile(
-                                requireContext(), uri), true);
+                        importTheme(uri);
                     }
                     break;
             }
@@ -204,11 +286,31 @@ public abstract class ThemeFragment<T extends DynamicAppTheme> extends DynamicFr
 
     /**
      * This method will be called when importing the theme from a string or file.
+     * <p>It will be called on the main thread if the theme has not been parsed in
+     * background by {@link #onParseTheme(String)}.
      *
      * @param theme The theme string to be imported.
      */
     protected abstract @NonNull T onImportTheme(@NonNull String theme);
 
+    /**
+     * This method will be called on a background thread to parse the theme string after
+     * validating it.
+     * <p>Do not perform any UI related operation or access any view here. Override it to
+     * avoid parsing the theme on the main thread, an exception can be thrown to reject the
+     * theme string.
+     *
+     * @param theme The theme string to be parsed.
+     *
+     * @return The parsed theme.
+     *         <p>{@code null} to import it on the main thread via {@link #onImportTheme(String)}.
+     *
+     * @throws Exception If the theme string cannot be parsed.
+     */
+    protected @Nullable T onParseTheme(@NonNull String theme) throws Exception {
+        return null;
+    }
+
     /**
      * Update settings according to the supplied theme.
      *
@@ -233,6 +335,185 @@ public abstract class ThemeFragment<T extends DynamicAppTheme> extends DynamicFr
         return mThemePreview;
     }
 
+    /**
+     * Share the theme along with its preview or file.
+     * <p>The preview will be drawn on the main thread and it will be compressed and streamed
+     * into a file in background.
+     *
+     * @param file {@code true} to share the theme file instead of the preview.
+     */
+    protected void shareTheme(final boolean file) {
+        if (isThemeTaskRunning()) {
+            return;
+        }
+
+        final String subject = getSubtitle() != null ? getSubtitle().toString() : null;
+        final String url = DynamicThemeUtils.getThemeUrl(mThemePreview.getDynamicTheme());
+        final String theme = file ? mThemePreview.getDynamicTheme().toDynamicString() : null;
+        final Bitmap bitmap;
+
+        if (file) {
+            bitmap = null;
+        } else {
+            onSetActionIcon(false);
+            bitmap = DynamicThemeUtils.createThemeBitmap(mThemePreview);
+            onSetActionIcon(true);
+        }
+
+        executeThemeTask(new ThemeTask<Uri>() {
+            @Override
+            protected @Nullable Uri doInBackground(@NonNull Context context) {
+                if (theme != null) {
+                    return DynamicFileUtils.getUriFromFile(context,
+                            DynamicThemeUtils.requestThemeFile(context, Theme.NAME, theme));
+                }
+
+                return bitmap != null ? writeThemeBitmap(context, bitmap, Theme.Key.SHARE) : null;
+            }
+
+            @Override
+            protected void onPostExecute(@Nullable Uri result) {
+                if (file) {
+                    DynamicLinkUtils.share(requireContext(), subject, url, result, Theme.MIME);
+                } else {
+                    DynamicLinkUtils.share(requireContext(), subject, url, result);
+                }
+            }
+        });
+    }
+
+    /**
+     * Compress and write the theme bitmap into a temporary file to share it.
+     * <p>The bitmap will be streamed into the file so, it must be called in background.
+     *
+     * @param context The context to get the temporary directory.
+     * @param bitmap The bitmap to be written.
+     * @param name The name of the file without extension.
+     *
+     * @return The URI of the written file.
+     *         <p>{@code null} if the file cannot be written.
+     */
+    protected @Nullable Uri writeThemeBitmap(@NonNull Context context,
+            @NonNull Bitmap bitmap, @NonNull String name) {
+        final String tempDir = DynamicFileUtils.getTempDir(context);
+        if (tempDir == null) {
+            return null;
+        }
+
+        final File file = new File(tempDir, name + ADS_EXTENSION_PNG);
+        OutputStream outputStream = null;
+
+        try {
+            if (file.getParentFile() != null) {
+                file.getParentFile().mkdirs();
+            }
+
+            outputStream = new BufferedOutputStream(new FileOutputStream(file));
+            if (!bitmap.compress(Bitmap.CompressFormat.PNG, 100, outputStream)) {
+                return null;
+            }
+
+            outputStream.flush();
+            return DynamicFileUtils.getUriFromFile(context, file);
+        } catch (Exception ignored) {
+            return null;
+        } finally {
+            if (outputStream != null) {
+                try {
+                    outputStream.close();
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the executor to run the theme tasks in background.
+     *
+     * @return The executor to run the theme tasks in background.
+     */
+    protected @NonNull Executor getThemeExecutor() {
+        return DynamicTaskUtils.getDefaultExecutor();
+    }
+
+    /**
+     * Execute a theme task in background.
+     * <p>It will be ignored if a theme task is already running.
+     *
+     * @param themeTask The theme task to be executed.
+     *
+     * @return {@code true} if the theme task has been executed.
+     */
+    protected boolean executeThemeTask(@NonNull ThemeTask<?> themeTask) {
+        if (isThemeTaskRunning()) {
+            return false;
+        }
+
+        mThemeTask = themeTask;
+        onThemeTaskProgress(true);
+
+        try {
+            getThemeExecutor().execute(themeTask);
+        } catch (RejectedExecutionException e) {
+            mThemeTask = null;
+            onThemeTaskProgress(false);
+
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Cancel the theme task running in background.
+     * <p>Its result will not be delivered.
+     */
+    protected void cancelThemeTask() {
+        mPendingImport = null;
+
+        if (mThemeTask != null) {
+            mThemeTask.cancel();
+            mThemeTask = null;
+        }
+    }
+
+    /**
+     * Checks whether a theme task is running in background.
+     *
+     * @return {@code true} if a theme task is running in background.
+     */
+    public boolean isThemeTaskRunning() {
+        return mThemeTask != null;
+    }
+
+    /**
+     * This method will be called when a theme task is started or finished.
+     * <p>It will disable the theme menu while the task is running, override it to show
+     * a custom progress.
+     *
+     * @param running {@code true} if the theme task is running.
+     */
+    protected void onThemeTaskProgress(boolean running) {
+        if (getActivity() != null) {
+            requireActivity().invalidateOptionsMenu();
+        }
+    }
+
+    /**
+     * Enable or disable a menu item if it is present.
+     *
+     * @param menu The menu to find the item.
+     * @param id The id of the menu item.
+     * @param enabled {@code true} to enable the menu item.
+     */
+    private void setMenuItemEnabled(@NonNull Menu menu, int id, boolean enabled) {
+        MenuItem item = menu.findItem(id);
+
+        if (item != null) {
+            item.setEnabled(enabled);
+        }
+    }
+
     /**
      * Show dialog to import the theme.
      *
@@ -258,30 +539,193 @@ public abstract class ThemeFragment<T extends DynamicAppTheme> extends DynamicFr
         }
     }
 
+    /**
+     * Try to import the theme from the supplied file.
+     * <p>It will be read and validated in background and will be rejected as soon as it
+     * exceeds the {@link #getThemeMaxLength()}.
+     *
+     * @see #onParseTheme(String)
+     *
+     * @param uri The URI of the file to be imported.
+     */
+    protected void importTheme(@NonNull final Uri uri) {
+        final int maxLength = getThemeMaxLength();
+
+        importTheme(new ImportTask(true) {
+            @Override
+            protected @Nullable String onReadTheme(@NonNull Context context)
+                    throws Exception {
+                return validateTheme(readTheme(context, uri, maxLength), maxLength);
+            }
+        });
+    }
+
     /**
      * Try to import the supplied theme string.
+     * <p>It will be validated in background and will be rejected without parsing if it
+     * exceeds the {@link #getThemeMaxLength()}.
+     *
+     * @see #onParseTheme(String)
      *
      * @param theme The theme string to be imported.
      * @param file {@code true} if importing from the file.
      **/
-    protected void importTheme(@Nullable String theme, boolean file) {
-        if (theme == null || !DynamicThemeUtils.isValidTheme(theme)) {
+    protected void importTheme(@Nullable final String theme, final boolean file) {
+        final int maxLength = getThemeMaxLength();
+
+        if (theme == null || theme.length() > maxLength) {
             invalidTheme(file);
-        } else {
-            try {
-                mSettingsChanged = false;
-                loadTheme(onImportTheme(theme));
-
-                getDynamicActivity().getSnackBar(
-                        R.string.ads_theme_import_done).show();
-                getDynamicActivity().setBottomSheetState(
-                        BottomSheetBehavior.STATE_EXPANDED);
-            } catch (Exception ignored) {
-                invalidTheme(file);
+            return;
+        }
+
+        importTheme(new ImportTask(file) {
+            @Override
+            protected @Nullable String onReadTheme(@NonNull Context context) {
+                return validateTheme(theme, maxLength);
             }
+        });
+    }
+
+    /**
+     * Execute the task to import the theme.
+     * <p>It will be executed after the running theme task if there is any, only the latest
+     * import will be kept in that case.
+     *
+     * @param themeTask The task to import the theme.
+     */
+    private void importTheme(@NonNull final ImportTask themeTask) {
+        if (isThemeTaskRunning()) {
+            mPendingImport = new Runnable() {
+                @Override
+                public void run() {
+                    importTheme(themeTask);
+                }
+            };
+
+            return;
+        }
+
+        if (!executeThemeTask(themeTask)) {
+            invalidTheme(themeTask.mFile);
         }
     }
 
+    /**
+     * Execute the import which has been requested while a theme task was running.
+     */
+    private void executePendingImport() {
+        if (mPendingImport == null || isThemeTaskRunning()) {
+            return;
+        }
+
+        Runnable pendingImport = mPendingImport;
+        mPendingImport = null;
+        pendingImport.run();
+    }
+
+    /**
+     * Read the theme string from the supplied file.
+     * <p>It must be called on a background thread.
+     *
+     * @param context The context to get the content resolver.
+     * @param uri The URI of the file to be read.
+     * @param maxLength The maximum length of the theme string.
+     *
+     * @return The theme string from the supplied file.
+     *         <p>{@code null} if it cannot be read or exceeds the maximum length.
+     *
+     * @throws IOException If the file cannot be read.
+     */
+    protected @Nullable String readTheme(@NonNull Context context,
+            @NonNull Uri uri, int maxLength) throws IOException {
+        InputStream inputStream = context.getContentResolver().openInputStream(uri);
+        if (inputStream == null) {
+            return null;
+        }
+
+        Reader reader;
+        try {
+            reader = new BufferedReader(new InputStreamReader(inputStream, "UTF-8"));
+        } catch (IOException e) {
+            inputStream.close();
+            throw e;
+        }
+
+        try {
+            StringBuilder theme = new StringBuilder();
+            char[] buffer = new char[ADS_THEME_BUFFER_SIZE];
+            int count;
+
+            while ((count = reader.read(buffer)) != -1) {
+                theme.append(buffer, 0, count);
+
+                if (theme.length() > maxLength) {
+                    return null;
+                }
+            }
+
+            return theme.toString();
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Validate the supplied theme string.
+     * <p>It must be called on a background thread.
+     *
+     * @param theme The theme string to be validated.
+     * @param maxLength The maximum length of the theme string.
+     *
+     * @return The validated theme string.
+     *         <p>{@code null} if the theme string is not valid.
+     */
+    protected @Nullable String validateTheme(@Nullable String theme, int maxLength) {
+        if (theme == null || theme.length() > maxLength
+                || !DynamicThemeUtils.isValidTheme(theme)) {
+            return null;
+        }
+
+        return theme;
+    }
+
+    /**
+     * This method will be called on the main thread after importing the theme.
+     *
+     * @param theme The imported theme.
+     *              <p>{@code null} if the theme is not valid.
+     * @param file {@code true} if imported from the file.
+     */
+    protected void onThemeImported(@Nullable T theme, boolean file) {
+        if (theme == null) {
+            invalidTheme(file);
+            return;
+        }
+
+        try {
+            mSettingsChanged = false;
+            loadTheme(theme);
+
+            getDynamicActivity().getSnackBar(
+                    R.string.ads_theme_import_done).show();
+            getDynamicActivity().setBottomSheetState(
+                    BottomSheetBehavior.STATE_EXPANDED);
+        } catch (Exception ignored) {
+            invalidTheme(file);
+        }
+    }
+
+    /**
+     * Returns the maximum length of the theme string to be imported.
+     *
+     * @return The maximum length of the theme string to be imported.
+     *
+     * @see #ADS_THEME_MAX_LENGTH
+     */
+    protected int getThemeMaxLength() {
+        return ADS_THEME_MAX_LENGTH;
+    }
+
     /**
      * Show dialog for the invalid theme.
      *
@@ -314,4 +758,161 @@ public abstract class ThemeFragment<T extends DynamicAppTheme> extends DynamicFr
 
         finishActivity();
     }
+
+    /**
+     * A task to perform the theme operations in background and deliver the result on
+     * the main thread if it is not cancelled and the fragment is still added.
+     *
+     * @param <V> The type of the result.
+     */
+    protected abstract class ThemeTask<V> implements Runnable {
+
+        /**
+         * Application context to perform the operations in background.
+         */
+        private final Context mContext;
+
+        /**
+         * {@code true} if this task has been cancelled.
+         */
+        private volatile boolean mCancelled;
+
+        /**
+         * Constructor to initialize an object of this class.
+         */
+        public ThemeTask() {
+            this.mContext = requireContext().getApplicationContext();
+        }
+
+        /**
+         * This method will be called in background to perform the operation.
+         *
+         * @param context The application context to perform the operation.
+         *
+         * @return The result of the operation.
+         *
+         * @throws Exception If the operation cannot be performed.
+         */
+        protected abstract @Nullable V doInBackground(@NonNull Context context)
+                throws Exception;
+
+        /**
+         * This method will be called on the main thread after performing the operation.
+         *
+         * @param result The result of the operation.
+         */
+        protected abstract void onPostExecute(@Nullable V result);
+
+        /**
+         * Cancel this task.
+         */
+        public void cancel() {
+            mCancelled = true;
+        }
+
+        /**
+         * Checks whether this task has been cancelled.
+         *
+         * @return {@code true} if this task has been cancelled.
+         */
+        public boolean isCancelled() {
+            return mCancelled;
+        }
+
+        @Override
+        public void run() {
+            V result = null;
+
+            try {
+                if (!mCancelled) {
+                    result = doInBackground(mContext);
+                }
+            } catch (Exception e) {
+                Log.w(TAG, "Unable to perform the theme task.", e);
+            }
+
+            final V finalResult = result;
+            mHandler.post(new Runnable() {
+                @Override
+                public void run() {
+                    if (mCancelled) {
+                        return;
+                    }
+
+                    if (mThemeTask == ThemeTask.this) {
+                        mThemeTask = null;
+                        onThemeTaskProgress(false);
+                    }
+
+                    if (!isAdded()) {
+                        return;
+                    }
+
+                    onPostExecute(finalResult);
+                    executePendingImport();
+                }
+            });
+        }
+    }
+
+    /**
+     * A task to validate and parse the theme string in background and deliver the imported
+     * theme on the main thread.
+     */
+    private abstract class ImportTask extends ThemeTask<String> {
+
+        /**
+         * {@code true} if importing from the file.
+         */
+        private final boolean mFile;
+
+        /**
+         * Theme parsed in background.
+         */
+        private T mTheme;
+
+        /**
+         * Constructor to initialize an object of this class.
+         *
+         * @param file {@code true} if importing from the file.
+         */
+        ImportTask(boolean file) {
+            this.mFile = file;
+        }
+
+        /**
+         * This method will be called in background to read and validate the theme string.
+         *
+         * @param context The application context to read the theme.
+         *
+         * @return The validated theme string.
+         *         <p>{@code null} if the theme string is not valid.
+         *
+         * @throws Exception If the theme string cannot be read.
+         */
+        protected abstract @Nullable String onReadTheme(@NonNull Context context)
+                throws Exception;
+
+        @Override
+        protected @Nullable String doInBackground(@NonNull Context context) throws Exception {
+            final String theme = onReadTheme(context);
+            if (theme != null) {
+                mTheme = onParseTheme(theme);
+            }
+
+            return theme;
+        }
+
+        @Override
+        protected void onPostExecute(@Nullable String result) {
+            if (result != null && mTheme == null) {
+                try {
+                    mTheme = onImportTheme(result);
+                } catch (Exception ignored) {
+                }
+            }
+
+            onThemeImported(result != null ? mTheme : null, mFile);
+        }
+    }
 }
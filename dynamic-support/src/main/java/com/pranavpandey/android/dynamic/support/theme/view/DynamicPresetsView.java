@@ -17,6 +17,7 @@
 package com.pranavpandey.android.dynamic.support.theme.view;
 
 import android.content.Context;
+import android.database.ContentObserver;
 import android.database.Cursor;
 import android.os.Bundle;
 import android.util.AttributeSet;
@@ -33,13 +34,14 @@ import androidx.lifecycle.LifecycleObserver;
 import androidx.lifecycle.OnLifecycleEvent;
 import androidx.lifecycle.ViewModelStoreOwner;
 import androidx.loader.app.LoaderManager;
-import androidx.loader.content.CursorLoader;
+import androidx.loader.content.AsyncTaskLoader;
 import androidx.loader.content.Loader;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.pranavpandey.android.dynamic.support.R;
 import com.pranavpandey.android.dynamic.support.model.DynamicAppTheme;
+import com.pranavpandey.android.dynamic.support.model.DynamicPreset;
 import com.pranavpandey.android.dynamic.support.permission.DynamicPermissions;
 import com.pranavpandey.android.dynamic.support.recyclerview.DynamicRecyclerViewNested;
 import com.pranavpandey.android.dynamic.support.theme.adapter.DynamicPresetsAdapter;
@@ -53,6 +55,8 @@ import com.pranavpandey.android.dynamic.theme.utils.DynamicThemeUtils;
 import com.pranavpandey.android.dynamic.utils.DynamicLinkUtils;
 import com.pranavpandey.android.dynamic.utils.DynamicPackageUtils;
 
+import java.util.List;
+
 /**
  * A recycler view frame layout to show the theme presets.
  */
@@ -73,6 +77,8 @@ public class DynamicPresetsView<T extends DynamicAppTheme>
 
         /**
          * This method will be called while creating the dynamic theme.
+         * <p>It will be called on the loader thread while loading the presets in background
+         * so, do not perform any UI related operation or access any view here.
          *
          * @param theme The dynamic theme string associated with the clicked preset.
          *
@@ -215,6 +221,7 @@ public class DynamicPresetsView<T extends DynamicAppTheme>
         loadPresets();
     }
 
+    @SuppressWarnings("unchecked")
     @OnLifecycleEvent(Lifecycle.Event.ON_RESUME)
     public void loadPresets() {
         if (isPackageExists()) {
@@ -230,8 +237,14 @@ public class DynamicPresetsView<T extends DynamicAppTheme>
         }
 
         if (mLifecycleOwner != null && isPermissionGranted()) {
-            LoaderManager.getInstance(mLifecycleOwner).initLoader(
-                    ADS_LOADER_PRESETS, null, mLoaderCallbacks).forceLoad();
+            Loader<List<DynamicPreset<T>>> loader = LoaderManager.getInstance(mLifecycleOwner)
+                    .initLoader(ADS_LOADER_PRESETS, null, mLoaderCallbacks);
+
+            if (loader instanceof PresetsLoader) {
+                ((PresetsLoader<T>) loader).setDynamicPresetsListener(mDynamicPresetsListener);
+            }
+
+            loader.forceLoad();
         }
     }
 
@@ -320,16 +333,15 @@ public class DynamicPresetsView<T extends DynamicAppTheme>
     /**
      * Loader manager to callbacks to query presets from the theme provider.
      */
-    private LoaderManager.LoaderCallbacks<Cursor> mLoaderCallbacks =
-            new LoaderManager.LoaderCallbacks<Cursor>() {
+    private LoaderManager.LoaderCallbacks<List<DynamicPreset<T>>> mLoaderCallbacks =
+            new LoaderManager.LoaderCallbacks<List<DynamicPreset<T>>>() {
                 @Override
-                public Loader<Cursor> onCreateLoader(int id, @Nullable Bundle args) {
+                public @NonNull Loader<List<DynamicPreset<T>>> onCreateLoader(
+                        int id, @Nullable Bundle args) {
                     if (id == ADS_LOADER_PRESETS) {
                         if (isPermissionGranted()) {
-                            return new CursorLoader(getContext().getApplicationContext(),
-                                    ThemeContract.Preset.CONTENT_URI,
-                                    new String[] { ThemeContract.Preset.Column.THEME },
-                                    null, null, null);
+                            return new PresetsLoader<>(getContext().getApplicationContext(),
+                                    mDynamicPresetsListener);
                         } else {
                             return new Loader<>(getContext().getApplicationContext());
                         }
@@ -339,22 +351,151 @@ public class DynamicPresetsView<T extends DynamicAppTheme>
                 }
 
                 @Override
-                public void onLoadFinished(@NonNull Loader<Cursor> loader, Cursor data) {
+                public void onLoadFinished(@NonNull Loader<List<DynamicPreset<T>>> loader,
+                        @Nullable List<DynamicPreset<T>> data) {
                     if (loader.getId() == ADS_LOADER_PRESETS) {
                         if (data != null) {
-                            mPresetsAdapter.setPresets(data);
+                            mPresetsAdapter.submitPresets(data);
                         }
 
-                        setPresetsVisible(data != null && data.getCount() > 0);
+                        setPresetsVisible(data != null && !data.isEmpty());
                     }
                 }
 
                 @Override
-                public void onLoaderReset(@NonNull Loader<Cursor> loader) {
+                public void onLoaderReset(@NonNull Loader<List<DynamicPreset<T>>> loader) {
                     if (loader.getId() == ADS_LOADER_PRESETS) {
-                        mPresetsAdapter.setPresets(null);
+                        mPresetsAdapter.submitPresets(null);
                         setPresetsVisible(false);
                     }
                 }
             };
+
+    /**
+     * Loader to query the presets from the theme provider and parse them in background.
+     * <p>It will be reloaded whenever the presets are changed in the theme provider.
+     *
+     * @param <T> The type of the dynamic app theme.
+     */
+    static class PresetsLoader<T extends DynamicAppTheme>
+            extends AsyncTaskLoader<List<DynamicPreset<T>>> {
+
+        /**
+         * Observer to reload the presets on changing the theme provider.
+         */
+        private final ContentObserver mObserver;
+
+        /**
+         * Listener to parse the dynamic themes.
+         */
+        private volatile DynamicPresetsListener<T> mDynamicPresetsListener;
+
+        /**
+         * {@code true} if the observer has been registered.
+         */
+        private boolean mObserving;
+
+        /**
+         * Presets loaded by this loader.
+         */
+        private List<DynamicPreset<T>> mPresets;
+
+        /**
+         * Constructor to initialize an object of this class.
+         *
+         * @param context The context to query the theme provider.
+         * @param dynamicPresetsListener The listener to parse the dynamic themes.
+         */
+        PresetsLoader(@NonNull Context context,
+                @Nullable DynamicPresetsListener<T> dynamicPresetsListener) {
+            super(context);
+
+            this.mObserver = new ForceLoadContentObserver();
+            this.mDynamicPresetsListener = dynamicPresetsListener;
+        }
+
+        /**
+         * Sets the listener to parse the dynamic themes.
+         * <p>It should be updated whenever the owner is recreated as this loader will be
+         * retained across the configuration changes.
+         *
+         * @param dynamicPresetsListener The listener to be set.
+         */
+        void setDynamicPresetsListener(
+                @Nullable DynamicPresetsListener<T> dynamicPresetsListener) {
+            this.mDynamicPresetsListener = dynamicPresetsListener;
+        }
+
+        @Override
+        public @Nullable List<DynamicPreset<T>> loadInBackground() {
+            Cursor cursor = null;
+
+            try {
+                cursor = getContext().getContentResolver().query(
+                        ThemeContract.Preset.CONTENT_URI,
+                        new String[] { ThemeContract.Preset.Column.THEME },
+                        null, null, null);
+
+                return cursor != null && !isLoadInBackgroundCanceled()
+                        ? DynamicPresetsAdapter.getPresets(cursor, mDynamicPresetsListener)
+                        : null;
+            } catch (Exception ignored) {
+                return null;
+            } finally {
+                if (cursor != null) {
+                    cursor.close();
+                }
+            }
+        }
+
+        @Override
+        public void deliverResult(@Nullable List<DynamicPreset<T>> data) {
+            if (isReset()) {
+                return;
+            }
+
+            mPresets = data;
+
+            if (isStarted()) {
+                super.deliverResult(data);
+            }
+        }
+
+        @Override
+        protected void onStartLoading() {
+            if (!mObserving) {
+                try {
+                    getContext().getContentResolver().registerContentObserver(
+                            ThemeContract.Preset.CONTENT_URI, true, mObserver);
+                    mObserving = true;
+                } catch (Exception ignored) {
+                }
+            }
+
+            if (mPresets != null) {
+                deliverResult(mPresets);
+            }
+
+            if (takeContentChanged() || mPresets == null) {
+                forceLoad();
+            }
+        }
+
+        @Override
+        protected void onStopLoading() {
+            cancelLoad();
+        }
+
+        @Override
+        protected void onReset() {
+            super.onReset();
+
+            onStopLoading();
+            if (mObserving) {
+                getContext().getContentResolver().unregisterContentObserver(mObserver);
+                mObserving = false;
+            }
+            mPresets = null;
+        }
+    }
 }
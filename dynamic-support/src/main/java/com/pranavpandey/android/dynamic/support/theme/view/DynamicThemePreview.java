@@ -17,12 +17,14 @@
 package com.pranavpandey.android.dynamic.support.theme.view;
 
 import android.content.Context;
+import android.content.res.ColorStateList;
 import android.graphics.Color;
 import android.graphics.RadialGradient;
 import android.graphics.Shader;
 import android.graphics.drawable.ShapeDrawable;
 import android.graphics.drawable.shapes.RectShape;
 import android.util.AttributeSet;
+import android.util.LruCache;
 import android.view.ViewGroup;
 import android.widget.ImageView;
 
@@ -37,6 +39,7 @@ import com.google.android.material.shape.ShapeAppearanceModel;
 import com.pranavpandey.android.dynamic.locale.DynamicLocaleUtils;
 import com.pranavpandey.android.dynamic.support.R;
 import com.pranavpandey.android.dynamic.support.model.DynamicAppTheme;
+import com.pranavpandey.android.dynamic.support.model.DynamicThemeSnapshot;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
 import com.pranavpandey.android.dynamic.support.utils.DynamicShapeUtils;
 import com.pranavpandey.android.dynamic.support.widget.Dynamic;
@@ -48,9 +51,22 @@ import com.pranavpandey.android.dynamic.utils.DynamicSdkUtils;
 
 /**
  * A ThemePreview to show the dynamic app theme preview according to the selected values.
+ * <p>Drawables will be reused and the preview will not be updated if the theme values
+ * are not changed so that it can be bound cheaply in a list.
  */
 public class DynamicThemePreview extends ThemePreview<DynamicAppTheme> {
 
+    /**
+     * Maximum count of the background gradients to be cached.
+     */
+    private static final int ADS_GRADIENT_CACHE_SIZE = 32;
+
+    /**
+     * Cache of the background gradients shared by all the previews.
+     */
+    private static final LruCache<GradientKey, Shader> sGradients =
+            new LruCache<>(ADS_GRADIENT_CACHE_SIZE);
+
     /**
      * Background image view used by this preview.
      */
@@ -131,6 +147,56 @@ public class DynamicThemePreview extends ThemePreview<DynamicAppTheme> {
      */
     private FloatingActionButton mFAB;
 
+    /**
+     * Snapshot of the theme used for the last update.
+     */
+    private DynamicThemeSnapshot mSnapshot;
+
+    /**
+     * {@code true} if the last update was for the right-to-left layout.
+     */
+    private boolean mSnapshotRtl;
+
+    /**
+     * {@code true} if the last update was for the auto background color.
+     */
+    private boolean mSnapshotAuto;
+
+    /**
+     * Corner size in dip used to create the drawables.
+     */
+    private float mCornerSize;
+
+    /**
+     * {@code true} if the drawables were created for the right-to-left layout.
+     */
+    private boolean mLayoutRtl;
+
+    /**
+     * Background drawable used by this preview.
+     */
+    private MaterialShapeDrawable mBackgroundDrawable;
+
+    /**
+     * Status bar drawable used by this preview.
+     */
+    private MaterialShapeDrawable mStatusBarDrawable;
+
+    /**
+     * Surface drawable used by this preview.
+     */
+    private MaterialShapeDrawable mSurfaceDrawable;
+
+    /**
+     * Content gradient drawable used by this preview.
+     */
+    private ShapeDrawable mGradientDrawable;
+
+    /**
+     * Runnable to update the content gradient after the layout.
+     */
+    private Runnable mGradientRunnable;
+
     public DynamicThemePreview(@NonNull Context context) {
         this(context, null);
     }
@@ -183,43 +249,17 @@ public class DynamicThemePreview extends ThemePreview<DynamicAppTheme> {
 
     @Override
     protected void onUpdate() {
-        MaterialShapeDrawable background = (MaterialShapeDrawable)
-                DynamicShapeUtils.getCornerDrawable(getDynamicTheme().getCornerSizeDp(),
-                        getDynamicTheme().getBackgroundColor(), false);
-        background.setStroke(WidgetDefaults.ADS_STROKE_WIDTH, DynamicColorUtils.setAlpha(
-                DynamicColorUtils.getTintColor(getDynamicTheme().getBackgroundColor()),
-                WidgetDefaults.ADS_STROKE_ALPHA));
-        mBackground.setImageDrawable(background);
-        DynamicDrawableUtils.setBackground(mStatusBar,
-                DynamicShapeUtils.getCornerDrawable(
-                        getDynamicTheme().getCornerSizeDp(),
-                        getDynamicTheme().getPrimaryColorDark(), false, true));
-        mHeader.setBackgroundColor(getDynamicTheme().getPrimaryColor());
-
-        MaterialShapeDrawable drawable = (MaterialShapeDrawable)
-                DynamicShapeUtils.getCornerDrawable(
-                        getDynamicTheme().getCornerSizeDp(),
-                        getDynamicTheme().getSurfaceColor(), false, true);
-        ShapeAppearanceModel shapeAppearanceModel = new ShapeAppearanceModel();
-        if (DynamicLocaleUtils.isLayoutRtl()) {
-            shapeAppearanceModel = shapeAppearanceModel.toBuilder().setBottomRightCornerSize(
-                    drawable.getShapeAppearanceModel().getTopLeftCornerSize()).build();
-        } else {
-            shapeAppearanceModel = shapeAppearanceModel.toBuilder().setBottomLeftCornerSize(
-                    drawable.getShapeAppearanceModel().getTopLeftCornerSize()).build();
+        DynamicThemeSnapshot snapshot = DynamicThemeSnapshot.of(getDynamicTheme());
+        boolean layoutRtl = DynamicLocaleUtils.isLayoutRtl();
+        boolean auto = getDynamicTheme().getBackgroundColor(false) == Theme.AUTO;
+        if (snapshot == mSnapshot && layoutRtl == mSnapshotRtl && auto == mSnapshotAuto) {
+            return;
         }
-        drawable.setShapeAppearanceModel(shapeAppearanceModel);
 
-        if (DynamicSdkUtils.is16()
-                && DynamicColorUtils.removeAlpha(getDynamicTheme().getSurfaceColor())
-                == DynamicColorUtils.removeAlpha(getDynamicTheme().getBackgroundColor())
-                && Color.alpha(getDynamicTheme().getSurfaceColor())
-                < WidgetDefaults.ADS_ALPHA_SURFACE_STROKE) {
-            drawable.setStroke(WidgetDefaults.ADS_STROKE_WIDTH,
-                    getDynamicTheme().getTintBackgroundColor());
-        }
-
-        DynamicDrawableUtils.setBackground(mSurface, drawable);
+        mSnapshot = snapshot;
+        mSnapshotRtl = layoutRtl;
+        mSnapshotAuto = auto;
+        updateDrawables();
 
         if (getDynamicTheme().getCornerSizeDp() < WidgetDefaults.ADS_CORNER_MIN_THEME) {
             mHeaderTitle.setImageResource(R.drawable.ads_theme_overlay);
@@ -247,7 +287,6 @@ public class DynamicThemePreview extends ThemePreview<DynamicAppTheme> {
             mTextTintBackgroundStart.setImageResource(R.drawable.ads_theme_overlay_round_start);
             mTextTintBackgroundEnd.setImageResource(R.drawable.ads_theme_overlay_round_end);
         }
-
         Dynamic.setBackgroundAware(mHeaderIcon, getDynamicTheme().getBackgroundAware());
         Dynamic.setBackgroundAware(mHeaderTitle, getDynamicTheme().getBackgroundAware());
         Dynamic.setBackgroundAware(mHeaderMenu, getDynamicTheme().getBackgroundAware());
@@ -284,27 +323,134 @@ public class DynamicThemePreview extends ThemePreview<DynamicAppTheme> {
         Dynamic.setColor(mTextTintBackgroundEnd, getDynamicTheme().getTintBackgroundColor());
         Dynamic.setColor(mFAB, getDynamicTheme().getAccentColor());
 
-        post(new Runnable() {
-            @Override
-            public void run() {
-                if (getDynamicTheme().getBackgroundColor(false) == Theme.AUTO
-                        && getMeasuredWidth() > 0 && getMeasuredHeight() > 0) {
-                    RadialGradient gradient =
-                            new RadialGradient(mContent.getMeasuredWidth() / 2f,
-                                    mContent.getMeasuredHeight() / 2f,
-                                    getMeasuredWidth() / 2f,
-                                    new int[] { DynamicTheme.getInstance().generateDarkColor(
-                                            getDynamicTheme().getTintBackgroundColor()),
-                                            getDynamicTheme().getBackgroundColor() },
-                                    null, Shader.TileMode.CLAMP);
-                    ShapeDrawable shape = new ShapeDrawable(new RectShape());
-                    shape.getPaint().setShader(gradient);
-                    DynamicDrawableUtils.setBackground(mContent, shape);
-                } else {
-                    DynamicDrawableUtils.setBackground(mContent, null);
-                }
+        if (getMeasuredWidth() > 0 && getMeasuredHeight() > 0) {
+            updateGradient();
+        } else {
+            if (mGradientRunnable == null) {
+                mGradientRunnable = new Runnable() {
+                    @Override
+                    public void run() {
+                        updateGradient();
+                    }
+                };
             }
-        });
+
+            removeCallbacks(mGradientRunnable);
+            post(mGradientRunnable);
+        }
+    }
+
+    @Override
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        super.onSizeChanged(w, h, oldw, oldh);
+
+        if (mSnapshot != null) {
+            updateGradient();
+        }
+    }
+
+    /**
+     * Update the background, status bar and surface drawables according to the theme.
+     * <p>Drawables will be created again only if the corner size or layout direction
+     * has been changed.
+     */
+    private void updateDrawables() {
+        float cornerSize = getDynamicTheme().getCornerSizeDp();
+        boolean layoutRtl = DynamicLocaleUtils.isLayoutRtl();
+        boolean create = mBackgroundDrawable == null
+                || mCornerSize != cornerSize || mLayoutRtl != layoutRtl;
+        mCornerSize = cornerSize;
+        mLayoutRtl = layoutRtl;
+
+        if (create) {
+            mBackgroundDrawable = (MaterialShapeDrawable) DynamicShapeUtils.getCornerDrawable(
+                    cornerSize, getDynamicTheme().getBackgroundColor(), false);
+            mStatusBarDrawable = (MaterialShapeDrawable) DynamicShapeUtils.getCornerDrawable(
+                    cornerSize, getDynamicTheme().getPrimaryColorDark(), false, true);
+            mSurfaceDrawable = (MaterialShapeDrawable) DynamicShapeUtils.getCornerDrawable(
+                    cornerSize, getDynamicTheme().getSurfaceColor(), false, true);
+        } else {
+            mBackgroundDrawable.setFillColor(ColorStateList.valueOf(
+                    getDynamicTheme().getBackgroundColor()));
+            mStatusBarDrawable.setFillColor(ColorStateList.valueOf(
+                    getDynamicTheme().getPrimaryColorDark()));
+            mSurfaceDrawable.setFillColor(ColorStateList.valueOf(
+                    getDynamicTheme().getSurfaceColor()));
+        }
+
+        mBackgroundDrawable.setStroke(WidgetDefaults.ADS_STROKE_WIDTH,
+                DynamicColorUtils.setAlpha(DynamicColorUtils.getTintColor(
+                        getDynamicTheme().getBackgroundColor()),
+                        WidgetDefaults.ADS_STROKE_ALPHA));
+
+        ShapeAppearanceModel shapeAppearanceModel = new ShapeAppearanceModel();
+        if (create) {
+            if (layoutRtl) {
+                shapeAppearanceModel = shapeAppearanceModel.toBuilder()
+                        .setBottomRightCornerSize(mSurfaceDrawable
+                                .getShapeAppearanceModel().getTopLeftCornerSize()).build();
+            } else {
+                shapeAppearanceModel = shapeAppearanceModel.toBuilder()
+                        .setBottomLeftCornerSize(mSurfaceDrawable
+                                .getShapeAppearanceModel().getTopLeftCornerSize()).build();
+            }
+            mSurfaceDrawable.setShapeAppearanceModel(shapeAppearanceModel);
+        }
+
+        if (DynamicSdkUtils.is16()
+                && DynamicColorUtils.removeAlpha(getDynamicTheme().getSurfaceColor())
+                == DynamicColorUtils.removeAlpha(getDynamicTheme().getBackgroundColor())
+                && Color.alpha(getDynamicTheme().getSurfaceColor())
+                < WidgetDefaults.ADS_ALPHA_SURFACE_STROKE) {
+            mSurfaceDrawable.setStroke(WidgetDefaults.ADS_STROKE_WIDTH,
+                    getDynamicTheme().getTintBackgroundColor());
+        } else {
+            mSurfaceDrawable.setStroke(0, Color.TRANSPARENT);
+        }
+
+        if (create) {
+            mBackground.setImageDrawable(mBackgroundDrawable);
+            DynamicDrawableUtils.setBackground(mStatusBar, mStatusBarDrawable);
+            DynamicDrawableUtils.setBackground(mSurface, mSurfaceDrawable);
+        }
+
+        mHeader.setBackgroundColor(getDynamicTheme().getPrimaryColor());
+    }
+
+    /**
+     * Update the content gradient according to the theme and size of this preview.
+     * <p>Gradients will be shared between the previews having the same colors and size.
+     */
+    private void updateGradient() {
+        if (getDynamicTheme().getBackgroundColor(false) == Theme.AUTO
+                && getMeasuredWidth() > 0 && getMeasuredHeight() > 0) {
+            GradientKey key = new GradientKey(mContent.getMeasuredWidth() / 2f,
+                    mContent.getMeasuredHeight() / 2f, getMeasuredWidth() / 2f,
+                    DynamicTheme.getInstance().generateDarkColor(
+                            getDynamicTheme().getTintBackgroundColor()),
+                    getDynamicTheme().getBackgroundColor());
+            Shader gradient = sGradients.get(key);
+
+            if (gradient == null) {
+                gradient = new RadialGradient(key.centerX, key.centerY, key.radius,
+                        new int[] { key.startColor, key.endColor },
+                        null, Shader.TileMode.CLAMP);
+                sGradients.put(key, gradient);
+            }
+
+            if (mGradientDrawable == null) {
+                mGradientDrawable = new ShapeDrawable(new RectShape());
+            }
+
+            mGradientDrawable.getPaint().setShader(gradient);
+            if (mContent.getBackground() != mGradientDrawable) {
+                DynamicDrawableUtils.setBackground(mContent, mGradientDrawable);
+            } else {
+                mGradientDrawable.invalidateSelf();
+            }
+        } else if (mContent.getBackground() != null) {
+            DynamicDrawableUtils.setBackground(mContent, null);
+        }
     }
 
     @Override
@@ -410,4 +556,78 @@ public class DynamicThemePreview extends ThemePreview<DynamicAppTheme> {
     public FloatingActionButton getFAB() {
         return mFAB;
     }
+
+    /**
+     * Key to cache the background gradients according to their size and colors.
+     */
+    private static final class GradientKey {
+
+        /**
+         * Center x of the gradient.
+         */
+        private final float centerX;
+
+        /**
+         * Center y of the gradient.
+         */
+        private final float centerY;
+
+        /**
+         * Radius of the gradient.
+         */
+        private final float radius;
+
+        /**
+         * Start color of the gradient.
+         */
+        private final int startColor;
+
+        /**
+         * End color of the gradient.
+         */
+        private final int endColor;
+
+        /**
+         * Constructor to initialize an object of this class.
+         *
+         * @param centerX The center x of the gradient.
+         * @param centerY The center y of the gradient.
+         * @param radius The radius of the gradient.
+         * @param startColor The start color of the gradient.
+         * @param endColor The end color of the gradient.
+         */
+        GradientKey(float centerX, float centerY, float radius, int startColor, int endColor) {
+            this.centerX = centerX;
+            this.centerY = centerY;
+            this.radius = radius;
+            this.startColor = startColor;
+            this.endColor = endColor;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof GradientKey)) {
+                return false;
+            }
+
+            GradientKey key = (GradientKey) o;
+            return centerX == key.centerX && centerY == key.centerY && radius == key.radius
+                    && startColor == key.startColor && endColor == key.endColor;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Float.floatToIntBits(centerX);
+            result = 31 * result + Float.floatToIntBits(centerY);
+            result = 31 * result + Float.floatToIntBits(radius);
+            result = 31 * result + startColor;
+            result = 31 * result + endColor;
+
+            return result;
+        }
+    }
 }
@@ -0,0 +1,298 @@
+/*
+ * Copyright 2018-2020 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.trace;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.tracing.Trace;
+
+import com.pranavpandey.android.dynamic.support.model.DynamicMetric;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Helper class to trace the hot paths of the theme engine, inflation and binding.
+ * <p>It is disabled by default and can be enabled via {@link #setEnabled(boolean)} to emit
+ * the {@link Trace} sections and to record the counters which can be retrieved via
+ * {@link #getMetrics()}.
+ *
+ * <p><p>A traced section must be closed on the same thread it has been started.
+ *
+ * @see DynamicTraceSection
+ */
+public final class DynamicTrace {
+
+    /**
+     * Prefix for the names of the traced sections.
+     */
+    private static final String ADS_SECTION_PREFIX = "ads:";
+
+    /**
+     * Names of the traced sections according to the section constant.
+     */
+    private static final String[] ADS_SECTIONS = new String[] { "inflate", "initialize",
+            "setColor", "resolveColorType", "scrollReflection", "menuTint", "bind",
+            "serialize", "parse", "loadFromAttributes" };
+
+    /**
+     * Count of the times the sections have been executed.
+     */
+    private static final AtomicLongArray sCounts = new AtomicLongArray(ADS_SECTIONS.length);
+
+    /**
+     * Total time in nanoseconds spent in the sections.
+     */
+    private static final AtomicLongArray sTimes = new AtomicLongArray(ADS_SECTIONS.length);
+
+    /**
+     * Names of the traced sections according to their target to avoid creating them again.
+     */
+    private static final List<Map<Object, String>> sNames = new ArrayList<>();
+
+    static {
+        for (int i = 0; i < ADS_SECTIONS.length; i++) {
+            sNames.add(new ConcurrentHashMap<Object, String>());
+        }
+    }
+
+    /**
+     * Listener to receive the traced sections according to the thread.
+     */
+    private static final ThreadLocal<Listener> sListener = new ThreadLocal<>();
+
+    /**
+     * {@code true} to trace the hot paths.
+     */
+    private static volatile boolean sEnabled;
+
+    /**
+     * Making default constructor private so that it cannot be initialized.
+     */
+    private DynamicTrace() { }
+
+    /**
+     * Checks whether the hot paths are traced.
+     *
+     * @return {@code true} if the hot paths are traced.
+     */
+    public static boolean isEnabled() {
+        return sEnabled;
+    }
+
+    /**
+     * Set the hot paths to be traced.
+     * <p>It should be enabled only for the profiling or debug builds as it will add a small
+     * overhead to every traced section.
+     *
+     * @param enabled {@code true} to trace the hot paths.
+     */
+    public static void setEnabled(boolean enabled) {
+        sEnabled = enabled;
+    }
+
+    /**
+     * Begin a traced section.
+     *
+     * @param section The section to be traced.
+     *
+     * @return The start time of the section to be passed to {@link #end(int, long)}.
+     *         <p>{@code 0} if tracing is disabled.
+     */
+    public static long begin(@DynamicTraceSection int section) {
+        return begin(section, null);
+    }
+
+    /**
+     * Begin a traced section for the supplied target.
+     *
+     * @param section The section to be traced.
+     * @param target The tag name, class or object to be appended to the section name.
+     *
+     * @return The start time of the section to be passed to {@link #end(int, long)}.
+     *         <p>{@code 0} if tracing is disabled.
+     */
+    public static long begin(@DynamicTraceSection int section, @Nullable Object target) {
+        if (!sEnabled) {
+            return 0;
+        }
+
+        Trace.beginSection(getSectionName(section, target));
+
+        final Listener listener = sListener.get();
+        if (listener != null) {
+            listener.onSectionBegin(section);
+        }
+
+        return System.nanoTime();
+    }
+
+    /**
+     * End a traced section and update its counters.
+     *
+     * @param section The section to be ended.
+     * @param start The start time returned by {@link #begin(int, Object)}.
+     */
+    public static void end(@DynamicTraceSection int section, long start) {
+        if (start == 0) {
+            return;
+        }
+
+        final long time = System.nanoTime() - start;
+        Trace.endSection();
+        sCounts.incrementAndGet(section);
+        sTimes.addAndGet(section, time);
+
+        final Listener listener = sListener.get();
+        if (listener != null) {
+            listener.onSectionEnd(section, time);
+        }
+    }
+
+    /**
+     * Returns the listener to receive the traced sections on the current thread.
+     *
+     * @return The listener to receive the traced sections on the current thread.
+     */
+    public static @Nullable Listener getListener() {
+        return sListener.get();
+    }
+
+    /**
+     * Set the listener to receive the traced sections on the current thread.
+     * <p>It will be called only if tracing is enabled.
+     *
+     * @param listener The listener to be set.
+     *                 <p>Pass {@code null} to remove the listener.
+     */
+    public static void setListener(@Nullable Listener listener) {
+        if (listener != null) {
+            sListener.set(listener);
+        } else {
+            sListener.remove();
+        }
+    }
+
+    /**
+     * Returns the name of the section for the supplied target.
+     *
+     * @param section The section to get the name.
+     * @param target The tag name, class or object to be appended to the section name.
+     *
+     * @return The name of the section for the supplied target.
+     */
+    private static @NonNull String getSectionName(
+            @DynamicTraceSection int section, @Nullable Object target) {
+        if (target == null) {
+            return ADS_SECTION_PREFIX + ADS_SECTIONS[section];
+        }
+
+        Object key = target instanceof String || target instanceof Class
+                ? target : target.getClass();
+        Map<Object, String> names = sNames.get(section);
+        String name = names.get(key);
+        if (name == null) {
+            name = ADS_SECTION_PREFIX + ADS_SECTIONS[section] + ":" + (key instanceof Class
+                    ? ((Class<?>) key).getSimpleName() : key);
+            names.put(key, name);
+        }
+
+        return name;
+    }
+
+    /**
+     * Returns the name of the supplied section.
+     *
+     * @param section The section to get the name.
+     *
+     * @return The name of the supplied section.
+     */
+    public static @NonNull String getName(@DynamicTraceSection int section) {
+        return ADS_SECTIONS[section];
+    }
+
+    /**
+     * Returns the count of the times the supplied section has been executed.
+     *
+     * @param section The section to get the count.
+     *
+     * @return The count of the times the supplied section has been executed.
+     */
+    public static long getCount(@DynamicTraceSection int section) {
+        return sCounts.get(section);
+    }
+
+    /**
+     * Returns the total time in nanoseconds spent in the supplied section.
+     *
+     * @param section The section to get the time.
+     *
+     * @return The total time in nanoseconds spent in the supplied section.
+     */
+    public static long getTime(@DynamicTraceSection int section) {
+        return sTimes.get(section);
+    }
+
+    /**
+     * Returns the counters of all the sections recorded since the last reset.
+     *
+     * @return The counters of all the sections recorded since the last reset.
+     */
+    public static @NonNull List<DynamicMetric> getMetrics() {
+        List<DynamicMetric> metrics = new ArrayList<>(ADS_SECTIONS.length);
+        for (int i = 0; i < ADS_SECTIONS.length; i++) {
+            metrics.add(new DynamicMetric(ADS_SECTIONS[i], sCounts.get(i), sTimes.get(i)));
+        }
+
+        return metrics;
+    }
+
+    /**
+     * Reset the counters of all the sections.
+     * <p>It can be called at the start of a frame or a screen to attribute the counters.
+     */
+    public static void reset() {
+        for (int i = 0; i < ADS_SECTIONS.length; i++) {
+            sCounts.set(i, 0);
+            sTimes.set(i, 0);
+        }
+    }
+
+    /**
+     * Interface to receive the traced sections on a thread.
+     */
+    public interface Listener {
+
+        /**
+         * This method will be called when a section has been started.
+         *
+         * @param section The started section.
+         */
+        void onSectionBegin(@DynamicTraceSection int section);
+
+        /**
+         * This method will be called when a section has been ended.
+         *
+         * @param section The ended section.
+         * @param time The time in nanoseconds spent in the section.
+         */
+        void onSectionEnd(@DynamicTraceSection int section, long time);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2018-2020 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.trace;
+
+import androidx.annotation.IntDef;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+import static com.pranavpandey.android.dynamic.support.trace.DynamicTraceSection.BIND;
+import static com.pranavpandey.android.dynamic.support.trace.DynamicTraceSection.INFLATE;
+import static com.pranavpandey.android.dynamic.support.trace.DynamicTraceSection.INITIALIZE;
+import static com.pranavpandey.android.dynamic.support.trace.DynamicTraceSection.LOAD_ATTRIBUTES;
+import static com.pranavpandey.android.dynamic.support.trace.DynamicTraceSection.MENU_TINT;
+import static com.pranavpandey.android.dynamic.support.trace.DynamicTraceSection.PARSE;
+import static com.pranavpandey.android.dynamic.support.trace.DynamicTraceSection.RESOLVE_COLOR;
+import static com.pranavpandey.android.dynamic.support.trace.DynamicTraceSection.SCROLL_REFLECTION;
+import static com.pranavpandey.android.dynamic.support.trace.DynamicTraceSection.SERIALIZE;
+import static com.pranavpandey.android.dynamic.support.trace.DynamicTraceSection.SET_COLOR;
+
+/**
+ * Interface to hold the constant values for the hot paths traced by the {@link DynamicTrace}.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@IntDef(value = { INFLATE, INITIALIZE, SET_COLOR, RESOLVE_COLOR, SCROLL_REFLECTION,
+        MENU_TINT, BIND, SERIALIZE, PARSE, LOAD_ATTRIBUTES })
+public @interface DynamicTraceSection {
+
+    /**
+     * Constant for the views created by the dynamic layout inflater.
+     */
+    int INFLATE = 0;
+
+    /**
+     * Constant for initializing the dynamic widgets.
+     */
+    int INITIALIZE = 1;
+
+    /**
+     * Constant for setting the color of the dynamic widgets.
+     */
+    int SET_COLOR = 2;
+
+    /**
+     * Constant for resolving the color types from the theme.
+     */
+    int RESOLVE_COLOR = 3;
+
+    /**
+     * Constant for tinting the scrollable views via reflection.
+     */
+    int SCROLL_REFLECTION = 4;
+
+    /**
+     * Constant for tinting the menu and toolbar items.
+     */
+    int MENU_TINT = 5;
+
+    /**
+     * Constant for binding the view holders of the binder adapters.
+     */
+    int BIND = 6;
+
+    /**
+     * Constant for serializing the themes.
+     */
+    int SERIALIZE = 7;
+
+    /**
+     * Constant for parsing the themes.
+     */
+    int PARSE = 8;
+
+    /**
+     * Constant for loading the attributes of the dynamic widgets.
+     */
+    int LOAD_ATTRIBUTES = 9;
+}
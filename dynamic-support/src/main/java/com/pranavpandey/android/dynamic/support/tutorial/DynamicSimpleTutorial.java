@@ -16,6 +16,7 @@
 
 package com.pranavpandey.android.dynamic.support.tutorial;
 
+import android.graphics.Rect;
 import android.os.Parcel;
 import android.os.Parcelable;
 
@@ -70,6 +71,11 @@ public class DynamicSimpleTutorial implements Parcelable,
 
     private DynamicTutorialFragment mFragment;
 
+    /**
+     * Padding to be added to the fragment of this tutorial.
+     */
+    private Rect mPadding;
+
     /**
      * Constructor to initialize an object of this class.
      *
@@ -363,6 +369,11 @@ public class DynamicSimpleTutorial implements Parcelable,
     public @NonNull DynamicTutorialFragment createTutorial() {
         mFragment = DynamicTutorialFragment.newInstance(this);
 
+        if (mPadding != null) {
+            mFragment.onSetPadding(mPadding.left, mPadding.top,
+                    mPadding.right, mPadding.bottom);
+        }
+
         return mFragment;
     }
 
@@ -380,6 +391,8 @@ public class DynamicSimpleTutorial implements Parcelable,
 
     @Override
     public void onSetPadding(int left, int top, int right, int bottom) {
+        mPadding = new Rect(left, top, right, bottom);
+
         if (mFragment != null) {
             mFragment.onSetPadding(left, top, right, bottom);
         }
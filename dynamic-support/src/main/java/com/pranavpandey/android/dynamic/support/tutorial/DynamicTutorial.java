@@ -67,5 +67,14 @@ public interface DynamicTutorial<T, V> extends ViewPager.OnPageChangeListener {
      */
     void onBackgroundColorChanged(@ColorInt int color);
 
+    /**
+     * This method will be called to add the padding to this tutorial, generally to avoid
+     * overlapping with the footer of the activity.
+     *
+     * @param left The left padding to be added.
+     * @param top The top padding to be added.
+     * @param right The right padding to be added.
+     * @param bottom The bottom padding to be added.
+     */
     void onSetPadding(int left, int top, int right, int bottom);
 }
@@ -16,7 +16,6 @@
 
 package com.pranavpandey.android.dynamic.support.tutorial.activity;
 
-import android.animation.ArgbEvaluator;
 import android.annotation.TargetApi;
 import android.os.Build;
 import android.os.Bundle;
@@ -30,6 +29,7 @@ import androidx.annotation.ColorInt;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.coordinatorlayout.widget.CoordinatorLayout;
+import androidx.core.graphics.ColorUtils;
 import androidx.core.view.ViewCompat;
 import androidx.fragment.app.Fragment;
 import androidx.viewpager2.widget.ViewPager2;
@@ -54,6 +54,7 @@ import com.pranavpandey.android.dynamic.utils.DynamicColorUtils;
 import com.pranavpandey.android.dynamic.utils.DynamicSdkUtils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -104,9 +105,26 @@ public abstract class DynamicTutorialActivity<T extends DynamicSimpleTutorial,
     private Button mActionCustom;
 
     /**
-     * Argb evaluator to manage color transition.
+     * Background colors of the tutorials to perform color transitions without querying the
+     * adapter on every scroll.
      */
-    private ArgbEvaluator mArgbEvaluator;
+    private int[] mColors;
+
+    /**
+     * Bottom padding applied to the tutorials to avoid setting it on every scroll.
+     */
+    private int[] mPaddings;
+
+    /**
+     * Color applied to the activity background and system UI.
+     */
+    private @ColorInt int mColor;
+
+    /**
+     * Page for which the {@link #mColor} has been applied.
+     * <p>{@code -1} if the color needs to be applied again.
+     */
+    private int mColorPage = -1;
 
     /**
      * Resolver to resolve the status and navigation bar color.
@@ -148,8 +166,6 @@ public abstract class DynamicTutorialActivity<T extends DynamicSimpleTutorial,
                     }
                 });
 
-        mArgbEvaluator = new ArgbEvaluator();
-
         if (DynamicLocaleUtils.isLayoutRtl()) {
             ViewCompat.setLayoutDirection(mViewPager, ViewCompat.LAYOUT_DIRECTION_RTL);
         }
@@ -160,25 +176,27 @@ public abstract class DynamicTutorialActivity<T extends DynamicSimpleTutorial,
                     float positionOffset, int positionOffsetPixels) {
                 super.onPageScrolled(position, positionOffset, positionOffsetPixels);
 
-                @ColorInt final int color;
-                if (position < (mAdapter.getItemCount() - 1)) {
-                    color = (Integer) mArgbEvaluator.evaluate(
-                            positionOffset, mAdapter.getTutorial(position).getBackgroundColor(),
-                            mAdapter.getTutorial(position + 1).getBackgroundColor());
-                } else {
-                    color = mAdapter.getTutorial(
-                            mAdapter.getItemCount() - 1).getBackgroundColor();
+                if (mAdapter == null || mAdapter.getItemCount() == 0) {
+                    return;
                 }
 
-                setColor(position, color);
+                final int next = Math.min(mAdapter.getItemCount() - 1, position + 1);
+                final int[] colors = getColors();
+                @ColorInt final int color = position < (mAdapter.getItemCount() - 1)
+                        ? ColorUtils.blendARGB(colors[position], colors[next], positionOffset)
+                        : colors[mAdapter.getItemCount() - 1];
+
                 mAdapter.getTutorial(position).onPageScrolled(
                         position, positionOffset, positionOffsetPixels);
-                mAdapter.getTutorial(position).onSetPadding(0, 0, 0, mFooterHeight);
-                mAdapter.getTutorial(Math.min(mAdapter.getItemCount() - 1, position + 1))
-                        .onSetPadding(0, 0, 0, mFooterHeight);
-                mAdapter.getTutorial(position).onBackgroundColorChanged(color);
-                mAdapter.getTutorial(Math.min(mAdapter.getItemCount() - 1, position + 1))
-                        .onBackgroundColorChanged(color);
+                setPadding(position);
+                setPadding(next);
+
+                if (setColor(position, color)) {
+                    mAdapter.getTutorial(position).onBackgroundColorChanged(color);
+                    if (next != position) {
+                        mAdapter.getTutorial(next).onBackgroundColorChanged(color);
+                    }
+                }
             }
 
             @Override
@@ -187,8 +205,8 @@ public abstract class DynamicTutorialActivity<T extends DynamicSimpleTutorial,
 
                 if (mAdapter != null && mAdapter.getTutorial(position) != null) {
                     mAdapter.getTutorial(position).onPageSelected(position);
-                    mAdapter.getTutorial(position).onSetPadding(0, 0, 0, mFooterHeight);
-                    setColor(position, mAdapter.getTutorial(position).getBackgroundColor());
+                    setPadding(position);
+                    setColor(position, getColors()[position]);
                 }
             }
 
@@ -300,6 +318,9 @@ public abstract class DynamicTutorialActivity<T extends DynamicSimpleTutorial,
 
         mAdapter = new DynamicTutorialsAdapter<>(this);
         mAdapter.setTutorials(getTutorials());
+        mColors = null;
+        mPaddings = null;
+        mColorPage = -1;
         mViewPager.setOffscreenPageLimit(mAdapter.getItemCount());
         mViewPager.setAdapter(mAdapter);
         mPageIndicator.setViewPager(mViewPager);
@@ -325,12 +346,59 @@ public abstract class DynamicTutorialActivity<T extends DynamicSimpleTutorial,
         setTutorials(mViewPager.getCurrentItem(), smoothScroll);
     }
 
+    /**
+     * Returns the background colors of the tutorials.
+     * <p>It will be computed again if the tutorials have been changed.
+     *
+     * @return The background colors of the tutorials.
+     */
+    private @NonNull int[] getColors() {
+        if (mColors == null || mColors.length != mAdapter.getItemCount()) {
+            mColors = new int[mAdapter.getItemCount()];
+
+            for (int i = 0; i < mColors.length; i++) {
+                mColors[i] = mAdapter.getTutorial(i).getBackgroundColor();
+            }
+        }
+
+        return mColors;
+    }
+
+    /**
+     * Set the footer height as bottom padding for the tutorial at the supplied position.
+     * <p>It will be skipped if the padding has already been applied.
+     *
+     * @param position The position of the tutorial.
+     */
+    private void setPadding(int position) {
+        if (mPaddings == null || mPaddings.length != mAdapter.getItemCount()) {
+            mPaddings = new int[mAdapter.getItemCount()];
+            Arrays.fill(mPaddings, -1);
+        }
+
+        if (mPaddings[position] != mFooterHeight) {
+            mPaddings[position] = mFooterHeight;
+            mAdapter.getTutorial(position).onSetPadding(0, 0, 0, mFooterHeight);
+        }
+    }
+
     /**
      * Update activity background and system UI according to the supplied color.
+     * <p>It will be skipped if the color has already been applied for the current page.
      *
+     * @param position The position of the tutorial.
      * @param color The activity color to be applied.
+     *
+     * @return {@code true} if the color has been applied.
      */
-    private void setColor(int position, @ColorInt int color) {
+    private boolean setColor(int position, @ColorInt int color) {
+        if (mColorPage == mViewPager.getCurrentItem() && mColor == color) {
+            return false;
+        }
+
+        mColor = color;
+        mColorPage = mViewPager.getCurrentItem();
+
         @ColorInt int systemUIColor = color;
         @ColorInt int tintColor = DynamicColorUtils.getTintColor(color);
 
@@ -391,6 +459,8 @@ public abstract class DynamicTutorialActivity<T extends DynamicSimpleTutorial,
                 mActionPrevious.getContentDescription());
         DynamicTooltip.set(mActionNext, tintColor, color,
                 mActionNext.getContentDescription());
+
+        return true;
     }
 
     /**
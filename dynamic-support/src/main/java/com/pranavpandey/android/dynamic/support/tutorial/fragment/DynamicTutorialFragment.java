@@ -16,6 +16,7 @@
 
 package com.pranavpandey.android.dynamic.support.tutorial.fragment;
 
+import android.graphics.Rect;
 import android.os.Bundle;
 import android.view.LayoutInflater;
 import android.view.View;
@@ -90,6 +91,12 @@ public class DynamicTutorialFragment extends Fragment implements
      */
     private TextView mDescriptionView;
 
+    /**
+     * Padding to be added to the root view, it will be applied again if the view is
+     * created after setting it.
+     */
+    private Rect mPadding;
+
     /**
      * Function to initialize this fragment.
      *
@@ -151,6 +158,7 @@ public class DynamicTutorialFragment extends Fragment implements
         }
 
         tintWidgets(getBackgroundColor());
+        setPadding();
     }
 
     @Override
@@ -217,13 +225,23 @@ public class DynamicTutorialFragment extends Fragment implements
 
     @Override
     public void onSetPadding(int left, int top, int right, int bottom) {
-        if (mRootView == null || bottom <= 0 || mRootView.getPaddingBottom() >= bottom) {
+        mPadding = new Rect(left, top, right, bottom);
+
+        setPadding();
+    }
+
+    /**
+     * Add the padding to the root view if it is available.
+     */
+    private void setPadding() {
+        if (mRootView == null || mPadding == null || mPadding.bottom <= 0
+                || mRootView.getPaddingBottom() >= mPadding.bottom) {
             return;
         }
 
-        mRootView.setPadding(mRootView.getPaddingLeft() + left,
-                mRootView.getPaddingTop() + top,
-                mRootView.getPaddingRight() + right,
-                mRootView.getPaddingBottom() + bottom);
+        mRootView.setPadding(mRootView.getPaddingLeft() + mPadding.left,
+                mRootView.getPaddingTop() + mPadding.top,
+                mRootView.getPaddingRight() + mPadding.right,
+                mRootView.getPaddingBottom() + mPadding.bottom);
     }
 }
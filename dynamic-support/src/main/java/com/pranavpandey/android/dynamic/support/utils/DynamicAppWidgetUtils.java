@@ -16,10 +16,18 @@
 
 package com.pranavpandey.android.dynamic.support.utils;
 
+import android.content.Context;
+import android.util.SparseArray;
+
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import com.pranavpandey.android.dynamic.preferences.DynamicPreferences;
+import com.pranavpandey.android.dynamic.support.model.DynamicWidgetTheme;
+import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
+
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Helper class to perform various app widget operations. It will be used internally
@@ -38,6 +46,12 @@ public class DynamicAppWidgetUtils {
      */
     public static final int ALPHA_ACTION_DISABLED = 125;
 
+    /**
+     * Parsed widget themes according to the preference name and widget id.
+     */
+    private static final Map<String, SparseArray<DynamicWidgetTheme>> sWidgetThemes =
+            new HashMap<>();
+
     /**
      * Save a string preference for an app widget widget provider according to the widget id.
      *
@@ -49,6 +63,7 @@ public class DynamicAppWidgetUtils {
             int appWidgetId, @Nullable String value) {
         DynamicPreferences.getInstance().save(
                 preferences, String.valueOf(appWidgetId), value);
+        invalidateWidgetTheme(preferences, appWidgetId);
     }
 
     /**
@@ -76,6 +91,7 @@ public class DynamicAppWidgetUtils {
      */
     public static void deleteWidgetSettings(@NonNull String preferences, int appWidgetId) {
         DynamicPreferences.getInstance().delete(preferences, String.valueOf(appWidgetId));
+        invalidateWidgetTheme(preferences, appWidgetId);
     }
 
     /**
@@ -86,5 +102,141 @@ public class DynamicAppWidgetUtils {
      */
     public static void cleanupPreferences(@NonNull String preferences) {
         DynamicPreferences.getInstance().deleteSharedPreferences(preferences);
+
+        synchronized (sWidgetThemes) {
+            sWidgetThemes.remove(preferences);
+        }
+    }
+
+    /**
+     * Save the theme for an app widget provider according to the widget id.
+     *
+     * @param preferences The preference name to store the theme.
+     * @param appWidgetId The app widget id to create or find the preference key.
+     * @param theme The theme to be saved.
+     */
+    public static void saveWidgetTheme(@NonNull String preferences,
+            int appWidgetId, @NonNull DynamicWidgetTheme theme) {
+        saveWidgetSettings(preferences, appWidgetId, theme.toDynamicString());
+
+        synchronized (sWidgetThemes) {
+            SparseArray<DynamicWidgetTheme> themes = sWidgetThemes.get(preferences);
+            if (themes != null) {
+                themes.put(appWidgetId, new DynamicWidgetTheme(theme).setWidgetId(appWidgetId));
+            }
+        }
+    }
+
+    /**
+     * Load the theme for an app widget provider according to the widget id.
+     * <p>Themes of all the widgets of the provider will be parsed at once and kept in memory
+     * until they are saved or deleted so that the widgets can be rendered without parsing
+     * the theme every time.
+     *
+     * @param preferences The preference name to find the theme.
+     * @param appWidgetId The app widget id to find the preference key.
+     *
+     * @return A copy of the theme for the supplied widget.
+     *         <p>{@code null} if there is no valid theme for the supplied widget.
+     */
+    public static @Nullable DynamicWidgetTheme loadWidgetTheme(
+            @NonNull String preferences, int appWidgetId) {
+        DynamicWidgetTheme theme;
+
+        synchronized (sWidgetThemes) {
+            SparseArray<DynamicWidgetTheme> themes = sWidgetThemes.get(preferences);
+            if (themes == null) {
+                themes = loadWidgetThemes(preferences);
+                sWidgetThemes.put(preferences, themes);
+            }
+
+            theme = themes.get(appWidgetId);
+            if (theme == null) {
+                theme = parseWidgetTheme(loadWidgetSettings(
+                        preferences, appWidgetId, null), appWidgetId);
+
+                if (theme != null) {
+                    themes.put(appWidgetId, theme);
+                }
+            }
+        }
+
+        return theme != null
+                ? new DynamicWidgetTheme(theme).setWidgetId(appWidgetId) : null;
+    }
+
+    /**
+     * Parse the themes of all the widgets of an app widget provider.
+     * <p>The shared preferences file will be read only once for all the widgets.
+     *
+     * @param preferences The preference name to find the themes.
+     *
+     * @return The parsed themes according to the widget id.
+     */
+    private static @NonNull SparseArray<DynamicWidgetTheme> loadWidgetThemes(
+            @NonNull String preferences) {
+        SparseArray<DynamicWidgetTheme> themes = new SparseArray<>();
+
+        try {
+            Map<String, ?> values = DynamicTheme.getInstance().getContext()
+                    .getSharedPreferences(preferences, Context.MODE_PRIVATE).getAll();
+
+            for (Map.Entry<String, ?> value : values.entrySet()) {
+                if (!(value.getValue() instanceof String)) {
+                    continue;
+                }
+
+                try {
+                    int appWidgetId = Integer.parseInt(value.getKey());
+                    DynamicWidgetTheme theme = parseWidgetTheme(
+                            (String) value.getValue(), appWidgetId);
+
+                    if (theme != null) {
+                        themes.put(appWidgetId, theme);
+                    }
+                } catch (NumberFormatException ignored) {
+                }
+            }
+        } catch (Exception ignored) {
+        }
+
+        return themes;
+    }
+
+    /**
+     * Parse the supplied widget theme string.
+     *
+     * @param theme The theme string to be parsed.
+     * @param appWidgetId The app widget id for the theme.
+     *
+     * @return The parsed widget theme.
+     *         <p>{@code null} if the theme string is not valid.
+     */
+    private static @Nullable DynamicWidgetTheme parseWidgetTheme(
+            @Nullable String theme, int appWidgetId) {
+        if (theme == null) {
+            return null;
+        }
+
+        try {
+            return new DynamicWidgetTheme(theme).setWidgetId(appWidgetId);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Remove the parsed theme of a widget from the memory.
+     *
+     * @param preferences The preference name of the widget provider.
+     * @param appWidgetId The app widget id to remove the theme.
+     */
+    private static void invalidateWidgetTheme(@NonNull String preferences, int appWidgetId) {
+        synchronized (sWidgetThemes) {
+            SparseArray<DynamicWidgetTheme> themes = sWidgetThemes.get(preferences);
+            if (themes != null) {
+                themes.remove(appWidgetId);
+            }
+        }
     }
 }
@@ -41,6 +41,8 @@ import androidx.appcompat.widget.ActionMenuView;
 
 import com.google.android.material.bottomnavigation.BottomNavigationItemView;
 import com.google.android.material.bottomnavigation.BottomNavigationMenuView;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTrace;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTraceSection;
 import com.pranavpandey.android.dynamic.support.widget.tooltip.DynamicTooltip;
 import com.pranavpandey.android.dynamic.utils.DynamicDrawableUtils;
 import com.pranavpandey.android.dynamic.utils.DynamicSdkUtils;
@@ -88,16 +90,38 @@ public class DynamicMenuUtils {
      * @param background The background color for the tooltip.
      * @param tint {@code true} to tint views according to the supplied parameters.
      */
+    public static void setViewItemsTint(@NonNull final View view,
+            @ColorInt final int color, @ColorInt final int background, boolean tint) {
+        final long trace = DynamicTrace.begin(DynamicTraceSection.MENU_TINT, view);
+
+        try {
+            setViewItemsTintRecursive(view, color, background, tint);
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.MENU_TINT, trace);
+        }
+    }
+
+    /**
+     * Set other items color of this view and its children according to the supplied values.
+     *
+     * @param view The view to set its items color.
+     * @param color The tint color to be applied.
+     * @param background The background color for the tooltip.
+     * @param tint {@code true} to tint views according to the supplied parameters.
+     *
+     * @see #setViewItemsTint(View, int, int, boolean)
+     */
     @TargetApi(Build.VERSION_CODES.M)
     @SuppressLint("RestrictedApi")
-    public static void setViewItemsTint(@NonNull final View view,
+    private static void setViewItemsTintRecursive(@NonNull final View view,
             @ColorInt final int color, @ColorInt final int background, boolean tint) {
         final PorterDuffColorFilter colorFilter
                 = new PorterDuffColorFilter(color, PorterDuff.Mode.SRC_IN);
 
         if (view instanceof ViewGroup){
             for (int i = 0; i < ((ViewGroup) view).getChildCount(); i++){
-                setViewItemsTint(((ViewGroup) view).getChildAt(i), color, background, tint);
+                setViewItemsTintRecursive(((ViewGroup) view).getChildAt(i),
+                        color, background, tint);
             }
         }
 
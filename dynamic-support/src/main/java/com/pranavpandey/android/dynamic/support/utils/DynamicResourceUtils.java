@@ -71,6 +71,45 @@ public class DynamicResourceUtils {
      */
     public static final int ADS_DEFAULT_RESOURCE_VALUE = 0;
 
+    /**
+     * States used by the checkable color state lists.
+     * <p>They are shared between the color state lists as they are never modified.
+     */
+    private static final int[][] ADS_STATES_CHECKABLE = new int[][] {
+            new int[] { android.R.attr.state_enabled,
+                    android.R.attr.state_focused },
+            new int[] { -android.R.attr.state_enabled,
+                    -android.R.attr.state_activated,
+                    -android.R.attr.state_checked,
+                    -android.R.attr.state_pressed },
+            new int[] { android.R.attr.state_enabled,
+                    -android.R.attr.state_activated,
+                    -android.R.attr.state_checked,
+                    -android.R.attr.state_pressed },
+            new int[] { android.R.attr.state_enabled,
+                    -android.R.attr.state_activated,
+                    -android.R.attr.state_checked,
+                    android.R.attr.state_pressed },
+            new int[] { android.R.attr.state_activated },
+            new int[] { android.R.attr.state_checked },
+            new int[] { }
+    };
+
+    /**
+     * States used by the non-checkable color state lists.
+     * <p>They are shared between the color state lists as they are never modified.
+     */
+    private static final int[][] ADS_STATES = new int[][] {
+            new int[] { android.R.attr.state_enabled,
+                    android.R.attr.state_focused },
+            new int[] { -android.R.attr.state_enabled,
+                    -android.R.attr.state_pressed },
+            new int[] { android.R.attr.state_enabled,
+                    -android.R.attr.state_pressed },
+            new int[] { android.R.attr.state_pressed },
+            new int[] { }
+    };
+
     /**
      * Extract the supplied attribute value resource id from the theme.
      *
@@ -503,39 +542,10 @@ public class DynamicResourceUtils {
     public static @NonNull ColorStateList getColorStateList(@ColorInt int disabled,
             @ColorInt int normal, @ColorInt int pressed, @ColorInt int color, boolean checkable) {
         if (checkable) {
-            return new ColorStateList(
-                    new int[][] {
-                            new int[] { android.R.attr.state_enabled,
-                                    android.R.attr.state_focused },
-                            new int[] { -android.R.attr.state_enabled,
-                                    -android.R.attr.state_activated,
-                                    -android.R.attr.state_checked,
-                                    -android.R.attr.state_pressed },
-                            new int[] { android.R.attr.state_enabled,
-                                    -android.R.attr.state_activated,
-                                    -android.R.attr.state_checked,
-                                    -android.R.attr.state_pressed },
-                            new int[] { android.R.attr.state_enabled,
-                                    -android.R.attr.state_activated,
-                                    -android.R.attr.state_checked,
-                                    android.R.attr.state_pressed },
-                            new int[] { android.R.attr.state_activated },
-                            new int[] { android.R.attr.state_checked },
-                            new int[] { }
-                    },
+            return new ColorStateList(ADS_STATES_CHECKABLE,
                     new int[] { pressed, disabled, normal, pressed, color, color, normal });
         } else {
-            return new ColorStateList(
-                    new int[][]{
-                            new int[] { android.R.attr.state_enabled,
-                                    android.R.attr.state_focused },
-                            new int[] { -android.R.attr.state_enabled,
-                                    -android.R.attr.state_pressed },
-                            new int[] { android.R.attr.state_enabled,
-                                    -android.R.attr.state_pressed },
-                            new int[] { android.R.attr.state_pressed },
-                            new int[] { }
-                    },
+            return new ColorStateList(ADS_STATES,
                     new int[] { color, disabled, normal, color, normal });
         }
     }
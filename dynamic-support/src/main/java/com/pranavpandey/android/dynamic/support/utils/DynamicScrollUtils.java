@@ -37,6 +37,8 @@ import androidx.viewpager.widget.ViewPager;
 import com.google.android.material.internal.NavigationMenuPresenter;
 import com.google.android.material.internal.NavigationMenuView;
 import com.google.android.material.navigation.NavigationView;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTrace;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTraceSection;
 import com.pranavpandey.android.dynamic.utils.DynamicColorUtils;
 import com.pranavpandey.android.dynamic.utils.DynamicDrawableUtils;
 import com.pranavpandey.android.dynamic.utils.DynamicSdkUtils;
@@ -55,95 +57,95 @@ public final class DynamicScrollUtils {
     /**
      * {@link EdgeEffect} field constant for the edge.
      */
-    private static Field F_EDGE_EFFECT_EDGE;
+    private static volatile Field F_EDGE_EFFECT_EDGE;
     /**
      * {@link EdgeEffect} field constant for the glow.
      */
-    private static Field F_EDGE_EFFECT_GLOW;
+    private static volatile Field F_EDGE_EFFECT_GLOW;
     /**
      * {@link EdgeEffectCompat} field constant for the edge effect.
      */
-    private static Field F_EDGE_EFFECT_COMPAT_EDGE_EFFECT;
+    private static volatile Field F_EDGE_EFFECT_COMPAT_EDGE_EFFECT;
 
     /**
      * {@link AbsListView} field constant for the top glow.
      */
-    private static Field F_LIST_VIEW_EDGE_GLOW_TOP;
+    private static volatile Field F_LIST_VIEW_EDGE_GLOW_TOP;
     /**
      * {@link AbsListView} field constant for the bottom glow.
      */
-    private static Field F_LIST_VIEW_EDGE_GLOW_BOTTOM;
+    private static volatile Field F_LIST_VIEW_EDGE_GLOW_BOTTOM;
     /**
      * {@link RecyclerView} field constant for the top glow.
      */
-    private static Field F_RECYCLER_VIEW_EDGE_GLOW_TOP;
+    private static volatile Field F_RECYCLER_VIEW_EDGE_GLOW_TOP;
     /**
      * {@link RecyclerView} field constant for the left glow.
      */
-    private static Field F_RECYCLER_VIEW_EDGE_GLOW_LEFT;
+    private static volatile Field F_RECYCLER_VIEW_EDGE_GLOW_LEFT;
     /**
      * {@link RecyclerView} field constant for the right glow.
      */
-    private static Field F_RECYCLER_VIEW_EDGE_GLOW_RIGHT;
+    private static volatile Field F_RECYCLER_VIEW_EDGE_GLOW_RIGHT;
     /**
      * {@link RecyclerView} field constant for the bottom glow.
      */
-    private static Field F_RECYCLER_VIEW_EDGE_GLOW_BOTTOM;
+    private static volatile Field F_RECYCLER_VIEW_EDGE_GLOW_BOTTOM;
 
     /**
      * {@link ScrollView} field constant for the top glow.
      */
-    private static Field F_SCROLL_VIEW_EDGE_GLOW_TOP;
+    private static volatile Field F_SCROLL_VIEW_EDGE_GLOW_TOP;
     /**
      * {@link ScrollView} field constant for the bottom glow.
      */
-    private static Field F_SCROLL_VIEW_EDGE_GLOW_BOTTOM;
+    private static volatile Field F_SCROLL_VIEW_EDGE_GLOW_BOTTOM;
     /**
      * {@link NestedScrollView} field constant for the top glow.
      */
-    private static Field F_NESTED_SCROLL_VIEW_EDGE_GLOW_TOP;
+    private static volatile Field F_NESTED_SCROLL_VIEW_EDGE_GLOW_TOP;
     /**
      * {@link NestedScrollView} field constant for the bottom glow.
      */
-    private static Field F_NESTED_SCROLL_VIEW_EDGE_GLOW_BOTTOM;
+    private static volatile Field F_NESTED_SCROLL_VIEW_EDGE_GLOW_BOTTOM;
 
     /**
      * {@link ViewPager} field constant for the left glow.
      */
-    private static Field F_VIEW_PAGER_EDGE_GLOW_LEFT;
+    private static volatile Field F_VIEW_PAGER_EDGE_GLOW_LEFT;
     /**
      * {@link ViewPager} field constant for the right glow.
      */
-    private static Field F_VIEW_PAGER_EDGE_GLOW_RIGHT;
+    private static volatile Field F_VIEW_PAGER_EDGE_GLOW_RIGHT;
 
     /**
      * {@link NavigationView} field constant for the presenter.
      */
-    private static Field F_NAVIGATION_VIEW_PRESENTER;
+    private static volatile Field F_NAVIGATION_VIEW_PRESENTER;
     /**
      * {@link NavigationView} field constant for the recycler view.
      */
-    private static Field F_NAVIGATION_VIEW_RECYCLER_VIEW;
+    private static volatile Field F_NAVIGATION_VIEW_RECYCLER_VIEW;
 
     /**
      * Scroll bar field constant for the view.
      */
-    private static Field F_VIEW_SCROLL_BAR;
+    private static volatile Field F_VIEW_SCROLL_BAR;
 
     /**
      * Scroll bar cache constant for the view.
      */
-    private static Field V_SCROLL_BAR_FIELD_CACHE;
+    private static volatile Field V_SCROLL_BAR_FIELD_CACHE;
 
     /**
      * Scroll bar vertical thumb constant for the view.
      */
-    private static Field V_SCROLL_BAR_VERTICAL_THUMB;
+    private static volatile Field V_SCROLL_BAR_VERTICAL_THUMB;
 
     /**
      * Scroll bar horizontal thumb constant for the view.
      */
-    private static Field V_SCROLL_BAR_HORIZONTAL_THUMB;
+    private static volatile Field V_SCROLL_BAR_HORIZONTAL_THUMB;
 
     /**
      * Initialize edge effect or glow fields so that we can access them via reflection.
@@ -377,13 +379,44 @@ public final class DynamicScrollUtils {
     private static void initializeScrollBarFields(@NonNull View view) {
         try {
             if (V_SCROLL_BAR_FIELD_CACHE == null) {
-                V_SCROLL_BAR_FIELD_CACHE = View.class.getDeclaredField("mScrollCache");
-                V_SCROLL_BAR_FIELD_CACHE.setAccessible(true);
+                Field scrollCache = View.class.getDeclaredField("mScrollCache");
+                scrollCache.setAccessible(true);
+                V_SCROLL_BAR_FIELD_CACHE = scrollCache;
             }
         } catch (Exception ignored) {
         }
     }
 
+    /**
+     * Initialize all the fields so that they can be accessed via reflection.
+     * <p>It can be called on a background thread during the app startup to avoid the
+     * reflective lookups when the first scrollable view is themed.
+     */
+    public static void initialize() {
+        final long trace = DynamicTrace.begin(DynamicTraceSection.SCROLL_REFLECTION);
+
+        try {
+            initializeEdgeEffectFields();
+            initializeRecyclerViewFields();
+            initializeListViewFields();
+            initializeScrollViewFields();
+            initializeNestedScrollViewFields();
+            initializeViewPagerFields();
+            initializeNavigationViewFields();
+
+            try {
+                if (V_SCROLL_BAR_FIELD_CACHE == null) {
+                    Field scrollCache = View.class.getDeclaredField("mScrollCache");
+                    scrollCache.setAccessible(true);
+                    V_SCROLL_BAR_FIELD_CACHE = scrollCache;
+                }
+            } catch (Exception ignored) {
+            }
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.SCROLL_REFLECTION, trace);
+        }
+    }
+
     /**
      * Set edge effect or glow color for list view.
      *
@@ -539,8 +572,27 @@ public final class DynamicScrollUtils {
      * @param edgeEffect The edge effect object to set the color.
      * @param color The edge effect color to be set.
      */
-    @TargetApi(Build.VERSION_CODES.LOLLIPOP)
     public static void setEdgeEffectColor(@Nullable Object edgeEffect, @ColorInt int color) {
+        final long trace = DynamicTrace.begin(DynamicTraceSection.SCROLL_REFLECTION, edgeEffect);
+
+        try {
+            setEdgeEffectColorReflection(edgeEffect, color);
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.SCROLL_REFLECTION, trace);
+        }
+    }
+
+    /**
+     * Set color of the supplied edge effect object via reflection.
+     *
+     * @param edgeEffect The edge effect object to set the color.
+     * @param color The edge effect color to be set.
+     *
+     * @see #setEdgeEffectColor(Object, int)
+     */
+    @TargetApi(Build.VERSION_CODES.LOLLIPOP)
+    private static void setEdgeEffectColorReflection(
+            @Nullable Object edgeEffect, @ColorInt int color) {
         initializeEdgeEffectFields();
 
         if (edgeEffect instanceof EdgeEffectCompat) {
@@ -609,6 +661,25 @@ public final class DynamicScrollUtils {
             return;
         }
 
+        final long trace = DynamicTrace.begin(DynamicTraceSection.SCROLL_REFLECTION, view);
+
+        try {
+            setScrollBarColorReflection(view, color);
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.SCROLL_REFLECTION, trace);
+        }
+    }
+
+    /**
+     * Set scroll bar color for view via reflection.
+     *
+     * @param view The view to set the scroll bar color.
+     * @param color The scroll bar color.
+     *
+     * @see #setScrollBarColor(View, int)
+     */
+    private static void setScrollBarColorReflection(@NonNull View view, @ColorInt int color) {
+
         initializeScrollBarFields(view);
         color = DynamicColorUtils.getLessVisibleColor(color);
 
@@ -620,33 +691,31 @@ public final class DynamicScrollUtils {
             Object mScrollCache = V_SCROLL_BAR_FIELD_CACHE.get(view);
 
             if (mScrollCache != null) {
-                F_VIEW_SCROLL_BAR =
-                        mScrollCache.getClass().getDeclaredField("scrollBar");
-                F_VIEW_SCROLL_BAR.setAccessible(true);
-                Object scrollBar = F_VIEW_SCROLL_BAR.get(mScrollCache);
+                Field scrollBarField = mScrollCache.getClass().getDeclaredField("scrollBar");
+                scrollBarField.setAccessible(true);
+                F_VIEW_SCROLL_BAR = scrollBarField;
+                Object scrollBar = scrollBarField.get(mScrollCache);
 
                 if (scrollBar != null) {
-                    V_SCROLL_BAR_VERTICAL_THUMB =
+                    Field verticalThumb =
                             scrollBar.getClass().getDeclaredField("mVerticalThumb");
-                    V_SCROLL_BAR_VERTICAL_THUMB.setAccessible(true);
+                    verticalThumb.setAccessible(true);
+                    V_SCROLL_BAR_VERTICAL_THUMB = verticalThumb;
 
-                    if (V_SCROLL_BAR_VERTICAL_THUMB != null) {
-                        DynamicDrawableUtils.colorizeDrawable((Drawable)
-                                V_SCROLL_BAR_VERTICAL_THUMB.get(scrollBar), color);
-                    }
+                    DynamicDrawableUtils.colorizeDrawable((Drawable)
+                            verticalThumb.get(scrollBar), color);
                 }
             }
 
             // Fix for Android 9 developer preview. For more info, please
             // visit g.co/dev/appcompat.
             if (!DynamicSdkUtils.is28()) {
-                V_SCROLL_BAR_HORIZONTAL_THUMB =
-                        view.getClass().getDeclaredField("mHorizontalThumb");
-                V_SCROLL_BAR_HORIZONTAL_THUMB.setAccessible(true);
-                if (V_SCROLL_BAR_HORIZONTAL_THUMB != null) {
-                    DynamicDrawableUtils.colorizeDrawable((Drawable)
-                            V_SCROLL_BAR_HORIZONTAL_THUMB.get(view), color);
-                }
+                Field horizontalThumb = view.getClass().getDeclaredField("mHorizontalThumb");
+                horizontalThumb.setAccessible(true);
+                V_SCROLL_BAR_HORIZONTAL_THUMB = horizontalThumb;
+
+                DynamicDrawableUtils.colorizeDrawable((Drawable)
+                        horizontalThumb.get(view), color);
             }
         } catch(Exception ignored) {
         }
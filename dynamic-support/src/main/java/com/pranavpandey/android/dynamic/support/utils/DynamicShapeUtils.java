@@ -16,6 +16,7 @@
 
 package com.pranavpandey.android.dynamic.support.utils;
 
+import android.content.res.ColorStateList;
 import android.graphics.drawable.Drawable;
 import android.graphics.drawable.GradientDrawable;
 
@@ -56,7 +57,7 @@ public class DynamicShapeUtils {
         }
 
         materialShapeDrawable = new MaterialShapeDrawable(shapeAppearanceModel);
-        materialShapeDrawable.setTint(color);
+        materialShapeDrawable.setFillColor(ColorStateList.valueOf(color));
 
         return materialShapeDrawable;
     }
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2018-2020 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.utils;
+
+import androidx.annotation.NonNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Helper class to run the background work of the library on a shared executor.
+ */
+public class DynamicTaskUtils {
+
+    /**
+     * Time in seconds to keep the idle threads of the default executor alive.
+     */
+    private static final long ADS_KEEP_ALIVE_TIME = 3;
+
+    /**
+     * Default executor to run the background work.
+     */
+    private static Executor sDefaultExecutor;
+
+    /**
+     * Returns the default executor to run the background work.
+     * <p>It uses a thread for each available processor which will be released when idle.
+     *
+     * @return The default executor to run the background work.
+     */
+    public static synchronized @NonNull Executor getDefaultExecutor() {
+        if (sDefaultExecutor == null) {
+            int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads,
+                    ADS_KEEP_ALIVE_TIME, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>());
+            executor.allowCoreThreadTimeOut(true);
+
+            sDefaultExecutor = executor;
+        }
+
+        return sDefaultExecutor;
+    }
+
+    /**
+     * Execute a task on the default executor.
+     *
+     * @param task The task to be executed.
+     *
+     * @return {@code true} if the task has been accepted by the executor.
+     */
+    public static boolean execute(@NonNull Runnable task) {
+        try {
+            getDefaultExecutor().execute(task);
+            return true;
+        } catch (RejectedExecutionException ignored) {
+            return false;
+        }
+    }
+}
@@ -36,6 +36,7 @@ import androidx.recyclerview.widget.RecyclerView;
 
 import com.pranavpandey.android.dynamic.support.R;
 import com.pranavpandey.android.dynamic.support.model.DynamicItem;
+import com.pranavpandey.android.dynamic.support.recyclerview.DynamicRecycledViewPools;
 import com.pranavpandey.android.dynamic.support.recyclerview.adapter.DynamicItemsAdapter;
 import com.pranavpandey.android.dynamic.support.utils.DynamicLayoutUtils;
 import com.pranavpandey.android.dynamic.support.utils.DynamicResourceUtils;
@@ -237,6 +238,7 @@ public class DynamicInfoView extends DynamicView {
         mDynamicItems = new ArrayList<>();
 
         ViewCompat.setNestedScrollingEnabled(mLinksView, false);
+        DynamicRecycledViewPools.share(mLinksView, DynamicItemsAdapter.class);
         onUpdate();
     }
 
@@ -326,7 +328,11 @@ public class DynamicInfoView extends DynamicView {
                             getContext(), LinearLayoutManager.VERTICAL));
                 }
 
-                mLinksView.setAdapter(new DynamicItemsAdapter(mDynamicItems));
+                if (mLinksView.getAdapter() instanceof DynamicItemsAdapter) {
+                    ((DynamicItemsAdapter) mLinksView.getAdapter()).setDataSet(mDynamicItems);
+                } else {
+                    mLinksView.setAdapter(new DynamicItemsAdapter(mDynamicItems));
+                }
             }
         }
     }
@@ -29,7 +29,10 @@ import androidx.core.view.WindowInsetsCompat;
 
 import com.google.android.material.appbar.AppBarLayout;
 import com.pranavpandey.android.dynamic.support.R;
+import com.pranavpandey.android.dynamic.support.theme.DynamicLayoutPool;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTrace;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTraceSection;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicWidget;
 import com.pranavpandey.android.dynamic.support.widget.base.WindowInsetsWidget;
 import com.pranavpandey.android.dynamic.theme.Theme;
@@ -91,52 +94,66 @@ public class DynamicAppBarLayout extends AppBarLayout
 
     @Override
     public void loadFromAttributes(@Nullable AttributeSet attrs) {
-        TypedArray a = getContext().obtainStyledAttributes(attrs,
-                R.styleable.DynamicAppBarLayout);
+        final long trace = DynamicTrace.begin(DynamicTraceSection.LOAD_ATTRIBUTES, this);
 
         try {
-            mColorType = a.getInt(
-                    R.styleable.DynamicAppBarLayout_ads_colorType,
-                    Theme.ColorType.PRIMARY);
-            mContrastWithColorType = a.getInt(
-                    R.styleable.DynamicAppBarLayout_ads_contrastWithColorType,
-                    Theme.ColorType.BACKGROUND);
-            mColor = a.getColor(
-                    R.styleable.DynamicAppBarLayout_ads_color,
-                    WidgetDefaults.ADS_COLOR_UNKNOWN);
-            mContrastWithColor = a.getColor(
-                    R.styleable.DynamicAppBarLayout_ads_contrastWithColor,
-                    WidgetDefaults.getContrastWithColor(getContext()));
-            mBackgroundAware = a.getInteger(
-                    R.styleable.DynamicAppBarLayout_ads_backgroundAware,
-                    WidgetDefaults.getBackgroundAware());
-
-            if (a.getBoolean(
-                    R.styleable.DynamicAppBarLayout_ads_windowInsets,
-                    WidgetDefaults.ADS_WINDOW_INSETS)) {
-                applyWindowInsets();
+            TypedArray a = getContext().obtainStyledAttributes(attrs,
+                    R.styleable.DynamicAppBarLayout);
+
+            try {
+                mColorType = a.getInt(
+                        R.styleable.DynamicAppBarLayout_ads_colorType,
+                        Theme.ColorType.PRIMARY);
+                mContrastWithColorType = a.getInt(
+                        R.styleable.DynamicAppBarLayout_ads_contrastWithColorType,
+                        Theme.ColorType.BACKGROUND);
+                mColor = a.getColor(
+                        R.styleable.DynamicAppBarLayout_ads_color,
+                        WidgetDefaults.ADS_COLOR_UNKNOWN);
+                mContrastWithColor = a.getColor(
+                        R.styleable.DynamicAppBarLayout_ads_contrastWithColor,
+                        WidgetDefaults.getContrastWithColor(getContext()));
+                mBackgroundAware = a.getInteger(
+                        R.styleable.DynamicAppBarLayout_ads_backgroundAware,
+                        WidgetDefaults.getBackgroundAware());
+
+                if (a.getBoolean(
+                        R.styleable.DynamicAppBarLayout_ads_windowInsets,
+                        WidgetDefaults.ADS_WINDOW_INSETS)) {
+                    applyWindowInsets();
+                }
+            } finally {
+                a.recycle();
+            }
+
+            if (!DynamicLayoutPool.isInflating()) {
+                initialize();
             }
         } finally {
-            a.recycle();
+            DynamicTrace.end(DynamicTraceSection.LOAD_ATTRIBUTES, trace);
         }
-
-        initialize();
     }
 
     @Override
     public void initialize() {
-        if (mColorType != Theme.ColorType.NONE
-                && mColorType != Theme.ColorType.CUSTOM) {
-            mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
-        }
+        final long trace = DynamicTrace.begin(DynamicTraceSection.INITIALIZE, this);
 
-        if (mContrastWithColorType != Theme.ColorType.NONE
-                && mContrastWithColorType != Theme.ColorType.CUSTOM) {
-            mContrastWithColor = DynamicTheme.getInstance()
-                    .resolveColorType(mContrastWithColorType);
-        }
+        try {
+            if (mColorType != Theme.ColorType.NONE
+                    && mColorType != Theme.ColorType.CUSTOM) {
+                mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
+            }
 
-        setColor();
+            if (mContrastWithColorType != Theme.ColorType.NONE
+                    && mContrastWithColorType != Theme.ColorType.CUSTOM) {
+                mContrastWithColor = DynamicTheme.getInstance()
+                        .resolveColorType(mContrastWithColorType);
+            }
+
+            setColor();
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.INITIALIZE, trace);
+        }
     }
 
     @Override
@@ -236,12 +253,18 @@ public class DynamicAppBarLayout extends AppBarLayout
 
     @Override
     public void setColor() {
-        if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
-            if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
-                mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
-            }
+        final long trace = DynamicTrace.begin(DynamicTraceSection.SET_COLOR, this);
 
-            setBackgroundColor(mColor);
+        try {
+            if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
+                if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
+                    mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
+                }
+
+                setBackgroundColor(mColor);
+            }
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.SET_COLOR, trace);
         }
     }
 }
@@ -29,7 +29,10 @@ import androidx.annotation.Nullable;
 import com.google.android.material.appbar.CollapsingToolbarLayout;
 import com.google.android.material.bottomappbar.BottomAppBar;
 import com.pranavpandey.android.dynamic.support.R;
+import com.pranavpandey.android.dynamic.support.theme.DynamicLayoutPool;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTrace;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTraceSection;
 import com.pranavpandey.android.dynamic.support.utils.DynamicMenuUtils;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicTextWidget;
 import com.pranavpandey.android.dynamic.theme.Theme;
@@ -109,57 +112,71 @@ public class DynamicBottomAppBar extends BottomAppBar implements DynamicTextWidg
 
     @Override
     public void loadFromAttributes(@Nullable AttributeSet attrs) {
-        TypedArray a = getContext().obtainStyledAttributes(attrs,
-                R.styleable.DynamicBottomAppBar);
+        final long trace = DynamicTrace.begin(DynamicTraceSection.LOAD_ATTRIBUTES, this);
 
         try {
-            mColorType = a.getInt(
-                    R.styleable.DynamicBottomAppBar_ads_colorType,
-                    Theme.ColorType.PRIMARY);
-            mTextColorType = a.getInt(
-                    R.styleable.DynamicBottomAppBar_ads_textColorType,
-                    Theme.ColorType.TINT_PRIMARY);
-            mContrastWithColor = a.getColor(
-                    R.styleable.DynamicBottomAppBar_ads_contrastWithColor,
-                    WidgetDefaults.getContrastWithColor(getContext()));
-            mColor = a.getColor(R.styleable.DynamicBottomAppBar_ads_color,
-                    WidgetDefaults.ADS_COLOR_UNKNOWN);
-            mTextColor = a.getColor(
-                    R.styleable.DynamicBottomAppBar_ads_textColor,
-                    WidgetDefaults.ADS_COLOR_UNKNOWN);
-            mContrastWithColor = a.getColor(
-                    R.styleable.DynamicBottomAppBar_ads_contrastWithColor,
-                    WidgetDefaults.ADS_COLOR_UNKNOWN);
-            mBackgroundAware = a.getInteger(
-                    R.styleable.DynamicBottomAppBar_ads_backgroundAware,
-                    WidgetDefaults.getBackgroundAware());
+            TypedArray a = getContext().obtainStyledAttributes(attrs,
+                    R.styleable.DynamicBottomAppBar);
+
+            try {
+                mColorType = a.getInt(
+                        R.styleable.DynamicBottomAppBar_ads_colorType,
+                        Theme.ColorType.PRIMARY);
+                mTextColorType = a.getInt(
+                        R.styleable.DynamicBottomAppBar_ads_textColorType,
+                        Theme.ColorType.TINT_PRIMARY);
+                mContrastWithColor = a.getColor(
+                        R.styleable.DynamicBottomAppBar_ads_contrastWithColor,
+                        WidgetDefaults.getContrastWithColor(getContext()));
+                mColor = a.getColor(R.styleable.DynamicBottomAppBar_ads_color,
+                        WidgetDefaults.ADS_COLOR_UNKNOWN);
+                mTextColor = a.getColor(
+                        R.styleable.DynamicBottomAppBar_ads_textColor,
+                        WidgetDefaults.ADS_COLOR_UNKNOWN);
+                mContrastWithColor = a.getColor(
+                        R.styleable.DynamicBottomAppBar_ads_contrastWithColor,
+                        WidgetDefaults.ADS_COLOR_UNKNOWN);
+                mBackgroundAware = a.getInteger(
+                        R.styleable.DynamicBottomAppBar_ads_backgroundAware,
+                        WidgetDefaults.getBackgroundAware());
+            } finally {
+                a.recycle();
+            }
+
+            if (!DynamicLayoutPool.isInflating()) {
+                initialize();
+            }
         } finally {
-            a.recycle();
+            DynamicTrace.end(DynamicTraceSection.LOAD_ATTRIBUTES, trace);
         }
-
-        initialize();
     }
 
     @Override
     public void initialize() {
-        if (mColorType != Theme.ColorType.NONE
-                && mColorType != Theme.ColorType.CUSTOM) {
-            mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
-        }
+        final long trace = DynamicTrace.begin(DynamicTraceSection.INITIALIZE, this);
 
-        if (mTextColorType != Theme.ColorType.NONE
-                && mTextColorType != Theme.ColorType.CUSTOM) {
-            mTextColor = DynamicTheme.getInstance().resolveColorType(mTextColorType);
-        }
+        try {
+            if (mColorType != Theme.ColorType.NONE
+                    && mColorType != Theme.ColorType.CUSTOM) {
+                mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
+            }
 
-        if (mContrastWithColorType != Theme.ColorType.NONE
-                && mContrastWithColorType != Theme.ColorType.CUSTOM) {
-            mContrastWithColor = DynamicTheme.getInstance()
-                    .resolveColorType(mContrastWithColorType);
-        }
+            if (mTextColorType != Theme.ColorType.NONE
+                    && mTextColorType != Theme.ColorType.CUSTOM) {
+                mTextColor = DynamicTheme.getInstance().resolveColorType(mTextColorType);
+            }
 
-        setColor();
-        setTextColor();
+            if (mContrastWithColorType != Theme.ColorType.NONE
+                    && mContrastWithColorType != Theme.ColorType.CUSTOM) {
+                mContrastWithColor = DynamicTheme.getInstance()
+                        .resolveColorType(mContrastWithColorType);
+            }
+
+            setColor();
+            setTextColor();
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.INITIALIZE, trace);
+        }
     }
 
     @Override
@@ -270,16 +287,22 @@ public class DynamicBottomAppBar extends BottomAppBar implements DynamicTextWidg
 
     @Override
     public void setColor() {
-        if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
-            if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
-                mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
-            }
+        final long trace = DynamicTrace.begin(DynamicTraceSection.SET_COLOR, this);
 
-            if (getParent() != null && getParent() instanceof CollapsingToolbarLayout) {
-                setBackgroundColor(Color.TRANSPARENT);
-            } else {
-                setBackgroundColor(mColor);
+        try {
+            if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
+                if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
+                    mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
+                }
+
+                if (getParent() != null && getParent() instanceof CollapsingToolbarLayout) {
+                    setBackgroundColor(Color.TRANSPARENT);
+                } else {
+                    setBackgroundColor(mColor);
+                }
             }
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.SET_COLOR, trace);
         }
     }
 
@@ -28,7 +28,10 @@ import androidx.annotation.Nullable;
 
 import com.google.android.material.bottomnavigation.BottomNavigationView;
 import com.pranavpandey.android.dynamic.support.R;
+import com.pranavpandey.android.dynamic.support.theme.DynamicLayoutPool;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTrace;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTraceSection;
 import com.pranavpandey.android.dynamic.support.utils.DynamicMenuUtils;
 import com.pranavpandey.android.dynamic.support.utils.DynamicResourceUtils;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicTextWidget;
@@ -113,64 +116,78 @@ public class DynamicBottomNavigationView extends BottomNavigationView
 
     @Override
     public void loadFromAttributes(@Nullable AttributeSet attrs) {
-        TypedArray a = getContext().obtainStyledAttributes(attrs,
-                R.styleable.DynamicBottomNavigationView);
+        final long trace = DynamicTrace.begin(DynamicTraceSection.LOAD_ATTRIBUTES, this);
 
         try {
-            mColorType = a.getInt(
-                    R.styleable.DynamicBottomNavigationView_ads_colorType,
-                    Theme.ColorType.PRIMARY);
-            mTextColorType = a.getInt(
-                    R.styleable.DynamicBottomNavigationView_ads_textColorType,
-                    Theme.ColorType.TINT_PRIMARY);
-            mContrastWithColorType = a.getInt(
-                    R.styleable.DynamicBottomNavigationView_ads_contrastWithColorType,
-                    Theme.ColorType.PRIMARY);
-            mColor = a.getColor(
-                    R.styleable.DynamicBottomNavigationView_ads_color,
-                    WidgetDefaults.ADS_COLOR_UNKNOWN);
-            mTextColor = a.getColor(
-                    R.styleable.DynamicBottomNavigationView_ads_textColor,
-                    WidgetDefaults.ADS_COLOR_UNKNOWN);
-            mContrastWithColor = a.getColor(
-                    R.styleable.DynamicBottomNavigationView_ads_contrastWithColor,
-                    WidgetDefaults.getContrastWithColor(getContext()));
-            mBackgroundAware = a.getInteger(
-                    R.styleable.DynamicBottomNavigationView_ads_backgroundAware,
-                    WidgetDefaults.getBackgroundAware());
-
-            if (a.getBoolean(
-                    R.styleable.DynamicBottomNavigationView_ads_windowInsets,
-                    WidgetDefaults.ADS_WINDOW_INSETS)) {
-                applyWindowInsets();
+            TypedArray a = getContext().obtainStyledAttributes(attrs,
+                    R.styleable.DynamicBottomNavigationView);
+
+            try {
+                mColorType = a.getInt(
+                        R.styleable.DynamicBottomNavigationView_ads_colorType,
+                        Theme.ColorType.PRIMARY);
+                mTextColorType = a.getInt(
+                        R.styleable.DynamicBottomNavigationView_ads_textColorType,
+                        Theme.ColorType.TINT_PRIMARY);
+                mContrastWithColorType = a.getInt(
+                        R.styleable.DynamicBottomNavigationView_ads_contrastWithColorType,
+                        Theme.ColorType.PRIMARY);
+                mColor = a.getColor(
+                        R.styleable.DynamicBottomNavigationView_ads_color,
+                        WidgetDefaults.ADS_COLOR_UNKNOWN);
+                mTextColor = a.getColor(
+                        R.styleable.DynamicBottomNavigationView_ads_textColor,
+                        WidgetDefaults.ADS_COLOR_UNKNOWN);
+                mContrastWithColor = a.getColor(
+                        R.styleable.DynamicBottomNavigationView_ads_contrastWithColor,
+                        WidgetDefaults.getContrastWithColor(getContext()));
+                mBackgroundAware = a.getInteger(
+                        R.styleable.DynamicBottomNavigationView_ads_backgroundAware,
+                        WidgetDefaults.getBackgroundAware());
+
+                if (a.getBoolean(
+                        R.styleable.DynamicBottomNavigationView_ads_windowInsets,
+                        WidgetDefaults.ADS_WINDOW_INSETS)) {
+                    applyWindowInsets();
+                }
+            } finally {
+                a.recycle();
+            }
+
+            if (!DynamicLayoutPool.isInflating()) {
+                initialize();
             }
         } finally {
-            a.recycle();
+            DynamicTrace.end(DynamicTraceSection.LOAD_ATTRIBUTES, trace);
         }
-
-        initialize();
     }
 
     @Override
     public void initialize() {
-        if (mColorType != Theme.ColorType.NONE
-                && mColorType != Theme.ColorType.CUSTOM) {
-            mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
-        }
+        final long trace = DynamicTrace.begin(DynamicTraceSection.INITIALIZE, this);
 
-        if (mTextColorType != Theme.ColorType.NONE
-                && mTextColorType != Theme.ColorType.CUSTOM) {
-            mTextColor = DynamicTheme.getInstance().resolveColorType(mTextColorType);
-        }
+        try {
+            if (mColorType != Theme.ColorType.NONE
+                    && mColorType != Theme.ColorType.CUSTOM) {
+                mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
+            }
 
-        if (mContrastWithColorType != Theme.ColorType.NONE
-                && mContrastWithColorType != Theme.ColorType.CUSTOM) {
-            mContrastWithColor = DynamicTheme.getInstance()
-                    .resolveColorType(mContrastWithColorType);
-        }
+            if (mTextColorType != Theme.ColorType.NONE
+                    && mTextColorType != Theme.ColorType.CUSTOM) {
+                mTextColor = DynamicTheme.getInstance().resolveColorType(mTextColorType);
+            }
 
-        setColor();
-        setTextColor();
+            if (mContrastWithColorType != Theme.ColorType.NONE
+                    && mContrastWithColorType != Theme.ColorType.CUSTOM) {
+                mContrastWithColor = DynamicTheme.getInstance()
+                        .resolveColorType(mContrastWithColorType);
+            }
+
+            setColor();
+            setTextColor();
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.INITIALIZE, trace);
+        }
     }
 
     @Override
@@ -292,8 +309,14 @@ public class DynamicBottomNavigationView extends BottomNavigationView
 
     @Override
     public void setColor() {
-        if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
-            setBackgroundColor(mColor);
+        final long trace = DynamicTrace.begin(DynamicTraceSection.SET_COLOR, this);
+
+        try {
+            if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
+                setBackgroundColor(mColor);
+            }
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.SET_COLOR, trace);
         }
     }
 
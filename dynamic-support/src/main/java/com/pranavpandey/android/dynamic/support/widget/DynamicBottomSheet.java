@@ -31,6 +31,9 @@ import androidx.core.view.WindowInsetsCompat;
 
 import com.google.android.material.bottomsheet.BottomSheetBehavior;
 import com.pranavpandey.android.dynamic.support.R;
+import com.pranavpandey.android.dynamic.support.theme.DynamicLayoutPool;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTrace;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTraceSection;
 import com.pranavpandey.android.dynamic.support.widget.base.WindowInsetsWidget;
 
 /**
@@ -58,30 +61,44 @@ public class DynamicBottomSheet extends FrameLayout implements WindowInsetsWidge
 
     @Override
     public void loadFromAttributes(@Nullable AttributeSet attrs) {
-        TypedArray a = getContext().obtainStyledAttributes(attrs,
-                R.styleable.DynamicBottomSheet);
+        final long trace = DynamicTrace.begin(DynamicTraceSection.LOAD_ATTRIBUTES, this);
 
         try {
-            if (a.getBoolean(
-                    R.styleable.DynamicBottomSheet_ads_windowInsets,
-                    WidgetDefaults.ADS_WINDOW_INSETS)) {
-                applyWindowInsets();
+            TypedArray a = getContext().obtainStyledAttributes(attrs,
+                    R.styleable.DynamicBottomSheet);
+
+            try {
+                if (a.getBoolean(
+                        R.styleable.DynamicBottomSheet_ads_windowInsets,
+                        WidgetDefaults.ADS_WINDOW_INSETS)) {
+                    applyWindowInsets();
+                }
+            } finally {
+                a.recycle();
+            }
+
+            if (!DynamicLayoutPool.isInflating()) {
+                initialize();
             }
         } finally {
-            a.recycle();
+            DynamicTrace.end(DynamicTraceSection.LOAD_ATTRIBUTES, trace);
         }
-
-        initialize();
     }
 
     @Override
     public void initialize() {
-        setOnClickListener(new OnClickListener() {
-            @Override
-            public void onClick(View v) {
-                BottomSheetBehavior.from(v).setState(BottomSheetBehavior.STATE_EXPANDED);
-            }
-        });
+        final long trace = DynamicTrace.begin(DynamicTraceSection.INITIALIZE, this);
+
+        try {
+            setOnClickListener(new OnClickListener() {
+                @Override
+                public void onClick(View v) {
+                    BottomSheetBehavior.from(v).setState(BottomSheetBehavior.STATE_EXPANDED);
+                }
+            });
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.INITIALIZE, trace);
+        }
     }
 
     @Override
@@ -27,7 +27,10 @@ import androidx.annotation.Nullable;
 
 import com.google.android.material.button.MaterialButton;
 import com.pranavpandey.android.dynamic.support.R;
+import com.pranavpandey.android.dynamic.support.theme.DynamicLayoutPool;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTrace;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTraceSection;
 import com.pranavpandey.android.dynamic.support.utils.DynamicResourceUtils;
 import com.pranavpandey.android.dynamic.support.utils.DynamicTintUtils;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicCornerWidget;
@@ -128,53 +131,67 @@ public class DynamicButton extends MaterialButton implements
 
     @Override
     public void loadFromAttributes(@Nullable AttributeSet attrs) {
-        TypedArray a = getContext().obtainStyledAttributes(attrs,
-                R.styleable.DynamicButton);
+        final long trace = DynamicTrace.begin(DynamicTraceSection.LOAD_ATTRIBUTES, this);
 
         try {
-            mColorType = a.getInt(
-                    R.styleable.DynamicButton_ads_colorType,
-                    Theme.ColorType.TINT_BACKGROUND);
-            mContrastWithColorType = a.getInt(
-                    R.styleable.DynamicButton_ads_contrastWithColorType,
-                    Theme.ColorType.BACKGROUND);
-            mColor = a.getColor(
-                    R.styleable.DynamicButton_ads_color,
-                    WidgetDefaults.ADS_COLOR_UNKNOWN);
-            mContrastWithColor = a.getColor(
-                    R.styleable.DynamicButton_ads_contrastWithColor,
-                    WidgetDefaults.getContrastWithColor(getContext()));
-            mBackgroundAware = a.getInteger(
-                    R.styleable.DynamicButton_ads_backgroundAware,
-                    WidgetDefaults.getBackgroundAware());
-            mStyleBorderless = a.getBoolean(
-                    R.styleable.DynamicButton_ads_styleBorderless,
-                    WidgetDefaults.ADS_STYLE_BORDERLESS);
-            mTintBackground = a.getBoolean(
-                    R.styleable.DynamicButton_ads_tintBackground,
-                    WidgetDefaults.ADS_TINT_BACKGROUND);
+            TypedArray a = getContext().obtainStyledAttributes(attrs,
+                    R.styleable.DynamicButton);
+
+            try {
+                mColorType = a.getInt(
+                        R.styleable.DynamicButton_ads_colorType,
+                        Theme.ColorType.TINT_BACKGROUND);
+                mContrastWithColorType = a.getInt(
+                        R.styleable.DynamicButton_ads_contrastWithColorType,
+                        Theme.ColorType.BACKGROUND);
+                mColor = a.getColor(
+                        R.styleable.DynamicButton_ads_color,
+                        WidgetDefaults.ADS_COLOR_UNKNOWN);
+                mContrastWithColor = a.getColor(
+                        R.styleable.DynamicButton_ads_contrastWithColor,
+                        WidgetDefaults.getContrastWithColor(getContext()));
+                mBackgroundAware = a.getInteger(
+                        R.styleable.DynamicButton_ads_backgroundAware,
+                        WidgetDefaults.getBackgroundAware());
+                mStyleBorderless = a.getBoolean(
+                        R.styleable.DynamicButton_ads_styleBorderless,
+                        WidgetDefaults.ADS_STYLE_BORDERLESS);
+                mTintBackground = a.getBoolean(
+                        R.styleable.DynamicButton_ads_tintBackground,
+                        WidgetDefaults.ADS_TINT_BACKGROUND);
+            } finally {
+                a.recycle();
+            }
+
+            if (!DynamicLayoutPool.isInflating()) {
+                initialize();
+            }
         } finally {
-            a.recycle();
+            DynamicTrace.end(DynamicTraceSection.LOAD_ATTRIBUTES, trace);
         }
-
-        initialize();
     }
 
     @Override
     public void initialize() {
-        if (mColorType != Theme.ColorType.NONE
-                && mColorType != Theme.ColorType.CUSTOM) {
-            mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
-        }
+        final long trace = DynamicTrace.begin(DynamicTraceSection.INITIALIZE, this);
 
-        if (mContrastWithColorType != Theme.ColorType.NONE
-                && mContrastWithColorType != Theme.ColorType.CUSTOM) {
-            mContrastWithColor = DynamicTheme.getInstance()
-                    .resolveColorType(mContrastWithColorType);
-        }
+        try {
+            if (mColorType != Theme.ColorType.NONE
+                    && mColorType != Theme.ColorType.CUSTOM) {
+                mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
+            }
 
-        setCorner(DynamicTheme.getInstance().get().getCornerRadius());
-        setColor();
+            if (mContrastWithColorType != Theme.ColorType.NONE
+                    && mContrastWithColorType != Theme.ColorType.CUSTOM) {
+                mContrastWithColor = DynamicTheme.getInstance()
+                        .resolveColorType(mContrastWithColorType);
+            }
+
+            setCorner(DynamicTheme.getInstance().get().getCornerRadius());
+            setColor();
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.INITIALIZE, trace);
+        }
     }
 
     @Override
@@ -276,35 +293,41 @@ public class DynamicButton extends MaterialButton implements
 
     @Override
     public void setColor() {
-        if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
-            if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
-                mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
-            }
+        final long trace = DynamicTrace.begin(DynamicTraceSection.SET_COLOR, this);
 
-            DynamicTintUtils.setViewBackgroundTint(this, mContrastWithColor,
-                    mTintBackground ? mColor : DynamicColorUtils.getTintColor(
-                            mContrastWithColor), mStyleBorderless, false);
+        try {
+            if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
+                if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
+                    mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
+                }
 
-            if (!mStyleBorderless) {
-                if (mTintBackground) {
-                    setTextColor(DynamicResourceUtils.getColorStateList(
-                            mContrastWithColor,
-                            DynamicColorUtils.getTintColor(mColor),
-                            DynamicColorUtils.getTintColor(mColor), false));
+                DynamicTintUtils.setViewBackgroundTint(this, mContrastWithColor,
+                        mTintBackground ? mColor : DynamicColorUtils.getTintColor(
+                                mContrastWithColor), mStyleBorderless, false);
+
+                if (!mStyleBorderless) {
+                    if (mTintBackground) {
+                        setTextColor(DynamicResourceUtils.getColorStateList(
+                                mContrastWithColor,
+                                DynamicColorUtils.getTintColor(mColor),
+                                DynamicColorUtils.getTintColor(mColor), false));
+                    } else {
+                        setTextColor(DynamicResourceUtils.getColorStateList(
+                                mContrastWithColor,
+                                DynamicColorUtils.getContrastColor(mColor,
+                                        DynamicColorUtils.getTintColor(mContrastWithColor)),
+                                DynamicColorUtils.getContrastColor(mColor,
+                                        DynamicColorUtils.getTintColor(mContrastWithColor)),
+                                false));
+                    }
                 } else {
                     setTextColor(DynamicResourceUtils.getColorStateList(
-                            mContrastWithColor,
-                            DynamicColorUtils.getContrastColor(mColor,
-                                    DynamicColorUtils.getTintColor(mContrastWithColor)),
-                            DynamicColorUtils.getContrastColor(mColor,
-                                    DynamicColorUtils.getTintColor(mContrastWithColor)),
-                            false));
+                            DynamicColorUtils.getTintColor(mContrastWithColor),
+                            mColor, mColor, false));
                 }
-            } else {
-                setTextColor(DynamicResourceUtils.getColorStateList(
-                        DynamicColorUtils.getTintColor(mContrastWithColor),
-                        mColor, mColor, false));
             }
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.SET_COLOR, trace);
         }
     }
 }
\ No newline at end of file
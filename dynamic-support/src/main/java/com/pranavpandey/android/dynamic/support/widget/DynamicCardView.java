@@ -28,7 +28,10 @@ import androidx.annotation.Nullable;
 import androidx.cardview.widget.CardView;
 
 import com.pranavpandey.android.dynamic.support.R;
+import com.pranavpandey.android.dynamic.support.theme.DynamicLayoutPool;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTrace;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTraceSection;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicCornerWidget;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicSurfaceWidget;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicWidget;
@@ -113,53 +116,67 @@ public class DynamicCardView extends CardView implements
 
     @Override
     public void loadFromAttributes(@Nullable AttributeSet attrs) {
-        TypedArray a = getContext().obtainStyledAttributes(attrs,
-                R.styleable.DynamicCardView);
+        final long trace = DynamicTrace.begin(DynamicTraceSection.LOAD_ATTRIBUTES, this);
 
         try {
-            mColorType = a.getInt(
-                    R.styleable.DynamicCardView_ads_colorType,
-                    Theme.ColorType.SURFACE);
-            mContrastWithColorType = a.getInt(
-                    R.styleable.DynamicCardView_ads_contrastWithColorType,
-                    Theme.ColorType.BACKGROUND);
-            mColor = a.getColor(
-                    R.styleable.DynamicCardView_ads_color,
-                    WidgetDefaults.ADS_COLOR_UNKNOWN);
-            mContrastWithColor = a.getColor(
-                    R.styleable.DynamicCardView_ads_contrastWithColor,
-                    WidgetDefaults.ADS_COLOR_UNKNOWN);
-            mBackgroundAware = a.getInteger(
-                    R.styleable.DynamicCardView_ads_backgroundAware,
-                    Theme.BackgroundAware.DISABLE);
-            mElevationOnSameBackground = a.getBoolean(
-                    R.styleable.DynamicCardView_ads_elevationOnSameBackground,
-                    WidgetDefaults.ADS_ELEVATION_ON_SAME_BACKGROUND);
-            mElevation = getCardElevation();
+            TypedArray a = getContext().obtainStyledAttributes(attrs,
+                    R.styleable.DynamicCardView);
+
+            try {
+                mColorType = a.getInt(
+                        R.styleable.DynamicCardView_ads_colorType,
+                        Theme.ColorType.SURFACE);
+                mContrastWithColorType = a.getInt(
+                        R.styleable.DynamicCardView_ads_contrastWithColorType,
+                        Theme.ColorType.BACKGROUND);
+                mColor = a.getColor(
+                        R.styleable.DynamicCardView_ads_color,
+                        WidgetDefaults.ADS_COLOR_UNKNOWN);
+                mContrastWithColor = a.getColor(
+                        R.styleable.DynamicCardView_ads_contrastWithColor,
+                        WidgetDefaults.ADS_COLOR_UNKNOWN);
+                mBackgroundAware = a.getInteger(
+                        R.styleable.DynamicCardView_ads_backgroundAware,
+                        Theme.BackgroundAware.DISABLE);
+                mElevationOnSameBackground = a.getBoolean(
+                        R.styleable.DynamicCardView_ads_elevationOnSameBackground,
+                        WidgetDefaults.ADS_ELEVATION_ON_SAME_BACKGROUND);
+                mElevation = getCardElevation();
+            } finally {
+                a.recycle();
+            }
+
+            if (!DynamicLayoutPool.isInflating()) {
+                initialize();
+            }
         } finally {
-            a.recycle();
+            DynamicTrace.end(DynamicTraceSection.LOAD_ATTRIBUTES, trace);
         }
-
-        initialize();
     }
 
     @Override
     public void initialize() {
-        if (mColorType != Theme.ColorType.NONE
-                && mColorType != Theme.ColorType.CUSTOM) {
-            mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
-        }
+        final long trace = DynamicTrace.begin(DynamicTraceSection.INITIALIZE, this);
 
-        if (mContrastWithColorType != Theme.ColorType.NONE
-                && mContrastWithColorType != Theme.ColorType.CUSTOM) {
-            mContrastWithColor = DynamicTheme.getInstance()
-                    .resolveColorType(mContrastWithColorType);
-        }
+        try {
+            if (mColorType != Theme.ColorType.NONE
+                    && mColorType != Theme.ColorType.CUSTOM) {
+                mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
+            }
+
+            if (mContrastWithColorType != Theme.ColorType.NONE
+                    && mContrastWithColorType != Theme.ColorType.CUSTOM) {
+                mContrastWithColor = DynamicTheme.getInstance()
+                        .resolveColorType(mContrastWithColorType);
+            }
 
-        if (getCorner() != 0) {
-            setCorner((float) DynamicTheme.getInstance().get().getCornerRadius());
+            if (getCorner() != 0) {
+                setCorner((float) DynamicTheme.getInstance().get().getCornerRadius());
+            }
+            setColor();
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.INITIALIZE, trace);
         }
-        setColor();
     }
 
     @Override
@@ -249,17 +266,23 @@ public class DynamicCardView extends CardView implements
 
     @Override
     public void setColor() {
-        if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
-            if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
-                mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
-            }
+        final long trace = DynamicTrace.begin(DynamicTraceSection.SET_COLOR, this);
 
-            if (mElevationOnSameBackground && isBackgroundSurface()) {
-                mColor = DynamicTheme.getInstance().generateSurfaceColor(mColor);
-            }
+        try {
+            if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
+                if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
+                    mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
+                }
+
+                if (mElevationOnSameBackground && isBackgroundSurface()) {
+                    mColor = DynamicTheme.getInstance().generateSurfaceColor(mColor);
+                }
 
-            setCardBackgroundColor(DynamicColorUtils.removeAlpha(mColor));
-            setSurface();
+                setCardBackgroundColor(DynamicColorUtils.removeAlpha(mColor));
+                setSurface();
+            }
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.SET_COLOR, trace);
         }
     }
 
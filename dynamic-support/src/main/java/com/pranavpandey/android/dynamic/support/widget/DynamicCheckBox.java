@@ -31,7 +31,10 @@ import androidx.core.widget.CompoundButtonCompat;
 
 import com.google.android.material.checkbox.MaterialCheckBox;
 import com.pranavpandey.android.dynamic.support.R;
+import com.pranavpandey.android.dynamic.support.theme.DynamicLayoutPool;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTrace;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTraceSection;
 import com.pranavpandey.android.dynamic.support.utils.DynamicResourceUtils;
 import com.pranavpandey.android.dynamic.support.utils.DynamicTintUtils;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicWidget;
@@ -100,46 +103,60 @@ public class DynamicCheckBox extends MaterialCheckBox implements DynamicWidget {
 
     @Override
     public void loadFromAttributes(@Nullable AttributeSet attrs) {
-        TypedArray a = getContext().obtainStyledAttributes(attrs,
-                R.styleable.DynamicCheckBox);
+        final long trace = DynamicTrace.begin(DynamicTraceSection.LOAD_ATTRIBUTES, this);
 
         try {
-            mColorType = a.getInt(
-                    R.styleable.DynamicCheckBox_ads_colorType,
-                    Theme.ColorType.ACCENT);
-            mContrastWithColorType = a.getInt(
-                    R.styleable.DynamicCheckBox_ads_contrastWithColorType,
-                    Theme.ColorType.BACKGROUND);
-            mColor = a.getColor(
-                    R.styleable.DynamicCheckBox_ads_color,
-                    WidgetDefaults.ADS_COLOR_UNKNOWN);
-            mContrastWithColor = a.getColor(
-                    R.styleable.DynamicCheckBox_ads_contrastWithColor,
-                    WidgetDefaults.getContrastWithColor(getContext()));
-            mBackgroundAware = a.getInteger(
-                    R.styleable.DynamicCheckBox_ads_backgroundAware,
-                    WidgetDefaults.getBackgroundAware());
+            TypedArray a = getContext().obtainStyledAttributes(attrs,
+                    R.styleable.DynamicCheckBox);
+
+            try {
+                mColorType = a.getInt(
+                        R.styleable.DynamicCheckBox_ads_colorType,
+                        Theme.ColorType.ACCENT);
+                mContrastWithColorType = a.getInt(
+                        R.styleable.DynamicCheckBox_ads_contrastWithColorType,
+                        Theme.ColorType.BACKGROUND);
+                mColor = a.getColor(
+                        R.styleable.DynamicCheckBox_ads_color,
+                        WidgetDefaults.ADS_COLOR_UNKNOWN);
+                mContrastWithColor = a.getColor(
+                        R.styleable.DynamicCheckBox_ads_contrastWithColor,
+                        WidgetDefaults.getContrastWithColor(getContext()));
+                mBackgroundAware = a.getInteger(
+                        R.styleable.DynamicCheckBox_ads_backgroundAware,
+                        WidgetDefaults.getBackgroundAware());
+            } finally {
+                a.recycle();
+            }
+
+            if (!DynamicLayoutPool.isInflating()) {
+                initialize();
+            }
         } finally {
-            a.recycle();
+            DynamicTrace.end(DynamicTraceSection.LOAD_ATTRIBUTES, trace);
         }
-
-        initialize();
     }
 
     @Override
     public void initialize() {
-        if (mColorType != Theme.ColorType.NONE
-                && mColorType != Theme.ColorType.CUSTOM) {
-            mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
-        }
+        final long trace = DynamicTrace.begin(DynamicTraceSection.INITIALIZE, this);
 
-        if (mContrastWithColorType != Theme.ColorType.NONE
-                && mContrastWithColorType != Theme.ColorType.CUSTOM) {
-            mContrastWithColor = DynamicTheme.getInstance()
-                    .resolveColorType(mContrastWithColorType);
-        }
+        try {
+            if (mColorType != Theme.ColorType.NONE
+                    && mColorType != Theme.ColorType.CUSTOM) {
+                mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
+            }
 
-        setColor();
+            if (mContrastWithColorType != Theme.ColorType.NONE
+                    && mContrastWithColorType != Theme.ColorType.CUSTOM) {
+                mContrastWithColor = DynamicTheme.getInstance()
+                        .resolveColorType(mContrastWithColorType);
+            }
+
+            setColor();
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.INITIALIZE, trace);
+        }
     }
 
     @Override
@@ -221,22 +238,28 @@ public class DynamicCheckBox extends MaterialCheckBox implements DynamicWidget {
     @TargetApi(Build.VERSION_CODES.M)
     @Override
     public void setColor() {
-        if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
-            @ColorInt int tintColor = DynamicTheme.getInstance().get().getTintBackgroundColor();
+        final long trace = DynamicTrace.begin(DynamicTraceSection.SET_COLOR, this);
 
-            if (isBackgroundAware()) {
-                tintColor = DynamicColorUtils.getContrastColor(
-                        tintColor, DynamicTheme.getInstance().get().getBackgroundColor());
+        try {
+            if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
+                @ColorInt int tintColor = DynamicTheme.getInstance().get().getTintBackgroundColor();
 
-                if (mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
-                    mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
+                if (isBackgroundAware()) {
+                    tintColor = DynamicColorUtils.getContrastColor(
+                            tintColor, DynamicTheme.getInstance().get().getBackgroundColor());
+
+                    if (mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
+                        mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
+                    }
                 }
-            }
 
-            DynamicTintUtils.setViewBackgroundTint(this,
-                    mContrastWithColor, mColor, true, true);
-            CompoundButtonCompat.setButtonTintList(this,
-                    DynamicResourceUtils.getColorStateList(tintColor, mColor, true));
+                DynamicTintUtils.setViewBackgroundTint(this,
+                        mContrastWithColor, mColor, true, true);
+                CompoundButtonCompat.setButtonTintList(this,
+                        DynamicResourceUtils.getColorStateList(tintColor, mColor, true));
+            }
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.SET_COLOR, trace);
         }
     }
 }
@@ -30,7 +30,10 @@ import androidx.annotation.Nullable;
 import androidx.appcompat.widget.AppCompatCheckedTextView;
 
 import com.pranavpandey.android.dynamic.support.R;
+import com.pranavpandey.android.dynamic.support.theme.DynamicLayoutPool;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTrace;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTraceSection;
 import com.pranavpandey.android.dynamic.support.utils.DynamicResourceUtils;
 import com.pranavpandey.android.dynamic.support.utils.DynamicTintUtils;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicWidget;
@@ -102,43 +105,57 @@ public class DynamicCheckedTextView extends AppCompatCheckedTextView implements
 
     @Override
     public void loadFromAttributes(@Nullable AttributeSet attrs) {
-        TypedArray a = getContext().obtainStyledAttributes(attrs, 
-                R.styleable.DynamicCheckedTextView);
+        final long trace = DynamicTrace.begin(DynamicTraceSection.LOAD_ATTRIBUTES, this);
 
         try {
-            mColorType = a.getInt(
-                    R.styleable.DynamicCheckedTextView_ads_colorType,
-                    Theme.ColorType.ACCENT);
-            mContrastWithColorType = a.getInt(
-                    R.styleable.DynamicCheckedTextView_ads_contrastWithColorType,
-                    Theme.ColorType.BACKGROUND);
-            mColor = a.getColor(
-                    R.styleable.DynamicCheckedTextView_ads_color,
-                    WidgetDefaults.ADS_COLOR_UNKNOWN);
-            mContrastWithColor = a.getColor(
-                    R.styleable.DynamicCheckedTextView_ads_contrastWithColor,
-                    WidgetDefaults.getContrastWithColor(getContext()));
-            mBackgroundAware = a.getInteger(
-                    R.styleable.DynamicCheckedTextView_ads_backgroundAware,
-                    WidgetDefaults.getBackgroundAware());
+            TypedArray a = getContext().obtainStyledAttributes(attrs, 
+                    R.styleable.DynamicCheckedTextView);
+
+            try {
+                mColorType = a.getInt(
+                        R.styleable.DynamicCheckedTextView_ads_colorType,
+                        Theme.ColorType.ACCENT);
+                mContrastWithColorType = a.getInt(
+                        R.styleable.DynamicCheckedTextView_ads_contrastWithColorType,
+                        Theme.ColorType.BACKGROUND);
+                mColor = a.getColor(
+                        R.styleable.DynamicCheckedTextView_ads_color,
+                        WidgetDefaults.ADS_COLOR_UNKNOWN);
+                mContrastWithColor = a.getColor(
+                        R.styleable.DynamicCheckedTextView_ads_contrastWithColor,
+                        WidgetDefaults.getContrastWithColor(getContext()));
+                mBackgroundAware = a.getInteger(
+                        R.styleable.DynamicCheckedTextView_ads_backgroundAware,
+                        WidgetDefaults.getBackgroundAware());
+            } finally {
+                a.recycle();
+            }
+
+            if (!DynamicLayoutPool.isInflating()) {
+                initialize();
+            }
         } finally {
-            a.recycle();
+            DynamicTrace.end(DynamicTraceSection.LOAD_ATTRIBUTES, trace);
         }
-
-        initialize();
     }
 
     @Override
     public void initialize() {
-        if (mColorType != Theme.ColorType.NONE
-                && mColorType != Theme.ColorType.CUSTOM) {
-            mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
-        }
+        final long trace = DynamicTrace.begin(DynamicTraceSection.INITIALIZE, this);
+
+        try {
+            if (mColorType != Theme.ColorType.NONE
+                    && mColorType != Theme.ColorType.CUSTOM) {
+                mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
+            }
 
-        if (mContrastWithColorType != Theme.ColorType.NONE
-                && mContrastWithColorType != Theme.ColorType.CUSTOM) {
-            mContrastWithColor = DynamicTheme.getInstance()
-                    .resolveColorType(mContrastWithColorType);
+            if (mContrastWithColorType != Theme.ColorType.NONE
+                    && mContrastWithColorType != Theme.ColorType.CUSTOM) {
+                mContrastWithColor = DynamicTheme.getInstance()
+                        .resolveColorType(mContrastWithColorType);
+            }
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.INITIALIZE, trace);
         }
     }
 
@@ -227,32 +244,38 @@ public class DynamicCheckedTextView extends AppCompatCheckedTextView implements
     @TargetApi(Build.VERSION_CODES.M)
     @Override
     public void setColor() {
-        if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
-            @ColorInt int tintColor = DynamicTheme.getInstance().get().getTintBackgroundColor();
+        final long trace = DynamicTrace.begin(DynamicTraceSection.SET_COLOR, this);
+
+        try {
+            if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
+                @ColorInt int tintColor = DynamicTheme.getInstance().get().getTintBackgroundColor();
 
-            if (isBackgroundAware()) {
-                tintColor = DynamicColorUtils.getContrastColor(
-                        tintColor, DynamicTheme.getInstance().get().getBackgroundColor());
+                if (isBackgroundAware()) {
+                    tintColor = DynamicColorUtils.getContrastColor(
+                            tintColor, DynamicTheme.getInstance().get().getBackgroundColor());
 
-                if (mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
-                    mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
+                    if (mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
+                        mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
+                    }
                 }
-            }
 
-            DynamicTintUtils.setViewBackgroundTint(this,
-                    mContrastWithColor, mColor, true, true);
-
-            if (DynamicSdkUtils.is23()) {
-                setCompoundDrawableTintList(DynamicResourceUtils.getColorStateList(
-                        tintColor, mColor, true));
-            } else {
-                final Drawable[] compoundDrawables = getCompoundDrawables();
-                for (Drawable compoundDrawable : compoundDrawables) {
-                    if (compoundDrawable != null) {
-                        DynamicDrawableUtils.colorizeDrawable(compoundDrawable, mColor);
+                DynamicTintUtils.setViewBackgroundTint(this,
+                        mContrastWithColor, mColor, true, true);
+
+                if (DynamicSdkUtils.is23()) {
+                    setCompoundDrawableTintList(DynamicResourceUtils.getColorStateList(
+                            tintColor, mColor, true));
+                } else {
+                    final Drawable[] compoundDrawables = getCompoundDrawables();
+                    for (Drawable compoundDrawable : compoundDrawables) {
+                        if (compoundDrawable != null) {
+                            DynamicDrawableUtils.colorizeDrawable(compoundDrawable, mColor);
+                        }
                     }
                 }
             }
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.SET_COLOR, trace);
         }
     }
 }
\ No newline at end of file
@@ -31,6 +31,9 @@ import androidx.core.view.WindowInsetsCompat;
 import com.google.android.material.appbar.CollapsingToolbarLayout;
 import com.pranavpandey.android.dynamic.locale.DynamicLocaleUtils;
 import com.pranavpandey.android.dynamic.support.R;
+import com.pranavpandey.android.dynamic.support.theme.DynamicLayoutPool;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTrace;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTraceSection;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicRtlWidget;
 import com.pranavpandey.android.dynamic.support.widget.base.WindowInsetsWidget;
 
@@ -64,31 +67,45 @@ public class DynamicCollapsingToolbarLayout extends CollapsingToolbarLayout
 
     @Override
     public void loadFromAttributes(@Nullable AttributeSet attrs) {
-        TypedArray a = getContext().obtainStyledAttributes(attrs,
-                R.styleable.DynamicCollapsingToolbarLayout);
+        final long trace = DynamicTrace.begin(DynamicTraceSection.LOAD_ATTRIBUTES, this);
 
         try {
-            if (attrs != null) {
-                mRtlSupport = a.getBoolean(
-                        R.styleable.DynamicCollapsingToolbarLayout_ads_rtlSupport,
-                        WidgetDefaults.ADS_RTL_SUPPORT);
-
-                if (a.getBoolean(
-                        R.styleable.DynamicCollapsingToolbarLayout_ads_windowInsets,
-                        WidgetDefaults.ADS_WINDOW_INSETS)) {
-                    applyWindowInsets();
+            TypedArray a = getContext().obtainStyledAttributes(attrs,
+                    R.styleable.DynamicCollapsingToolbarLayout);
+
+            try {
+                if (attrs != null) {
+                    mRtlSupport = a.getBoolean(
+                            R.styleable.DynamicCollapsingToolbarLayout_ads_rtlSupport,
+                            WidgetDefaults.ADS_RTL_SUPPORT);
+
+                    if (a.getBoolean(
+                            R.styleable.DynamicCollapsingToolbarLayout_ads_windowInsets,
+                            WidgetDefaults.ADS_WINDOW_INSETS)) {
+                        applyWindowInsets();
+                    }
                 }
+            } finally {
+                a.recycle();
+            }
+
+            if (!DynamicLayoutPool.isInflating()) {
+                initialize();
             }
         } finally {
-            a.recycle();
+            DynamicTrace.end(DynamicTraceSection.LOAD_ATTRIBUTES, trace);
         }
-
-        initialize();
     }
 
     @Override
     public void initialize() {
-        setRtlSupport(mRtlSupport);
+        final long trace = DynamicTrace.begin(DynamicTraceSection.INITIALIZE, this);
+
+        try {
+            setRtlSupport(mRtlSupport);
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.INITIALIZE, trace);
+        }
     }
 
     @Override
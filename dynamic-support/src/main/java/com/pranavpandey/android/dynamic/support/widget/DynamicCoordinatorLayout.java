@@ -30,6 +30,9 @@ import androidx.core.view.ViewCompat;
 import androidx.core.view.WindowInsetsCompat;
 
 import com.pranavpandey.android.dynamic.support.R;
+import com.pranavpandey.android.dynamic.support.theme.DynamicLayoutPool;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTrace;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTraceSection;
 import com.pranavpandey.android.dynamic.support.widget.base.WindowInsetsWidget;
 
 /**
@@ -54,20 +57,28 @@ public class DynamicCoordinatorLayout extends CoordinatorLayout implements Windo
 
     @Override
     public void loadFromAttributes(@Nullable AttributeSet attrs) {
-        TypedArray a = getContext().obtainStyledAttributes(attrs,
-                R.styleable.DynamicCoordinatorLayout);
+        final long trace = DynamicTrace.begin(DynamicTraceSection.LOAD_ATTRIBUTES, this);
 
         try {
-            if (a.getBoolean(
-                    R.styleable.DynamicCoordinatorLayout_ads_windowInsets,
-                    WidgetDefaults.ADS_WINDOW_INSETS)) {
-                applyWindowInsets();
+            TypedArray a = getContext().obtainStyledAttributes(attrs,
+                    R.styleable.DynamicCoordinatorLayout);
+
+            try {
+                if (a.getBoolean(
+                        R.styleable.DynamicCoordinatorLayout_ads_windowInsets,
+                        WidgetDefaults.ADS_WINDOW_INSETS)) {
+                    applyWindowInsets();
+                }
+            } finally {
+                a.recycle();
+            }
+
+            if (!DynamicLayoutPool.isInflating()) {
+                initialize();
             }
         } finally {
-            a.recycle();
+            DynamicTrace.end(DynamicTraceSection.LOAD_ATTRIBUTES, trace);
         }
-
-        initialize();
     }
 
     @Override
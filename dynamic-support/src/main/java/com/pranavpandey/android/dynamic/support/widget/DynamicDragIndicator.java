@@ -25,6 +25,8 @@ import androidx.annotation.Nullable;
 
 import com.pranavpandey.android.dynamic.support.R;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTrace;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTraceSection;
 
 /**
  * A {@link DynamicImageView} to show the drag indicator according to the {@link DynamicTheme}.
@@ -46,16 +48,22 @@ public class DynamicDragIndicator extends DynamicImageView {
 
     @Override
     public void initialize() {
-        super.initialize();
-
-        if (DynamicTheme.getInstance().get().getCornerSizeDp()
-                < WidgetDefaults.ADS_CORNER_MIN_THEME) {
-            setImageResource(R.drawable.ads_theme_overlay);
-        } else if (DynamicTheme.getInstance().get().getCornerSizeDp()
-                < WidgetDefaults.ADS_CORNER_MIN_THEME_ROUND) {
-            setImageResource(R.drawable.ads_theme_overlay_rect);
-        } else {
-            setImageResource(R.drawable.ads_theme_overlay_round);
+        final long trace = DynamicTrace.begin(DynamicTraceSection.INITIALIZE, this);
+
+        try {
+            super.initialize();
+
+            if (DynamicTheme.getInstance().get().getCornerSizeDp()
+                    < WidgetDefaults.ADS_CORNER_MIN_THEME) {
+                setImageResource(R.drawable.ads_theme_overlay);
+            } else if (DynamicTheme.getInstance().get().getCornerSizeDp()
+                    < WidgetDefaults.ADS_CORNER_MIN_THEME_ROUND) {
+                setImageResource(R.drawable.ads_theme_overlay_rect);
+            } else {
+                setImageResource(R.drawable.ads_theme_overlay_round);
+            }
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.INITIALIZE, trace);
         }
     }
 }
@@ -27,6 +27,9 @@ import androidx.annotation.Nullable;
 import androidx.drawerlayout.widget.DrawerLayout;
 
 import com.pranavpandey.android.dynamic.support.R;
+import com.pranavpandey.android.dynamic.support.theme.DynamicLayoutPool;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTrace;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTraceSection;
 import com.pranavpandey.android.dynamic.support.widget.base.WindowInsetsWidget;
 import com.pranavpandey.android.dynamic.utils.DynamicViewUtils;
 
@@ -59,20 +62,28 @@ public class DynamicDrawerLayout extends DrawerLayout implements WindowInsetsWid
 
     @Override
     public void loadFromAttributes(@Nullable AttributeSet attrs) {
-        TypedArray a = getContext().obtainStyledAttributes(attrs,
-                R.styleable.DynamicDrawerLayout);
+        final long trace = DynamicTrace.begin(DynamicTraceSection.LOAD_ATTRIBUTES, this);
 
         try {
-            if (a.getBoolean(
-                    R.styleable.DynamicDrawerLayout_ads_windowInsets,
-                    WidgetDefaults.ADS_WINDOW_INSETS)) {
-                applyWindowInsets();
+            TypedArray a = getContext().obtainStyledAttributes(attrs,
+                    R.styleable.DynamicDrawerLayout);
+
+            try {
+                if (a.getBoolean(
+                        R.styleable.DynamicDrawerLayout_ads_windowInsets,
+                        WidgetDefaults.ADS_WINDOW_INSETS)) {
+                    applyWindowInsets();
+                }
+            } finally {
+                a.recycle();
+            }
+
+            if (!DynamicLayoutPool.isInflating()) {
+                initialize();
             }
         } finally {
-            a.recycle();
+            DynamicTrace.end(DynamicTraceSection.LOAD_ATTRIBUTES, trace);
         }
-
-        initialize();
     }
 
     @Override
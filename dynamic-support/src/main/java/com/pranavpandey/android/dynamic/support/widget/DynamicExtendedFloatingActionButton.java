@@ -30,7 +30,10 @@ import androidx.annotation.Nullable;
 
 import com.google.android.material.floatingactionbutton.ExtendedFloatingActionButton;
 import com.pranavpandey.android.dynamic.support.R;
+import com.pranavpandey.android.dynamic.support.theme.DynamicLayoutPool;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTrace;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTraceSection;
 import com.pranavpandey.android.dynamic.support.utils.DynamicResourceUtils;
 import com.pranavpandey.android.dynamic.support.utils.DynamicTintUtils;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicWidget;
@@ -111,81 +114,95 @@ public class DynamicExtendedFloatingActionButton extends
 
     @Override
     public void loadFromAttributes(@Nullable AttributeSet attrs) {
-        TypedArray a = getContext().obtainStyledAttributes(attrs, 
-                R.styleable.DynamicExtendedFloatingActionButton);
+        final long trace = DynamicTrace.begin(DynamicTraceSection.LOAD_ATTRIBUTES, this);
 
         try {
-            mColorType = a.getInt(
-                    R.styleable.DynamicExtendedFloatingActionButton_ads_colorType,
-                    Theme.ColorType.ACCENT);
-            mContrastWithColorType = a.getInt(
-                    R.styleable.DynamicExtendedFloatingActionButton_ads_contrastWithColorType,
-                    Theme.ColorType.BACKGROUND);
-            mColor = a.getColor(
-                    R.styleable.DynamicExtendedFloatingActionButton_ads_color,
-                    WidgetDefaults.ADS_COLOR_UNKNOWN);
-            mContrastWithColor = a.getColor(
-                    R.styleable.DynamicExtendedFloatingActionButton_ads_contrastWithColor,
-                    WidgetDefaults.getContrastWithColor(getContext()));
-            mBackgroundAware = a.getInteger(
-                    R.styleable.DynamicExtendedFloatingActionButton_ads_backgroundAware,
-                    WidgetDefaults.getBackgroundAware());
+            TypedArray a = getContext().obtainStyledAttributes(attrs, 
+                    R.styleable.DynamicExtendedFloatingActionButton);
+
+            try {
+                mColorType = a.getInt(
+                        R.styleable.DynamicExtendedFloatingActionButton_ads_colorType,
+                        Theme.ColorType.ACCENT);
+                mContrastWithColorType = a.getInt(
+                        R.styleable.DynamicExtendedFloatingActionButton_ads_contrastWithColorType,
+                        Theme.ColorType.BACKGROUND);
+                mColor = a.getColor(
+                        R.styleable.DynamicExtendedFloatingActionButton_ads_color,
+                        WidgetDefaults.ADS_COLOR_UNKNOWN);
+                mContrastWithColor = a.getColor(
+                        R.styleable.DynamicExtendedFloatingActionButton_ads_contrastWithColor,
+                        WidgetDefaults.getContrastWithColor(getContext()));
+                mBackgroundAware = a.getInteger(
+                        R.styleable.DynamicExtendedFloatingActionButton_ads_backgroundAware,
+                        WidgetDefaults.getBackgroundAware());
+            } finally {
+                a.recycle();
+            }
+
+            if (!DynamicLayoutPool.isInflating()) {
+                initialize();
+            }
         } finally {
-            a.recycle();
+            DynamicTrace.end(DynamicTraceSection.LOAD_ATTRIBUTES, trace);
         }
-
-        initialize();
     }
 
     @Override
     public void initialize() {
-        mFABExtended = true;
-        mAllowExtended = true;
+        final long trace = DynamicTrace.begin(DynamicTraceSection.INITIALIZE, this);
 
-        addOnExtendAnimationListener(new Animator.AnimatorListener() {
-            @Override
-            public void onAnimationStart(Animator animation) { }
+        try {
+            mFABExtended = true;
+            mAllowExtended = true;
 
-            @Override
-            public void onAnimationEnd(Animator animation) {
-                mFABExtended = true;
-            }
+            addOnExtendAnimationListener(new Animator.AnimatorListener() {
+                @Override
+                public void onAnimationStart(Animator animation) { }
 
-            @Override
-            public void onAnimationCancel(Animator animation) { }
+                @Override
+                public void onAnimationEnd(Animator animation) {
+                    mFABExtended = true;
+                }
 
-            @Override
-            public void onAnimationRepeat(Animator animation) { }
-        });
+                @Override
+                public void onAnimationCancel(Animator animation) { }
 
-        addOnShrinkAnimationListener(new Animator.AnimatorListener() {
-            @Override
-            public void onAnimationStart(Animator animation) { }
+                @Override
+                public void onAnimationRepeat(Animator animation) { }
+            });
 
-            @Override
-            public void onAnimationEnd(Animator animation) {
-                mFABExtended = false;
-            }
+            addOnShrinkAnimationListener(new Animator.AnimatorListener() {
+                @Override
+                public void onAnimationStart(Animator animation) { }
 
-            @Override
-            public void onAnimationCancel(Animator animation) { }
+                @Override
+                public void onAnimationEnd(Animator animation) {
+                    mFABExtended = false;
+                }
 
-            @Override
-            public void onAnimationRepeat(Animator animation) { }
-        });
+                @Override
+                public void onAnimationCancel(Animator animation) { }
 
-        if (mColorType != Theme.ColorType.NONE
-                && mColorType != Theme.ColorType.CUSTOM) {
-            mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
-        }
+                @Override
+                public void onAnimationRepeat(Animator animation) { }
+            });
 
-        if (mContrastWithColorType != Theme.ColorType.NONE
-                && mContrastWithColorType != Theme.ColorType.CUSTOM) {
-            mContrastWithColor = DynamicTheme.getInstance()
-                    .resolveColorType(mContrastWithColorType);
-        }
+            if (mColorType != Theme.ColorType.NONE
+                    && mColorType != Theme.ColorType.CUSTOM) {
+                mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
+            }
 
-        setColor();
+            if (mContrastWithColorType != Theme.ColorType.NONE
+                    && mContrastWithColorType != Theme.ColorType.CUSTOM) {
+                mContrastWithColor = DynamicTheme.getInstance()
+                        .resolveColorType(mContrastWithColorType);
+            }
+
+            setColor();
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.INITIALIZE, trace);
+        }
     }
 
     @Override
@@ -308,19 +325,25 @@ public class DynamicExtendedFloatingActionButton extends
 
     @Override
     public void setColor() {
-        if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
-            if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
-                mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
-            }
-
-            DynamicTintUtils.setViewBackgroundTint(this,
-                    mContrastWithColor, mColor, false, false);
+        final long trace = DynamicTrace.begin(DynamicTraceSection.SET_COLOR, this);
 
-            ColorStateList colorStateList = DynamicResourceUtils.getColorStateList(
-                    mContrastWithColor, DynamicColorUtils.getTintColor(mColor),
-                    DynamicColorUtils.getTintColor(mColor), false);
-            setIconTint(colorStateList);
-            setTextColor(colorStateList);
+        try {
+            if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
+                if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
+                    mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
+                }
+
+                DynamicTintUtils.setViewBackgroundTint(this,
+                        mContrastWithColor, mColor, false, false);
+
+                ColorStateList colorStateList = DynamicResourceUtils.getColorStateList(
+                        mContrastWithColor, DynamicColorUtils.getTintColor(mColor),
+                        DynamicColorUtils.getTintColor(mColor), false);
+                setIconTint(colorStateList);
+                setTextColor(colorStateList);
+            }
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.SET_COLOR, trace);
         }
     }
 }
\ No newline at end of file
@@ -27,7 +27,10 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import com.pranavpandey.android.dynamic.support.R;
+import com.pranavpandey.android.dynamic.support.theme.DynamicLayoutPool;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTrace;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTraceSection;
 import com.pranavpandey.android.dynamic.support.utils.DynamicScrollUtils;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicScrollableWidget;
 import com.pranavpandey.android.dynamic.support.widget.base.WindowInsetsWidget;
@@ -110,64 +113,78 @@ public class DynamicGridView extends GridView
 
     @Override
     public void loadFromAttributes(@Nullable AttributeSet attrs) {
-        TypedArray a = getContext().obtainStyledAttributes(attrs, 
-                R.styleable.DynamicGridView);
+        final long trace = DynamicTrace.begin(DynamicTraceSection.LOAD_ATTRIBUTES, this);
 
         try {
-            mColorType = a.getInt(
-                    R.styleable.DynamicGridView_ads_colorType,
-                    WidgetDefaults.ADS_COLOR_EDGE_EFFECT);
-            mScrollBarColorType = a.getInt(
-                    R.styleable.DynamicGridView_ads_scrollBarColorType,
-                    WidgetDefaults.ADS_COLOR_SCROLL_BAR);
-            mContrastWithColorType = a.getInt(
-                    R.styleable.DynamicGridView_ads_contrastWithColorType,
-                    Theme.ColorType.BACKGROUND);
-            mColor = a.getColor(
-                    R.styleable.DynamicGridView_ads_color,
-                    WidgetDefaults.ADS_COLOR_UNKNOWN);
-            mScrollBarColor = a.getColor(
-                    R.styleable.DynamicGridView_ads_scrollBarColor,
-                    WidgetDefaults.ADS_COLOR_UNKNOWN);
-            mContrastWithColor = a.getColor(
-                    R.styleable.DynamicGridView_ads_contrastWithColor,
-                    WidgetDefaults.getContrastWithColor(getContext()));
-            mBackgroundAware = a.getInteger(
-                    R.styleable.DynamicGridView_ads_backgroundAware,
-                    WidgetDefaults.getBackgroundAware());
-
-            if (a.getBoolean(
-                    R.styleable.DynamicGridView_ads_windowInsets,
-                    WidgetDefaults.ADS_WINDOW_INSETS)) {
-                applyWindowInsets();
+            TypedArray a = getContext().obtainStyledAttributes(attrs, 
+                    R.styleable.DynamicGridView);
+
+            try {
+                mColorType = a.getInt(
+                        R.styleable.DynamicGridView_ads_colorType,
+                        WidgetDefaults.ADS_COLOR_EDGE_EFFECT);
+                mScrollBarColorType = a.getInt(
+                        R.styleable.DynamicGridView_ads_scrollBarColorType,
+                        WidgetDefaults.ADS_COLOR_SCROLL_BAR);
+                mContrastWithColorType = a.getInt(
+                        R.styleable.DynamicGridView_ads_contrastWithColorType,
+                        Theme.ColorType.BACKGROUND);
+                mColor = a.getColor(
+                        R.styleable.DynamicGridView_ads_color,
+                        WidgetDefaults.ADS_COLOR_UNKNOWN);
+                mScrollBarColor = a.getColor(
+                        R.styleable.DynamicGridView_ads_scrollBarColor,
+                        WidgetDefaults.ADS_COLOR_UNKNOWN);
+                mContrastWithColor = a.getColor(
+                        R.styleable.DynamicGridView_ads_contrastWithColor,
+                        WidgetDefaults.getContrastWithColor(getContext()));
+                mBackgroundAware = a.getInteger(
+                        R.styleable.DynamicGridView_ads_backgroundAware,
+                        WidgetDefaults.getBackgroundAware());
+
+                if (a.getBoolean(
+                        R.styleable.DynamicGridView_ads_windowInsets,
+                        WidgetDefaults.ADS_WINDOW_INSETS)) {
+                    applyWindowInsets();
+                }
+            } finally {
+                a.recycle();
+            }
+
+            if (!DynamicLayoutPool.isInflating()) {
+                initialize();
             }
         } finally {
-            a.recycle();
+            DynamicTrace.end(DynamicTraceSection.LOAD_ATTRIBUTES, trace);
         }
-
-        initialize();
     }
 
     @Override
     public void initialize() {
-        if (mColorType != Theme.ColorType.NONE
-                && mColorType != Theme.ColorType.CUSTOM) {
-            mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
-        }
+        final long trace = DynamicTrace.begin(DynamicTraceSection.INITIALIZE, this);
 
-        if (mScrollBarColorType != Theme.ColorType.NONE
-                && mScrollBarColorType != Theme.ColorType.CUSTOM) {
-            mScrollBarColor = DynamicTheme.getInstance()
-                    .resolveColorType(mScrollBarColorType);
-        }
+        try {
+            if (mColorType != Theme.ColorType.NONE
+                    && mColorType != Theme.ColorType.CUSTOM) {
+                mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
+            }
 
-        if (mContrastWithColorType != Theme.ColorType.NONE
-                && mContrastWithColorType != Theme.ColorType.CUSTOM) {
-            mContrastWithColor = DynamicTheme.getInstance()
-                    .resolveColorType(mContrastWithColorType);
-        }
+            if (mScrollBarColorType != Theme.ColorType.NONE
+                    && mScrollBarColorType != Theme.ColorType.CUSTOM) {
+                mScrollBarColor = DynamicTheme.getInstance()
+                        .resolveColorType(mScrollBarColorType);
+            }
 
-        setColor(true);
+            if (mContrastWithColorType != Theme.ColorType.NONE
+                    && mContrastWithColorType != Theme.ColorType.CUSTOM) {
+                mContrastWithColor = DynamicTheme.getInstance()
+                        .resolveColorType(mContrastWithColorType);
+            }
+
+            setColor(true);
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.INITIALIZE, trace);
+        }
     }
 
     @Override
@@ -270,12 +287,18 @@ public class DynamicGridView extends GridView
 
     @Override
     public void setColor() {
-        if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
-            if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
-                mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
-            }
+        final long trace = DynamicTrace.begin(DynamicTraceSection.SET_COLOR, this);
+
+        try {
+            if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
+                if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
+                    mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
+                }
 
-            DynamicScrollUtils.setEdgeEffectColor(this, mColor);
+                DynamicScrollUtils.setEdgeEffectColor(this, mColor);
+            }
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.SET_COLOR, trace);
         }
     }
 
@@ -30,7 +30,10 @@ import androidx.annotation.Nullable;
 import androidx.appcompat.widget.AppCompatImageButton;
 
 import com.pranavpandey.android.dynamic.support.R;
+import com.pranavpandey.android.dynamic.support.theme.DynamicLayoutPool;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTrace;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTraceSection;
 import com.pranavpandey.android.dynamic.support.utils.DynamicResourceUtils;
 import com.pranavpandey.android.dynamic.support.utils.DynamicTintUtils;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicTintWidget;
@@ -131,52 +134,66 @@ public class DynamicImageButton extends AppCompatImageButton
 
     @Override
     public void loadFromAttributes(@Nullable AttributeSet attrs) {
-        TypedArray a = getContext().obtainStyledAttributes(attrs, 
-                R.styleable.DynamicImageButton);
+        final long trace = DynamicTrace.begin(DynamicTraceSection.LOAD_ATTRIBUTES, this);
 
         try {
-            mColorType = a.getInt(
-                    R.styleable.DynamicImageButton_ads_colorType,
-                    Theme.ColorType.ACCENT);
-            mContrastWithColorType = a.getInt(
-                    R.styleable.DynamicImageButton_ads_contrastWithColorType,
-                    Theme.ColorType.BACKGROUND);
-            mColor = a.getColor(
-                    R.styleable.DynamicImageButton_ads_color,
-                    WidgetDefaults.ADS_COLOR_UNKNOWN);
-            mContrastWithColor = a.getColor(
-                    R.styleable.DynamicImageButton_ads_contrastWithColor,
-                    WidgetDefaults.getContrastWithColor(getContext()));
-            mBackgroundAware = a.getInteger(
-                    R.styleable.DynamicImageButton_ads_backgroundAware,
-                    WidgetDefaults.getBackgroundAware());
-            mStyleBorderless = a.getBoolean(
-                    R.styleable.DynamicImageButton_ads_styleBorderless,
-                    WidgetDefaults.ADS_STYLE_BORDERLESS);
-            mTintBackground = a.getBoolean(
-                    R.styleable.DynamicImageButton_ads_tintBackground,
-                    WidgetDefaults.ADS_TINT_BACKGROUND);
+            TypedArray a = getContext().obtainStyledAttributes(attrs, 
+                    R.styleable.DynamicImageButton);
+
+            try {
+                mColorType = a.getInt(
+                        R.styleable.DynamicImageButton_ads_colorType,
+                        Theme.ColorType.ACCENT);
+                mContrastWithColorType = a.getInt(
+                        R.styleable.DynamicImageButton_ads_contrastWithColorType,
+                        Theme.ColorType.BACKGROUND);
+                mColor = a.getColor(
+                        R.styleable.DynamicImageButton_ads_color,
+                        WidgetDefaults.ADS_COLOR_UNKNOWN);
+                mContrastWithColor = a.getColor(
+                        R.styleable.DynamicImageButton_ads_contrastWithColor,
+                        WidgetDefaults.getContrastWithColor(getContext()));
+                mBackgroundAware = a.getInteger(
+                        R.styleable.DynamicImageButton_ads_backgroundAware,
+                        WidgetDefaults.getBackgroundAware());
+                mStyleBorderless = a.getBoolean(
+                        R.styleable.DynamicImageButton_ads_styleBorderless,
+                        WidgetDefaults.ADS_STYLE_BORDERLESS);
+                mTintBackground = a.getBoolean(
+                        R.styleable.DynamicImageButton_ads_tintBackground,
+                        WidgetDefaults.ADS_TINT_BACKGROUND);
+            } finally {
+                a.recycle();
+            }
+
+            if (!DynamicLayoutPool.isInflating()) {
+                initialize();
+            }
         } finally {
-            a.recycle();
+            DynamicTrace.end(DynamicTraceSection.LOAD_ATTRIBUTES, trace);
         }
-
-        initialize();
     }
 
     @Override
     public void initialize() {
-        if (mColorType != Theme.ColorType.NONE
-                && mColorType != Theme.ColorType.CUSTOM) {
-            mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
-        }
+        final long trace = DynamicTrace.begin(DynamicTraceSection.INITIALIZE, this);
 
-        if (mContrastWithColorType != Theme.ColorType.NONE
-                && mContrastWithColorType != Theme.ColorType.CUSTOM) {
-            mContrastWithColor = DynamicTheme.getInstance()
-                    .resolveColorType(mContrastWithColorType);
-        }
+        try {
+            if (mColorType != Theme.ColorType.NONE
+                    && mColorType != Theme.ColorType.CUSTOM) {
+                mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
+            }
 
-        setColor();
+            if (mContrastWithColorType != Theme.ColorType.NONE
+                    && mContrastWithColorType != Theme.ColorType.CUSTOM) {
+                mContrastWithColor = DynamicTheme.getInstance()
+                        .resolveColorType(mContrastWithColorType);
+            }
+
+            setColor();
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.INITIALIZE, trace);
+        }
     }
 
     @Override
@@ -283,17 +300,23 @@ public class DynamicImageButton extends AppCompatImageButton
     @SuppressLint("RestrictedApi")
     @Override
     public void setColor() {
-        if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
-            if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
-                mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
-            }
+        final long trace = DynamicTrace.begin(DynamicTraceSection.SET_COLOR, this);
 
-            DynamicTintUtils.setViewBackgroundTint(this, mContrastWithColor,
-                    mTintBackground ? mColor : DynamicColorUtils.getTintColor(
-                            mContrastWithColor), mStyleBorderless, false);
+        try {
+            if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
+                if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
+                    mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
+                }
+
+                DynamicTintUtils.setViewBackgroundTint(this, mContrastWithColor,
+                        mTintBackground ? mColor : DynamicColorUtils.getTintColor(
+                                mContrastWithColor), mStyleBorderless, false);
 
-            setSupportImageTintList(DynamicResourceUtils.getColorStateList(
-                    mColor, mColor, mColor, false));
+                setSupportImageTintList(DynamicResourceUtils.getColorStateList(
+                        mColor, mColor, mColor, false));
+            }
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.SET_COLOR, trace);
         }
     }
 }
\ No newline at end of file
@@ -32,7 +32,10 @@ import androidx.core.view.WindowInsetsCompat;
 import com.google.android.material.internal.ScrimInsetsFrameLayout;
 import com.google.android.material.navigation.NavigationView;
 import com.pranavpandey.android.dynamic.support.R;
+import com.pranavpandey.android.dynamic.support.theme.DynamicLayoutPool;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTrace;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTraceSection;
 import com.pranavpandey.android.dynamic.support.utils.DynamicResourceUtils;
 import com.pranavpandey.android.dynamic.support.utils.DynamicScrollUtils;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicBackgroundWidget;
@@ -157,103 +160,117 @@ public class DynamicNavigationView extends NavigationView
 
     @Override
     public void loadFromAttributes(@Nullable AttributeSet attrs) {
-        TypedArray a = getContext().obtainStyledAttributes(attrs, 
-                R.styleable.DynamicNavigationView);
+        final long trace = DynamicTrace.begin(DynamicTraceSection.LOAD_ATTRIBUTES, this);
 
         try {
-            mBackgroundColorType = a.getInt(
-                    R.styleable.DynamicNavigationView_ads_backgroundColorType,
-                    Theme.ColorType.BACKGROUND);
-            mColorType = a.getInt(
-                    R.styleable.DynamicNavigationView_ads_colorType,
-                    WidgetDefaults.ADS_COLOR_EDGE_EFFECT);
-            mScrollBarColorType = a.getInt(
-                    R.styleable.DynamicNavigationView_ads_scrollBarColorType,
-                    WidgetDefaults.ADS_COLOR_SCROLL_BAR);
-            mStateNormalColorType = a.getInt(
-                    R.styleable.DynamicNavigationView_ads_stateNormalColorType,
-                    Theme.ColorType.TEXT_PRIMARY);
-            mStateSelectedColorType = a.getInt(
-                    R.styleable.DynamicNavigationView_ads_stateSelectedColorType,
-                    Theme.ColorType.ACCENT);
-            mContrastWithColorType = a.getInt(
-                    R.styleable.DynamicNavigationView_ads_contrastWithColorType,
-                    Theme.ColorType.BACKGROUND);
-            mBackgroundColor = a.getColor(
-                    R.styleable.DynamicNavigationView_ads_backgroundColor,
-                    WidgetDefaults.ADS_COLOR_UNKNOWN);
-            mColor = a.getColor(
-                    R.styleable.DynamicNavigationView_ads_color,
-                    WidgetDefaults.ADS_COLOR_UNKNOWN);
-            mScrollBarColor = a.getColor(
-                    R.styleable.DynamicNavigationView_ads_scrollBarColor,
-                    WidgetDefaults.ADS_COLOR_UNKNOWN);
-            mStateNormalColor = a.getColor(
-                    R.styleable.DynamicNavigationView_ads_stateNormalColor,
-                    WidgetDefaults.ADS_COLOR_UNKNOWN);
-            mStateSelectedColor = a.getColor(
-                    R.styleable.DynamicNavigationView_ads_stateSelectedColor,
-                    WidgetDefaults.ADS_COLOR_UNKNOWN);
-            mContrastWithColor = a.getColor(
-                    R.styleable.DynamicNavigationView_ads_contrastWithColor,
-                    WidgetDefaults.getContrastWithColor(getContext()));
-            mBackgroundAware = a.getInteger(
-                    R.styleable.DynamicNavigationView_ads_backgroundAware,
-                    WidgetDefaults.getBackgroundAware());
-
-            if (a.getBoolean(
-                    R.styleable.DynamicNavigationView_ads_windowInsets,
-                    WidgetDefaults.ADS_WINDOW_INSETS)) {
-                applyWindowInsets();
+            TypedArray a = getContext().obtainStyledAttributes(attrs, 
+                    R.styleable.DynamicNavigationView);
+
+            try {
+                mBackgroundColorType = a.getInt(
+                        R.styleable.DynamicNavigationView_ads_backgroundColorType,
+                        Theme.ColorType.BACKGROUND);
+                mColorType = a.getInt(
+                        R.styleable.DynamicNavigationView_ads_colorType,
+                        WidgetDefaults.ADS_COLOR_EDGE_EFFECT);
+                mScrollBarColorType = a.getInt(
+                        R.styleable.DynamicNavigationView_ads_scrollBarColorType,
+                        WidgetDefaults.ADS_COLOR_SCROLL_BAR);
+                mStateNormalColorType = a.getInt(
+                        R.styleable.DynamicNavigationView_ads_stateNormalColorType,
+                        Theme.ColorType.TEXT_PRIMARY);
+                mStateSelectedColorType = a.getInt(
+                        R.styleable.DynamicNavigationView_ads_stateSelectedColorType,
+                        Theme.ColorType.ACCENT);
+                mContrastWithColorType = a.getInt(
+                        R.styleable.DynamicNavigationView_ads_contrastWithColorType,
+                        Theme.ColorType.BACKGROUND);
+                mBackgroundColor = a.getColor(
+                        R.styleable.DynamicNavigationView_ads_backgroundColor,
+                        WidgetDefaults.ADS_COLOR_UNKNOWN);
+                mColor = a.getColor(
+                        R.styleable.DynamicNavigationView_ads_color,
+                        WidgetDefaults.ADS_COLOR_UNKNOWN);
+                mScrollBarColor = a.getColor(
+                        R.styleable.DynamicNavigationView_ads_scrollBarColor,
+                        WidgetDefaults.ADS_COLOR_UNKNOWN);
+                mStateNormalColor = a.getColor(
+                        R.styleable.DynamicNavigationView_ads_stateNormalColor,
+                        WidgetDefaults.ADS_COLOR_UNKNOWN);
+                mStateSelectedColor = a.getColor(
+                        R.styleable.DynamicNavigationView_ads_stateSelectedColor,
+                        WidgetDefaults.ADS_COLOR_UNKNOWN);
+                mContrastWithColor = a.getColor(
+                        R.styleable.DynamicNavigationView_ads_contrastWithColor,
+                        WidgetDefaults.getContrastWithColor(getContext()));
+                mBackgroundAware = a.getInteger(
+                        R.styleable.DynamicNavigationView_ads_backgroundAware,
+                        WidgetDefaults.getBackgroundAware());
+
+                if (a.getBoolean(
+                        R.styleable.DynamicNavigationView_ads_windowInsets,
+                        WidgetDefaults.ADS_WINDOW_INSETS)) {
+                    applyWindowInsets();
+                }
+            } finally {
+                a.recycle();
+            }
+
+            if (!DynamicLayoutPool.isInflating()) {
+                initialize();
             }
         } finally {
-            a.recycle();
+            DynamicTrace.end(DynamicTraceSection.LOAD_ATTRIBUTES, trace);
         }
-
-        initialize();
     }
 
     @Override
     public void initialize() {
-        if (mBackgroundColorType != Theme.ColorType.NONE
-                && mBackgroundColorType != Theme.ColorType.CUSTOM) {
-            mBackgroundColor = DynamicTheme.getInstance()
-                    .resolveColorType(mBackgroundColorType);
-        }
+        final long trace = DynamicTrace.begin(DynamicTraceSection.INITIALIZE, this);
 
+        try {
+            if (mBackgroundColorType != Theme.ColorType.NONE
+                    && mBackgroundColorType != Theme.ColorType.CUSTOM) {
+                mBackgroundColor = DynamicTheme.getInstance()
+                        .resolveColorType(mBackgroundColorType);
+            }
 
-        if (mColorType != Theme.ColorType.NONE
-                && mColorType != Theme.ColorType.CUSTOM) {
-            mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
-        }
 
-        if (mScrollBarColorType != Theme.ColorType.NONE
-                && mScrollBarColorType != Theme.ColorType.CUSTOM) {
-            mScrollBarColor = DynamicTheme.getInstance()
-                    .resolveColorType(mScrollBarColorType);
-        }
+            if (mColorType != Theme.ColorType.NONE
+                    && mColorType != Theme.ColorType.CUSTOM) {
+                mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
+            }
 
-        if (mStateNormalColorType != Theme.ColorType.NONE
-                && mStateNormalColorType != Theme.ColorType.CUSTOM) {
-            mStateNormalColor = DynamicTheme.getInstance()
-                    .resolveColorType(mStateNormalColorType);
-        }
+            if (mScrollBarColorType != Theme.ColorType.NONE
+                    && mScrollBarColorType != Theme.ColorType.CUSTOM) {
+                mScrollBarColor = DynamicTheme.getInstance()
+                        .resolveColorType(mScrollBarColorType);
+            }
 
-        if (mStateSelectedColorType != Theme.ColorType.NONE
-                && mStateSelectedColorType != Theme.ColorType.CUSTOM) {
-            mStateSelectedColor = DynamicTheme.getInstance()
-                    .resolveColorType(mStateSelectedColorType);
-        }
+            if (mStateNormalColorType != Theme.ColorType.NONE
+                    && mStateNormalColorType != Theme.ColorType.CUSTOM) {
+                mStateNormalColor = DynamicTheme.getInstance()
+                        .resolveColorType(mStateNormalColorType);
+            }
 
-        if (mContrastWithColorType != Theme.ColorType.NONE
-                && mContrastWithColorType != Theme.ColorType.CUSTOM) {
-            mContrastWithColor = DynamicTheme.getInstance()
-                    .resolveColorType(mContrastWithColorType);
-        }
+            if (mStateSelectedColorType != Theme.ColorType.NONE
+                    && mStateSelectedColorType != Theme.ColorType.CUSTOM) {
+                mStateSelectedColor = DynamicTheme.getInstance()
+                        .resolveColorType(mStateSelectedColorType);
+            }
 
-        setBackgroundColor(mBackgroundColor);
-        setColor(true);
-        setStatesColor();
+            if (mContrastWithColorType != Theme.ColorType.NONE
+                    && mContrastWithColorType != Theme.ColorType.CUSTOM) {
+                mContrastWithColor = DynamicTheme.getInstance()
+                        .resolveColorType(mContrastWithColorType);
+            }
+
+            setBackgroundColor(mBackgroundColor);
+            setColor(true);
+            setStatesColor();
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.INITIALIZE, trace);
+        }
     }
 
     @Override
@@ -475,12 +492,18 @@ public class DynamicNavigationView extends NavigationView
 
     @Override
     public void setColor() {
-        if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
-            if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
-                mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
-            }
+        final long trace = DynamicTrace.begin(DynamicTraceSection.SET_COLOR, this);
 
-            DynamicScrollUtils.setEdgeEffectColor(this, mColor);
+        try {
+            if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
+                if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
+                    mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
+                }
+
+                DynamicScrollUtils.setEdgeEffectColor(this, mColor);
+            }
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.SET_COLOR, trace);
         }
     }
 
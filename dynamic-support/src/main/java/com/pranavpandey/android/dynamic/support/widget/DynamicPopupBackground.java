@@ -23,6 +23,8 @@ import androidx.annotation.AttrRes;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import com.pranavpandey.android.dynamic.support.trace.DynamicTrace;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTraceSection;
 import com.pranavpandey.android.dynamic.theme.Theme;
 
 /**
@@ -53,9 +55,15 @@ public class DynamicPopupBackground extends DynamicCardView {
 
     @Override
     public void initialize() {
-        super.initialize();
+        final long trace = DynamicTrace.begin(DynamicTraceSection.INITIALIZE, this);
 
-        setClipToPadding(false);
-        setCardElevation(0);
+        try {
+            super.initialize();
+
+            setClipToPadding(false);
+            setCardElevation(0);
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.INITIALIZE, trace);
+        }
     }
 }
@@ -27,7 +27,10 @@ import androidx.annotation.Nullable;
 
 import com.google.android.material.switchmaterial.SwitchMaterial;
 import com.pranavpandey.android.dynamic.support.R;
+import com.pranavpandey.android.dynamic.support.theme.DynamicLayoutPool;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTrace;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTraceSection;
 import com.pranavpandey.android.dynamic.support.utils.DynamicResourceUtils;
 import com.pranavpandey.android.dynamic.support.utils.DynamicTintUtils;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicStateWidget;
@@ -106,58 +109,72 @@ public class DynamicSwitchCompat extends SwitchMaterial implements DynamicStateW
 
     @Override
     public void loadFromAttributes(@Nullable AttributeSet attrs) {
-        TypedArray a = getContext().obtainStyledAttributes(attrs, 
-                R.styleable.DynamicSwitchCompat);
+        final long trace = DynamicTrace.begin(DynamicTraceSection.LOAD_ATTRIBUTES, this);
 
         try {
-            mColorType = a.getInt(
-                    R.styleable.DynamicSwitchCompat_ads_colorType,
-                    Theme.ColorType.ACCENT);
-            mContrastWithColorType = a.getInt(
-                    R.styleable.DynamicSwitchCompat_ads_contrastWithColorType,
-                    Theme.ColorType.BACKGROUND);
-            mStateNormalColorType = a.getInt(
-                    R.styleable.DynamicSwitchCompat_ads_stateNormalColorType,
-                    Theme.ColorType.BACKGROUND);
-            mColor = a.getColor(
-                    R.styleable.DynamicSwitchCompat_ads_color,
-                    WidgetDefaults.ADS_COLOR_UNKNOWN);
-            mContrastWithColor = a.getColor(
-                    R.styleable.DynamicSwitchCompat_ads_contrastWithColor,
-                    WidgetDefaults.getContrastWithColor(getContext()));
-            mStateNormalColor = a.getColor(
-                    R.styleable.DynamicSwitchCompat_ads_stateNormalColor,
-                    WidgetDefaults.ADS_COLOR_UNKNOWN);
-            mBackgroundAware = a.getInteger(
-                    R.styleable.DynamicSwitchCompat_ads_backgroundAware,
-                    WidgetDefaults.getBackgroundAware());
+            TypedArray a = getContext().obtainStyledAttributes(attrs, 
+                    R.styleable.DynamicSwitchCompat);
+
+            try {
+                mColorType = a.getInt(
+                        R.styleable.DynamicSwitchCompat_ads_colorType,
+                        Theme.ColorType.ACCENT);
+                mContrastWithColorType = a.getInt(
+                        R.styleable.DynamicSwitchCompat_ads_contrastWithColorType,
+                        Theme.ColorType.BACKGROUND);
+                mStateNormalColorType = a.getInt(
+                        R.styleable.DynamicSwitchCompat_ads_stateNormalColorType,
+                        Theme.ColorType.BACKGROUND);
+                mColor = a.getColor(
+                        R.styleable.DynamicSwitchCompat_ads_color,
+                        WidgetDefaults.ADS_COLOR_UNKNOWN);
+                mContrastWithColor = a.getColor(
+                        R.styleable.DynamicSwitchCompat_ads_contrastWithColor,
+                        WidgetDefaults.getContrastWithColor(getContext()));
+                mStateNormalColor = a.getColor(
+                        R.styleable.DynamicSwitchCompat_ads_stateNormalColor,
+                        WidgetDefaults.ADS_COLOR_UNKNOWN);
+                mBackgroundAware = a.getInteger(
+                        R.styleable.DynamicSwitchCompat_ads_backgroundAware,
+                        WidgetDefaults.getBackgroundAware());
+            } finally {
+                a.recycle();
+            }
+
+            if (!DynamicLayoutPool.isInflating()) {
+                initialize();
+            }
         } finally {
-            a.recycle();
+            DynamicTrace.end(DynamicTraceSection.LOAD_ATTRIBUTES, trace);
         }
-
-        initialize();
     }
 
     @Override
     public void initialize() {
-        if (mColorType != Theme.ColorType.NONE
-                && mColorType != Theme.ColorType.CUSTOM) {
-            mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
-        }
+        final long trace = DynamicTrace.begin(DynamicTraceSection.INITIALIZE, this);
 
-        if (mContrastWithColorType != Theme.ColorType.NONE
-                && mContrastWithColorType != Theme.ColorType.CUSTOM) {
-            mContrastWithColor = DynamicTheme.getInstance()
-                    .resolveColorType(mContrastWithColorType);
-        }
+        try {
+            if (mColorType != Theme.ColorType.NONE
+                    && mColorType != Theme.ColorType.CUSTOM) {
+                mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
+            }
 
-        if (mStateNormalColorType != Theme.ColorType.NONE
-                && mStateNormalColorType != Theme.ColorType.CUSTOM) {
-            mStateNormalColor = DynamicTheme.getInstance()
-                    .resolveColorType(mStateNormalColorType);
-        }
+            if (mContrastWithColorType != Theme.ColorType.NONE
+                    && mContrastWithColorType != Theme.ColorType.CUSTOM) {
+                mContrastWithColor = DynamicTheme.getInstance()
+                        .resolveColorType(mContrastWithColorType);
+            }
 
-        setColor();
+            if (mStateNormalColorType != Theme.ColorType.NONE
+                    && mStateNormalColorType != Theme.ColorType.CUSTOM) {
+                mStateNormalColor = DynamicTheme.getInstance()
+                        .resolveColorType(mStateNormalColorType);
+            }
+
+            setColor();
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.INITIALIZE, trace);
+        }
     }
 
     @Override
@@ -266,25 +283,31 @@ public class DynamicSwitchCompat extends SwitchMaterial implements DynamicStateW
 
     @Override
     public void setColor() {
-        if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
-            if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
-                mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
-            }
+        final long trace = DynamicTrace.begin(DynamicTraceSection.SET_COLOR, this);
 
-            @ColorInt int colorOff = DynamicColorUtils.getStateColor(
-                    mStateNormalColor, WidgetDefaults.ADS_STATE_LIGHT,
-                    WidgetDefaults.ADS_STATE_DARK);
-            @ColorInt int colorOffTint = DynamicColorUtils.getStateColor(
-                    colorOff, WidgetDefaults.ADS_STATE_LIGHT,
-                    WidgetDefaults.ADS_STATE_DARK);
-
-            DynamicTintUtils.setViewBackgroundTint(this,
-                    mContrastWithColor, mColor, true, true);
-            setThumbTintList(DynamicResourceUtils.getColorStateList(
-                    colorOffTint, mColor, true));
-            setTrackTintList(DynamicResourceUtils.getColorStateList(colorOff,
-                    DynamicColorUtils.getLighterColor(mColor,
-                            WidgetDefaults.ADS_STATE_LIGHT), true));
+        try {
+            if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
+                if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
+                    mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
+                }
+
+                @ColorInt int colorOff = DynamicColorUtils.getStateColor(
+                        mStateNormalColor, WidgetDefaults.ADS_STATE_LIGHT,
+                        WidgetDefaults.ADS_STATE_DARK);
+                @ColorInt int colorOffTint = DynamicColorUtils.getStateColor(
+                        colorOff, WidgetDefaults.ADS_STATE_LIGHT,
+                        WidgetDefaults.ADS_STATE_DARK);
+
+                DynamicTintUtils.setViewBackgroundTint(this,
+                        mContrastWithColor, mColor, true, true);
+                setThumbTintList(DynamicResourceUtils.getColorStateList(
+                        colorOffTint, mColor, true));
+                setTrackTintList(DynamicResourceUtils.getColorStateList(colorOff,
+                        DynamicColorUtils.getLighterColor(mColor,
+                                WidgetDefaults.ADS_STATE_LIGHT), true));
+            }
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.SET_COLOR, trace);
         }
     }
 }
\ No newline at end of file
@@ -28,7 +28,10 @@ import androidx.annotation.Nullable;
 
 import com.google.android.material.tabs.TabLayout;
 import com.pranavpandey.android.dynamic.support.R;
+import com.pranavpandey.android.dynamic.support.theme.DynamicLayoutPool;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTrace;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTraceSection;
 import com.pranavpandey.android.dynamic.support.utils.DynamicResourceUtils;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicBackgroundWidget;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicTextWidget;
@@ -122,71 +125,85 @@ public class DynamicTabLayout extends TabLayout implements
 
     @Override
     public void loadFromAttributes(@Nullable AttributeSet attrs) {
-        TypedArray a = getContext().obtainStyledAttributes(attrs, 
-                R.styleable.DynamicTabLayout);
+        final long trace = DynamicTrace.begin(DynamicTraceSection.LOAD_ATTRIBUTES, this);
 
         try {
-            mBackgroundColorType = a.getInt(
-                    R.styleable.DynamicTabLayout_ads_backgroundColorType,
-                    Theme.ColorType.PRIMARY);
-            mColorType = a.getInt(
-                    R.styleable.DynamicTabLayout_ads_colorType,
-                    Theme.ColorType.ACCENT);
-            mTextColorType = a.getInt(
-                    R.styleable.DynamicTabLayout_ads_textColorType,
-                    Theme.ColorType.TINT_PRIMARY);
-            mContrastWithColorType = a.getInt(
-                    R.styleable.DynamicTabLayout_ads_contrastWithColorType,
-                    Theme.ColorType.PRIMARY);
-            mBackgroundColor = a.getColor(
-                    R.styleable.DynamicTabLayout_ads_backgroundColor,
-                    WidgetDefaults.ADS_COLOR_UNKNOWN);
-            mColor = a.getColor(
-                    R.styleable.DynamicTabLayout_ads_color,
-                    WidgetDefaults.ADS_COLOR_UNKNOWN);
-            mTextColor = a.getColor(
-                    R.styleable.DynamicTabLayout_ads_textColor,
-                    WidgetDefaults.ADS_COLOR_UNKNOWN);
-            mContrastWithColor = a.getColor(
-                    R.styleable.DynamicTabLayout_ads_contrastWithColor,
-                    WidgetDefaults.ADS_COLOR_UNKNOWN);
-            mBackgroundAware = a.getInteger(
-                    R.styleable.DynamicTabLayout_ads_backgroundAware,
-                    WidgetDefaults.getBackgroundAware());
+            TypedArray a = getContext().obtainStyledAttributes(attrs, 
+                    R.styleable.DynamicTabLayout);
+
+            try {
+                mBackgroundColorType = a.getInt(
+                        R.styleable.DynamicTabLayout_ads_backgroundColorType,
+                        Theme.ColorType.PRIMARY);
+                mColorType = a.getInt(
+                        R.styleable.DynamicTabLayout_ads_colorType,
+                        Theme.ColorType.ACCENT);
+                mTextColorType = a.getInt(
+                        R.styleable.DynamicTabLayout_ads_textColorType,
+                        Theme.ColorType.TINT_PRIMARY);
+                mContrastWithColorType = a.getInt(
+                        R.styleable.DynamicTabLayout_ads_contrastWithColorType,
+                        Theme.ColorType.PRIMARY);
+                mBackgroundColor = a.getColor(
+                        R.styleable.DynamicTabLayout_ads_backgroundColor,
+                        WidgetDefaults.ADS_COLOR_UNKNOWN);
+                mColor = a.getColor(
+                        R.styleable.DynamicTabLayout_ads_color,
+                        WidgetDefaults.ADS_COLOR_UNKNOWN);
+                mTextColor = a.getColor(
+                        R.styleable.DynamicTabLayout_ads_textColor,
+                        WidgetDefaults.ADS_COLOR_UNKNOWN);
+                mContrastWithColor = a.getColor(
+                        R.styleable.DynamicTabLayout_ads_contrastWithColor,
+                        WidgetDefaults.ADS_COLOR_UNKNOWN);
+                mBackgroundAware = a.getInteger(
+                        R.styleable.DynamicTabLayout_ads_backgroundAware,
+                        WidgetDefaults.getBackgroundAware());
+            } finally {
+                a.recycle();
+            }
+
+            if (!DynamicLayoutPool.isInflating()) {
+                initialize();
+            }
         } finally {
-            a.recycle();
+            DynamicTrace.end(DynamicTraceSection.LOAD_ATTRIBUTES, trace);
         }
-
-        initialize();
     }
 
     @Override
     public void initialize() {
-        if (mBackgroundColorType != Theme.ColorType.NONE
-                && mBackgroundColorType != Theme.ColorType.CUSTOM) {
-            mBackgroundColor = DynamicTheme.getInstance()
-                    .resolveColorType(mBackgroundColorType);
-        }
+        final long trace = DynamicTrace.begin(DynamicTraceSection.INITIALIZE, this);
 
-        if (mColorType != Theme.ColorType.NONE
-                && mColorType != Theme.ColorType.CUSTOM) {
-            mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
-        }
+        try {
+            if (mBackgroundColorType != Theme.ColorType.NONE
+                    && mBackgroundColorType != Theme.ColorType.CUSTOM) {
+                mBackgroundColor = DynamicTheme.getInstance()
+                        .resolveColorType(mBackgroundColorType);
+            }
 
-        if (mTextColorType != Theme.ColorType.NONE
-                && mTextColorType != Theme.ColorType.CUSTOM) {
-            mTextColor = DynamicTheme.getInstance().resolveColorType(mTextColorType);
-        }
+            if (mColorType != Theme.ColorType.NONE
+                    && mColorType != Theme.ColorType.CUSTOM) {
+                mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
+            }
 
-        if (mContrastWithColorType != Theme.ColorType.NONE
-                && mContrastWithColorType != Theme.ColorType.CUSTOM) {
-            mContrastWithColor = DynamicTheme.getInstance()
-                    .resolveColorType(mContrastWithColorType);
-        }
+            if (mTextColorType != Theme.ColorType.NONE
+                    && mTextColorType != Theme.ColorType.CUSTOM) {
+                mTextColor = DynamicTheme.getInstance().resolveColorType(mTextColorType);
+            }
 
-        setBackgroundColor(mBackgroundColor);
-        setColor();
-        setTextColor();
+            if (mContrastWithColorType != Theme.ColorType.NONE
+                    && mContrastWithColorType != Theme.ColorType.CUSTOM) {
+                mContrastWithColor = DynamicTheme.getInstance()
+                        .resolveColorType(mContrastWithColorType);
+            }
+
+            setBackgroundColor(mBackgroundColor);
+            setColor();
+            setTextColor();
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.INITIALIZE, trace);
+        }
     }
 
     @Override
@@ -321,19 +338,25 @@ public class DynamicTabLayout extends TabLayout implements
 
     @Override
     public void setColor() {
-        if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
-            if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
-                mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
-            }
+        final long trace = DynamicTrace.begin(DynamicTraceSection.SET_COLOR, this);
 
-            if (DynamicTheme.getInstance().get().getCornerSizeDp()
-                    >= WidgetDefaults.ADS_CORNER_MIN_TABS) {
-                setSelectedTabIndicator(R.drawable.ads_tabs_indicator_corner);
-            } else {
-                setSelectedTabIndicator(R.drawable.ads_tabs_indicator);
+        try {
+            if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
+                if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
+                    mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
+                }
+
+                if (DynamicTheme.getInstance().get().getCornerSizeDp()
+                        >= WidgetDefaults.ADS_CORNER_MIN_TABS) {
+                    setSelectedTabIndicator(R.drawable.ads_tabs_indicator_corner);
+                } else {
+                    setSelectedTabIndicator(R.drawable.ads_tabs_indicator);
+                }
+
+                setSelectedTabIndicatorColor(mColor);
             }
-
-            setSelectedTabIndicatorColor(mColor);
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.SET_COLOR, trace);
         }
     }
 
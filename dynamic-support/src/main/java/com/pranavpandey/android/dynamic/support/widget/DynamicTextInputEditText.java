@@ -30,7 +30,10 @@ import androidx.annotation.Nullable;
 import com.google.android.material.textfield.TextInputEditText;
 import com.google.android.material.textfield.TextInputLayout;
 import com.pranavpandey.android.dynamic.support.R;
+import com.pranavpandey.android.dynamic.support.theme.DynamicLayoutPool;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTrace;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTraceSection;
 import com.pranavpandey.android.dynamic.support.utils.DynamicInputUtils;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicWidget;
 import com.pranavpandey.android.dynamic.theme.Theme;
@@ -98,55 +101,73 @@ public class DynamicTextInputEditText extends TextInputEditText implements Dynam
 
     @Override
     public void loadFromAttributes(@Nullable AttributeSet attrs) {
-        TypedArray a = getContext().obtainStyledAttributes(attrs, 
-                R.styleable.DynamicTextInputEditText);
+        final long trace = DynamicTrace.begin(DynamicTraceSection.LOAD_ATTRIBUTES, this);
 
         try {
-            mColorType = a.getInt(
-                    R.styleable.DynamicTextInputEditText_ads_colorType,
-                    Theme.ColorType.ACCENT);
-            mContrastWithColorType = a.getInt(
-                    R.styleable.DynamicTextInputEditText_ads_contrastWithColorType,
-                    Theme.ColorType.BACKGROUND);
-            mColor = a.getColor(
-                    R.styleable.DynamicTextInputEditText_ads_color,
-                    WidgetDefaults.ADS_COLOR_UNKNOWN);
-            mContrastWithColor = a.getColor(
-                    R.styleable.DynamicTextInputEditText_ads_contrastWithColor,
-                    WidgetDefaults.getContrastWithColor(getContext()));
-            mBackgroundAware = a.getInteger(
-                    R.styleable.DynamicTextInputEditText_ads_backgroundAware,
-                    WidgetDefaults.getBackgroundAware());
-
-            if (mColorType == Theme.ColorType.ACCENT) {
-                setTextColor(DynamicColorUtils.getContrastColor(
-                        DynamicTheme.getInstance().get().getTextPrimaryColor(),
-                        DynamicTheme.getInstance().get().getBackgroundColor()));
-                setHintTextColor(DynamicColorUtils.getContrastColor(
-                        DynamicTheme.getInstance().get().getTextSecondaryColor(),
-                        DynamicTheme.getInstance().get().getBackgroundColor()));
+            TypedArray a = getContext().obtainStyledAttributes(attrs, 
+                    R.styleable.DynamicTextInputEditText);
+
+            try {
+                mColorType = a.getInt(
+                        R.styleable.DynamicTextInputEditText_ads_colorType,
+                        Theme.ColorType.ACCENT);
+                mContrastWithColorType = a.getInt(
+                        R.styleable.DynamicTextInputEditText_ads_contrastWithColorType,
+                        Theme.ColorType.BACKGROUND);
+                mColor = a.getColor(
+                        R.styleable.DynamicTextInputEditText_ads_color,
+                        WidgetDefaults.ADS_COLOR_UNKNOWN);
+                mContrastWithColor = a.getColor(
+                        R.styleable.DynamicTextInputEditText_ads_contrastWithColor,
+                        WidgetDefaults.getContrastWithColor(getContext()));
+                mBackgroundAware = a.getInteger(
+                        R.styleable.DynamicTextInputEditText_ads_backgroundAware,
+                        WidgetDefaults.getBackgroundAware());
+
+                if (mColorType == Theme.ColorType.ACCENT) {
+                    if (!DynamicLayoutPool.isInflating()) {
+                        setDefaultTextColor();
+                    } else {
+                        post(new Runnable() {
+                            @Override
+                            public void run() {
+                                setDefaultTextColor();
+                            }
+                        });
+                    }
+                }
+            } finally {
+                a.recycle();
+            }
+
+            if (!DynamicLayoutPool.isInflating()) {
+                initialize();
             }
         } finally {
-            a.recycle();
+            DynamicTrace.end(DynamicTraceSection.LOAD_ATTRIBUTES, trace);
         }
-
-        initialize();
     }
 
     @Override
     public void initialize() {
-        if (mColorType != Theme.ColorType.NONE
-                && mColorType != Theme.ColorType.CUSTOM) {
-            mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
-        }
+        final long trace = DynamicTrace.begin(DynamicTraceSection.INITIALIZE, this);
 
-        if (mContrastWithColorType != Theme.ColorType.NONE
-                && mContrastWithColorType != Theme.ColorType.CUSTOM) {
-            mContrastWithColor = DynamicTheme.getInstance()
-                    .resolveColorType(mContrastWithColorType);
-        }
+        try {
+            if (mColorType != Theme.ColorType.NONE
+                    && mColorType != Theme.ColorType.CUSTOM) {
+                mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
+            }
 
-        setColor();
+            if (mContrastWithColorType != Theme.ColorType.NONE
+                    && mContrastWithColorType != Theme.ColorType.CUSTOM) {
+                mContrastWithColor = DynamicTheme.getInstance()
+                        .resolveColorType(mContrastWithColorType);
+            }
+
+            setColor();
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.INITIALIZE, trace);
+        }
     }
 
     @Override
@@ -226,22 +247,28 @@ public class DynamicTextInputEditText extends TextInputEditText implements Dynam
 
     @Override
     public void setColor() {
-        if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
-            if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
-                mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
-            }
+        final long trace = DynamicTrace.begin(DynamicTraceSection.SET_COLOR, this);
 
-            post(new Runnable() {
-                @Override
-                public void run() {
-                    TextInputLayout parent = getParentTextInputLayout();
+        try {
+            if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
+                if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
+                    mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
+                }
+
+                post(new Runnable() {
+                    @Override
+                    public void run() {
+                        TextInputLayout parent = getParentTextInputLayout();
 
-                    if (parent != null) {
-                        DynamicInputUtils.setColor(DynamicTextInputEditText.this,
-                                parent.getBoxBackgroundColor(), mColor);
+                        if (parent != null) {
+                            DynamicInputUtils.setColor(DynamicTextInputEditText.this,
+                                    parent.getBoxBackgroundColor(), mColor);
+                        }
                     }
-                }
-            });
+                });
+            }
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.SET_COLOR, trace);
         }
     }
 
@@ -262,4 +289,18 @@ public class DynamicTextInputEditText extends TextInputEditText implements Dynam
 
         return null;
     }
+
+    /**
+     * Set the text and hint colors according to the current theme.
+     * <p>It will be deferred until this view is attached if it has been inflated by the
+     * {@link DynamicLayoutPool}.
+     */
+    private void setDefaultTextColor() {
+        setTextColor(DynamicColorUtils.getContrastColor(
+                DynamicTheme.getInstance().get().getTextPrimaryColor(),
+                DynamicTheme.getInstance().get().getBackgroundColor()));
+        setHintTextColor(DynamicColorUtils.getContrastColor(
+                DynamicTheme.getInstance().get().getTextSecondaryColor(),
+                DynamicTheme.getInstance().get().getBackgroundColor()));
+    }
 }
\ No newline at end of file
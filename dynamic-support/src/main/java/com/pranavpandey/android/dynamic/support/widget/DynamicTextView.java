@@ -31,7 +31,10 @@ import androidx.annotation.Nullable;
 
 import com.google.android.material.textview.MaterialTextView;
 import com.pranavpandey.android.dynamic.support.R;
+import com.pranavpandey.android.dynamic.support.theme.DynamicLayoutPool;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTrace;
+import com.pranavpandey.android.dynamic.support.trace.DynamicTraceSection;
 import com.pranavpandey.android.dynamic.support.utils.DynamicResourceUtils;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicLinkWidget;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicRtlWidget;
@@ -126,101 +129,115 @@ public class DynamicTextView extends MaterialTextView implements
 
     @Override
     public void loadFromAttributes(@Nullable AttributeSet attrs) {
-        TypedArray a = getContext().obtainStyledAttributes(attrs, 
-                R.styleable.DynamicTextView);
+        final long trace = DynamicTrace.begin(DynamicTraceSection.LOAD_ATTRIBUTES, this);
 
         try {
-            mColorType = a.getInt(
-                    R.styleable.DynamicTextView_ads_colorType,
-                    Theme.ColorType.NONE);
-            mLinkColorType = a.getInt(
-                    R.styleable.DynamicTextView_ads_linkColorType,
-                    Theme.ColorType.ACCENT);
-            mContrastWithColorType = a.getInt(
-                    R.styleable.DynamicTextView_ads_contrastWithColorType,
-                    Theme.ColorType.BACKGROUND);
-            mColor = a.getColor(
-                    R.styleable.DynamicTextView_ads_color,
-                    WidgetDefaults.ADS_COLOR_UNKNOWN);
-            mLinkColor = a.getColor(
-                    R.styleable.DynamicTextView_ads_linkColor,
-                    WidgetDefaults.ADS_COLOR_UNKNOWN);
-            mContrastWithColor = a.getColor(
-                    R.styleable.DynamicTextView_ads_contrastWithColor,
-                    WidgetDefaults.getContrastWithColor(getContext()));
-            mBackgroundAware = a.getInteger(
-                    R.styleable.DynamicTextView_ads_backgroundAware,
-                    WidgetDefaults.getBackgroundAware());
-            mRtlSupport = a.getBoolean(
-                    R.styleable.DynamicTextView_ads_rtlSupport,
-                    WidgetDefaults.ADS_RTL_SUPPORT);
-
-            if (attrs != null) {
-                mColorAttrRes = DynamicResourceUtils.getResourceIdFromAttributes(
-                        getContext(), attrs, android.R.attr.textColor);
+            TypedArray a = getContext().obtainStyledAttributes(attrs, 
+                    R.styleable.DynamicTextView);
+
+            try {
+                mColorType = a.getInt(
+                        R.styleable.DynamicTextView_ads_colorType,
+                        Theme.ColorType.NONE);
+                mLinkColorType = a.getInt(
+                        R.styleable.DynamicTextView_ads_linkColorType,
+                        Theme.ColorType.ACCENT);
+                mContrastWithColorType = a.getInt(
+                        R.styleable.DynamicTextView_ads_contrastWithColorType,
+                        Theme.ColorType.BACKGROUND);
+                mColor = a.getColor(
+                        R.styleable.DynamicTextView_ads_color,
+                        WidgetDefaults.ADS_COLOR_UNKNOWN);
+                mLinkColor = a.getColor(
+                        R.styleable.DynamicTextView_ads_linkColor,
+                        WidgetDefaults.ADS_COLOR_UNKNOWN);
+                mContrastWithColor = a.getColor(
+                        R.styleable.DynamicTextView_ads_contrastWithColor,
+                        WidgetDefaults.getContrastWithColor(getContext()));
+                mBackgroundAware = a.getInteger(
+                        R.styleable.DynamicTextView_ads_backgroundAware,
+                        WidgetDefaults.getBackgroundAware());
+                mRtlSupport = a.getBoolean(
+                        R.styleable.DynamicTextView_ads_rtlSupport,
+                        WidgetDefaults.ADS_RTL_SUPPORT);
+
+                if (attrs != null) {
+                    mColorAttrRes = DynamicResourceUtils.getResourceIdFromAttributes(
+                            getContext(), attrs, android.R.attr.textColor);
+                }
+            } finally {
+                a.recycle();
+            }
+
+            if (!DynamicLayoutPool.isInflating()) {
+                initialize();
             }
         } finally {
-            a.recycle();
+            DynamicTrace.end(DynamicTraceSection.LOAD_ATTRIBUTES, trace);
         }
-
-        initialize();
     }
 
     @Override
     public void initialize() {
-        if (mColorType == Theme.ColorType.NONE) {
-            if (mColorAttrRes == DynamicResourceUtils.getResourceId(
-                    getContext(), android.R.attr.textColorPrimary)) {
-                mColorType = Theme.ColorType.TEXT_PRIMARY;
-            } else if (mColorAttrRes == DynamicResourceUtils.getResourceId(
-                    getContext(), android.R.attr.textColorSecondary)) {
-                mColorType = Theme.ColorType.TEXT_SECONDARY;
-            } else if (mColorAttrRes == DynamicResourceUtils.getResourceId(
-                    getContext(), android.R.attr.textColorPrimaryInverse)) {
-                mColorType = Theme.ColorType.TEXT_PRIMARY_INVERSE;
-            } else if (mColorAttrRes == DynamicResourceUtils.getResourceId(
-                    getContext(), android.R.attr.textColorSecondaryInverse)) {
-                mColorType = Theme.ColorType.TEXT_SECONDARY_INVERSE;
-            } else {
-                mColorType = Theme.ColorType.TEXT_PRIMARY;
+        final long trace = DynamicTrace.begin(DynamicTraceSection.INITIALIZE, this);
+
+        try {
+            if (mColorType == Theme.ColorType.NONE) {
+                if (mColorAttrRes == DynamicResourceUtils.getResourceId(
+                        getContext(), android.R.attr.textColorPrimary)) {
+                    mColorType = Theme.ColorType.TEXT_PRIMARY;
+                } else if (mColorAttrRes == DynamicResourceUtils.getResourceId(
+                        getContext(), android.R.attr.textColorSecondary)) {
+                    mColorType = Theme.ColorType.TEXT_SECONDARY;
+                } else if (mColorAttrRes == DynamicResourceUtils.getResourceId(
+                        getContext(), android.R.attr.textColorPrimaryInverse)) {
+                    mColorType = Theme.ColorType.TEXT_PRIMARY_INVERSE;
+                } else if (mColorAttrRes == DynamicResourceUtils.getResourceId(
+                        getContext(), android.R.attr.textColorSecondaryInverse)) {
+                    mColorType = Theme.ColorType.TEXT_SECONDARY_INVERSE;
+                } else {
+                    mColorType = Theme.ColorType.TEXT_PRIMARY;
+                }
             }
-        }
 
-        if (mLinkColorType == Theme.ColorType.NONE) {
-            if (mColorAttrRes == DynamicResourceUtils.getResourceId(
-                    getContext(), android.R.attr.textColorPrimary)) {
-                mLinkColorType = Theme.ColorType.TEXT_PRIMARY;
-            } else if (mColorAttrRes == DynamicResourceUtils.getResourceId(
-                    getContext(), android.R.attr.textColorSecondary)) {
-                mLinkColorType = Theme.ColorType.TEXT_SECONDARY;
-            } else if (mColorAttrRes == DynamicResourceUtils.getResourceId(
-                    getContext(), android.R.attr.textColorPrimaryInverse)) {
-                mLinkColorType = Theme.ColorType.TEXT_PRIMARY_INVERSE;
-            } else if (mColorAttrRes == DynamicResourceUtils.getResourceId(
-                    getContext(), android.R.attr.textColorSecondaryInverse)) {
-                mLinkColorType = Theme.ColorType.TEXT_SECONDARY_INVERSE;
-            } else {
-                mLinkColorType = Theme.ColorType.TEXT_PRIMARY;
+            if (mLinkColorType == Theme.ColorType.NONE) {
+                if (mColorAttrRes == DynamicResourceUtils.getResourceId(
+                        getContext(), android.R.attr.textColorPrimary)) {
+                    mLinkColorType = Theme.ColorType.TEXT_PRIMARY;
+                } else if (mColorAttrRes == DynamicResourceUtils.getResourceId(
+                        getContext(), android.R.attr.textColorSecondary)) {
+                    mLinkColorType = Theme.ColorType.TEXT_SECONDARY;
+                } else if (mColorAttrRes == DynamicResourceUtils.getResourceId(
+                        getContext(), android.R.attr.textColorPrimaryInverse)) {
+                    mLinkColorType = Theme.ColorType.TEXT_PRIMARY_INVERSE;
+                } else if (mColorAttrRes == DynamicResourceUtils.getResourceId(
+                        getContext(), android.R.attr.textColorSecondaryInverse)) {
+                    mLinkColorType = Theme.ColorType.TEXT_SECONDARY_INVERSE;
+                } else {
+                    mLinkColorType = Theme.ColorType.TEXT_PRIMARY;
+                }
             }
-        }
 
-        if (mColorType != Theme.ColorType.CUSTOM) {
-            mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
-        }
+            if (mColorType != Theme.ColorType.CUSTOM) {
+                mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
+            }
 
-        if (mLinkColorType != Theme.ColorType.CUSTOM) {
-            mLinkColor = DynamicTheme.getInstance().resolveColorType(mLinkColorType);
-        }
+            if (mLinkColorType != Theme.ColorType.CUSTOM) {
+                mLinkColor = DynamicTheme.getInstance().resolveColorType(mLinkColorType);
+            }
 
-        if (mContrastWithColorType != Theme.ColorType.NONE
-                && mContrastWithColorType != Theme.ColorType.CUSTOM) {
-            mContrastWithColor = DynamicTheme.getInstance()
-                    .resolveColorType(mContrastWithColorType);
-        }
+            if (mContrastWithColorType != Theme.ColorType.NONE
+                    && mContrastWithColorType != Theme.ColorType.CUSTOM) {
+                mContrastWithColor = DynamicTheme.getInstance()
+                        .resolveColorType(mContrastWithColorType);
+            }
 
-        setColor();
-        setLinkColor();
-        setRtlSupport(mRtlSupport);
+            setColor();
+            setLinkColor();
+            setRtlSupport(mRtlSupport);
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.INITIALIZE, trace);
+        }
     }
 
     @Override
@@ -332,12 +349,18 @@ public class DynamicTextView extends MaterialTextView implements
 
     @Override
     public void setColor() {
-        if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
-            if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
-                mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
-            }
+        final long trace = DynamicTrace.begin(DynamicTraceSection.SET_COLOR, this);
+
+        try {
+            if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
+                if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
+                    mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
+                }
 
-            setTextColor(mColor);
+                setTextColor(mColor);
+            }
+        } finally {
+            DynamicTrace.end(DynamicTraceSection.SET_COLOR, trace);
         }
     }
 
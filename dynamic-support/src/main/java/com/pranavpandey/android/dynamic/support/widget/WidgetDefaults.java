@@ -21,6 +21,7 @@ import android.content.Context;
 import androidx.annotation.ColorInt;
 import androidx.annotation.NonNull;
 
+import com.pranavpandey.android.dynamic.support.theme.DynamicLayoutPool;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
 import com.pranavpandey.android.dynamic.theme.Theme;
 import com.pranavpandey.android.dynamic.utils.DynamicUnitUtils;
@@ -227,12 +228,18 @@ public class WidgetDefaults {
 
     /**
      * Returns the default value for the background functionality used by the various widgets.
+     * <p>It will be {@link Theme.BackgroundAware#AUTO} while inflating a layout for the
+     * {@link DynamicLayoutPool} so that it will be resolved when the layout is obtained.
      *
      * @return The default value for the background functionality used by the various widgets.
      *
      * @see Theme.BackgroundAware
      */
     public static @Theme.BackgroundAware int getBackgroundAware() {
+        if (DynamicLayoutPool.isInflating()) {
+            return Theme.BackgroundAware.AUTO;
+        }
+
         return DynamicTheme.getInstance().get().getBackgroundAware(false);
     }
 
@@ -240,6 +247,9 @@ public class WidgetDefaults {
      * Get default contrast with color from the theme.
      * <p>Generally, it should be a background color so that widgets can change their
      * color accordingly if they are background aware.
+     * <p>It will be {@link #ADS_COLOR_UNKNOWN} while inflating a layout for the
+     * {@link DynamicLayoutPool} as the contrast with color will be resolved from its
+     * color type when the layout is obtained.
      *
      * @param context The context to retrieve theme and resources.
      *
@@ -248,6 +258,10 @@ public class WidgetDefaults {
      * @see com.pranavpandey.android.dynamic.support.R.attr#ads_contrastWithDefault
      */
     public static @ColorInt int getContrastWithColor(@NonNull Context context) {
+        if (DynamicLayoutPool.isInflating()) {
+            return ADS_COLOR_UNKNOWN;
+        }
+
         return DynamicTheme.getInstance().getDefaultContrastWith();
     }
 }
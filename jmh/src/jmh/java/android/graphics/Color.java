@@ -0,0 +1,201 @@
+/*
+ * Copyright 2018-2020 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package android.graphics;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Pure-Java stand-in for the framework color class to run the benchmarks on the host JVM.
+ * <p>It shadows the class from the android-all jar as its HSV conversion is native on the
+ * device. Conversions follow the Skia implementation so that the generated colors are same
+ * as on the device.
+ */
+public class Color {
+
+    public static final int BLACK = 0xFF000000;
+    public static final int DKGRAY = 0xFF444444;
+    public static final int GRAY = 0xFF888888;
+    public static final int LTGRAY = 0xFFCCCCCC;
+    public static final int WHITE = 0xFFFFFFFF;
+    public static final int RED = 0xFFFF0000;
+    public static final int GREEN = 0xFF00FF00;
+    public static final int BLUE = 0xFF0000FF;
+    public static final int YELLOW = 0xFFFFFF00;
+    public static final int CYAN = 0xFF00FFFF;
+    public static final int MAGENTA = 0xFFFF00FF;
+    public static final int TRANSPARENT = 0;
+
+    /**
+     * Named colors supported by {@link #parseColor(String)}.
+     */
+    private static final Map<String, Integer> sColorNameMap = new HashMap<>();
+
+    static {
+        sColorNameMap.put("black", BLACK);
+        sColorNameMap.put("darkgray", DKGRAY);
+        sColorNameMap.put("gray", GRAY);
+        sColorNameMap.put("lightgray", LTGRAY);
+        sColorNameMap.put("white", WHITE);
+        sColorNameMap.put("red", RED);
+        sColorNameMap.put("green", GREEN);
+        sColorNameMap.put("blue", BLUE);
+        sColorNameMap.put("yellow", YELLOW);
+        sColorNameMap.put("cyan", CYAN);
+        sColorNameMap.put("magenta", MAGENTA);
+        sColorNameMap.put("transparent", TRANSPARENT);
+    }
+
+    public static int alpha(int color) {
+        return color >>> 24;
+    }
+
+    public static int red(int color) {
+        return (color >> 16) & 0xFF;
+    }
+
+    public static int green(int color) {
+        return (color >> 8) & 0xFF;
+    }
+
+    public static int blue(int color) {
+        return color & 0xFF;
+    }
+
+    public static int rgb(int red, int green, int blue) {
+        return 0xFF000000 | (red << 16) | (green << 8) | blue;
+    }
+
+    public static int rgb(float red, float green, float blue) {
+        return 0xFF000000 | ((int) (red * 255.0f + 0.5f) << 16)
+                | ((int) (green * 255.0f + 0.5f) << 8) | (int) (blue * 255.0f + 0.5f);
+    }
+
+    public static int argb(int alpha, int red, int green, int blue) {
+        return (alpha << 24) | (red << 16) | (green << 8) | blue;
+    }
+
+    public static int argb(float alpha, float red, float green, float blue) {
+        return ((int) (alpha * 255.0f + 0.5f) << 24) | ((int) (red * 255.0f + 0.5f) << 16)
+                | ((int) (green * 255.0f + 0.5f) << 8) | (int) (blue * 255.0f + 0.5f);
+    }
+
+    public static float luminance(int color) {
+        return (float) (0.2126 * linear(red(color)) + 0.7152 * linear(green(color))
+                + 0.0722 * linear(blue(color)));
+    }
+
+    private static double linear(int component) {
+        double value = component / 255.0;
+        return value <= 0.04045 ? value / 12.92 : Math.pow((value + 0.055) / 1.055, 2.4);
+    }
+
+    public static int parseColor(String colorString) {
+        if (colorString.charAt(0) == '#') {
+            long color = Long.parseLong(colorString.substring(1), 16);
+            if (colorString.length() == 7) {
+                color |= 0x00000000FF000000L;
+            } else if (colorString.length() != 9) {
+                throw new IllegalArgumentException("Unknown color");
+            }
+
+            return (int) color;
+        } else {
+            Integer color = sColorNameMap.get(colorString.toLowerCase(Locale.ROOT));
+            if (color != null) {
+                return color;
+            }
+        }
+
+        throw new IllegalArgumentException("Unknown color");
+    }
+
+    public static void RGBToHSV(int red, int green, int blue, float[] hsv) {
+        if (hsv.length < 3) {
+            throw new RuntimeException("3 components required for hsv");
+        }
+
+        int min = Math.min(red, Math.min(green, blue));
+        int max = Math.max(red, Math.max(green, blue));
+        int delta = max - min;
+
+        float value = max / 255f;
+        if (delta == 0) {
+            hsv[0] = 0;
+            hsv[1] = 0;
+            hsv[2] = value;
+            return;
+        }
+
+        float saturation = (float) delta / max;
+        float hue;
+        if (red == max) {
+            hue = (float) (green - blue) / delta;
+        } else if (green == max) {
+            hue = 2 + (float) (blue - red) / delta;
+        } else {
+            hue = 4 + (float) (red - green) / delta;
+        }
+
+        hue *= 60;
+        if (hue < 0) {
+            hue += 360;
+        }
+
+        hsv[0] = hue;
+        hsv[1] = saturation;
+        hsv[2] = value;
+    }
+
+    public static void colorToHSV(int color, float[] hsv) {
+        RGBToHSV(red(color), green(color), blue(color), hsv);
+    }
+
+    public static int HSVToColor(float[] hsv) {
+        return HSVToColor(0xFF, hsv);
+    }
+
+    public static int HSVToColor(int alpha, float[] hsv) {
+        if (hsv.length < 3) {
+            throw new RuntimeException("3 components required for hsv");
+        }
+
+        float saturation = Math.max(0, Math.min(1, hsv[1]));
+        float value = Math.max(0, Math.min(1, hsv[2]));
+        int v = Math.round(value * 255);
+        if (saturation <= 0) {
+            return argb(alpha, v, v, v);
+        }
+
+        float hue = hsv[0] < 0 || hsv[0] >= 360 ? 0 : hsv[0] / 60;
+        int sector = (int) Math.floor(hue);
+        float fraction = hue - sector;
+        int p = Math.round((1 - saturation) * value * 255);
+        int q = Math.round((1 - saturation * fraction) * value * 255);
+        int t = Math.round((1 - saturation * (1 - fraction)) * value * 255);
+
+        switch (sector) {
+            case 0: return argb(alpha, v, t, p);
+            case 1: return argb(alpha, q, v, p);
+            case 2: return argb(alpha, p, v, t);
+            case 3: return argb(alpha, p, q, v);
+            case 4: return argb(alpha, t, p, v);
+            default: return argb(alpha, v, p, q);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2018-2020 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.benchmark;
+
+import com.pranavpandey.android.dynamic.support.model.DynamicAppTheme;
+import com.pranavpandey.android.dynamic.theme.Theme;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks to construct, copy, serialize and resolve the {@link DynamicAppTheme}.
+ * <p>Tint colors are kept {@code auto} so that they are generated while resolving the theme.
+ */
+@State(Scope.Benchmark)
+public class DynamicAppThemeBenchmark {
+
+    /**
+     * Color types resolved by the widgets.
+     */
+    private static final int[] COLOR_TYPES = new int[] {
+            Theme.ColorType.PRIMARY, Theme.ColorType.PRIMARY_DARK,
+            Theme.ColorType.ACCENT, Theme.ColorType.ACCENT_DARK,
+            Theme.ColorType.TINT_PRIMARY, Theme.ColorType.TINT_PRIMARY_DARK,
+            Theme.ColorType.TINT_ACCENT, Theme.ColorType.TINT_ACCENT_DARK,
+            Theme.ColorType.BACKGROUND, Theme.ColorType.TINT_BACKGROUND,
+            Theme.ColorType.TEXT_PRIMARY, Theme.ColorType.TEXT_SECONDARY,
+            Theme.ColorType.TEXT_PRIMARY_INVERSE, Theme.ColorType.TEXT_SECONDARY_INVERSE,
+            Theme.ColorType.SURFACE, Theme.ColorType.TINT_SURFACE
+    };
+
+    /**
+     * Theme to be copied, serialized and resolved.
+     */
+    private DynamicAppTheme mTheme;
+
+    /**
+     * JSON string of the theme.
+     */
+    private String mJsonString;
+
+    /**
+     * Dynamic string of the theme.
+     */
+    private String mDynamicString;
+
+    @Setup
+    public void setup() {
+        mTheme = createTheme();
+        mJsonString = mTheme.toJsonString();
+        mDynamicString = mTheme.toDynamicString();
+    }
+
+    /**
+     * Create a theme with the default colors of the sample app.
+     *
+     * @return The theme with the default colors of the sample app.
+     */
+    private static DynamicAppTheme createTheme() {
+        return new DynamicAppTheme(0xFFF5F5F5, 0xFFFFFFFF, 0xFF3F51B5, 0xFF303F9F,
+                0xFFE91E63, 0xFFC2185B, DynamicAppTheme.AUTO, DynamicAppTheme.AUTO,
+                DynamicAppTheme.AUTO, DynamicAppTheme.AUTO, DynamicAppTheme.AUTO,
+                DynamicAppTheme.AUTO, 0xFF212121, 0xFF757575, 0xFFFAFAFA, 0xFFBDBDBD,
+                100, 8, Theme.BackgroundAware.ENABLE);
+    }
+
+    @Benchmark
+    public DynamicAppTheme construct() {
+        return createTheme();
+    }
+
+    @Benchmark
+    public DynamicAppTheme copy() {
+        return new DynamicAppTheme(mTheme);
+    }
+
+    @Benchmark
+    public String toJsonString() {
+        return mTheme.toJsonString();
+    }
+
+    @Benchmark
+    public String toDynamicString() {
+        return mTheme.toDynamicString();
+    }
+
+    @Benchmark
+    public DynamicAppTheme parseJsonString() {
+        return new DynamicAppTheme(mJsonString);
+    }
+
+    @Benchmark
+    public DynamicAppTheme parseDynamicString() {
+        return new DynamicAppTheme(mDynamicString);
+    }
+
+    /**
+     * Resolve all the color types from the theme.
+     * <p>It is the path taken by the {@code DynamicTheme#resolveColorType(int)} which cannot
+     * be initialized without an application context on the host JVM.
+     *
+     * @param blackhole The blackhole to consume the colors.
+     */
+    @Benchmark
+    public void resolveColorType(Blackhole blackhole) {
+        for (int colorType : COLOR_TYPES) {
+            blackhole.consume(mTheme.getColor(colorType));
+        }
+    }
+
+    @Benchmark
+    public int[] getColors() {
+        return mTheme.getColors(true);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2018-2020 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.benchmark;
+
+import android.content.res.ColorStateList;
+
+import com.pranavpandey.android.dynamic.support.utils.DynamicResourceUtils;
+import com.pranavpandey.android.dynamic.utils.DynamicColorUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for the color math performed by the widgets while applying the theme.
+ */
+@State(Scope.Benchmark)
+public class DynamicColorBenchmark {
+
+    /**
+     * Color to be tinted or to be contrasted.
+     */
+    @Param({ "0xFF3F51B5", "0xFFFFEB3B", "0x80E91E63" })
+    public String color;
+
+    /**
+     * Background color to contrast the color with.
+     */
+    @Param({ "0xFFF5F5F5", "0xFF212121" })
+    public String background;
+
+    /**
+     * Parsed color to be tinted or to be contrasted.
+     */
+    private int mColor;
+
+    /**
+     * Parsed background color to contrast the color with.
+     */
+    private int mBackground;
+
+    @Setup
+    public void setup() {
+        mColor = (int) Long.parseLong(color.substring(2), 16);
+        mBackground = (int) Long.parseLong(background.substring(2), 16);
+    }
+
+    @Benchmark
+    public int getContrastColor() {
+        return DynamicColorUtils.getContrastColor(mColor, mBackground);
+    }
+
+    @Benchmark
+    public int getTintColor() {
+        return DynamicColorUtils.getTintColor(mColor);
+    }
+
+    @Benchmark
+    public ColorStateList getColorStateList() {
+        return DynamicResourceUtils.getColorStateList(
+                DynamicColorUtils.getTintColor(mBackground), mColor, false);
+    }
+
+    @Benchmark
+    public ColorStateList getColorStateListCheckable() {
+        return DynamicResourceUtils.getColorStateList(
+                DynamicColorUtils.getTintColor(mBackground), mColor, true);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2018-2020 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.macrobenchmark;
+
+import androidx.annotation.NonNull;
+import androidx.benchmark.macro.MacrobenchmarkScope;
+import androidx.test.uiautomator.By;
+import androidx.test.uiautomator.Direction;
+import androidx.test.uiautomator.UiDevice;
+import androidx.test.uiautomator.UiObject2;
+import androidx.test.uiautomator.Until;
+
+/**
+ * Helper class to drive the sample app for the macrobenchmarks.
+ */
+public final class SampleBenchmarks {
+
+    /**
+     * Package name of the sample app.
+     */
+    public static final String PACKAGE = "com.pranavpandey.android.dynamic.support.sample";
+
+    /**
+     * Count of the iterations for every benchmark.
+     */
+    public static final int ITERATIONS = 10;
+
+    /**
+     * Timeout in milliseconds to wait for the views.
+     */
+    private static final long TIMEOUT = 5000;
+
+    /**
+     * Id of the view pager displayed by the tutorial activity.
+     */
+    private static final String ID_TUTORIAL = "ads_tutorial_view_pager";
+
+    /**
+     * Making default constructor private so that it cannot be initialized.
+     */
+    private SampleBenchmarks() { }
+
+    /**
+     * Start the sample app and wait for the home screen.
+     * <p>The tutorial displayed on the first launch will be closed.
+     *
+     * @param scope The scope to start the sample app.
+     */
+    public static void startHome(@NonNull MacrobenchmarkScope scope) {
+        scope.pressHome();
+        scope.startActivityAndWait();
+
+        UiDevice device = scope.getDevice();
+        if (device.wait(Until.hasObject(By.res(PACKAGE, ID_TUTORIAL)), TIMEOUT)) {
+            device.pressBack();
+        }
+
+        device.wait(Until.hasObject(By.pkg(PACKAGE).scrollable(true)), TIMEOUT);
+    }
+
+    /**
+     * Open the screen of the supplied preference from the home screen.
+     *
+     * @param device The device to find the preference.
+     * @param preferenceId The id of the preference to be clicked.
+     */
+    public static void open(@NonNull UiDevice device, @NonNull String preferenceId) {
+        UiObject2 scrollable = device.findObject(By.pkg(PACKAGE).scrollable(true));
+        if (scrollable != null) {
+            scrollable.scrollUntil(Direction.DOWN, Until.hasObject(By.res(PACKAGE, preferenceId)));
+        }
+
+        device.findObject(By.res(PACKAGE, preferenceId)).click();
+        device.waitForIdle();
+    }
+
+    /**
+     * Fling the scrollable view of the current screen in the supplied directions.
+     *
+     * @param device The device to find the scrollable view.
+     * @param directions The directions to fling the scrollable view.
+     */
+    public static void fling(@NonNull UiDevice device, @NonNull Direction... directions) {
+        UiObject2 scrollable = device.wait(
+                Until.findObject(By.pkg(PACKAGE).scrollable(true)), TIMEOUT);
+        if (scrollable == null) {
+            return;
+        }
+
+        // Avoid the system gestures while scrolling.
+        scrollable.setGestureMargin(device.getDisplayWidth() / 5);
+        for (Direction direction : directions) {
+            scrollable.fling(direction);
+            device.waitForIdle();
+        }
+    }
+}
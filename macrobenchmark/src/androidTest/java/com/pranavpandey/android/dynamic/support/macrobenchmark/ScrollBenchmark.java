@@ -0,0 +1,93 @@
+/*
+ * Copyright 2018-2020 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.macrobenchmark;
+
+import androidx.annotation.Nullable;
+import androidx.benchmark.macro.CompilationMode;
+import androidx.benchmark.macro.FrameTimingMetric;
+import androidx.benchmark.macro.MacrobenchmarkScope;
+import androidx.benchmark.macro.junit4.MacrobenchmarkRule;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.uiautomator.Direction;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Collections;
+
+import kotlin.Unit;
+import kotlin.jvm.functions.Function1;
+
+/**
+ * Benchmarks to measure the scroll jank of the sample activities.
+ */
+@RunWith(AndroidJUnit4.class)
+public class ScrollBenchmark {
+
+    @Rule
+    public MacrobenchmarkRule mBenchmarkRule = new MacrobenchmarkRule();
+
+    /**
+     * Open a screen from the home screen and fling it in the supplied directions.
+     *
+     * @param preferenceId The id of the preference to open the screen.
+     *                     <p>Pass {@code null} to fling the home screen.
+     * @param directions The directions to fling the screen.
+     */
+    private void scroll(@Nullable final String preferenceId, final Direction... directions) {
+        mBenchmarkRule.measureRepeated(SampleBenchmarks.PACKAGE,
+                Collections.singletonList(new FrameTimingMetric()),
+                CompilationMode.DEFAULT, null, SampleBenchmarks.ITERATIONS,
+                new Function1<MacrobenchmarkScope, Unit>() {
+                    @Override
+                    public Unit invoke(MacrobenchmarkScope scope) {
+                        SampleBenchmarks.startHome(scope);
+                        if (preferenceId != null) {
+                            SampleBenchmarks.open(scope.getDevice(), preferenceId);
+                        }
+                        return Unit.INSTANCE;
+                    }
+                }, new Function1<MacrobenchmarkScope, Unit>() {
+                    @Override
+                    public Unit invoke(MacrobenchmarkScope scope) {
+                        SampleBenchmarks.fling(scope.getDevice(), directions);
+                        return Unit.INSTANCE;
+                    }
+                });
+    }
+
+    @Test
+    public void scrollDrawer() {
+        scroll(null, Direction.DOWN, Direction.UP);
+    }
+
+    @Test
+    public void scrollCollapsingAppBar() {
+        scroll("pref_collapsing_app_bar", Direction.DOWN, Direction.UP);
+    }
+
+    @Test
+    public void scrollBottomNavigation() {
+        scroll("pref_bottom_navigation", Direction.DOWN, Direction.UP);
+    }
+
+    @Test
+    public void swipeTutorial() {
+        scroll("pref_tutorial", Direction.RIGHT, Direction.RIGHT, Direction.LEFT, Direction.LEFT);
+    }
+}
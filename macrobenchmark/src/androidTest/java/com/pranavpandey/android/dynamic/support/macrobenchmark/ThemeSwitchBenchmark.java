@@ -0,0 +1,111 @@
+/*
+ * Copyright 2018-2020 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.macrobenchmark;
+
+import android.graphics.Color;
+
+import androidx.benchmark.macro.CompilationMode;
+import androidx.benchmark.macro.FrameTimingMetric;
+import androidx.benchmark.macro.MacrobenchmarkScope;
+import androidx.benchmark.macro.junit4.MacrobenchmarkRule;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.uiautomator.UiDevice;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import kotlin.Unit;
+import kotlin.jvm.functions.Function1;
+
+/**
+ * Benchmarks to measure the frames while switching the theme of the sample app.
+ * <p>The theme is switched by saving the app theme color preference via a shell broadcast
+ * to the sample app, which is handled in the same way as changing it from the app settings.
+ */
+@RunWith(AndroidJUnit4.class)
+public class ThemeSwitchBenchmark {
+
+    @Rule
+    public MacrobenchmarkRule mBenchmarkRule = new MacrobenchmarkRule();
+
+    /**
+     * Action to set the app theme color of the sample app.
+     */
+    private static final String ACTION_APP_THEME =
+            "com.pranavpandey.android.dynamic.support.sample.intent.action.APP_THEME";
+
+    /**
+     * Intent extra for the app theme color.
+     */
+    private static final String EXTRA_APP_THEME_COLOR = "extra_app_theme_color";
+
+    /**
+     * Default app theme day color of the sample app.
+     */
+    private static final int APP_THEME_DAY_COLOR = Color.parseColor("#EAEAEA");
+
+    /**
+     * Default app theme night color of the sample app.
+     */
+    private static final int APP_THEME_NIGHT_COLOR = Color.parseColor("#252525");
+
+    /**
+     * Set the app theme color of the sample app and wait for it to be applied.
+     *
+     * @param device The device to execute the shell command.
+     * @param color The app theme color to be set.
+     *
+     * @throws IllegalStateException If the shell command cannot be executed.
+     */
+    private static void setAppTheme(UiDevice device, int color) {
+        try {
+            device.executeShellCommand("am broadcast -a " + ACTION_APP_THEME
+                    + " -p " + SampleBenchmarks.PACKAGE
+                    + " --ei " + EXTRA_APP_THEME_COLOR + " " + color);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to set the app theme.", e);
+        }
+
+        device.waitForIdle();
+    }
+
+    @Test
+    public void switchTheme() {
+        mBenchmarkRule.measureRepeated(SampleBenchmarks.PACKAGE,
+                Collections.singletonList(new FrameTimingMetric()),
+                CompilationMode.DEFAULT, null, SampleBenchmarks.ITERATIONS,
+                new Function1<MacrobenchmarkScope, Unit>() {
+                    @Override
+                    public Unit invoke(MacrobenchmarkScope scope) {
+                        setAppTheme(scope.getDevice(), APP_THEME_DAY_COLOR);
+                        SampleBenchmarks.startHome(scope);
+                        return Unit.INSTANCE;
+                    }
+                }, new Function1<MacrobenchmarkScope, Unit>() {
+                    @Override
+                    public Unit invoke(MacrobenchmarkScope scope) {
+                        setAppTheme(scope.getDevice(), APP_THEME_NIGHT_COLOR);
+                        setAppTheme(scope.getDevice(), APP_THEME_DAY_COLOR);
+                        return Unit.INSTANCE;
+                    }
+                });
+    }
+}
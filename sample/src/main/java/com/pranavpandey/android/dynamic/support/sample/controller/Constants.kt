@@ -56,6 +56,17 @@ object Constants {
     const val ACTION_APP_SHORTCUT =
             "com.pranavpandey.android.dynamic.support.sample.intent.action.APP_SHORTCUT"
 
+    /**
+     * Action to set the app theme color, used by the benchmarks.
+     */
+    const val ACTION_APP_THEME =
+            "com.pranavpandey.android.dynamic.support.sample.intent.action.APP_THEME"
+
+    /**
+     * Intent extra for the app theme color.
+     */
+    const val EXTRA_APP_THEME_COLOR = "extra_app_theme_color"
+
     /**
      * Constant for Sources app shortcut.
      */
@@ -38,7 +38,7 @@ object ThemeController {
     /**
      * Getter and Setter for the app theme color.
      */
-    private var appThemeColor: Int
+    var appThemeColor: Int
         get() = DynamicPreferences.getInstance().load(
                 Constants.PREF_SETTINGS_APP_THEME_COLOR,
                 Constants.PREF_SETTINGS_APP_THEME_COLOR_DEFAULT)
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2018-2020 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.sample.receiver
+
+import android.content.BroadcastReceiver
+import android.content.Context
+import android.content.Intent
+
+import com.pranavpandey.android.dynamic.support.sample.controller.Constants
+import com.pranavpandey.android.dynamic.support.sample.controller.ThemeController
+
+/**
+ * Broadcast receiver to set the app theme color from the shell.
+ *
+ * It is used by the benchmarks to switch the theme in the same way as the app settings.
+ */
+class ThemeReceiver : BroadcastReceiver() {
+
+    override fun onReceive(context: Context, intent: Intent?) {
+        if (intent != null && intent.action == Constants.ACTION_APP_THEME
+                && intent.hasExtra(Constants.EXTRA_APP_THEME_COLOR)) {
+            ThemeController.appThemeColor = intent.getIntExtra(
+                    Constants.EXTRA_APP_THEME_COLOR, Constants.APP_THEME_COLOR)
+        }
+    }
+}